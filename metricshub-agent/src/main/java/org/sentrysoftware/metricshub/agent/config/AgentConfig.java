@@ -44,8 +44,9 @@ import org.sentrysoftware.metricshub.engine.deserialization.TimeDeserializer;
 /**
  * AgentConfig represents the configuration for the MetricsHub agent. It includes settings for
  * job pool size, logger level, output directory, collect period, discovery cycle, alerting system configuration,
- * sequential mode, hostname resolution, job timeout, OpenTelemetry (OTel) collector configuration,
- * exporter configuration, custom attributes, custom metrics, and resource group configurations.
+ * sequential mode, hostname resolution, adaptive scheduling, batch metric observers, monitor eviction, job timeout,
+ * protocol request limits, request coalescing, OpenTelemetry (OTel) collector configuration, exporter configuration, custom attributes,
+ * custom metrics, and resource group configurations.
  */
 @Data
 @AllArgsConstructor
@@ -70,6 +71,18 @@ public class AgentConfig {
 	 * Default discovery cycle in minutes
 	 */
 	public static final int DEFAULT_DISCOVERY_CYCLE = 30;
+	/**
+	 * Default time to live in seconds of the results of the coalesced requests
+	 */
+	public static final long DEFAULT_REQUEST_COALESCING_TTL = 30;
+	/**
+	 * Default time to live in seconds of the successful DNS lookups
+	 */
+	public static final long DEFAULT_DNS_CACHE_TTL = 300;
+	/**
+	 * Default time to live in seconds of the failed DNS lookups
+	 */
+	public static final long DEFAULT_DNS_CACHE_NEGATIVE_TTL = 30;
 
 	@Default
 	private int jobPoolSize = DEFAULT_JOB_POOL_SIZE;
@@ -100,6 +113,16 @@ public class AgentConfig {
 
 	private boolean resolveHostnameToFqdn;
 
+	private boolean adaptiveScheduling;
+
+	private boolean batchMetricObservers;
+
+	private int monitorEvictionCycles;
+
+	private boolean discoveryOnInventoryChange;
+
+	private boolean warmRestart;
+
 	@JsonSetter(nulls = SKIP)
 	private Set<String> monitorFilters;
 
@@ -108,6 +131,31 @@ public class AgentConfig {
 	@JsonDeserialize(using = TimeDeserializer.class)
 	private long jobTimeout = MetricsHubConstants.DEFAULT_JOB_TIMEOUT;
 
+	private int maxRequestsPerHost;
+
+	@Default
+	@JsonSetter(nulls = SKIP)
+	private Map<String, Integer> maxRequestsPerProtocol = new HashMap<>();
+
+	private boolean requestCoalescing;
+
+	@Default
+	@JsonSetter(nulls = SKIP)
+	@JsonDeserialize(using = TimeDeserializer.class)
+	private long requestCoalescingTtl = DEFAULT_REQUEST_COALESCING_TTL;
+
+	private boolean dnsCache;
+
+	@Default
+	@JsonSetter(nulls = SKIP)
+	@JsonDeserialize(using = TimeDeserializer.class)
+	private long dnsCacheTtl = DEFAULT_DNS_CACHE_TTL;
+
+	@Default
+	@JsonSetter(nulls = SKIP)
+	@JsonDeserialize(using = TimeDeserializer.class)
+	private long dnsCacheNegativeTtl = DEFAULT_DNS_CACHE_NEGATIVE_TTL;
+
 	@Default
 	@JsonSetter(nulls = SKIP)
 	private OtelCollectorConfig otelCollector = OtelCollectorConfig.builder().build();
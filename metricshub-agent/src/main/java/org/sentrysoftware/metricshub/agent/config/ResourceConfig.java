@@ -73,6 +73,10 @@ public class ResourceConfig {
 	private Boolean sequential;
 	private Boolean enableSelfMonitoring;
 	private Boolean resolveHostnameToFqdn;
+	private Boolean adaptiveScheduling;
+	private Boolean batchMetricObservers;
+	private Integer monitorEvictionCycles;
+	private Boolean discoveryOnInventoryChange;
 
 	@JsonSetter(nulls = SKIP)
 	private Set<String> monitorFilters;
@@ -130,6 +134,10 @@ public class ResourceConfig {
 			.enableSelfMonitoring(enableSelfMonitoring)
 			.monitorFilters(monitorFilters)
 			.resolveHostnameToFqdn(resolveHostnameToFqdn)
+			.adaptiveScheduling(adaptiveScheduling)
+			.batchMetricObservers(batchMetricObservers)
+			.monitorEvictionCycles(monitorEvictionCycles)
+			.discoveryOnInventoryChange(discoveryOnInventoryChange)
 			.jobTimeout(jobTimeout)
 			.attributes(
 				attributes
@@ -60,6 +60,10 @@ public class ResourceGroupConfig {
 	private Boolean sequential;
 	private Boolean enableSelfMonitoring;
 	private Boolean resolveHostnameToFqdn;
+	private Boolean adaptiveScheduling;
+	private Boolean batchMetricObservers;
+	private Integer monitorEvictionCycles;
+	private Boolean discoveryOnInventoryChange;
 
 	@JsonSetter(nulls = SKIP)
 	private Set<String> monitorFilters;
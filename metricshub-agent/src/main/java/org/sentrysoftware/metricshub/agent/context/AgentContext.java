@@ -31,6 +31,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -49,11 +50,15 @@ import org.sentrysoftware.metricshub.agent.helper.OtelConfigHelper;
 import org.sentrysoftware.metricshub.agent.helper.PostConfigDeserializeHelper;
 import org.sentrysoftware.metricshub.agent.service.OtelCollectorProcessService;
 import org.sentrysoftware.metricshub.agent.service.TaskSchedulingService;
+import org.sentrysoftware.metricshub.agent.service.checkpoint.TelemetryCheckpointStore;
+import org.sentrysoftware.metricshub.engine.common.helpers.DnsCache;
 import org.sentrysoftware.metricshub.engine.common.helpers.JsonHelper;
 import org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants;
 import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
 import org.sentrysoftware.metricshub.engine.connector.parser.EnvironmentProcessor;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
+import org.sentrysoftware.metricshub.engine.strategy.source.RequestCoalescer;
+import org.sentrysoftware.metricshub.engine.telemetry.ProtocolRequestLimiter;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
 /**
@@ -132,6 +137,19 @@ public class AgentContext {
 
 		telemetryManagers = ConfigHelper.buildTelemetryManagers(agentConfig, connectorStore);
 
+		// Apply the concurrency budgets of the requests sent through the protocol extensions
+		ProtocolRequestLimiter
+			.getInstance()
+			.configure(agentConfig.getMaxRequestsPerHost(), agentConfig.getMaxRequestsPerProtocol());
+
+		// Share the results of the identical requests sent by different resources to the same endpoint
+		RequestCoalescer.getInstance().configure(agentConfig.isRequestCoalescing(), agentConfig.getRequestCoalescingTtl());
+
+		// Cache the DNS lookups of all the resources
+		DnsCache
+			.getInstance()
+			.configure(agentConfig.isDnsCache(), agentConfig.getDnsCacheTtl(), agentConfig.getDnsCacheNegativeTtl());
+
 		// Build OpenTelemetry SDK configuration
 		otelSdkConfiguration = OtelConfigHelper.buildOtelSdkConfiguration(agentConfig);
 
@@ -155,6 +173,14 @@ public class AgentContext {
 				.withOtelSdkConfiguration(otelSdkConfiguration)
 				.withHostMetricDefinitions(hostMetricDefinitions)
 				.withExtensionManager(extensionManager)
+				.withCheckpointStore(
+					agentConfig.isWarmRestart()
+						? new TelemetryCheckpointStore(
+							Path.of(agentConfig.getOutputDirectory(), AgentConstants.CHECKPOINT_DIRECTORY_NAME),
+							TelemetryCheckpointStore.DEFAULT_CHECKPOINT_INTERVAL_MILLIS
+						)
+						: null
+				)
 				.build();
 
 		final Duration startupDuration = Duration.ofNanos(System.nanoTime() - startTime);
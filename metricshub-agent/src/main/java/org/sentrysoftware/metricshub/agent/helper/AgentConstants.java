@@ -82,6 +82,10 @@ public class AgentConstants {
 	 * Security directory name
 	 */
 	public static final String SECURITY_DIRECTORY_NAME = "security";
+	/**
+	 * Checkpoint directory name, under the output directory
+	 */
+	public static final String CHECKPOINT_DIRECTORY_NAME = "checkpoints";
 	/**
 	 * Default output directory
 	 */
@@ -527,6 +527,26 @@ public class ConfigHelper {
 			resourceConfig.setResolveHostnameToFqdn(agentConfig.isResolveHostnameToFqdn());
 		}
 
+		// Set the adaptive scheduling flag
+		if (resourceConfig.getAdaptiveScheduling() == null) {
+			resourceConfig.setAdaptiveScheduling(agentConfig.isAdaptiveScheduling());
+		}
+
+		// Set the batch metric observers flag
+		if (resourceConfig.getBatchMetricObservers() == null) {
+			resourceConfig.setBatchMetricObservers(agentConfig.isBatchMetricObservers());
+		}
+
+		// Set the number of discovery cycles before a missing monitor is evicted
+		if (resourceConfig.getMonitorEvictionCycles() == null) {
+			resourceConfig.setMonitorEvictionCycles(agentConfig.getMonitorEvictionCycles());
+		}
+
+		// Set the flag triggering a discovery when the inventory of the collected instances changes
+		if (resourceConfig.getDiscoveryOnInventoryChange() == null) {
+			resourceConfig.setDiscoveryOnInventoryChange(agentConfig.isDiscoveryOnInventoryChange());
+		}
+
 		// Set the job timeout value
 		if (resourceConfig.getJobTimeout() == null) {
 			resourceConfig.setJobTimeout(agentConfig.getJobTimeout());
@@ -620,6 +640,26 @@ public class ConfigHelper {
 			resourceConfig.setResolveHostnameToFqdn(resourceGroupConfig.getResolveHostnameToFqdn());
 		}
 
+		// Set the adaptive scheduling flag
+		if (resourceConfig.getAdaptiveScheduling() == null) {
+			resourceConfig.setAdaptiveScheduling(resourceGroupConfig.getAdaptiveScheduling());
+		}
+
+		// Set the batch metric observers flag
+		if (resourceConfig.getBatchMetricObservers() == null) {
+			resourceConfig.setBatchMetricObservers(resourceGroupConfig.getBatchMetricObservers());
+		}
+
+		// Set the number of discovery cycles before a missing monitor is evicted
+		if (resourceConfig.getMonitorEvictionCycles() == null) {
+			resourceConfig.setMonitorEvictionCycles(resourceGroupConfig.getMonitorEvictionCycles());
+		}
+
+		// Set the flag triggering a discovery when the inventory of the collected instances changes
+		if (resourceConfig.getDiscoveryOnInventoryChange() == null) {
+			resourceConfig.setDiscoveryOnInventoryChange(resourceGroupConfig.getDiscoveryOnInventoryChange());
+		}
+
 		// Set the job timeout value
 		if (resourceConfig.getJobTimeout() == null) {
 			resourceConfig.setJobTimeout(resourceGroupConfig.getJobTimeout());
@@ -709,6 +749,26 @@ public class ConfigHelper {
 			resourceGroupConfig.setResolveHostnameToFqdn(agentConfig.isResolveHostnameToFqdn());
 		}
 
+		// Set the adaptive scheduling flag
+		if (resourceGroupConfig.getAdaptiveScheduling() == null) {
+			resourceGroupConfig.setAdaptiveScheduling(agentConfig.isAdaptiveScheduling());
+		}
+
+		// Set the batch metric observers flag
+		if (resourceGroupConfig.getBatchMetricObservers() == null) {
+			resourceGroupConfig.setBatchMetricObservers(agentConfig.isBatchMetricObservers());
+		}
+
+		// Set the number of discovery cycles before a missing monitor is evicted
+		if (resourceGroupConfig.getMonitorEvictionCycles() == null) {
+			resourceGroupConfig.setMonitorEvictionCycles(agentConfig.getMonitorEvictionCycles());
+		}
+
+		// Set the flag triggering a discovery when the inventory of the collected instances changes
+		if (resourceGroupConfig.getDiscoveryOnInventoryChange() == null) {
+			resourceGroupConfig.setDiscoveryOnInventoryChange(agentConfig.isDiscoveryOnInventoryChange());
+		}
+
 		// Set the job timeout value
 		if (resourceGroupConfig.getJobTimeout() == null) {
 			resourceGroupConfig.setJobTimeout(agentConfig.getJobTimeout());
@@ -24,6 +24,7 @@ package org.sentrysoftware.metricshub.agent.service;
 import static org.sentrysoftware.metricshub.agent.helper.ConfigHelper.TOP_LEVEL_VIRTUAL_RESOURCE_GROUP_KEY;
 
 import java.io.File;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
@@ -35,6 +36,7 @@ import org.sentrysoftware.metricshub.agent.config.ResourceConfig;
 import org.sentrysoftware.metricshub.agent.config.ResourceGroupConfig;
 import org.sentrysoftware.metricshub.agent.context.AgentInfo;
 import org.sentrysoftware.metricshub.agent.context.MetricDefinitions;
+import org.sentrysoftware.metricshub.agent.service.checkpoint.TelemetryCheckpointStore;
 import org.sentrysoftware.metricshub.agent.service.scheduling.ResourceGroupScheduling;
 import org.sentrysoftware.metricshub.agent.service.scheduling.ResourceScheduling;
 import org.sentrysoftware.metricshub.agent.service.scheduling.SelfObserverScheduling;
@@ -62,6 +64,7 @@ public class TaskSchedulingService {
 	private Map<String, String> otelSdkConfiguration;
 	private MetricDefinitions hostMetricDefinitions;
 	private ExtensionManager extensionManager;
+	private TelemetryCheckpointStore checkpointStore;
 
 	/**
 	 * Start scheduling
@@ -199,6 +202,7 @@ public class TaskSchedulingService {
 			.withTelemetryManager(telemetryManager)
 			.withHostMetricDefinitions(hostMetricDefinitions)
 			.withExtensionManager(extensionManager)
+			.withCheckpointStore(checkpointStore)
 			.build()
 			.schedule();
 	}
@@ -226,10 +230,20 @@ public class TaskSchedulingService {
 	}
 
 	/**
-	 * Cancels all the {@link ScheduledFuture} instances and shuts down the task scheduler
+	 * Cancels all the {@link ScheduledFuture} instances, shuts down the task scheduler and releases the resources held
+	 * by the extensions for the monitored resources
 	 */
 	public void stop() {
 		schedules.values().forEach(action -> action.cancel(true));
 		taskScheduler.destroy();
+
+		if (extensionManager != null && telemetryManagers != null) {
+			telemetryManagers
+				.values()
+				.stream()
+				.map(Map::values)
+				.flatMap(Collection::stream)
+				.forEach(extensionManager::releaseResources);
+		}
 	}
 }
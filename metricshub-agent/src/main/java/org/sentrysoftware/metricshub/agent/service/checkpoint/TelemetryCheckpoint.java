@@ -0,0 +1,240 @@
+package org.sentrysoftware.metricshub.agent.service.checkpoint;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Agent
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_CONNECTOR_ID;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.sentrysoftware.metricshub.engine.alert.AlertRule;
+import org.sentrysoftware.metricshub.engine.alert.AlertRuleFactory;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.Connector;
+import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
+import org.sentrysoftware.metricshub.engine.telemetry.ConnectorNamespace;
+import org.sentrysoftware.metricshub.engine.telemetry.HostProperties;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+/**
+ * Checkpoint of the state of a resource that the detection and the discovery have built: the monitors with their
+ * metrics, previous values and collect times, the detected connectors, the host properties and the automatic
+ * namespaces of the connectors. The source tables are not part of the checkpoint, the collect rebuilds them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryCheckpoint {
+
+	/**
+	 * Signature of the host configuration the checkpoint has been taken with
+	 */
+	private String signature;
+
+	private long checkpointTime;
+
+	@Default
+	private List<Monitor> monitors = new ArrayList<>();
+
+	private boolean localhost;
+	private String ipmitoolCommand;
+
+	@Default
+	private Set<String> possibleWmiNamespaces = new TreeSet<>();
+
+	@Default
+	private Set<String> possibleWbemNamespaces = new TreeSet<>();
+
+	private boolean osCommandExecutesLocally;
+	private boolean osCommandExecutesRemotely;
+	private boolean mustCheckSshStatus;
+
+	@Default
+	private Map<String, NamespaceCheckpoint> connectorNamespaces = new HashMap<>();
+
+	/**
+	 * Take a checkpoint of the given {@link TelemetryManager}.
+	 *
+	 * @param telemetryManager The {@link TelemetryManager} of the resource.
+	 * @param checkpointTime   The time of the checkpoint.
+	 * @return a new {@link TelemetryCheckpoint}
+	 */
+	public static TelemetryCheckpoint of(final TelemetryManager telemetryManager, final long checkpointTime) {
+		final HostProperties hostProperties = telemetryManager.getHostProperties();
+
+		final Map<String, NamespaceCheckpoint> namespaces;
+		synchronized (hostProperties.getConnectorNamespaces()) {
+			namespaces =
+				hostProperties
+					.getConnectorNamespaces()
+					.entrySet()
+					.stream()
+					.collect(
+						Collectors.toMap(
+							Map.Entry::getKey,
+							entry ->
+								new NamespaceCheckpoint(
+									entry.getValue().getAutomaticWmiNamespace(),
+									entry.getValue().getAutomaticWbemNamespace(),
+									entry.getValue().isStatusOk()
+								)
+						)
+					);
+		}
+
+		return TelemetryCheckpoint
+			.builder()
+			.signature(signature(telemetryManager))
+			.checkpointTime(checkpointTime)
+			.monitors(
+				telemetryManager
+					.getMonitors()
+					.values()
+					.stream()
+					.map(Map::values)
+					.flatMap(Collection::stream)
+					.collect(Collectors.toCollection(ArrayList::new))
+			)
+			.localhost(hostProperties.isLocalhost())
+			.ipmitoolCommand(hostProperties.getIpmitoolCommand())
+			.possibleWmiNamespaces(new TreeSet<>(hostProperties.getPossibleWmiNamespaces()))
+			.possibleWbemNamespaces(new TreeSet<>(hostProperties.getPossibleWbemNamespaces()))
+			.osCommandExecutesLocally(hostProperties.isOsCommandExecutesLocally())
+			.osCommandExecutesRemotely(hostProperties.isOsCommandExecutesRemotely())
+			.mustCheckSshStatus(hostProperties.isMustCheckSshStatus())
+			.connectorNamespaces(namespaces)
+			.build();
+	}
+
+	/**
+	 * Restore this checkpoint in the given {@link TelemetryManager}. The current monitors are replaced.
+	 *
+	 * @param telemetryManager The {@link TelemetryManager} of the resource.
+	 */
+	public void restore(final TelemetryManager telemetryManager) {
+		final Map<String, Map<String, Monitor>> restoredMonitors = new HashMap<>();
+		monitors.forEach(monitor ->
+			restoredMonitors.computeIfAbsent(monitor.getType(), type -> new HashMap<>()).put(monitor.getId(), monitor)
+		);
+		telemetryManager.setMonitors(restoredMonitors);
+
+		// The alert rules are not part of the checkpoint, they are built again from the metric definitions
+		attachAlertRules(telemetryManager);
+
+		final HostProperties hostProperties = telemetryManager.getHostProperties();
+		hostProperties.setLocalhost(localhost);
+		hostProperties.setIpmitoolCommand(ipmitoolCommand);
+		hostProperties.setPossibleWmiNamespaces(new TreeSet<>(possibleWmiNamespaces));
+		hostProperties.setPossibleWbemNamespaces(new TreeSet<>(possibleWbemNamespaces));
+		hostProperties.setOsCommandExecutesLocally(osCommandExecutesLocally);
+		hostProperties.setOsCommandExecutesRemotely(osCommandExecutesRemotely);
+		hostProperties.setMustCheckSshStatus(mustCheckSshStatus);
+
+		connectorNamespaces.forEach((connectorId, namespace) -> {
+			final ConnectorNamespace connectorNamespace = hostProperties.getConnectorNamespace(connectorId);
+			connectorNamespace.setAutomaticWmiNamespace(namespace.getAutomaticWmiNamespace());
+			connectorNamespace.setAutomaticWbemNamespace(namespace.getAutomaticWbemNamespace());
+			connectorNamespace.setStatusOk(namespace.isStatusOk());
+		});
+	}
+
+	/**
+	 * Attach the alert rules of the restored monitors, built from the metric definitions of their connector as the
+	 * discovery does.
+	 *
+	 * @param telemetryManager The {@link TelemetryManager} of the resource.
+	 */
+	private void attachAlertRules(final TelemetryManager telemetryManager) {
+		final ConnectorStore connectorStore = telemetryManager.getConnectorStore();
+		if (connectorStore == null || connectorStore.getStore() == null) {
+			return;
+		}
+
+		final Map<String, Map<String, List<AlertRule>>> alertRulesPerConnector = new HashMap<>();
+		monitors.forEach(monitor -> {
+			final String connectorId = monitor.getAttribute(MONITOR_ATTRIBUTE_CONNECTOR_ID);
+			final Connector connector = connectorId != null ? connectorStore.getStore().get(connectorId) : null;
+			if (connector != null) {
+				final Map<String, List<AlertRule>> alertRules = alertRulesPerConnector.computeIfAbsent(
+					connectorId,
+					id -> AlertRuleFactory.buildAlertRules(connector.getMetrics())
+				);
+				AlertRuleFactory.attachAlertRules(monitor, alertRules);
+			}
+		});
+	}
+
+	/**
+	 * Build the signature of the host configuration: the hostname, the host type, the configured protocols and
+	 * connectors. A checkpoint taken with another signature is not restored.
+	 *
+	 * @param telemetryManager The {@link TelemetryManager} of the resource.
+	 * @return the signature as a {@link String}
+	 */
+	public static String signature(final TelemetryManager telemetryManager) {
+		final HostConfiguration hostConfiguration = telemetryManager.getHostConfiguration();
+		final Set<String> protocols = hostConfiguration
+			.getConfigurations()
+			.keySet()
+			.stream()
+			.map(Class::getName)
+			.collect(Collectors.toCollection(TreeSet::new));
+		final Set<String> connectors = hostConfiguration.getConnectors() == null
+			? Set.of()
+			: new TreeSet<>(hostConfiguration.getConnectors());
+
+		return String.format(
+			"%s|%s|%s|%s|%s",
+			hostConfiguration.getHostId(),
+			hostConfiguration.getHostname(),
+			hostConfiguration.getHostType(),
+			protocols,
+			connectors
+		);
+	}
+
+	/**
+	 * Checkpoint of a {@link ConnectorNamespace}.
+	 */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class NamespaceCheckpoint {
+
+		private String automaticWmiNamespace;
+		private String automaticWbemNamespace;
+		private boolean statusOk;
+	}
+}
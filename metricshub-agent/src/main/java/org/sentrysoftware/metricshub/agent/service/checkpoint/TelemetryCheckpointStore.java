@@ -0,0 +1,197 @@
+package org.sentrysoftware.metricshub.agent.service.checkpoint;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Agent
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.sentrysoftware.metricshub.engine.alert.AlertRule;
+import org.sentrysoftware.metricshub.engine.common.helpers.JsonHelper;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+/**
+ * Local store of the {@link TelemetryCheckpoint} of each resource, one compressed JSON file per resource.
+ * <p>
+ * The monitoring tasks periodically save the checkpoint of their resource. After a restart of the agent, a resource
+ * whose checkpoint is recent enough is restored from it and resumes directly with the collect, its detection and
+ * discovery are deferred to the next discovery cycle.
+ * </p>
+ */
+@Slf4j
+public class TelemetryCheckpointStore {
+
+	/**
+	 * Default minimum interval between two checkpoints of the same resource
+	 */
+	public static final long DEFAULT_CHECKPOINT_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+	private static final String CHECKPOINT_FILE_EXTENSION = ".json.gz";
+
+	@Getter
+	private final Path directory;
+
+	@Getter
+	private final long checkpointIntervalMillis;
+
+	private final ObjectMapper objectMapper = JsonHelper
+		.buildObjectMapper()
+		.disable(SerializationFeature.INDENT_OUTPUT)
+		.addMixIn(Monitor.class, MonitorCheckpointMixIn.class);
+
+	/**
+	 * Constructs a new {@code TelemetryCheckpointStore}.
+	 *
+	 * @param directory                The directory where the checkpoints are stored.
+	 * @param checkpointIntervalMillis The minimum interval in milliseconds between two checkpoints of a resource.
+	 */
+	public TelemetryCheckpointStore(@NonNull final Path directory, final long checkpointIntervalMillis) {
+		this.directory = directory;
+		this.checkpointIntervalMillis = checkpointIntervalMillis;
+	}
+
+	/**
+	 * Save the checkpoint of the given resource. The file is written atomically, a checkpoint is never left partially
+	 * written if the agent is stopped.
+	 *
+	 * @param resourceGroupKey The key of the resource group.
+	 * @param resourceKey      The key of the resource.
+	 * @param telemetryManager The {@link TelemetryManager} of the resource.
+	 * @param checkpointTime   The time of the checkpoint.
+	 */
+	public void save(
+		final String resourceGroupKey,
+		final String resourceKey,
+		final TelemetryManager telemetryManager,
+		final long checkpointTime
+	) {
+		final Path file = resolve(resourceGroupKey, resourceKey);
+		try {
+			Files.createDirectories(file.getParent());
+			final Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+			try {
+				try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(temporaryFile))) {
+					objectMapper.writeValue(outputStream, TelemetryCheckpoint.of(telemetryManager, checkpointTime));
+				}
+				Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+			log.debug("Resource {} - Checkpoint saved to {}.", resourceKey, file);
+		} catch (IOException e) {
+			log.error("Resource {} - Cannot save the checkpoint to {}: {}", resourceKey, file, e.getMessage());
+			log.debug("Resource {} - Cannot save the checkpoint. Stack trace:", resourceKey, e);
+		}
+	}
+
+	/**
+	 * Restore the checkpoint of the given resource in its {@link TelemetryManager}. The checkpoint is not restored if
+	 * it is older than the given maximum age or if it has been taken with another host configuration.
+	 *
+	 * @param resourceGroupKey The key of the resource group.
+	 * @param resourceKey      The key of the resource.
+	 * @param telemetryManager The {@link TelemetryManager} of the resource.
+	 * @param now              The current time.
+	 * @param maxAgeMillis     The maximum age in milliseconds of a checkpoint that can be restored.
+	 * @return {@code true} if the checkpoint has been restored.
+	 */
+	public boolean restore(
+		final String resourceGroupKey,
+		final String resourceKey,
+		final TelemetryManager telemetryManager,
+		final long now,
+		final long maxAgeMillis
+	) {
+		final Path file = resolve(resourceGroupKey, resourceKey);
+		if (!Files.isRegularFile(file)) {
+			return false;
+		}
+
+		final TelemetryCheckpoint checkpoint;
+		try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(file))) {
+			checkpoint = objectMapper.readValue(inputStream, TelemetryCheckpoint.class);
+		} catch (IOException e) {
+			log.warn("Resource {} - Cannot read the checkpoint {}: {}", resourceKey, file, e.getMessage());
+			log.debug("Resource {} - Cannot read the checkpoint. Stack trace:", resourceKey, e);
+			return false;
+		}
+
+		if (now - checkpoint.getCheckpointTime() > maxAgeMillis) {
+			log.info("Resource {} - The checkpoint is too old to be restored.", resourceKey);
+			return false;
+		}
+
+		if (!TelemetryCheckpoint.signature(telemetryManager).equals(checkpoint.getSignature())) {
+			log.info("Resource {} - The configuration has changed since the checkpoint, it is not restored.", resourceKey);
+			return false;
+		}
+
+		checkpoint.restore(telemetryManager);
+		return true;
+	}
+
+	/**
+	 * Resolve the checkpoint file of the given resource.
+	 *
+	 * @param resourceGroupKey The key of the resource group.
+	 * @param resourceKey      The key of the resource.
+	 * @return the {@link Path} of the checkpoint file
+	 */
+	Path resolve(final String resourceGroupKey, final String resourceKey) {
+		return directory.resolve(sanitize(resourceGroupKey)).resolve(sanitize(resourceKey) + CHECKPOINT_FILE_EXTENSION);
+	}
+
+	/**
+	 * Replace the characters that cannot be used in a file name.
+	 *
+	 * @param key The resource or resource group key.
+	 * @return the key usable as a file name
+	 */
+	private static String sanitize(final String key) {
+		return key.replaceAll("[^A-Za-z0-9._-]", "_");
+	}
+
+	/**
+	 * The alert rules hold the functions checking their conditions, they cannot be restored. They are built again from
+	 * the metric definitions of the connectors when the monitors are restored.
+	 */
+	private abstract static class MonitorCheckpointMixIn {
+
+		@JsonIgnore
+		abstract Map<String, List<AlertRule>> getAlertRules();
+	}
+}
@@ -0,0 +1,154 @@
+package org.sentrysoftware.metricshub.agent.service.scheduling;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Agent
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+
+/**
+ * A {@link Trigger} scheduling the collect of a resource based on the duration of its previous collect.<br>
+ * <ul>
+ *   <li>When a collect lasts longer than the collect period, an overrun is recorded and the triggers missed during the
+ *   collect are coalesced into the next aligned slot instead of being executed back-to-back.</li>
+ *   <li>When all the protocols of the resource are reported down through the <code>metricshub.host.up</code> metric,
+ *   the collect period is doubled at each consecutive cycle, up to {@link #MAX_BACKOFF_FACTOR} times the configured
+ *   period, so that the job pool capacity goes to responsive resources.</li>
+ * </ul>
+ */
+@Slf4j
+public class AdaptiveCollectTrigger implements Trigger {
+
+	/**
+	 * Maximum multiplier applied to the collect period when the resource is unreachable
+	 */
+	public static final int MAX_BACKOFF_FACTOR = 16;
+
+	/**
+	 * Name of the metric reporting whether a protocol is up (1) or not (0)
+	 */
+	static final String HOST_UP_METRIC_NAME = "metricshub.host.up";
+
+	private final Duration period;
+
+	private final TelemetryManager telemetryManager;
+
+	@Getter
+	private final AtomicLong overrunCount = new AtomicLong();
+
+	@Getter
+	private final AtomicLong skippedCount = new AtomicLong();
+
+	@Getter
+	private int backoffFactor = 1;
+
+	@Getter
+	private Duration lastCollectDuration;
+
+	/**
+	 * Constructs a new {@code AdaptiveCollectTrigger}.
+	 *
+	 * @param period           The configured collect period.
+	 * @param telemetryManager The telemetry manager of the resource, used to read the protocol health check results.
+	 */
+	public AdaptiveCollectTrigger(@NonNull final Duration period, @NonNull final TelemetryManager telemetryManager) {
+		this.period = period;
+		this.telemetryManager = telemetryManager;
+	}
+
+	@Override
+	public Instant nextExecution(final TriggerContext triggerContext) {
+		final Instant lastActualExecution = triggerContext.lastActualExecution();
+		final Instant lastCompletion = triggerContext.lastCompletion();
+
+		// First execution, run immediately as the periodic trigger does
+		if (lastActualExecution == null || lastCompletion == null) {
+			return triggerContext.getClock().instant();
+		}
+
+		lastCollectDuration = Duration.between(lastActualExecution, lastCompletion);
+
+		// Back off exponentially while the host is unreachable
+		if (isHostDown()) {
+			backoffFactor = Math.min(backoffFactor * 2, MAX_BACKOFF_FACTOR);
+		} else {
+			backoffFactor = 1;
+		}
+
+		final Duration effectivePeriod = period.multipliedBy(backoffFactor);
+
+		// Skipped slots because of the back-off
+		long skipped = (long) backoffFactor - 1;
+
+		if (lastCollectDuration.compareTo(period) > 0) {
+			overrunCount.incrementAndGet();
+			log.warn(
+				"Hostname {} - Collect overrun: the collect took {} ms while the collect period is {} ms.",
+				telemetryManager.getHostname(),
+				lastCollectDuration.toMillis(),
+				period.toMillis()
+			);
+		}
+
+		// Coalesce the triggers missed during the collect into the first aligned slot after the completion
+		final long elapsedSlots = lastCollectDuration.toMillis() / effectivePeriod.toMillis();
+		skipped += elapsedSlots * backoffFactor;
+		skippedCount.addAndGet(skipped);
+
+		return lastActualExecution.plus(effectivePeriod.multipliedBy(elapsedSlots + 1));
+	}
+
+	/**
+	 * Whether all the protocols checked on the endpoint host are reported down.
+	 *
+	 * @return <code>true</code> if at least one protocol has been checked and none of them is up.
+	 */
+	boolean isHostDown() {
+		final Monitor endpointHostMonitor = telemetryManager.getEndpointHostMonitor();
+		if (endpointHostMonitor == null) {
+			return false;
+		}
+
+		final List<NumberMetric> upMetrics = endpointHostMonitor
+			.getMetricsByName(HOST_UP_METRIC_NAME)
+			.stream()
+			.filter(NumberMetric.class::isInstance)
+			.map(NumberMetric.class::cast)
+			.toList();
+
+		if (upMetrics.isEmpty()) {
+			return false;
+		}
+
+		return upMetrics.stream().map(NumberMetric::getValue).filter(Objects::nonNull).noneMatch(value -> value > 0);
+	}
+}
@@ -30,18 +30,21 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.sentrysoftware.metricshub.agent.config.ResourceConfig;
 import org.sentrysoftware.metricshub.agent.context.MetricDefinitions;
+import org.sentrysoftware.metricshub.agent.service.checkpoint.TelemetryCheckpointStore;
 import org.sentrysoftware.metricshub.agent.service.task.MonitoringTask;
 import org.sentrysoftware.metricshub.agent.service.task.MonitoringTaskInfo;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
 import org.springframework.scheduling.support.PeriodicTrigger;
 
 /**
  * Scheduling class responsible for scheduling monitoring tasks for a specific
  * resource in MetricsHub. This class creates and schedules a
  * {@link MonitoringTask} to collect metrics for the specified resource at a
- * periodic interval based on the configured collect period.
+ * periodic interval based on the configured collect period, or through an
+ * {@link AdaptiveCollectTrigger} when the adaptive scheduling is enabled.
  */
 @Slf4j
 public class ResourceScheduling extends AbstractScheduling {
@@ -70,6 +73,8 @@ public class ResourceScheduling extends AbstractScheduling {
 	@NonNull
 	private ExtensionManager extensionManager;
 
+	private TelemetryCheckpointStore checkpointStore;
+
 	/**
 	 * Constructs a new instance of {@code ResourceScheduling}.
 	 *
@@ -84,6 +89,7 @@ public class ResourceScheduling extends AbstractScheduling {
 	 *                              processing metrics for the resource.
 	 * @param hostMetricDefinitions Definitions of metrics for the host.
 	 * @param extensionManager      Manages and aggregates various types of extensions used within MetricsHub.
+	 * @param checkpointStore       The store of the resource checkpoints, {@code null} if the warm restart is disabled.
 	 */
 	@Builder(setterPrefix = "with")
 	public ResourceScheduling(
@@ -95,7 +101,8 @@ public class ResourceScheduling extends AbstractScheduling {
 		@NonNull final ResourceConfig resourceConfig,
 		@NonNull final TelemetryManager telemetryManager,
 		@NonNull final MetricDefinitions hostMetricDefinitions,
-		@NonNull final ExtensionManager extensionManager
+		@NonNull final ExtensionManager extensionManager,
+		final TelemetryCheckpointStore checkpointStore
 	) {
 		super(taskScheduler, schedules, otelSdkConfiguration);
 		this.resourceGroupKey = resourceGroupKey;
@@ -104,14 +111,20 @@ public class ResourceScheduling extends AbstractScheduling {
 		this.telemetryManager = telemetryManager;
 		this.hostMetricDefinitions = hostMetricDefinitions;
 		this.extensionManager = extensionManager;
+		this.checkpointStore = checkpointStore;
 	}
 
 	@Override
 	public void schedule() {
-		// Need a periodic trigger because we need the job to be scheduled based on the configured collect period
-		final PeriodicTrigger trigger = new PeriodicTrigger(
-			Duration.of(resourceConfig.getCollectPeriod(), ChronoUnit.SECONDS)
-		);
+		final Duration collectPeriod = Duration.of(resourceConfig.getCollectPeriod(), ChronoUnit.SECONDS);
+
+		// The adaptive trigger tracks the collect duration, coalesces missed triggers and backs off unreachable hosts
+		final AdaptiveCollectTrigger adaptiveCollectTrigger = Boolean.TRUE.equals(resourceConfig.getAdaptiveScheduling())
+			? new AdaptiveCollectTrigger(collectPeriod, telemetryManager)
+			: null;
+
+		// Otherwise, need a periodic trigger because we need the job to be scheduled based on the configured collect period
+		final Trigger trigger = adaptiveCollectTrigger != null ? adaptiveCollectTrigger : new PeriodicTrigger(collectPeriod);
 
 		// Create the monitoring task
 		final MonitoringTask monitoringTask = new MonitoringTask(
@@ -124,6 +137,8 @@ public class ResourceScheduling extends AbstractScheduling {
 				.otelSdkConfiguration(otelSdkConfiguration)
 				.hostMetricDefinitions(hostMetricDefinitions)
 				.extensionManager(extensionManager)
+				.adaptiveCollectTrigger(adaptiveCollectTrigger)
+				.checkpointStore(checkpointStore)
 				.build()
 		);
 
@@ -22,6 +22,7 @@ package org.sentrysoftware.metricshub.agent.service.scheduling;
  */
 
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.resources.Resource;
@@ -30,6 +31,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import lombok.Builder;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -38,7 +40,9 @@ import org.sentrysoftware.metricshub.agent.context.AgentInfo;
 import org.sentrysoftware.metricshub.agent.helper.ConfigHelper;
 import org.sentrysoftware.metricshub.agent.helper.OtelHelper;
 import org.sentrysoftware.metricshub.agent.service.signal.SimpleGaugeMetricObserver;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.support.PeriodicTrigger;
 
 /**
@@ -57,6 +61,21 @@ public class SelfObserverScheduling extends AbstractScheduling {
 	 */
 	private static final String METRICS_HUB_AGENT_INFORMATION = "MetricsHub agent information.";
 
+	/**
+	 * Number of jobs running in the agent job pool
+	 */
+	static final String JOB_POOL_ACTIVE_METRIC_NAME = "metricshub.agent.job_pool.active";
+
+	/**
+	 * Number of threads of the agent job pool
+	 */
+	static final String JOB_POOL_SIZE_METRIC_NAME = "metricshub.agent.job_pool.size";
+
+	/**
+	 * Number of jobs waiting in the agent job pool queue
+	 */
+	static final String JOB_POOL_QUEUED_METRIC_NAME = "metricshub.agent.job_pool.queued";
+
 	@NonNull
 	private AgentInfo agentInfo;
 
@@ -136,6 +155,12 @@ public class SelfObserverScheduling extends AbstractScheduling {
 			.build()
 			.init();
 
+		// Expose the engine and job pool self-observability metrics
+		if (agentConfig.isEnableSelfMonitoring()) {
+			EngineMetrics.register(meterProvider.get(EngineMetrics.INSTRUMENTATION_SCOPE));
+			initSchedulerObservers(meterProvider.get("org.sentrysoftware.metricshub.agent"));
+		}
+
 		// Here we go
 		final ScheduledFuture<?> scheduledFuture = taskScheduler.schedule(meterProvider::forceFlush, trigger);
 
@@ -144,4 +169,41 @@ public class SelfObserverScheduling extends AbstractScheduling {
 
 		log.info("Self Observer scheduled.");
 	}
+
+	/**
+	 * Initialize the observers reporting the saturation of the agent job pool.
+	 * Only {@link ThreadPoolTaskScheduler} instances expose their pool statistics.
+	 *
+	 * @param meter The OpenTelemetry meter.
+	 */
+	void initSchedulerObservers(final Meter meter) {
+		if (!(taskScheduler instanceof ThreadPoolTaskScheduler threadPoolTaskScheduler)) {
+			return;
+		}
+
+		meter
+			.upDownCounterBuilder(JOB_POOL_ACTIVE_METRIC_NAME)
+			.setDescription("Number of jobs running in the agent job pool.")
+			.setUnit("{job}")
+			.buildWithCallback(recorder -> recorder.record(threadPoolTaskScheduler.getActiveCount()));
+
+		meter
+			.upDownCounterBuilder(JOB_POOL_SIZE_METRIC_NAME)
+			.setDescription("Number of threads of the agent job pool.")
+			.setUnit("{thread}")
+			.buildWithCallback(recorder -> recorder.record(threadPoolTaskScheduler.getPoolSize()));
+
+		meter
+			.upDownCounterBuilder(JOB_POOL_QUEUED_METRIC_NAME)
+			.setDescription("Number of jobs waiting in the agent job pool queue.")
+			.setUnit("{job}")
+			.buildWithCallback(recorder -> {
+				try {
+					final ScheduledThreadPoolExecutor executor = threadPoolTaskScheduler.getScheduledThreadPoolExecutor();
+					recorder.record(executor.getQueue().size());
+				} catch (IllegalStateException e) {
+					// The scheduler is not initialized yet, nothing to report
+				}
+			});
+	}
 }
@@ -26,6 +26,7 @@ import io.opentelemetry.api.metrics.DoubleCounterBuilder;
 import io.opentelemetry.api.metrics.DoubleGaugeBuilder;
 import io.opentelemetry.api.metrics.DoubleUpDownCounterBuilder;
 import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -46,8 +47,17 @@ public abstract class AbstractMetricObserver {
 
 	/**
 	 * Initialize the observer
+	 *
+	 * @return The instrument observing the metric, closing it removes the callback of the observer
+	 */
+	public abstract AutoCloseable init();
+
+	/**
+	 * Observe the metric, recording its measurement with the observer's attributes
+	 *
+	 * @param recorder An interface for observing measurements with double values.
 	 */
-	public abstract void init();
+	protected abstract void observe(ObservableDoubleMeasurement recorder);
 
 	/**
 	 * Create a new OpenTelemetry SDK {@link DoubleCounterBuilder} instance
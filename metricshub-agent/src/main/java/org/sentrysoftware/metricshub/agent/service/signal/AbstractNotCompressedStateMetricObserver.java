@@ -56,7 +56,11 @@ public abstract class AbstractNotCompressedStateMetricObserver extends AbstractS
 	}
 
 	@Override
-	protected void recordMetricValue(final ObservableDoubleMeasurement recorder, final String value) {
+	protected void recordMetricValue(
+		final ObservableDoubleMeasurement recorder,
+		final String value,
+		final String previousValue
+	) {
 		recorder.record(value.equalsIgnoreCase(state) ? 1 : 0, attributes);
 	}
 }
@@ -27,6 +27,7 @@ import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
 import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.MetricSnapshot;
 import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
 
 /**
@@ -56,15 +57,21 @@ public abstract class AbstractNumberMetricObserver extends AbstractMetricObserve
 	protected NumberMetric metric;
 
 	/**
-	 * Observe the given metric value
+	 * Observe the given metric value. The value is read from the last published snapshot of the metric, so that the
+	 * export is consistent even while the next collect updates the metric.
 	 *
 	 * @param recorder An interface for observing measurements with double values.
 	 */
 	protected void observeNumberMetric(final ObservableDoubleMeasurement recorder) {
-		getMetricValue()
+		if (metric == null) {
+			return;
+		}
+
+		final MetricSnapshot<Double> snapshot = metric.getSnapshot();
+		getMetricValue(snapshot)
 			.ifPresent(value -> {
 				// Special case for energy that must be increased
-				if ("hw.energy".equals(metricName) && !increasedEnergyUsage(value)) {
+				if ("hw.energy".equals(metricName) && !increasedEnergyUsage(value, snapshot.previousValue())) {
 					return;
 				}
 
@@ -72,14 +79,33 @@ public abstract class AbstractNumberMetricObserver extends AbstractMetricObserve
 			});
 	}
 
+	@Override
+	protected void observe(final ObservableDoubleMeasurement recorder) {
+		observeNumberMetric(recorder);
+	}
+
 	/**
 	 * Get the metric value
 	 *
 	 * @return Optional of a {@link Double} value
 	 */
 	public Optional<Double> getMetricValue() {
-		if (metric != null && metric.isUpdated()) {
-			return Optional.ofNullable(metric.getValue());
+		if (metric != null) {
+			return getMetricValue(metric.getSnapshot());
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the value of the given metric snapshot if the metric has been updated
+	 *
+	 * @param snapshot The metric snapshot
+	 * @return Optional of a {@link Double} value
+	 */
+	private static Optional<Double> getMetricValue(final MetricSnapshot<Double> snapshot) {
+		if (snapshot.updated()) {
+			return Optional.ofNullable(snapshot.value());
 		}
 
 		return Optional.empty();
@@ -89,13 +115,12 @@ public abstract class AbstractNumberMetricObserver extends AbstractMetricObserve
 	 * Return true if the given energy metric value has increased its usage. Means the current energy value
 	 * is greater than the previous one.
 	 *
-	 * @param energy Energy in joules
+	 * @param energy        Energy in joules
+	 * @param previousValue Energy in joules collected in the previous cycle
 	 *
 	 * @return boolean value
 	 */
-	boolean increasedEnergyUsage(final Double energy) {
-		final Double previousValue = metric.getPreviousValue();
-
+	static boolean increasedEnergyUsage(final Double energy, final Double previousValue) {
 		// This is the first time energy is collected
 		if (previousValue == null) {
 			return true;
@@ -27,6 +27,7 @@ import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
 import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.MetricSnapshot;
 import org.sentrysoftware.metricshub.engine.telemetry.metric.StateSetMetric;
 
 /**
@@ -67,21 +68,34 @@ public abstract class AbstractStateMetricObserver extends AbstractMetricObserver
 	protected StateSetMetric metric;
 
 	/**
-	 * Observe the given state metric value.
+	 * Observe the given state metric value, read from the last published snapshot of the metric.
 	 *
 	 * @param recorder An interface for observing measurements with double values.
 	 */
 	protected void observeStateMetric(final ObservableDoubleMeasurement recorder) {
-		getMetricValue().ifPresent(value -> recordMetricValue(recorder, value));
+		if (metric == null) {
+			return;
+		}
+
+		final MetricSnapshot<String> snapshot = metric.getSnapshot();
+		if (snapshot.updated() && snapshot.value() != null) {
+			recordMetricValue(recorder, snapshot.value(), snapshot.previousValue());
+		}
+	}
+
+	@Override
+	protected void observe(final ObservableDoubleMeasurement recorder) {
+		observeStateMetric(recorder);
 	}
 
 	/**
 	 * Record the metric value using the given recorder.
 	 *
-	 * @param recorder The recorder to record the metric value.
-	 * @param value    The value as String to be recorded as a double value.
+	 * @param recorder      The recorder to record the metric value.
+	 * @param value         The value as String to be recorded as a double value.
+	 * @param previousValue The value collected in the previous cycle.
 	 */
-	protected abstract void recordMetricValue(ObservableDoubleMeasurement recorder, String value);
+	protected abstract void recordMetricValue(ObservableDoubleMeasurement recorder, String value, String previousValue);
 
 	/**
 	 * Get the metric value
@@ -89,8 +103,11 @@ public abstract class AbstractStateMetricObserver extends AbstractMetricObserver
 	 * @return Optional of a {@link String} value
 	 */
 	protected Optional<String> getMetricValue() {
-		if (metric != null && metric.isUpdated()) {
-			return Optional.ofNullable(metric.getValue());
+		if (metric != null) {
+			final MetricSnapshot<String> snapshot = metric.getSnapshot();
+			if (snapshot.updated()) {
+				return Optional.ofNullable(snapshot.value());
+			}
 		}
 
 		return Optional.empty();
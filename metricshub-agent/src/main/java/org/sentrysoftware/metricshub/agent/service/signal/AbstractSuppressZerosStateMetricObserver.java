@@ -56,14 +56,17 @@ public abstract class AbstractSuppressZerosStateMetricObserver extends AbstractS
 	}
 
 	@Override
-	protected void recordMetricValue(final ObservableDoubleMeasurement recorder, final String value) {
+	protected void recordMetricValue(
+		final ObservableDoubleMeasurement recorder,
+		final String value,
+		final String previousValue
+	) {
 		if (value.equalsIgnoreCase(state)) {
 			recorder.record(1, attributes);
-		} else {
-			final String previousValue = metric.getPreviousValue();
-			if (previousValue != null && !previousValue.equalsIgnoreCase(value) && previousValue.equalsIgnoreCase(state)) {
-				recorder.record(0, attributes);
-			}
+		} else if (
+			previousValue != null && !previousValue.equalsIgnoreCase(value) && previousValue.equalsIgnoreCase(state)
+		) {
+			recorder.record(0, attributes);
 		}
 	}
 }
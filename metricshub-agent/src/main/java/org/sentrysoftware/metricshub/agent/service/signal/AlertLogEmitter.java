@@ -0,0 +1,181 @@
+package org.sentrysoftware.metricshub.agent.service.signal;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Agent
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Logger;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+import org.sentrysoftware.metricshub.engine.alert.AlertInfo;
+import org.sentrysoftware.metricshub.engine.alert.AlertRule;
+import org.sentrysoftware.metricshub.engine.alert.IAlertListener;
+import org.sentrysoftware.metricshub.engine.alert.Severity;
+import org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+
+/**
+ * Emits the alerts raised and cleared on the edge as OpenTelemetry log records. Each alert is reported as a log record
+ * whose body is built from the problem template of the resource and whose attributes identify the monitor and the
+ * metric that raised the alert.
+ */
+@Data
+public class AlertLogEmitter implements IAlertListener {
+
+	static final AttributeKey<String> ALERT_STATE_KEY = AttributeKey.stringKey("alert.state");
+	static final AttributeKey<String> ALERT_SEVERITY_KEY = AttributeKey.stringKey("alert.severity");
+	static final AttributeKey<String> METRIC_NAME_KEY = AttributeKey.stringKey("metric.name");
+	static final AttributeKey<String> MONITOR_ID_KEY = AttributeKey.stringKey("monitor.id");
+	static final AttributeKey<String> MONITOR_TYPE_KEY = AttributeKey.stringKey("monitor.type");
+	static final AttributeKey<String> MONITOR_NAME_KEY = AttributeKey.stringKey("monitor.name");
+
+	static final String FIRING_STATE = "firing";
+	static final String RESOLVED_STATE = "resolved";
+
+	private static final String RESOLVED_PROBLEM_FORMAT = "Resolved: %s";
+
+	@NonNull
+	private final Logger logger;
+
+	@NonNull
+	private final String problemTemplate;
+
+	/**
+	 * Constructs a new {@code AlertLogEmitter}.
+	 *
+	 * @param logger          The OpenTelemetry logger used to emit the alert log records.
+	 * @param problemTemplate The template of the alert log record body.
+	 */
+	@Builder(setterPrefix = "with")
+	public AlertLogEmitter(@NonNull final Logger logger, @NonNull final String problemTemplate) {
+		this.logger = logger;
+		this.problemTemplate = problemTemplate;
+	}
+
+	@Override
+	public void onAlertTriggered(final AlertInfo alertInfo) {
+		emit(alertInfo, FIRING_STATE, buildProblem(alertInfo));
+	}
+
+	@Override
+	public void onAlertResolved(final AlertInfo alertInfo) {
+		emit(alertInfo, RESOLVED_STATE, String.format(RESOLVED_PROBLEM_FORMAT, buildProblem(alertInfo)));
+	}
+
+	/**
+	 * Emit the log record of the given alert.
+	 *
+	 * @param alertInfo The information of the alert.
+	 * @param state     The state of the alert: firing or resolved.
+	 * @param body      The body of the log record.
+	 */
+	private void emit(final AlertInfo alertInfo, final String state, final String body) {
+		final Monitor monitor = alertInfo.getMonitor();
+		final Severity severity = alertInfo.getAlertRule().getSeverity();
+
+		logger
+			.logRecordBuilder()
+			.setSeverity(RESOLVED_STATE.equals(state) ? io.opentelemetry.api.logs.Severity.INFO : toOtelSeverity(severity))
+			.setBody(body)
+			.setAllAttributes(
+				Attributes
+					.builder()
+					.put(ALERT_STATE_KEY, state)
+					.put(ALERT_SEVERITY_KEY, severity != null ? severity.name() : "")
+					.put(METRIC_NAME_KEY, alertInfo.getMetricName())
+					.put(MONITOR_ID_KEY, monitor.getId())
+					.put(MONITOR_TYPE_KEY, monitor.getType())
+					.put(MONITOR_NAME_KEY, getMonitorName(monitor))
+					.build()
+			)
+			.emit();
+	}
+
+	/**
+	 * Build the problem text of the given alert by replacing the macros of the problem template.
+	 *
+	 * @param alertInfo The information of the alert.
+	 * @return the problem text.
+	 */
+	String buildProblem(final AlertInfo alertInfo) {
+		final AlertRule alertRule = alertInfo.getAlertRule();
+		final String alertDetails = alertRule.getDetails() != null ? alertRule.getDetails().toString() : "";
+		final Map<String, String> macros = Map.of(
+			"${FQDN}",
+			valueOrEmpty(alertInfo.getHostname()),
+			"${MONITOR_NAME}",
+			getMonitorName(alertInfo.getMonitor()),
+			"${NEWLINE}",
+			MetricsHubConstants.NEW_LINE,
+			"${ALERT_DETAILS}",
+			alertDetails,
+			"${FULLREPORT}",
+			""
+		);
+
+		String problem = problemTemplate;
+		for (Map.Entry<String, String> macro : macros.entrySet()) {
+			problem = problem.replace(macro.getKey(), macro.getValue());
+		}
+		return problem.trim();
+	}
+
+	/**
+	 * Get the display name of the given monitor, its name attribute or its identifier when the name is not defined.
+	 *
+	 * @param monitor The monitor.
+	 * @return the name of the monitor.
+	 */
+	private static String getMonitorName(final Monitor monitor) {
+		final String name = monitor.getAttribute(MetricsHubConstants.MONITOR_ATTRIBUTE_NAME);
+		return name != null ? name : valueOrEmpty(monitor.getId());
+	}
+
+	/**
+	 * Return the given value or an empty string when it is null.
+	 *
+	 * @param value The value.
+	 * @return a non-null string.
+	 */
+	private static String valueOrEmpty(final String value) {
+		return value != null ? value : "";
+	}
+
+	/**
+	 * Convert the alert rule severity to the OpenTelemetry log severity.
+	 *
+	 * @param severity The alert rule severity.
+	 * @return the matching {@link io.opentelemetry.api.logs.Severity}.
+	 */
+	static io.opentelemetry.api.logs.Severity toOtelSeverity(final Severity severity) {
+		if (severity == null) {
+			return io.opentelemetry.api.logs.Severity.UNDEFINED_SEVERITY_NUMBER;
+		}
+		return switch (severity) {
+			case INFO -> io.opentelemetry.api.logs.Severity.INFO;
+			case WARN -> io.opentelemetry.api.logs.Severity.WARN;
+			case ALARM -> io.opentelemetry.api.logs.Severity.ERROR;
+		};
+	}
+}
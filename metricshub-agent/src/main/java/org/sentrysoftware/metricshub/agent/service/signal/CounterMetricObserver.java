@@ -64,9 +64,11 @@ public class CounterMetricObserver extends AbstractNumberMetricObserver {
 	 * Initializes the counter metric observer. It sets up the OpenTelemetry
 	 * double counter builder and builds it with the provided callback for
 	 * observing number metrics.
+	 *
+	 * @return The observable counter, closing it removes the callback
 	 */
 	@Override
-	public void init() {
-		newDoubleCounterBuilder().buildWithCallback(super::observeNumberMetric);
+	public AutoCloseable init() {
+		return newDoubleCounterBuilder().buildWithCallback(super::observeNumberMetric);
 	}
 }
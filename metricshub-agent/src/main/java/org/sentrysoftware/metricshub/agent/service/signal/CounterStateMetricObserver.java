@@ -57,7 +57,7 @@ public class CounterStateMetricObserver extends AbstractNotCompressedStateMetric
 	}
 
 	@Override
-	public void init() {
-		newDoubleCounterBuilder().buildWithCallback(super::observeStateMetric);
+	public AutoCloseable init() {
+		return newDoubleCounterBuilder().buildWithCallback(super::observeStateMetric);
 	}
 }
@@ -57,7 +57,7 @@ public class CounterSuppressZerosStateMetricObserver extends AbstractSuppressZer
 	}
 
 	@Override
-	public void init() {
-		newDoubleCounterBuilder().buildWithCallback(super::observeStateMetric);
+	public AutoCloseable init() {
+		return newDoubleCounterBuilder().buildWithCallback(super::observeStateMetric);
 	}
 }
@@ -60,7 +60,7 @@ public class GaugeMetricObserver extends AbstractNumberMetricObserver {
 	}
 
 	@Override
-	public void init() {
-		newDoubleGaugeBuilder().buildWithCallback(super::observeNumberMetric);
+	public AutoCloseable init() {
+		return newDoubleGaugeBuilder().buildWithCallback(super::observeNumberMetric);
 	}
 }
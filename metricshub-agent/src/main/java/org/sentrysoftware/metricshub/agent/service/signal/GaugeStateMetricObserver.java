@@ -62,7 +62,7 @@ public class GaugeStateMetricObserver extends AbstractNotCompressedStateMetricOb
 	}
 
 	@Override
-	public void init() {
-		newDoubleGaugeBuilder().buildWithCallback(super::observeStateMetric);
+	public AutoCloseable init() {
+		return newDoubleGaugeBuilder().buildWithCallback(super::observeStateMetric);
 	}
 }
@@ -63,7 +63,7 @@ public class GaugeSuppressZerosStateMetricObserver extends AbstractSuppressZeros
 	}
 
 	@Override
-	public void init() {
-		newDoubleGaugeBuilder().buildWithCallback(super::observeStateMetric);
+	public AutoCloseable init() {
+		return newDoubleGaugeBuilder().buildWithCallback(super::observeStateMetric);
 	}
 }
@@ -0,0 +1,238 @@
+package org.sentrysoftware.metricshub.agent.service.signal;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Agent
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import io.opentelemetry.api.metrics.DoubleCounterBuilder;
+import io.opentelemetry.api.metrics.DoubleGaugeBuilder;
+import io.opentelemetry.api.metrics.DoubleUpDownCounterBuilder;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of the OpenTelemetry asynchronous instruments of a resource, used when the metric observers are batched.<br>
+ * Instead of one {@link Meter} and one callback instrument per metric of each monitor (and per state for the state set
+ * metrics), a single instrument is built for each metric name of the resource. Its batch callback goes through the
+ * observers registered for this instrument, each of them recording its measurement with its own attributes.<br>
+ * As all the instruments are built on the same {@link Meter}, a metric name identifies a single instrument: an observer
+ * of a metric already registered with another instrument type or unit is rejected.
+ */
+@Slf4j
+public class MetricObserverRegistry {
+
+	/**
+	 * The type of asynchronous instrument observing a metric
+	 */
+	public enum InstrumentType {
+		GAUGE,
+		COUNTER,
+		UP_DOWN_COUNTER
+	}
+
+	/**
+	 * An instrument of the resource, with the observers read by its batch callback
+	 *
+	 * @param instrumentType The type of the instrument.
+	 * @param unit           The unit of the metric.
+	 * @param observers      The observers of the instrument.
+	 */
+	private record Instrument(InstrumentType instrumentType, String unit, Queue<AbstractMetricObserver> observers) {}
+
+	/**
+	 * An observer registered for a monitor, with the queue of the instrument reading it
+	 *
+	 * @param observers The observers of the instrument.
+	 * @param observer  The registered observer.
+	 */
+	private record RegisteredObserver(Queue<AbstractMetricObserver> observers, AbstractMetricObserver observer) {}
+
+	private final Meter meter;
+
+	private final Map<String, Instrument> instrumentsPerMetricName = new ConcurrentHashMap<>();
+
+	private final Map<String, Queue<RegisteredObserver>> observersPerMonitor = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new {@code MetricObserverRegistry}.
+	 *
+	 * @param meter The meter of the resource, used to build all the instruments.
+	 */
+	public MetricObserverRegistry(@NonNull final Meter meter) {
+		this.meter = meter;
+	}
+
+	/**
+	 * Register the given observer, building the instrument of its metric if it is the first one registered for it.
+	 *
+	 * @param instrumentType The type of the instrument observing the metric.
+	 * @param observer       The metric observer, its meter is not used.
+	 * @return {@code true} if the observer is registered, {@code false} if its metric is already observed by an
+	 *         instrument of another type or unit
+	 */
+	public boolean register(@NonNull final InstrumentType instrumentType, @NonNull final AbstractMetricObserver observer) {
+		return register(instrumentType, observer, null);
+	}
+
+	/**
+	 * Register the given observer of a monitor metric, building the instrument of its metric if it is the first one
+	 * registered for it. The observers of a monitor can be unregistered with {@link #unregisterMonitor(String)}.
+	 *
+	 * @param instrumentType The type of the instrument observing the metric.
+	 * @param observer       The metric observer, its meter is not used.
+	 * @param monitorId      The identifier of the monitor of the observed metric.
+	 * @return {@code true} if the observer is registered, {@code false} if its metric is already observed by an
+	 *         instrument of another type or unit
+	 */
+	public boolean register(
+		@NonNull final InstrumentType instrumentType,
+		@NonNull final AbstractMetricObserver observer,
+		final String monitorId
+	) {
+		final String metricName = observer.getMetricName();
+		final String unit = normalizeUnit(observer.getUnit());
+		final Instrument instrument = instrumentsPerMetricName.computeIfAbsent(
+			metricName,
+			name -> buildInstrument(instrumentType, name, unit, observer.getDescription())
+		);
+
+		if (instrument.instrumentType() != instrumentType || !Objects.equals(instrument.unit(), unit)) {
+			log.warn(
+				"Metric {} is already observed as a {} in unit {}. Cannot observe it as a {} in unit {}.",
+				metricName,
+				instrument.instrumentType(),
+				instrument.unit(),
+				instrumentType,
+				unit
+			);
+			return false;
+		}
+
+		final Queue<AbstractMetricObserver> observers = instrument.observers();
+		observers.add(observer);
+
+		if (monitorId != null) {
+			observersPerMonitor
+				.computeIfAbsent(monitorId, id -> new ConcurrentLinkedQueue<>())
+				.add(new RegisteredObserver(observers, observer));
+		}
+
+		return true;
+	}
+
+	/**
+	 * Unregister all the observers of the given monitor, so that their metrics are no longer reported.
+	 *
+	 * @param monitorId The identifier of the monitor.
+	 */
+	public void unregisterMonitor(final String monitorId) {
+		if (monitorId == null) {
+			return;
+		}
+
+		final Queue<RegisteredObserver> registeredObservers = observersPerMonitor.remove(monitorId);
+		if (registeredObservers != null) {
+			registeredObservers.forEach(registered -> registered.observers().remove(registered.observer()));
+		}
+	}
+
+	/**
+	 * Get the number of instruments built by this registry.
+	 *
+	 * @return the number of distinct metric names observed.
+	 */
+	public int getInstrumentCount() {
+		return instrumentsPerMetricName.size();
+	}
+
+	/**
+	 * Build the asynchronous instrument of the given metric.
+	 *
+	 * @param instrumentType The type of the instrument.
+	 * @param metricName     The name of the metric. E.g. hw.status
+	 * @param unit           The unit of the metric, {@code null} if the metric has no unit.
+	 * @param description    The description of the metric.
+	 * @return The instrument, with the queue of observers which is read by its batch callback.
+	 */
+	private Instrument buildInstrument(
+		final InstrumentType instrumentType,
+		final String metricName,
+		final String unit,
+		final String description
+	) {
+		final Queue<AbstractMetricObserver> observers = new ConcurrentLinkedQueue<>();
+		final Consumer<ObservableDoubleMeasurement> batchCallback = recorder -> {
+			for (AbstractMetricObserver observer : observers) {
+				observer.observe(recorder);
+			}
+		};
+		final boolean hasUnit = unit != null;
+
+		switch (instrumentType) {
+			case COUNTER:
+				final DoubleCounterBuilder counterBuilder = meter
+					.counterBuilder(metricName)
+					.setDescription(description)
+					.ofDoubles();
+				if (hasUnit) {
+					counterBuilder.setUnit(unit);
+				}
+				counterBuilder.buildWithCallback(batchCallback);
+				break;
+			case UP_DOWN_COUNTER:
+				final DoubleUpDownCounterBuilder upDownCounterBuilder = meter
+					.upDownCounterBuilder(metricName)
+					.setDescription(description)
+					.ofDoubles();
+				if (hasUnit) {
+					upDownCounterBuilder.setUnit(unit);
+				}
+				upDownCounterBuilder.buildWithCallback(batchCallback);
+				break;
+			default:
+				final DoubleGaugeBuilder gaugeBuilder = meter.gaugeBuilder(metricName).setDescription(description);
+				if (hasUnit) {
+					gaugeBuilder.setUnit(unit);
+				}
+				gaugeBuilder.buildWithCallback(batchCallback);
+				break;
+		}
+
+		return new Instrument(instrumentType, unit, observers);
+	}
+
+	/**
+	 * Normalize the unit of a metric, so that a blank unit and no unit identify the same instrument.
+	 *
+	 * @param unit The unit of the metric.
+	 * @return The unit, {@code null} if it is blank.
+	 */
+	private static String normalizeUnit(final String unit) {
+		return unit == null || unit.isBlank() ? null : unit;
+	}
+}
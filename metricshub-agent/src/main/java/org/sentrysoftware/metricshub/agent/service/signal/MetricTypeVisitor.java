@@ -25,12 +25,16 @@ import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import org.sentrysoftware.metricshub.agent.config.StateSetMetricCompression;
 import org.sentrysoftware.metricshub.agent.helper.OtelHelper;
+import org.sentrysoftware.metricshub.agent.service.signal.MetricObserverRegistry.InstrumentType;
 import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricDefinition;
 import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricType.Counter;
 import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricType.Gauge;
@@ -43,6 +47,9 @@ import org.sentrysoftware.metricshub.engine.telemetry.metric.StateSetMetric;
 /**
  * Visitor implementation for handling different metric types and initializing appropriate observers for each.
  * The visitor initializes the metric observers for the OTEL SDK based the configured compression level for the state set metrics.
+ * When a {@link MetricObserverRegistry} is set, the observers are registered in the batch instruments of the resource
+ * instead of getting their own meter and callback instrument. Otherwise, the callback instruments are added to the
+ * instruments of the monitor.
  */
 @Data
 @AllArgsConstructor
@@ -60,63 +67,93 @@ public class MetricTypeVisitor implements IMetricTypeVisitor {
 	private String metricName;
 	private Attributes attributes;
 	private String stateSetCompression;
+	private MetricObserverRegistry metricObserverRegistry;
+	private Map<String, List<AutoCloseable>> observerInstrumentsPerMonitorId;
 
 	@Override
 	public void visit(Gauge gauge) {
 		final String metricKey = metric.getName();
 
 		if (metric instanceof NumberMetric numberMetric) {
-			GaugeMetricObserver
-				.builder()
-				.withAttributes(attributes)
-				.withDescription(metricDefinition.getDescription())
-				.withUnit(metricDefinition.getUnit())
-				.withMeter(getNumberMetricMeter(metricKey))
-				.withMetric(numberMetric)
-				.withMetricName(metricName)
-				.build()
-				.init();
+			initObserver(
+				InstrumentType.GAUGE,
+				GaugeMetricObserver
+					.builder()
+					.withAttributes(attributes)
+					.withDescription(metricDefinition.getDescription())
+					.withUnit(metricDefinition.getUnit())
+					.withMeter(getNumberMetricMeter(metricKey))
+					.withMetric(numberMetric)
+					.withMetricName(metricName)
+					.build()
+			);
 		} else if (metric instanceof StateSetMetric stateSetMetric) {
 			final Consumer<String> observerInitializer = StateSetMetricCompression.SUPPRESS_ZEROS.equalsIgnoreCase(
 					stateSetCompression
 				)
 				? state ->
-					GaugeSuppressZerosStateMetricObserver
-						.builder()
-						.withAttributes(addStateAttribute(attributes, state))
-						.withDescription(metricDefinition.getDescription())
-						.withUnit(metricDefinition.getUnit())
-						.withMeter(getStateSetMetricMeter(metricKey, state))
-						.withMetric(stateSetMetric)
-						.withMetricName(metricName)
-						.withState(state)
-						.build()
-						.init()
+					initObserver(
+						InstrumentType.GAUGE,
+						GaugeSuppressZerosStateMetricObserver
+							.builder()
+							.withAttributes(addStateAttribute(attributes, state))
+							.withDescription(metricDefinition.getDescription())
+							.withUnit(metricDefinition.getUnit())
+							.withMeter(getStateSetMetricMeter(metricKey, state))
+							.withMetric(stateSetMetric)
+							.withMetricName(metricName)
+							.withState(state)
+							.build()
+					)
 				: state ->
-					GaugeStateMetricObserver
-						.builder()
-						.withAttributes(addStateAttribute(attributes, state))
-						.withDescription(metricDefinition.getDescription())
-						.withUnit(metricDefinition.getUnit())
-						.withMeter(getStateSetMetricMeter(metricKey, state))
-						.withMetric(stateSetMetric)
-						.withMetricName(metricName)
-						.withState(state)
-						.build()
-						.init();
+					initObserver(
+						InstrumentType.GAUGE,
+						GaugeStateMetricObserver
+							.builder()
+							.withAttributes(addStateAttribute(attributes, state))
+							.withDescription(metricDefinition.getDescription())
+							.withUnit(metricDefinition.getUnit())
+							.withMeter(getStateSetMetricMeter(metricKey, state))
+							.withMetric(stateSetMetric)
+							.withMetricName(metricName)
+							.withState(state)
+							.build()
+					);
 			for (final String state : stateSetMetric.getStateSet()) {
 				observerInitializer.accept(state);
 			}
 		}
 	}
 
+	/**
+	 * Initialize the given observer, or register it in the {@link MetricObserverRegistry} when the metric observers
+	 * of the resource are batched. The instrument of an initialized observer is kept with the instruments of its
+	 * monitor, so that it can be closed when the monitor is evicted.
+	 *
+	 * @param instrumentType The type of the instrument observing the metric.
+	 * @param observer       The metric observer to initialize.
+	 */
+	private void initObserver(final InstrumentType instrumentType, final AbstractMetricObserver observer) {
+		if (metricObserverRegistry != null) {
+			metricObserverRegistry.register(instrumentType, observer, monitorId);
+		} else {
+			final AutoCloseable instrument = observer.init();
+			if (observerInstrumentsPerMonitorId != null) {
+				observerInstrumentsPerMonitorId.computeIfAbsent(monitorId, id -> new ArrayList<>()).add(instrument);
+			}
+		}
+	}
+
 	/**
 	 * Get Meter for a {@link NumberMetric}
 	 *
 	 * @param metricKey unique key of the metric
-	 * @return OTEL SDK {@link Meter} instance
+	 * @return OTEL SDK {@link Meter} instance, <code>null</code> when the metric observers are batched
 	 */
 	private Meter getNumberMetricMeter(final String metricKey) {
+		if (metricObserverRegistry != null) {
+			return null;
+		}
 		return sdkMeterProvider.get(String.format("%s.%s.%s.%s", resourceGroupKey, resourceKey, monitorId, metricKey));
 	}
 
@@ -125,9 +162,12 @@ public class MetricTypeVisitor implements IMetricTypeVisitor {
 	 * @param metricKey unique key of the metric
 	 * @param state     state of the metric
 	 *
-	 * @return OTEL SDK {@link Meter} instance
+	 * @return OTEL SDK {@link Meter} instance, <code>null</code> when the metric observers are batched
 	 */
 	private Meter getStateSetMetricMeter(final String metricKey, final String state) {
+		if (metricObserverRegistry != null) {
+			return null;
+		}
 		return sdkMeterProvider.get(
 			String.format("%s.%s.%s.%s.%s", resourceGroupKey, resourceKey, monitorId, metricKey, state)
 		);
@@ -138,44 +178,50 @@ public class MetricTypeVisitor implements IMetricTypeVisitor {
 		final String metricKey = metric.getName();
 
 		if (metric instanceof NumberMetric numberMetric) {
-			CounterMetricObserver
-				.builder()
-				.withAttributes(attributes)
-				.withDescription(metricDefinition.getDescription())
-				.withUnit(metricDefinition.getUnit())
-				.withMeter(getNumberMetricMeter(metricKey))
-				.withMetric(numberMetric)
-				.withMetricName(metricName)
-				.build()
-				.init();
+			initObserver(
+				InstrumentType.COUNTER,
+				CounterMetricObserver
+					.builder()
+					.withAttributes(attributes)
+					.withDescription(metricDefinition.getDescription())
+					.withUnit(metricDefinition.getUnit())
+					.withMeter(getNumberMetricMeter(metricKey))
+					.withMetric(numberMetric)
+					.withMetricName(metricName)
+					.build()
+			);
 		} else if (metric instanceof StateSetMetric stateSetMetric) {
 			final Consumer<String> observerInitializer = StateSetMetricCompression.SUPPRESS_ZEROS.equalsIgnoreCase(
 					stateSetCompression
 				)
 				? state ->
-					CounterSuppressZerosStateMetricObserver
-						.builder()
-						.withAttributes(addStateAttribute(attributes, state))
-						.withDescription(metricDefinition.getDescription())
-						.withUnit(metricDefinition.getUnit())
-						.withMeter(getStateSetMetricMeter(metricKey, state))
-						.withMetric(stateSetMetric)
-						.withMetricName(metricName)
-						.withState(state)
-						.build()
-						.init()
+					initObserver(
+						InstrumentType.COUNTER,
+						CounterSuppressZerosStateMetricObserver
+							.builder()
+							.withAttributes(addStateAttribute(attributes, state))
+							.withDescription(metricDefinition.getDescription())
+							.withUnit(metricDefinition.getUnit())
+							.withMeter(getStateSetMetricMeter(metricKey, state))
+							.withMetric(stateSetMetric)
+							.withMetricName(metricName)
+							.withState(state)
+							.build()
+					)
 				: state ->
-					CounterStateMetricObserver
-						.builder()
-						.withAttributes(addStateAttribute(attributes, state))
-						.withDescription(metricDefinition.getDescription())
-						.withUnit(metricDefinition.getUnit())
-						.withMeter(getStateSetMetricMeter(metricKey, state))
-						.withMetric(stateSetMetric)
-						.withMetricName(metricName)
-						.withState(state)
-						.build()
-						.init();
+					initObserver(
+						InstrumentType.COUNTER,
+						CounterStateMetricObserver
+							.builder()
+							.withAttributes(addStateAttribute(attributes, state))
+							.withDescription(metricDefinition.getDescription())
+							.withUnit(metricDefinition.getUnit())
+							.withMeter(getStateSetMetricMeter(metricKey, state))
+							.withMetric(stateSetMetric)
+							.withMetricName(metricName)
+							.withState(state)
+							.build()
+					);
 			for (final String state : stateSetMetric.getStateSet()) {
 				observerInitializer.accept(state);
 			}
@@ -187,44 +233,50 @@ public class MetricTypeVisitor implements IMetricTypeVisitor {
 		final String metricKey = metric.getName();
 
 		if (metric instanceof NumberMetric numberMetric) {
-			UpDownCounterMetricObserver
-				.builder()
-				.withAttributes(attributes)
-				.withDescription(metricDefinition.getDescription())
-				.withUnit(metricDefinition.getUnit())
-				.withMeter(getNumberMetricMeter(metricKey))
-				.withMetric(numberMetric)
-				.withMetricName(metricName)
-				.build()
-				.init();
+			initObserver(
+				InstrumentType.UP_DOWN_COUNTER,
+				UpDownCounterMetricObserver
+					.builder()
+					.withAttributes(attributes)
+					.withDescription(metricDefinition.getDescription())
+					.withUnit(metricDefinition.getUnit())
+					.withMeter(getNumberMetricMeter(metricKey))
+					.withMetric(numberMetric)
+					.withMetricName(metricName)
+					.build()
+			);
 		} else if (metric instanceof StateSetMetric stateSetMetric) {
 			final Consumer<String> observerInitializer = StateSetMetricCompression.SUPPRESS_ZEROS.equalsIgnoreCase(
 					stateSetCompression
 				)
 				? state ->
-					UpDownCounterSuppressZerosStateMetricObserver
-						.builder()
-						.withAttributes(addStateAttribute(attributes, state))
-						.withDescription(metricDefinition.getDescription())
-						.withUnit(metricDefinition.getUnit())
-						.withMeter(getStateSetMetricMeter(metricKey, state))
-						.withMetric(stateSetMetric)
-						.withMetricName(metricName)
-						.withState(state)
-						.build()
-						.init()
+					initObserver(
+						InstrumentType.UP_DOWN_COUNTER,
+						UpDownCounterSuppressZerosStateMetricObserver
+							.builder()
+							.withAttributes(addStateAttribute(attributes, state))
+							.withDescription(metricDefinition.getDescription())
+							.withUnit(metricDefinition.getUnit())
+							.withMeter(getStateSetMetricMeter(metricKey, state))
+							.withMetric(stateSetMetric)
+							.withMetricName(metricName)
+							.withState(state)
+							.build()
+					)
 				: state ->
-					UpDownCounterStateMetricObserver
-						.builder()
-						.withAttributes(addStateAttribute(attributes, state))
-						.withDescription(metricDefinition.getDescription())
-						.withUnit(metricDefinition.getUnit())
-						.withMeter(getStateSetMetricMeter(metricKey, state))
-						.withMetric(stateSetMetric)
-						.withMetricName(metricName)
-						.withState(state)
-						.build()
-						.init();
+					initObserver(
+						InstrumentType.UP_DOWN_COUNTER,
+						UpDownCounterStateMetricObserver
+							.builder()
+							.withAttributes(addStateAttribute(attributes, state))
+							.withDescription(metricDefinition.getDescription())
+							.withUnit(metricDefinition.getUnit())
+							.withMeter(getStateSetMetricMeter(metricKey, state))
+							.withMetric(stateSetMetric)
+							.withMetricName(metricName)
+							.withState(state)
+							.build()
+					);
 			for (final String state : stateSetMetric.getStateSet()) {
 				observerInitializer.accept(state);
 			}
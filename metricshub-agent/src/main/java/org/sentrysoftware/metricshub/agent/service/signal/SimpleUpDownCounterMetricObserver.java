@@ -23,6 +23,7 @@ package org.sentrysoftware.metricshub.agent.service.signal;
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -64,7 +65,12 @@ public class SimpleUpDownCounterMetricObserver extends AbstractMetricObserver {
 	}
 
 	@Override
-	public void init() {
-		newDoubleUpDownCounterBuilder().buildWithCallback(recorder -> recorder.record(metricValue, attributes));
+	public AutoCloseable init() {
+		return newDoubleUpDownCounterBuilder().buildWithCallback(this::observe);
+	}
+
+	@Override
+	protected void observe(final ObservableDoubleMeasurement recorder) {
+		recorder.record(metricValue, attributes);
 	}
 }
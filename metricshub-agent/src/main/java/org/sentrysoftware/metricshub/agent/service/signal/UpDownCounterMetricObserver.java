@@ -55,7 +55,7 @@ public class UpDownCounterMetricObserver extends AbstractNumberMetricObserver {
 	}
 
 	@Override
-	public void init() {
-		newDoubleUpDownCounterBuilder().buildWithCallback(super::observeNumberMetric);
+	public AutoCloseable init() {
+		return newDoubleUpDownCounterBuilder().buildWithCallback(super::observeNumberMetric);
 	}
 }
@@ -57,7 +57,7 @@ public class UpDownCounterStateMetricObserver extends AbstractNotCompressedState
 	}
 
 	@Override
-	public void init() {
-		newDoubleUpDownCounterBuilder().buildWithCallback(super::observeStateMetric);
+	public AutoCloseable init() {
+		return newDoubleUpDownCounterBuilder().buildWithCallback(super::observeStateMetric);
 	}
 }
@@ -57,7 +57,7 @@ public class UpDownCounterSuppressZerosStateMetricObserver extends AbstractSuppr
 	}
 
 	@Override
-	public void init() {
-		newDoubleUpDownCounterBuilder().buildWithCallback(super::observeStateMetric);
+	public AutoCloseable init() {
+		return newDoubleUpDownCounterBuilder().buildWithCallback(super::observeStateMetric);
 	}
 }
@@ -27,23 +27,32 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.Data;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.ThreadContext;
+import org.sentrysoftware.metricshub.agent.config.AlertingSystemConfig;
 import org.sentrysoftware.metricshub.agent.config.ResourceConfig;
 import org.sentrysoftware.metricshub.agent.helper.ConfigHelper;
 import org.sentrysoftware.metricshub.agent.helper.OtelHelper;
+import org.sentrysoftware.metricshub.agent.service.checkpoint.TelemetryCheckpointStore;
+import org.sentrysoftware.metricshub.agent.service.scheduling.AdaptiveCollectTrigger;
+import org.sentrysoftware.metricshub.agent.service.signal.AlertLogEmitter;
+import org.sentrysoftware.metricshub.agent.service.signal.MetricObserverRegistry;
+import org.sentrysoftware.metricshub.agent.service.signal.MetricObserverRegistry.InstrumentType;
 import org.sentrysoftware.metricshub.agent.service.signal.MetricTypeVisitor;
 import org.sentrysoftware.metricshub.agent.service.signal.SimpleUpDownCounterMetricObserver;
 import org.sentrysoftware.metricshub.engine.client.ClientsExecutor;
@@ -51,12 +60,15 @@ import org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants;
 import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
 import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricDefinition;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
+import org.sentrysoftware.metricshub.engine.strategy.alert.AlertEvaluationStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.collect.CollectStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.collect.PrepareCollectStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.collect.ProtocolHealthCheckStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.detection.DetectionStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.discovery.DiscoveryStrategy;
+import org.sentrysoftware.metricshub.engine.strategy.discovery.MonitorEvictionStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.simple.SimpleStrategy;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
 import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
 import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
@@ -77,13 +89,23 @@ public class MonitoringTask implements Runnable {
 
 	private static final String GENERIC_METRIC_DESCRIPTION_FORMAT = "Reports Metric %s";
 
+	static final String COLLECT_OVERRUNS_METRIC_NAME = "metricshub.host.collect.overruns";
+
+	static final String COLLECT_SKIPPED_METRIC_NAME = "metricshub.host.collect.skipped";
+
+	private static final String RESOURCE_EXPORTER = "resource";
+
 	@NonNull
 	private final MonitoringTaskInfo monitoringTaskInfo;
 
 	private int numberOfCollects;
 	private AutoConfiguredOpenTelemetrySdk autoConfiguredOpenTelemetrySdk;
+	private MetricObserverRegistry metricObserverRegistry;
+	private AlertLogEmitter alertLogEmitter;
+	private long lastCheckpointTime;
 
 	private Map<String, Set<String>> initializedMetricsPerMonitorId = new HashMap<>();
+	private Map<String, List<AutoCloseable>> observerInstrumentsPerMonitorId = new HashMap<>();
 	private Map<String, String> mainResourceAttributes;
 
 	@Override
@@ -102,17 +124,31 @@ public class MonitoringTask implements Runnable {
 		// Are we supposed to run the discovery?
 		final long discoveryTime = System.currentTimeMillis();
 		if (numberOfCollects == 0) {
-			log.info("Calling the engine to discover resource: {}.", hostId);
+			// After a restart, resume from the checkpoint of the resource, the discovery is deferred to the next cycle
+			if (autoConfiguredOpenTelemetrySdk == null && restoreCheckpoint(telemetryManager, discoveryTime)) {
+				log.info("Restored resource {} from its checkpoint. Skipping the discovery until the next cycle.", hostId);
+			} else {
+				log.info("Calling the engine to discover resource: {}.", hostId);
 
-			// Run detection and discovery strategies first, the collect strategy will be run when all the OpenTelemetry
-			// observers are registered
+				// Run detection and discovery strategies first, the collect strategy will be run when all the OpenTelemetry
+				// observers are registered
 
-			telemetryManager.run(
-				new DetectionStrategy(telemetryManager, discoveryTime, clientsExecutor, extensionManager),
-				new DiscoveryStrategy(telemetryManager, discoveryTime, clientsExecutor, extensionManager),
-				new SimpleStrategy(telemetryManager, discoveryTime, clientsExecutor, extensionManager),
-				new HardwarePostDiscoveryStrategy(telemetryManager, discoveryTime, clientsExecutor, extensionManager)
-			);
+				telemetryManager.run(
+					new DetectionStrategy(telemetryManager, discoveryTime, clientsExecutor, extensionManager),
+					new DiscoveryStrategy(telemetryManager, discoveryTime, clientsExecutor, extensionManager),
+					new SimpleStrategy(telemetryManager, discoveryTime, clientsExecutor, extensionManager),
+					new HardwarePostDiscoveryStrategy(telemetryManager, discoveryTime, clientsExecutor, extensionManager),
+					new MonitorEvictionStrategy(
+						telemetryManager,
+						discoveryTime,
+						getMonitorEvictionCycles(resourceConfig),
+						this::onMonitorEvicted
+					)
+				);
+			}
+
+			// The next collect records the reference inventory of the collected instances
+			telemetryManager.getHostProperties().resetCollectInventories();
 
 			/*
 			 * Metrics are flushed after each collection and are only refreshed when they are explicitly updated.
@@ -121,6 +157,9 @@ public class MonitoringTask implements Runnable {
 			 * This guarantees that the metrics remain valid and are not prematurely expired.
 			 */
 
+			// Publish the discovered metrics to the OpenTelemetry observers
+			telemetryManager.publishMetricSnapshots();
+
 			// Initialize the OpenTelemetry observers and LogEmitter after the discovery
 			// as at this time we should have what we want to observe
 			initOtelSdk(telemetryManager, resourceConfig);
@@ -148,21 +187,186 @@ public class MonitoringTask implements Runnable {
 		// Run the hardware strategy
 		telemetryManager.run(new HardwareStrategy(telemetryManager, collectTime));
 
+		// Evaluate the alert rules of the updated metrics, the alerts are emitted as OpenTelemetry logs
+		if (alertLogEmitter != null) {
+			telemetryManager.run(new AlertEvaluationStrategy(telemetryManager, collectTime, alertLogEmitter));
+		}
+
+		// Report the scheduling metrics when the collect is adaptively scheduled
+		collectAdaptiveSchedulingMetrics(telemetryManager, collectTime);
+
+		// The cycle is complete, the observers now export the metrics collected during this cycle, while the next
+		// collect can update them
+		telemetryManager.publishMetricSnapshots();
+
 		// Initialize metric observers
 		initAllObservers(telemetryManager);
 
 		// Call the flush of all the metric readers associated with this meter provider
-		autoConfiguredOpenTelemetrySdk.getOpenTelemetrySdk().getSdkMeterProvider().forceFlush();
+		final long flushStartNano = System.nanoTime();
+		autoConfiguredOpenTelemetrySdk
+			.getOpenTelemetrySdk()
+			.getSdkMeterProvider()
+			.forceFlush()
+			.whenComplete(() -> EngineMetrics.recordExportDuration(RESOURCE_EXPORTER, flushStartNano));
+
+		// Call the flush of the alert log records
+		if (alertLogEmitter != null) {
+			autoConfiguredOpenTelemetrySdk.getOpenTelemetrySdk().getSdkLoggerProvider().forceFlush();
+		}
+
+		// Save the checkpoint of the resource for a warm restart
+		saveCheckpoint(telemetryManager, collectTime);
 
 		// Increment the number of collects
 		numberOfCollects++;
 
-		// Reset the number of collects
-		if (numberOfCollects >= discoveryCycle) {
+		// Reset the number of collects, the discovery is run early when the inventory of the collected instances changes
+		if (numberOfCollects >= discoveryCycle || isCollectInventoryChanged(telemetryManager, resourceConfig)) {
 			numberOfCollects = 0;
 		}
 	}
 
+	/**
+	 * Check whether the discovery on inventory change is enabled and the collect has reported instances that have been
+	 * added or removed since the last discovery.
+	 *
+	 * @param telemetryManager Wraps monitors and metrics
+	 * @param resourceConfig   The user's resource configuration
+	 * @return {@code true} if the discovery must be run at the next cycle
+	 */
+	boolean isCollectInventoryChanged(final TelemetryManager telemetryManager, final ResourceConfig resourceConfig) {
+		if (
+			!Boolean.TRUE.equals(resourceConfig.getDiscoveryOnInventoryChange()) ||
+			!telemetryManager.getHostProperties().isCollectInventoryChanged()
+		) {
+			return false;
+		}
+
+		log.info(
+			"The inventory of resource {} has changed since the last discovery. Scheduling the discovery for the next cycle.",
+			telemetryManager.getHostConfiguration().getHostId()
+		);
+		return true;
+	}
+
+	/**
+	 * Get the number of consecutive discovery cycles after which a monitor that is not discovered is evicted.
+	 *
+	 * @param resourceConfig The user's resource configuration
+	 * @return the number of discovery cycles, zero if the monitors are never evicted
+	 */
+	private static int getMonitorEvictionCycles(final ResourceConfig resourceConfig) {
+		final Integer monitorEvictionCycles = resourceConfig.getMonitorEvictionCycles();
+		return monitorEvictionCycles != null ? monitorEvictionCycles : 0;
+	}
+
+	/**
+	 * Release the observers of the evicted monitor. The batched observers are unregistered, the callback instruments
+	 * of the other observers are closed. If the monitor is discovered again, new observers are initialized.
+	 *
+	 * @param monitor The monitor evicted from the telemetry manager
+	 */
+	void onMonitorEvicted(final Monitor monitor) {
+		final String monitorId = monitor.getId();
+		initializedMetricsPerMonitorId.remove(monitorId);
+		if (metricObserverRegistry != null) {
+			metricObserverRegistry.unregisterMonitor(monitorId);
+		}
+
+		final List<AutoCloseable> instruments = observerInstrumentsPerMonitorId.remove(monitorId);
+		if (instruments != null) {
+			for (AutoCloseable instrument : instruments) {
+				try {
+					instrument.close();
+				} catch (Exception e) {
+					log.debug("Failed to close an observer of the evicted monitor {}.", monitorId, e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Restore the resource from its checkpoint if the warm restart is enabled and the checkpoint has been taken less
+	 * than a discovery cycle ago.
+	 *
+	 * @param telemetryManager Wraps monitors and metrics
+	 * @param now              The current time
+	 * @return {@code true} if the checkpoint has been restored
+	 */
+	boolean restoreCheckpoint(final TelemetryManager telemetryManager, final long now) {
+		final TelemetryCheckpointStore checkpointStore = monitoringTaskInfo.getCheckpointStore();
+		if (checkpointStore == null) {
+			return false;
+		}
+
+		final ResourceConfig resourceConfig = monitoringTaskInfo.getResourceConfig();
+		final long discoveryCycleMillis =
+			TimeUnit.SECONDS.toMillis(resourceConfig.getCollectPeriod()) * resourceConfig.getDiscoveryCycle();
+
+		final boolean restored = checkpointStore.restore(
+			monitoringTaskInfo.getResourceGroupKey(),
+			monitoringTaskInfo.getResourceKey(),
+			telemetryManager,
+			now,
+			discoveryCycleMillis
+		);
+		if (restored) {
+			lastCheckpointTime = now;
+		}
+		return restored;
+	}
+
+	/**
+	 * Save the checkpoint of the resource if the warm restart is enabled and the checkpoint interval has elapsed.
+	 *
+	 * @param telemetryManager Wraps monitors and metrics
+	 * @param collectTime      The current collect time
+	 */
+	void saveCheckpoint(final TelemetryManager telemetryManager, final long collectTime) {
+		final TelemetryCheckpointStore checkpointStore = monitoringTaskInfo.getCheckpointStore();
+		if (checkpointStore == null || collectTime - lastCheckpointTime < checkpointStore.getCheckpointIntervalMillis()) {
+			return;
+		}
+
+		checkpointStore.save(
+			monitoringTaskInfo.getResourceGroupKey(),
+			monitoringTaskInfo.getResourceKey(),
+			telemetryManager,
+			collectTime
+		);
+		lastCheckpointTime = collectTime;
+	}
+
+	/**
+	 * Collect the overrun and skipped collect counts tracked by the {@link AdaptiveCollectTrigger} in the endpoint host
+	 * monitor. Nothing is collected if the adaptive scheduling is not enabled for this resource.
+	 *
+	 * @param telemetryManager Wraps monitors and metrics
+	 * @param collectTime      The current collect time
+	 */
+	void collectAdaptiveSchedulingMetrics(final TelemetryManager telemetryManager, final long collectTime) {
+		final AdaptiveCollectTrigger adaptiveCollectTrigger = monitoringTaskInfo.getAdaptiveCollectTrigger();
+		final Monitor endpointHostMonitor = telemetryManager.getEndpointHostMonitor();
+		if (adaptiveCollectTrigger == null || endpointHostMonitor == null) {
+			return;
+		}
+
+		final MetricFactory metricFactory = new MetricFactory(telemetryManager.getHostname());
+		metricFactory.collectNumberMetric(
+			endpointHostMonitor,
+			COLLECT_OVERRUNS_METRIC_NAME,
+			(double) adaptiveCollectTrigger.getOverrunCount().get(),
+			collectTime
+		);
+		metricFactory.collectNumberMetric(
+			endpointHostMonitor,
+			COLLECT_SKIPPED_METRIC_NAME,
+			(double) adaptiveCollectTrigger.getSkippedCount().get(),
+			collectTime
+		);
+	}
+
 	/**
 	 * Initialize metric observers for all metrics associated with each monitor within the {@link TelemetryManager} instance.
 	 *
@@ -233,26 +437,35 @@ public class MonitoringTask implements Runnable {
 			.getOpenTelemetrySdk()
 			.getSdkMeterProvider();
 
-		SimpleUpDownCounterMetricObserver
+		final SimpleUpDownCounterMetricObserver hostConfiguredObserver = SimpleUpDownCounterMetricObserver
 			.builder()
 			.withMetricName(HOST_CONFIGURED_METRIC_NAME)
 			.withMetricValue(1D)
 			.withMeter(
-				sdkMeterProvider.get(
-					String.format(
-						"%s.%s.%s.%s",
-						monitoringTaskInfo.getResourceGroupKey(),
-						monitoringTaskInfo.getResourceKey(),
-						host.getId(),
-						HOST_CONFIGURED_METRIC_NAME
+				metricObserverRegistry != null
+					? null
+					: sdkMeterProvider.get(
+						String.format(
+							"%s.%s.%s.%s",
+							monitoringTaskInfo.getResourceGroupKey(),
+							monitoringTaskInfo.getResourceKey(),
+							host.getId(),
+							HOST_CONFIGURED_METRIC_NAME
+						)
 					)
-				)
 			)
 			.withAttributes(OtelHelper.buildOtelAttributesFromMap(attributesMap))
 			.withUnit(metricDefinition.getUnit())
 			.withDescription(metricDefinition.getDescription())
-			.build()
-			.init();
+			.build();
+
+		if (metricObserverRegistry != null) {
+			metricObserverRegistry.register(InstrumentType.UP_DOWN_COUNTER, hostConfiguredObserver);
+		} else {
+			observerInstrumentsPerMonitorId
+				.computeIfAbsent(host.getId(), id -> new ArrayList<>())
+				.add(hostConfiguredObserver.init());
+		}
 
 		// Set the metric's observer as initialized
 		initializedMetricsPerMonitorId
@@ -340,6 +553,8 @@ public class MonitoringTask implements Runnable {
 					.withResourceGroupKey(monitoringTaskInfo.getResourceGroupKey())
 					.withResourceKey(monitoringTaskInfo.getResourceKey())
 					.withStateSetCompression(monitoringTaskInfo.getResourceConfig().getStateSetCompression())
+					.withMetricObserverRegistry(metricObserverRegistry)
+					.withObserverInstrumentsPerMonitorId(observerInstrumentsPerMonitorId)
 					.build()
 			);
 
@@ -419,6 +634,37 @@ public class MonitoringTask implements Runnable {
 
 			autoConfiguredOpenTelemetrySdk =
 				OtelHelper.initOpenTelemetrySdk(resource, monitoringTaskInfo.getOtelSdkConfiguration());
+
+			// When the metric observers are batched, all the instruments of the resource are built on a single meter
+			if (Boolean.TRUE.equals(resourceConfig.getBatchMetricObservers())) {
+				metricObserverRegistry =
+					new MetricObserverRegistry(
+						autoConfiguredOpenTelemetrySdk
+							.getOpenTelemetrySdk()
+							.getSdkMeterProvider()
+							.get(
+								String.format("%s.%s", monitoringTaskInfo.getResourceGroupKey(), monitoringTaskInfo.getResourceKey())
+							)
+					);
+			}
+
+			// Alerts are emitted as log records unless the alerting system is disabled for this resource
+			final AlertingSystemConfig alertingSystemConfig = resourceConfig.getAlertingSystemConfig();
+			if (alertingSystemConfig != null && !Boolean.TRUE.equals(alertingSystemConfig.getDisable())) {
+				alertLogEmitter =
+					AlertLogEmitter
+						.builder()
+						.withLogger(
+							autoConfiguredOpenTelemetrySdk
+								.getOpenTelemetrySdk()
+								.getLogsBridge()
+								.get(
+									String.format("%s.%s", monitoringTaskInfo.getResourceGroupKey(), monitoringTaskInfo.getResourceKey())
+								)
+						)
+						.withProblemTemplate(alertingSystemConfig.getProblemTemplate())
+						.build();
+			}
 		}
 	}
 
@@ -28,11 +28,15 @@ import lombok.Data;
 import lombok.NonNull;
 import org.sentrysoftware.metricshub.agent.config.ResourceConfig;
 import org.sentrysoftware.metricshub.agent.context.MetricDefinitions;
+import org.sentrysoftware.metricshub.agent.service.checkpoint.TelemetryCheckpointStore;
+import org.sentrysoftware.metricshub.agent.service.scheduling.AdaptiveCollectTrigger;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
 /**
  * Information required for the monitoring task, including telemetry manager, resource configuration, keys, OpenTelemetry SDK configuration, and host metric definitions.
+ * The adaptive collect trigger is only set when the adaptive scheduling is enabled for the resource.
+ * The checkpoint store is only set when the warm restart is enabled.
  */
 @Data
 @AllArgsConstructor
@@ -59,4 +63,8 @@ public class MonitoringTaskInfo {
 
 	@NonNull
 	private ExtensionManager extensionManager;
+
+	private AdaptiveCollectTrigger adaptiveCollectTrigger;
+
+	private TelemetryCheckpointStore checkpointStore;
 }
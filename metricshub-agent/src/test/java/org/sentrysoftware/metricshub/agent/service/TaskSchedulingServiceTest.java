@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -211,4 +212,31 @@ class TaskSchedulingServiceTest {
 				.get(String.format(METRICSHUB_RESOURCE_KEY_FORMAT, SENTRY_PARIS_RESOURCE_GROUP_KEY, resourceKey2))
 		);
 	}
+
+	@Test
+	void testStopReleasesExtensionResources() {
+		final ThreadPoolTaskScheduler taskSchedulerMock = spy(ThreadPoolTaskScheduler.class);
+		final ScheduledFuture<?> scheduledFutureMock = spy(ScheduledFuture.class);
+		final ExtensionManager extensionManagerMock = mock(ExtensionManager.class);
+
+		final TelemetryManager telemetryManager1 = new TelemetryManager();
+		final TelemetryManager telemetryManager2 = new TelemetryManager();
+
+		final TaskSchedulingService taskSchedulingService = TaskSchedulingService
+			.builder()
+			.withSchedules(new HashMap<>(Map.of(METRICSHUB_OVERALL_SELF_TASK_KEY, scheduledFutureMock)))
+			.withTaskScheduler(taskSchedulerMock)
+			.withTelemetryManagers(
+				Map.of(SENTRY_PARIS_RESOURCE_GROUP_KEY, Map.of("server-1", telemetryManager1, "server-2", telemetryManager2))
+			)
+			.withExtensionManager(extensionManagerMock)
+			.build();
+
+		taskSchedulingService.stop();
+
+		verify(scheduledFutureMock, times(1)).cancel(true);
+		verify(taskSchedulerMock, times(1)).destroy();
+		verify(extensionManagerMock, times(1)).releaseResources(telemetryManager1);
+		verify(extensionManagerMock, times(1)).releaseResources(telemetryManager2);
+	}
 }
@@ -0,0 +1,173 @@
+package org.sentrysoftware.metricshub.agent.service.checkpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sentrysoftware.metricshub.engine.alert.AlertRule;
+import org.sentrysoftware.metricshub.engine.alert.Severity;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.Connector;
+import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
+import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricDefinition;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.StateSet;
+import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
+import org.sentrysoftware.metricshub.extension.snmp.SnmpConfiguration;
+
+class TelemetryCheckpointStoreTest {
+
+	private static final String HOSTNAME = "host-01";
+	private static final String RESOURCE_GROUP_KEY = "sentry-paris";
+	private static final String RESOURCE_KEY = "host/01";
+	private static final String CONNECTOR_ID = "LinuxProcess";
+	private static final String ENERGY_METRIC = "hw.energy";
+	private static final String STATUS_METRIC = "hw.status";
+	private static final long MAX_AGE = 60_000;
+
+	@TempDir
+	private Path directory;
+
+	private TelemetryCheckpointStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new TelemetryCheckpointStore(directory, TelemetryCheckpointStore.DEFAULT_CHECKPOINT_INTERVAL_MILLIS);
+	}
+
+	private static TelemetryManager newTelemetryManager(final Set<String> connectors) {
+		return TelemetryManager
+			.builder()
+			.hostConfiguration(
+				HostConfiguration
+					.builder()
+					.hostId(HOSTNAME)
+					.hostname(HOSTNAME)
+					.hostType(DeviceKind.LINUX)
+					.connectors(connectors)
+					.configurations(Map.of(SnmpConfiguration.class, SnmpConfiguration.builder().build()))
+					.build()
+			)
+			.build();
+	}
+
+	private static TelemetryManager newDiscoveredTelemetryManager() {
+		final TelemetryManager telemetryManager = newTelemetryManager(Set.of(CONNECTOR_ID));
+
+		final Monitor host = Monitor.builder().id(HOSTNAME).type("host").isEndpoint(true).build();
+		final Monitor enclosure = Monitor
+			.builder()
+			.id("enclosure-1")
+			.type("enclosure")
+			.attributes(new HashMap<>(Map.of("connector_id", CONNECTOR_ID)))
+			.alertRules(new HashMap<>(Map.of(ENERGY_METRIC, List.of(new AlertRule((mo, c) -> null, Set.of(), Severity.WARN)))))
+			.build();
+		final MetricFactory metricFactory = new MetricFactory(HOSTNAME);
+		metricFactory.collectNumberMetric(enclosure, ENERGY_METRIC, 100.0, 1000L);
+		enclosure.getMetric(ENERGY_METRIC).save();
+		metricFactory.collectNumberMetric(enclosure, ENERGY_METRIC, 160.0, 2000L);
+		metricFactory.collectNumberMetric(enclosure, STATUS_METRIC + "{state=\"failed\"}", 1.0, 2000L);
+
+		final Map<String, Map<String, Monitor>> monitors = new HashMap<>();
+		monitors.put("host", new HashMap<>(Map.of(host.getId(), host)));
+		monitors.put("enclosure", new HashMap<>(Map.of(enclosure.getId(), enclosure)));
+		telemetryManager.setMonitors(monitors);
+
+		telemetryManager.getHostProperties().setOsCommandExecutesRemotely(true);
+		telemetryManager.getHostProperties().getConnectorNamespace(CONNECTOR_ID).setAutomaticWmiNamespace("root\\cimv2");
+		telemetryManager.getHostProperties().getConnectorNamespace(CONNECTOR_ID).setStatusOk(true);
+		return telemetryManager;
+	}
+
+	@Test
+	void testSaveAndRestore() {
+		store.save(RESOURCE_GROUP_KEY, RESOURCE_KEY, newDiscoveredTelemetryManager(), 2000L);
+		assertTrue(Files.isRegularFile(store.resolve(RESOURCE_GROUP_KEY, RESOURCE_KEY)));
+
+		final TelemetryManager restored = newTelemetryManager(Set.of(CONNECTOR_ID));
+		assertTrue(store.restore(RESOURCE_GROUP_KEY, RESOURCE_KEY, restored, 3000L, MAX_AGE));
+
+		assertEquals(HOSTNAME, restored.getEndpointHostMonitor().getId());
+		final Monitor enclosure = restored.findMonitorByTypeAndId("enclosure", "enclosure-1");
+		assertEquals(CONNECTOR_ID, enclosure.getAttribute("connector_id"));
+		assertTrue(enclosure.getAlertRules().isEmpty());
+
+		// The previous value and collect time are kept, so the rates can be computed by the next collect
+		final NumberMetric energy = enclosure.getMetric(ENERGY_METRIC, NumberMetric.class);
+		assertEquals(160.0, energy.getValue());
+		assertEquals(100.0, energy.getPreviousValue());
+		assertEquals(2000L, energy.getCollectTime());
+		assertEquals(1000L, energy.getPreviousCollectTime());
+
+		assertTrue(restored.getHostProperties().isOsCommandExecutesRemotely());
+		assertEquals(
+			"root\\cimv2",
+			restored.getHostProperties().getConnectorNamespace(CONNECTOR_ID).getAutomaticWmiNamespace()
+		);
+		assertTrue(restored.getHostProperties().getConnectorNamespace(CONNECTOR_ID).isStatusOk());
+	}
+
+	@Test
+	void testCheckpointNotRestored() {
+		final TelemetryManager telemetryManager = newTelemetryManager(Set.of(CONNECTOR_ID));
+		assertFalse(store.restore(RESOURCE_GROUP_KEY, RESOURCE_KEY, telemetryManager, 3000L, MAX_AGE));
+
+		store.save(RESOURCE_GROUP_KEY, RESOURCE_KEY, newDiscoveredTelemetryManager(), 2000L);
+
+		// Too old
+		assertFalse(store.restore(RESOURCE_GROUP_KEY, RESOURCE_KEY, telemetryManager, 2000L + MAX_AGE + 1, MAX_AGE));
+
+		// The configured connectors have changed
+		final TelemetryManager reconfigured = newTelemetryManager(Set.of("+" + CONNECTOR_ID));
+		assertFalse(store.restore(RESOURCE_GROUP_KEY, RESOURCE_KEY, reconfigured, 3000L, MAX_AGE));
+		assertTrue(reconfigured.getMonitors().isEmpty());
+	}
+
+	@Test
+	void testRestoredMonitorsCarryAlertRules() {
+		store.save(RESOURCE_GROUP_KEY, RESOURCE_KEY, newDiscoveredTelemetryManager(), 2000L);
+
+		final Connector connector = Connector
+			.builder()
+			.metrics(
+				Map.of(
+					STATUS_METRIC,
+					MetricDefinition.builder().type(StateSet.builder().set(Set.of("ok", "degraded", "failed")).build()).build()
+				)
+			)
+			.build();
+		final ConnectorStore connectorStore = new ConnectorStore();
+		connectorStore.setStore(new HashMap<>(Map.of(CONNECTOR_ID, connector)));
+		final TelemetryManager restored = newTelemetryManager(Set.of(CONNECTOR_ID));
+		restored.setConnectorStore(connectorStore);
+		assertTrue(store.restore(RESOURCE_GROUP_KEY, RESOURCE_KEY, restored, 3000L, MAX_AGE));
+
+		// The rules are built again from the metric definitions of the connector, as the discovery does
+		final Monitor enclosure = restored.findMonitorByTypeAndId("enclosure", "enclosure-1");
+		assertEquals(Set.of(STATUS_METRIC), enclosure.getAlertRules().keySet());
+		final List<AlertRule> rules = enclosure.getAlertRules().get(STATUS_METRIC);
+
+		// The rules evaluate the restored metrics, the enclosure reports the failed state
+		rules.forEach(rule -> rule.evaluate(enclosure));
+		assertEquals(
+			Set.of(Severity.ALARM),
+			rules.stream().filter(rule -> rule.getDetails() != null).map(AlertRule::getSeverity).collect(Collectors.toSet())
+		);
+
+		// The monitors without connector have no rules
+		assertTrue(restored.getEndpointHostMonitor().getAlertRules().isEmpty());
+	}
+}
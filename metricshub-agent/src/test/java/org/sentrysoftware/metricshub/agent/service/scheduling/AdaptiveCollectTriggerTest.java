@@ -0,0 +1,122 @@
+package org.sentrysoftware.metricshub.agent.service.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+class AdaptiveCollectTriggerTest {
+
+	private static final Duration PERIOD = Duration.ofSeconds(60);
+	private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+	private static final String SNMP_UP_METRIC = "metricshub.host.up{protocol=\"snmp\"}";
+	private static final String WMI_UP_METRIC = "metricshub.host.up{protocol=\"wmi\"}";
+
+	private static TelemetryManager buildTelemetryManager(final Double snmpUp, final Double wmiUp) {
+		final TelemetryManager telemetryManager = TelemetryManager
+			.builder()
+			.hostConfiguration(HostConfiguration.builder().hostname("host").build())
+			.build();
+		final Monitor host = Monitor.builder().id("host").type(KnownMonitorType.HOST.getKey()).isEndpoint(true).build();
+		telemetryManager.addNewMonitor(host, KnownMonitorType.HOST.getKey(), "host");
+
+		final MetricFactory metricFactory = new MetricFactory();
+		if (snmpUp != null) {
+			metricFactory.collectNumberMetric(host, SNMP_UP_METRIC, snmpUp, START.toEpochMilli());
+		}
+		if (wmiUp != null) {
+			metricFactory.collectNumberMetric(host, WMI_UP_METRIC, wmiUp, START.toEpochMilli());
+		}
+		return telemetryManager;
+	}
+
+	@Test
+	void testFirstExecution() {
+		final AdaptiveCollectTrigger trigger = new AdaptiveCollectTrigger(PERIOD, buildTelemetryManager(1.0, null));
+		final SimpleTriggerContext triggerContext = new SimpleTriggerContext();
+
+		final Instant before = Instant.now();
+		assertFalse(trigger.nextExecution(triggerContext).isBefore(before));
+		assertEquals(0, trigger.getOverrunCount().get());
+		assertEquals(0, trigger.getSkippedCount().get());
+	}
+
+	@Test
+	void testNextExecutionWithinPeriod() {
+		final AdaptiveCollectTrigger trigger = new AdaptiveCollectTrigger(PERIOD, buildTelemetryManager(1.0, null));
+
+		final Instant next = trigger.nextExecution(new SimpleTriggerContext(START, START, START.plusSeconds(10)));
+
+		assertEquals(START.plus(PERIOD), next);
+		assertEquals(0, trigger.getOverrunCount().get());
+		assertEquals(0, trigger.getSkippedCount().get());
+		assertEquals(Duration.ofSeconds(10), trigger.getLastCollectDuration());
+	}
+
+	@Test
+	void testNextExecutionOverrun() {
+		final AdaptiveCollectTrigger trigger = new AdaptiveCollectTrigger(PERIOD, buildTelemetryManager(1.0, 0.0));
+
+		// The collect took 150 seconds, the triggers at 60s and 120s are coalesced into the one at 180s
+		final Instant next = trigger.nextExecution(new SimpleTriggerContext(START, START, START.plusSeconds(150)));
+
+		assertEquals(START.plusSeconds(180), next);
+		assertEquals(1, trigger.getOverrunCount().get());
+		assertEquals(2, trigger.getSkippedCount().get());
+		assertEquals(1, trigger.getBackoffFactor());
+	}
+
+	@Test
+	void testNextExecutionBackoff() {
+		final AdaptiveCollectTrigger trigger = new AdaptiveCollectTrigger(PERIOD, buildTelemetryManager(0.0, 0.0));
+
+		Instant execution = START;
+		int expectedFactor = 1;
+		long expectedSkipped = 0;
+		for (int cycle = 0; cycle < 6; cycle++) {
+			final Instant next = trigger.nextExecution(new SimpleTriggerContext(execution, execution, execution.plusSeconds(5)));
+
+			expectedFactor = Math.min(expectedFactor * 2, AdaptiveCollectTrigger.MAX_BACKOFF_FACTOR);
+			expectedSkipped += expectedFactor - 1;
+
+			assertEquals(expectedFactor, trigger.getBackoffFactor());
+			assertEquals(execution.plus(PERIOD.multipliedBy(expectedFactor)), next);
+			assertEquals(expectedSkipped, trigger.getSkippedCount().get());
+			execution = next;
+		}
+		assertEquals(0, trigger.getOverrunCount().get());
+	}
+
+	@Test
+	void testBackoffReset() {
+		final TelemetryManager telemetryManager = buildTelemetryManager(0.0, null);
+		final AdaptiveCollectTrigger trigger = new AdaptiveCollectTrigger(PERIOD, telemetryManager);
+
+		trigger.nextExecution(new SimpleTriggerContext(START, START, START.plusSeconds(5)));
+		assertEquals(2, trigger.getBackoffFactor());
+
+		// The host is back
+		new MetricFactory().collectNumberMetric(telemetryManager.getEndpointHostMonitor(), SNMP_UP_METRIC, 1.0, 0L);
+
+		final Instant next = trigger.nextExecution(new SimpleTriggerContext(START, START, START.plusSeconds(5)));
+		assertEquals(1, trigger.getBackoffFactor());
+		assertEquals(START.plus(PERIOD), next);
+	}
+
+	@Test
+	void testIsHostDown() {
+		assertFalse(new AdaptiveCollectTrigger(PERIOD, new TelemetryManager()).isHostDown());
+		assertFalse(new AdaptiveCollectTrigger(PERIOD, buildTelemetryManager(null, null)).isHostDown());
+		assertFalse(new AdaptiveCollectTrigger(PERIOD, buildTelemetryManager(0.0, 1.0)).isHostDown());
+		assertTrue(new AdaptiveCollectTrigger(PERIOD, buildTelemetryManager(0.0, 0.0)).isHostDown());
+	}
+}
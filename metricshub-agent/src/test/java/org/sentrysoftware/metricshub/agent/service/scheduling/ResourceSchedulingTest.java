@@ -59,4 +59,36 @@ class ResourceSchedulingTest {
 
 		verify(taskSchedulerMock, times(1)).schedule(any(MonitoringTask.class), any(PeriodicTrigger.class));
 	}
+
+	@Test
+	void testScheduleAdaptive() throws IOException {
+		final ResourceConfig resourceConfig = ResourceConfig
+			.builder()
+			.loggerLevel("OFF")
+			.attributes(Map.of(HOST_NAME, HOSTNAME, HOST_TYPE_ATTRIBUTE_KEY, OS_LINUX))
+			.discoveryCycle(4)
+			.collectPeriod(2L)
+			.adaptiveScheduling(true)
+			.build();
+		final ThreadPoolTaskScheduler taskSchedulerMock = spy(ThreadPoolTaskScheduler.class);
+		final ScheduledFuture<?> scheduledFutureMock = spy(ScheduledFuture.class);
+
+		doReturn(scheduledFutureMock).when(taskSchedulerMock).schedule(any(Runnable.class), any(Trigger.class));
+		final ResourceScheduling resourceScheduling = ResourceScheduling
+			.builder()
+			.withHostMetricDefinitions(ConfigHelper.readHostMetricDefinitions())
+			.withOtelSdkConfiguration(new HashMap<>())
+			.withResourceConfig(resourceConfig)
+			.withTelemetryManager(new TelemetryManager())
+			.withTaskScheduler(taskSchedulerMock)
+			.withResourceGroupKey(SENTRY_PARIS_RESOURCE_GROUP_KEY)
+			.withResourceKey(HOSTNAME)
+			.withSchedules(new HashMap<>())
+			.withExtensionManager(ExtensionManager.empty())
+			.build();
+
+		resourceScheduling.schedule();
+
+		verify(taskSchedulerMock, times(1)).schedule(any(MonitoringTask.class), any(AdaptiveCollectTrigger.class));
+	}
 }
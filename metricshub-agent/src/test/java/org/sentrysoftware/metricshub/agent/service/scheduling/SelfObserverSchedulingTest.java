@@ -26,6 +26,7 @@ import static org.sentrysoftware.metricshub.agent.helper.TestConstants.COMPANY_A
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.metrics.data.DoublePointData;
 import io.opentelemetry.sdk.metrics.data.GaugeData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
@@ -36,12 +37,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.sentrysoftware.metricshub.agent.config.AgentConfig;
 import org.sentrysoftware.metricshub.agent.context.AgentInfo;
 import org.sentrysoftware.metricshub.agent.helper.ConfigHelper;
 import org.sentrysoftware.metricshub.agent.helper.OtelHelper;
+import org.sentrysoftware.metricshub.agent.service.TaskSchedulingService;
 import org.springframework.scheduling.Trigger;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
@@ -130,4 +133,39 @@ class SelfObserverSchedulingTest {
 			assertNotNull(attributes.get(AttributeKey.stringKey(COMPANY_ATTRIBUTE_KEY)));
 		}
 	}
+
+	@Test
+	void testInitSchedulerObservers() {
+		final InMemoryMetricReader inMemoryReader = InMemoryMetricReader.create();
+		final SdkMeterProvider meterProvider = SdkMeterProvider.builder().registerMetricReader(inMemoryReader).build();
+		final ThreadPoolTaskScheduler taskScheduler = TaskSchedulingService.newScheduler(4);
+
+		try {
+			SelfObserverScheduling
+				.builder()
+				.withAgentConfig(AgentConfig.builder().build())
+				.withAgentInfo(new AgentInfo())
+				.withOtelSdkConfiguration(new HashMap<>())
+				.withSchedules(new HashMap<>())
+				.withTaskScheduler(taskScheduler)
+				.build()
+				.initSchedulerObservers(meterProvider.get("test"));
+
+			final Map<String, Long> values = inMemoryReader
+				.collectAllMetrics()
+				.stream()
+				.collect(
+					Collectors.toMap(
+						MetricData::getName,
+						metricData -> metricData.getLongSumData().getPoints().stream().findAny().orElseThrow().getValue()
+					)
+				);
+
+			assertEquals(0L, values.get(SelfObserverScheduling.JOB_POOL_ACTIVE_METRIC_NAME));
+			assertEquals(0L, values.get(SelfObserverScheduling.JOB_POOL_QUEUED_METRIC_NAME));
+			assertNotNull(values.get(SelfObserverScheduling.JOB_POOL_SIZE_METRIC_NAME));
+		} finally {
+			taskScheduler.shutdown();
+		}
+	}
 }
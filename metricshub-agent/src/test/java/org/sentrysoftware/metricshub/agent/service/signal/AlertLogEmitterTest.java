@@ -0,0 +1,167 @@
+package org.sentrysoftware.metricshub.agent.service.signal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.sentrysoftware.metricshub.agent.service.signal.AlertLogEmitter.ALERT_SEVERITY_KEY;
+import static org.sentrysoftware.metricshub.agent.service.signal.AlertLogEmitter.ALERT_STATE_KEY;
+import static org.sentrysoftware.metricshub.agent.service.signal.AlertLogEmitter.METRIC_NAME_KEY;
+import static org.sentrysoftware.metricshub.agent.service.signal.AlertLogEmitter.MONITOR_ID_KEY;
+import static org.sentrysoftware.metricshub.agent.service.signal.AlertLogEmitter.MONITOR_NAME_KEY;
+
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.SimpleLogRecordProcessor;
+import io.opentelemetry.sdk.testing.exporter.InMemoryLogRecordExporter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.metricshub.engine.alert.AlertDetails;
+import org.sentrysoftware.metricshub.engine.alert.AlertInfo;
+import org.sentrysoftware.metricshub.engine.alert.AlertRule;
+import org.sentrysoftware.metricshub.engine.alert.Severity;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.Connector;
+import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricDefinition;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.StateSet;
+import org.sentrysoftware.metricshub.engine.strategy.alert.AlertEvaluationStrategy;
+import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.MonitorFactory;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+class AlertLogEmitterTest {
+
+	private static final String HOSTNAME = "server-01";
+	private static final String METRIC_NAME = "hw.temperature";
+	private static final String MONITOR_ID = "temperature-1";
+	private static final String MONITOR_NAME = "CPU Temperature";
+	private static final String CONNECTOR_ID = "connector";
+
+	private InMemoryLogRecordExporter exporter;
+	private AlertLogEmitter alertLogEmitter;
+	private AlertInfo alertInfo;
+
+	@BeforeEach
+	void setUp() {
+		exporter = InMemoryLogRecordExporter.create();
+		final SdkLoggerProvider loggerProvider = SdkLoggerProvider
+			.builder()
+			.addLogRecordProcessor(SimpleLogRecordProcessor.create(exporter))
+			.build();
+
+		alertLogEmitter =
+			AlertLogEmitter
+				.builder()
+				.withLogger(loggerProvider.get("test"))
+				.withProblemTemplate("Problem on ${FQDN} with ${MONITOR_NAME}.${NEWLINE}${ALERT_DETAILS}${NEWLINE}${FULLREPORT}")
+				.build();
+
+		final Monitor monitor = Monitor
+			.builder()
+			.id(MONITOR_ID)
+			.type("temperature")
+			.attributes(new HashMap<>(Map.of("name", MONITOR_NAME)))
+			.build();
+		final AlertRule alertRule = new AlertRule((mo, conditions) -> null, Set.of(), Severity.ALARM);
+		alertRule.setDetails(AlertDetails.builder().problem("Too hot").build());
+
+		alertInfo =
+			AlertInfo
+				.builder()
+				.alertRule(alertRule)
+				.monitor(monitor)
+				.metricName(METRIC_NAME)
+				.hostname(HOSTNAME)
+				.build();
+	}
+
+	@Test
+	void testOnAlertTriggered() {
+		alertLogEmitter.onAlertTriggered(alertInfo);
+
+		final List<LogRecordData> records = exporter.getFinishedLogRecordItems();
+		assertEquals(1, records.size());
+
+		final LogRecordData logRecord = records.get(0);
+		assertEquals(io.opentelemetry.api.logs.Severity.ERROR, logRecord.getSeverity());
+		assertEquals(
+			"Problem on server-01 with CPU Temperature.\nProblem           : Too hot",
+			logRecord.getBody().asString()
+		);
+		assertEquals(AlertLogEmitter.FIRING_STATE, logRecord.getAttributes().get(ALERT_STATE_KEY));
+		assertEquals("ALARM", logRecord.getAttributes().get(ALERT_SEVERITY_KEY));
+		assertEquals(METRIC_NAME, logRecord.getAttributes().get(METRIC_NAME_KEY));
+		assertEquals(MONITOR_ID, logRecord.getAttributes().get(MONITOR_ID_KEY));
+		assertEquals(MONITOR_NAME, logRecord.getAttributes().get(MONITOR_NAME_KEY));
+	}
+
+	@Test
+	void testOnAlertResolved() {
+		alertLogEmitter.onAlertResolved(alertInfo);
+
+		final LogRecordData logRecord = exporter.getFinishedLogRecordItems().get(0);
+		assertEquals(io.opentelemetry.api.logs.Severity.INFO, logRecord.getSeverity());
+		assertEquals(AlertLogEmitter.RESOLVED_STATE, logRecord.getAttributes().get(ALERT_STATE_KEY));
+	}
+
+	@Test
+	void testDiscoveredMonitorAlert() {
+		final Connector connector = Connector
+			.builder()
+			.metrics(
+				Map.of(
+					"hw.status",
+					MetricDefinition.builder().type(StateSet.builder().set(Set.of("ok", "degraded", "failed")).build()).build()
+				)
+			)
+			.build();
+		final ConnectorStore connectorStore = new ConnectorStore();
+		connectorStore.setStore(new HashMap<>(Map.of(CONNECTOR_ID, connector)));
+		final TelemetryManager telemetryManager = TelemetryManager
+			.builder()
+			.connectorStore(connectorStore)
+			.hostConfiguration(HostConfiguration.builder().hostId(HOSTNAME).hostname(HOSTNAME).build())
+			.build();
+
+		// Discover the monitor, the alert rules come from the state set metric definition
+		final Monitor monitor = MonitorFactory
+			.builder()
+			.telemetryManager(telemetryManager)
+			.monitorType("disk_controller")
+			.connectorId(CONNECTOR_ID)
+			.attributes(new HashMap<>(Map.of("name", "Disk Controller")))
+			.discoveryTime(1000L)
+			.build()
+			.createOrUpdateMonitor("controller-1");
+		assertEquals(2, monitor.getAlertRules().get("hw.status").size());
+
+		// Collect the failed state and evaluate the alert rules
+		new MetricFactory(HOSTNAME)
+			.collectMetricUsingConnector(connector, monitor, 2000L, "hw.status{hw.type=\"disk_controller\"}", "failed");
+		new AlertEvaluationStrategy(telemetryManager, 2000L, alertLogEmitter).run();
+
+		final List<LogRecordData> records = exporter.getFinishedLogRecordItems();
+		assertEquals(1, records.size());
+
+		final LogRecordData logRecord = records.get(0);
+		assertEquals(io.opentelemetry.api.logs.Severity.ERROR, logRecord.getSeverity());
+		assertEquals(
+			"Problem on server-01 with Disk Controller.\n" +
+			"Problem           : hw.status{hw.type=\"disk_controller\"} reports the failed state.",
+			logRecord.getBody().asString()
+		);
+		assertEquals(AlertLogEmitter.FIRING_STATE, logRecord.getAttributes().get(ALERT_STATE_KEY));
+		assertEquals("hw.status", logRecord.getAttributes().get(METRIC_NAME_KEY));
+		assertEquals("controller-1", logRecord.getAttributes().get(MONITOR_ID_KEY));
+	}
+
+	@Test
+	void testToOtelSeverity() {
+		assertEquals(io.opentelemetry.api.logs.Severity.INFO, AlertLogEmitter.toOtelSeverity(Severity.INFO));
+		assertEquals(io.opentelemetry.api.logs.Severity.WARN, AlertLogEmitter.toOtelSeverity(Severity.WARN));
+		assertEquals(io.opentelemetry.api.logs.Severity.ERROR, AlertLogEmitter.toOtelSeverity(Severity.ALARM));
+	}
+}
@@ -64,4 +64,49 @@ class GaugeMetricObserverTest {
 
 		assertEquals(COMPANY_ATTRIBUTE_VALUE, collectedAttributes.get(OTEL_COMPANY_ATTRIBUTE_KEY));
 	}
+
+	@Test
+	void testObservePublishedSnapshot() {
+		final InMemoryMetricReader inMemoryReader = InMemoryMetricReader.create();
+		final SdkMeterProvider sdkMeterProvider = SdkMeterProvider.builder().registerMetricReader(inMemoryReader).build();
+
+		final NumberMetric metric = NumberMetric.builder().collectTime(1000L).value(1.0).build();
+		metric.publish();
+
+		GaugeMetricObserver
+			.builder()
+			.withAttributes(ATTRIBUTES)
+			.withMetricName(HW_METRIC)
+			.withDescription(METRIC_DESCRIPTION)
+			.withUnit(METRIC_UNIT)
+			.withMeter(sdkMeterProvider.get(METRIC_INSTRUMENTATION_SCOPE))
+			.withMetric(metric)
+			.build()
+			.init();
+
+		// The next collect is in progress, the last published value is exported
+		metric.save();
+		metric.setValue(2.0);
+		assertEquals(1.0, collectValue(inMemoryReader));
+
+		// The cycle is complete
+		metric.setCollectTime(2000L);
+		metric.publish();
+		assertEquals(2.0, collectValue(inMemoryReader));
+	}
+
+	private static double collectValue(final InMemoryMetricReader inMemoryReader) {
+		return inMemoryReader
+			.collectAllMetrics()
+			.stream()
+			.filter(metricData -> HW_METRIC.equals(metricData.getName()))
+			.findFirst()
+			.orElseThrow()
+			.getDoubleGaugeData()
+			.getPoints()
+			.stream()
+			.findAny()
+			.orElseThrow()
+			.getValue();
+	}
 }
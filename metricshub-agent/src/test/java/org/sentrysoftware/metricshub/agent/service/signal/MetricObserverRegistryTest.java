@@ -0,0 +1,186 @@
+package org.sentrysoftware.metricshub.agent.service.signal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.sentrysoftware.metricshub.agent.helper.TestConstants.HOSTNAME;
+import static org.sentrysoftware.metricshub.agent.helper.TestConstants.HW_METRIC;
+import static org.sentrysoftware.metricshub.agent.helper.TestConstants.METRIC_DESCRIPTION;
+import static org.sentrysoftware.metricshub.agent.helper.TestConstants.METRIC_STATE_DEGRADED;
+import static org.sentrysoftware.metricshub.agent.helper.TestConstants.METRIC_STATE_FAILED;
+import static org.sentrysoftware.metricshub.agent.helper.TestConstants.METRIC_STATE_OK;
+import static org.sentrysoftware.metricshub.agent.helper.TestConstants.METRIC_UNIT;
+import static org.sentrysoftware.metricshub.agent.helper.TestConstants.SENTRY_PARIS_RESOURCE_GROUP_KEY;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.metricshub.agent.config.StateSetMetricCompression;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.IMetricType;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricDefinition;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricType;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.StateSet;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.StateSetMetric;
+
+class MetricObserverRegistryTest {
+
+	private static final Set<String> STATE_SET = Set.of(METRIC_STATE_OK, METRIC_STATE_DEGRADED, METRIC_STATE_FAILED);
+
+	private static final String POWER_METRIC = "hw.power";
+
+	private static final AttributeKey<String> ID_ATTRIBUTE_KEY = AttributeKey.stringKey("id");
+
+	private static final AttributeKey<String> STATE_ATTRIBUTE_KEY = AttributeKey.stringKey(
+		MetricTypeVisitor.METRIC_STATE_ATTRIBUTE
+	);
+
+	private static void visit(
+		final SdkMeterProvider sdkMeterProvider,
+		final MetricObserverRegistry registry,
+		final IMetricType metricType,
+		final String metricName,
+		final String monitorId,
+		final Object value
+	) {
+		final MetricTypeVisitor visitor = MetricTypeVisitor
+			.builder()
+			.withAttributes(Attributes.of(ID_ATTRIBUTE_KEY, monitorId))
+			.withMetricName(metricName)
+			.withMetricDefinition(
+				MetricDefinition.builder().type(metricType).description(METRIC_DESCRIPTION).unit(METRIC_UNIT).build()
+			)
+			.withSdkMeterProvider(sdkMeterProvider)
+			.withMetric(
+				value instanceof Double doubleValue
+					? NumberMetric.builder().collectTime(System.currentTimeMillis()).value(doubleValue).build()
+					: StateSetMetric
+						.builder()
+						.collectTime(System.currentTimeMillis())
+						.stateSet(STATE_SET.toArray(new String[STATE_SET.size()]))
+						.value((String) value)
+						.build()
+			)
+			.withMonitorId(monitorId)
+			.withResourceKey(HOSTNAME)
+			.withResourceGroupKey(SENTRY_PARIS_RESOURCE_GROUP_KEY)
+			.withStateSetCompression(StateSetMetricCompression.NONE)
+			.withMetricObserverRegistry(registry)
+			.build();
+
+		metricType.get().getMetricKeyType().accept(visitor);
+	}
+
+	@Test
+	void testBatchInstruments() {
+		final InMemoryMetricReader inMemoryReader = InMemoryMetricReader.create();
+		final SdkMeterProvider sdkMeterProvider = SdkMeterProvider.builder().registerMetricReader(inMemoryReader).build();
+		final MetricObserverRegistry registry = new MetricObserverRegistry(sdkMeterProvider.get("paris.host"));
+
+		final IMetricType stateSet = StateSet.builder().output(MetricType.UP_DOWN_COUNTER).set(STATE_SET).build();
+
+		visit(sdkMeterProvider, registry, stateSet, HW_METRIC, "disk-1", METRIC_STATE_OK);
+		visit(sdkMeterProvider, registry, stateSet, HW_METRIC, "disk-2", METRIC_STATE_FAILED);
+		visit(sdkMeterProvider, registry, MetricType.GAUGE, POWER_METRIC, "disk-1", 10.0);
+		visit(sdkMeterProvider, registry, MetricType.GAUGE, POWER_METRIC, "disk-2", 20.0);
+
+		// One instrument per metric name, whatever the number of monitors and states
+		assertEquals(2, registry.getInstrumentCount());
+
+		final Collection<MetricData> metrics = inMemoryReader.collectAllMetrics();
+		assertEquals(2, metrics.size());
+
+		final MetricData statusMetric = metrics
+			.stream()
+			.filter(metricData -> HW_METRIC.equals(metricData.getName()))
+			.findFirst()
+			.orElseThrow();
+		final Collection<DoublePointData> statusPoints = statusMetric.getDoubleSumData().getPoints();
+		assertEquals(6, statusPoints.size());
+		assertEquals(1.0, findValue(statusPoints, "disk-1", METRIC_STATE_OK));
+		assertEquals(0.0, findValue(statusPoints, "disk-1", METRIC_STATE_FAILED));
+		assertEquals(1.0, findValue(statusPoints, "disk-2", METRIC_STATE_FAILED));
+		assertEquals(0.0, findValue(statusPoints, "disk-2", METRIC_STATE_DEGRADED));
+
+		final MetricData powerMetric = metrics
+			.stream()
+			.filter(metricData -> POWER_METRIC.equals(metricData.getName()))
+			.findFirst()
+			.orElseThrow();
+		assertEquals(METRIC_UNIT, powerMetric.getUnit());
+		final List<Double> powerValues = powerMetric
+			.getDoubleGaugeData()
+			.getPoints()
+			.stream()
+			.map(DoublePointData::getValue)
+			.sorted()
+			.toList();
+		assertEquals(List.of(10.0, 20.0), powerValues);
+	}
+
+	@Test
+	void testUnregisterMonitor() {
+		final InMemoryMetricReader inMemoryReader = InMemoryMetricReader.create();
+		final SdkMeterProvider sdkMeterProvider = SdkMeterProvider.builder().registerMetricReader(inMemoryReader).build();
+		final MetricObserverRegistry registry = new MetricObserverRegistry(sdkMeterProvider.get("paris.host"));
+
+		visit(sdkMeterProvider, registry, MetricType.GAUGE, POWER_METRIC, "disk-1", 10.0);
+		visit(sdkMeterProvider, registry, MetricType.GAUGE, POWER_METRIC, "disk-2", 20.0);
+
+		registry.unregisterMonitor("disk-1");
+
+		final MetricData powerMetric = inMemoryReader
+			.collectAllMetrics()
+			.stream()
+			.filter(metricData -> POWER_METRIC.equals(metricData.getName()))
+			.findFirst()
+			.orElseThrow();
+		final List<String> monitorIds = powerMetric
+			.getDoubleGaugeData()
+			.getPoints()
+			.stream()
+			.map(point -> point.getAttributes().get(ID_ATTRIBUTE_KEY))
+			.toList();
+		assertEquals(List.of("disk-2"), monitorIds);
+	}
+
+	@Test
+	void testConflictingInstrument() {
+		final InMemoryMetricReader inMemoryReader = InMemoryMetricReader.create();
+		final SdkMeterProvider sdkMeterProvider = SdkMeterProvider.builder().registerMetricReader(inMemoryReader).build();
+		final MetricObserverRegistry registry = new MetricObserverRegistry(sdkMeterProvider.get("paris.host"));
+
+		// The same metric observed as a gauge then as a counter, the counter observer is rejected
+		visit(sdkMeterProvider, registry, MetricType.GAUGE, POWER_METRIC, "disk-1", 10.0);
+		visit(sdkMeterProvider, registry, MetricType.COUNTER, POWER_METRIC, "disk-2", 20.0);
+
+		assertEquals(1, registry.getInstrumentCount());
+
+		final Collection<MetricData> metrics = inMemoryReader.collectAllMetrics();
+		assertEquals(1, metrics.size());
+		final MetricData powerMetric = metrics.iterator().next();
+		assertEquals(POWER_METRIC, powerMetric.getName());
+		final List<String> monitorIds = powerMetric
+			.getDoubleGaugeData()
+			.getPoints()
+			.stream()
+			.map(point -> point.getAttributes().get(ID_ATTRIBUTE_KEY))
+			.toList();
+		assertEquals(List.of("disk-1"), monitorIds);
+	}
+
+	private static double findValue(final Collection<DoublePointData> points, final String monitorId, final String state) {
+		return points
+			.stream()
+			.filter(point -> monitorId.equals(point.getAttributes().get(ID_ATTRIBUTE_KEY)))
+			.filter(point -> state.equals(point.getAttributes().get(STATE_ATTRIBUTE_KEY)))
+			.findFirst()
+			.orElseThrow()
+			.getValue();
+	}
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -54,6 +55,7 @@ import org.sentrysoftware.metricshub.engine.strategy.detection.DetectionStrategy
 import org.sentrysoftware.metricshub.engine.strategy.discovery.DiscoveryStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.simple.SimpleStrategy;
 import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.HostProperties;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
 import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
@@ -168,6 +170,104 @@ class MonitoringTaskTest {
 		}
 	}
 
+	@Test
+	void testIsCollectInventoryChanged() {
+		final TelemetryManager telemetryManager = TelemetryManager.builder().hostConfiguration(hostConfiguration).build();
+		final ResourceConfig resourceConfig = ResourceConfig.builder().discoveryOnInventoryChange(true).build();
+
+		final HostProperties hostProperties = telemetryManager.getHostProperties();
+
+		// The inventory is unchanged
+		hostProperties.updateCollectInventory("connector", "disk", "a");
+		hostProperties.updateCollectInventory("connector", "disk", "a");
+		assertFalse(monitoringTask.isCollectInventoryChanged(telemetryManager, resourceConfig));
+
+		// The inventory flaps between two states, the change is never confirmed
+		hostProperties.updateCollectInventory("connector", "disk", "b");
+		assertFalse(monitoringTask.isCollectInventoryChanged(telemetryManager, resourceConfig));
+		hostProperties.updateCollectInventory("connector", "disk", "a");
+		assertFalse(monitoringTask.isCollectInventoryChanged(telemetryManager, resourceConfig));
+		hostProperties.updateCollectInventory("connector", "disk", "b");
+		assertFalse(monitoringTask.isCollectInventoryChanged(telemetryManager, resourceConfig));
+		hostProperties.updateCollectInventory("connector", "disk", "c");
+		assertFalse(monitoringTask.isCollectInventoryChanged(telemetryManager, resourceConfig));
+		hostProperties.updateCollectInventory("connector", "disk", "a");
+		assertFalse(monitoringTask.isCollectInventoryChanged(telemetryManager, resourceConfig));
+
+		// The inventory has changed and the change persists over two consecutive collects
+		hostProperties.updateCollectInventory("connector", "disk", "b");
+		assertFalse(monitoringTask.isCollectInventoryChanged(telemetryManager, resourceConfig));
+		hostProperties.updateCollectInventory("connector", "disk", "b");
+		assertTrue(monitoringTask.isCollectInventoryChanged(telemetryManager, resourceConfig));
+
+		// The discovery on inventory change is disabled
+		resourceConfig.setDiscoveryOnInventoryChange(false);
+		assertFalse(monitoringTask.isCollectInventoryChanged(telemetryManager, resourceConfig));
+	}
+
+	/**
+	 * Initialize the OpenTelemetry SDK of the given task, with the given in-memory metric reader.
+	 *
+	 * @param monitoringTask         The monitoring task
+	 * @param otelHelperMockedStatic The static mock of the {@link OtelHelper}
+	 * @param inMemoryReader         The metric reader used to collect the metrics
+	 */
+	private static void initOtelSdk(
+		final MonitoringTask monitoringTask,
+		final MockedStatic<OtelHelper> otelHelperMockedStatic,
+		final InMemoryMetricReader inMemoryReader
+	) {
+		// Mock the initialization of the OpenTelemetry SDK
+		otelHelperMockedStatic
+			.when(() -> OtelHelper.initOpenTelemetrySdk(any(Resource.class), any()))
+			.thenAnswer(answer -> {
+				final var sdkBuilder = AutoConfiguredOpenTelemetrySdk.builder();
+
+				// Customize the meter provider to use the in-memory metric reader and set the resource
+				sdkBuilder.addMeterProviderCustomizer((builder, u) -> {
+					return builder.registerMetricReader(inMemoryReader).setResource(answer.getArgument(0));
+				});
+
+				return sdkBuilder.build();
+			});
+
+		// Mock other OtelHelper methods to ensure that the behavior correctly initializes intermediate objects
+		otelHelperMockedStatic.when(() -> OtelHelper.createOpenTelemetryResource(anyMap())).thenCallRealMethod();
+		otelHelperMockedStatic
+			.when(() -> OtelHelper.createHostResource(anyMap(), anyMap()))
+			.thenReturn(
+				Resource.create(
+					Attributes.of(
+						AttributeKey.stringKey(OS_TYPE_ATTRIBUTE_KEY),
+						OS_LINUX,
+						AttributeKey.stringKey(HOST_NAME),
+						HOSTNAME
+					)
+				)
+			);
+		otelHelperMockedStatic
+			.when(() -> OtelHelper.mergeOtelAttributes(any(Attributes.class), any(Attributes.class)))
+			.thenCallRealMethod();
+		otelHelperMockedStatic.when(() -> OtelHelper.buildOtelAttributesFromMap(anyMap())).thenCallRealMethod();
+		otelHelperMockedStatic.when(() -> OtelHelper.isAcceptedKey(anyString())).thenCallRealMethod();
+
+		// Create a telemetry manager mock and set behavior for getting the host monitor
+		final TelemetryManager telemetryManagerMock = spy(TelemetryManager.class);
+		doReturn(new Monitor()).when(telemetryManagerMock).getEndpointHostMonitor();
+
+		// Initialize the OpenTelemetry SDK with specific resource configurations
+		monitoringTask.initOtelSdk(
+			telemetryManagerMock,
+			ResourceConfig
+				.builder()
+				.loggerLevel("OFF")
+				.attributes(Map.of(HOST_NAME, HOSTNAME, HOST_TYPE_ATTRIBUTE_KEY, OS_LINUX))
+				.discoveryCycle(4)
+				.resolveHostnameToFqdn(true)
+				.build()
+		);
+	}
+
 	@Test
 	void testInitMetricObserver() {
 		// Create a new MonitoringTask using the mocked monitoringTaskInfo instance
@@ -183,55 +283,7 @@ class MonitoringTaskTest {
 
 		// Use a try-with-resources block to mock static methods in OtelHelper
 		try (MockedStatic<OtelHelper> otelHelperMockedStatic = mockStatic(OtelHelper.class)) {
-			// Mock the initialization of the OpenTelemetry SDK
-			otelHelperMockedStatic
-				.when(() -> OtelHelper.initOpenTelemetrySdk(any(Resource.class), any()))
-				.thenAnswer(answer -> {
-					final var sdkBuilder = AutoConfiguredOpenTelemetrySdk.builder();
-
-					// Customize the meter provider to use the in-memory metric reader and set the resource
-					sdkBuilder.addMeterProviderCustomizer((builder, u) -> {
-						return builder.registerMetricReader(inMemoryReader).setResource(answer.getArgument(0));
-					});
-
-					return sdkBuilder.build();
-				});
-
-			// Mock other OtelHelper methods to ensure that the behavior correctly initializes intermediate objects
-			otelHelperMockedStatic.when(() -> OtelHelper.createOpenTelemetryResource(anyMap())).thenCallRealMethod();
-			otelHelperMockedStatic
-				.when(() -> OtelHelper.createHostResource(anyMap(), anyMap()))
-				.thenReturn(
-					Resource.create(
-						Attributes.of(
-							AttributeKey.stringKey(OS_TYPE_ATTRIBUTE_KEY),
-							OS_LINUX,
-							AttributeKey.stringKey(HOST_NAME),
-							HOSTNAME
-						)
-					)
-				);
-			otelHelperMockedStatic
-				.when(() -> OtelHelper.mergeOtelAttributes(any(Attributes.class), any(Attributes.class)))
-				.thenCallRealMethod();
-			otelHelperMockedStatic.when(() -> OtelHelper.buildOtelAttributesFromMap(anyMap())).thenCallRealMethod();
-			otelHelperMockedStatic.when(() -> OtelHelper.isAcceptedKey(anyString())).thenCallRealMethod();
-
-			// Create a telemetry manager mock and set behavior for getting the host monitor
-			final TelemetryManager telemetryManagerMock = spy(TelemetryManager.class);
-			doReturn(new Monitor()).when(telemetryManagerMock).getEndpointHostMonitor();
-
-			// Initialize the OpenTelemetry SDK with specific resource configurations
-			newMonitoringTask.initOtelSdk(
-				telemetryManagerMock,
-				ResourceConfig
-					.builder()
-					.loggerLevel("OFF")
-					.attributes(Map.of(HOST_NAME, HOSTNAME, HOST_TYPE_ATTRIBUTE_KEY, OS_LINUX))
-					.discoveryCycle(4)
-					.resolveHostnameToFqdn(true)
-					.build()
-			);
+			initOtelSdk(newMonitoringTask, otelHelperMockedStatic, inMemoryReader);
 
 			// Create metric and monitor data for testing
 			final Monitor monitor = Monitor.builder().id("enclosure-1").type("enclosure").build();
@@ -288,4 +340,53 @@ class MonitoringTaskTest {
 			assertEquals(expectedMetricValue, dataPoint.getValue());
 		}
 	}
+
+	@Test
+	void testOnMonitorEvictedClosesObservers() {
+		final MonitoringTask newMonitoringTask = new MonitoringTask(monitoringTaskInfoMock);
+
+		doReturn(ResourceConfig.builder().build()).when(monitoringTaskInfoMock).getResourceConfig();
+
+		final InMemoryMetricReader inMemoryReader = InMemoryMetricReader.create();
+
+		try (MockedStatic<OtelHelper> otelHelperMockedStatic = mockStatic(OtelHelper.class)) {
+			initOtelSdk(newMonitoringTask, otelHelperMockedStatic, inMemoryReader);
+
+			// The metric observers are not batched
+			final Monitor monitor = Monitor.builder().id("enclosure-1").type("enclosure").build();
+			final String metricName = "hw.temperature";
+			final Entry<String, AbstractMetric> metricEntry = Map.entry(
+				metricName,
+				NumberMetric.builder().name(metricName).value(25D).collectTime(System.currentTimeMillis()).build()
+			);
+			final Map<String, MetricDefinition> metricDefinitionMap = Map.of(metricName, MetricDefinition.builder().build());
+
+			newMonitoringTask.initMetricObserver(monitor, metricDefinitionMap, metricEntry);
+			assertEquals(1, countPoints(inMemoryReader.collectAllMetrics(), metricName));
+
+			// The evicted monitor is no longer reported
+			newMonitoringTask.onMonitorEvicted(monitor);
+			assertEquals(0, countPoints(inMemoryReader.collectAllMetrics(), metricName));
+			assertTrue(newMonitoringTask.isMetricObserverNotInitialized(monitor.getId(), metricName));
+
+			// The monitor is discovered again, its metric is reported once
+			newMonitoringTask.initMetricObserver(monitor, metricDefinitionMap, metricEntry);
+			assertEquals(1, countPoints(inMemoryReader.collectAllMetrics(), metricName));
+		}
+	}
+
+	/**
+	 * Count the points of the given metric.
+	 *
+	 * @param metrics    The collected metrics
+	 * @param metricName The name of the metric
+	 * @return the number of points of the metric
+	 */
+	private static long countPoints(final Collection<MetricData> metrics, final String metricName) {
+		return metrics
+			.stream()
+			.filter(metricData -> metricName.equals(metricData.getName()))
+			.mapToLong(metricData -> metricData.getData().getPoints().size())
+			.sum();
+	}
 }
@@ -0,0 +1,97 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sentrysoftware.metricshub.engine.awk.AwkException;
+import org.sentrysoftware.metricshub.engine.awk.AwkExecutor;
+
+/**
+ * Benchmark of the {@link AwkExecutor} parsing a WMI output, with the intermediate code of the script taken from the
+ * cache or compiled at each execution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AwkExecutorBenchmark {
+
+	private static final String AWK_SCRIPT =
+		"""
+		BEGIN { FS = ";" }
+		$3 == "OK" { status = 0 }
+		$3 == "Degraded" { status = 1 }
+		$3 == "Error" { status = 2 }
+		{ printf("MSHW;%s;%s;%d;%.0f\\n", $1, $2, status, $4 / 1048576) }
+		""";
+
+	@Param({ "100", "1000" })
+	private int rowCount;
+
+	private String wmiOutput;
+
+	/**
+	 * Build the WMI output.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		wmiOutput = BenchmarkFixtures.wmiOutput(rowCount);
+	}
+
+	/**
+	 * Execute the script with its intermediate code taken from the cache.
+	 *
+	 * @return The result of the script.
+	 * @throws AwkException If the script fails.
+	 */
+	@Benchmark
+	public String executeCached() throws AwkException {
+		return AwkExecutor.executeAwk(AWK_SCRIPT, wmiOutput);
+	}
+
+	/**
+	 * Compile and execute the script.
+	 *
+	 * @return The result of the script.
+	 * @throws AwkException If the script fails.
+	 */
+	@Benchmark
+	public String executeUncached() throws AwkException {
+		AwkExecutor.resetCache();
+		return AwkExecutor.executeAwk(AWK_SCRIPT, wmiOutput);
+	}
+}
@@ -0,0 +1,213 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.DEFAULT_KEYS;
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_ID;
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_NAME;
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.NEW_LINE;
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.TABLE_SEP;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
+import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
+import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.MonitorFactory;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+/**
+ * Synthetic fixtures shaped like real monitoring data: SNMP tables, WMI query outputs and large telemetry managers.
+ * The fixtures are deterministic so that the results of successive benchmark runs can be compared.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BenchmarkFixtures {
+
+	/**
+	 * Hostname of the benchmarked resource
+	 */
+	public static final String HOSTNAME = "benchmark-host";
+
+	/**
+	 * Identifier (compiled file name) of the benchmark connector
+	 */
+	public static final String CONNECTOR_ID = "BenchmarkConnector";
+
+	/**
+	 * Monitor type of the synthetic monitors
+	 */
+	public static final String DISK_MONITOR_TYPE = "disk";
+
+	private static final String CONNECTOR_RESOURCE = "/benchmark-connectors/BenchmarkConnector.yaml";
+
+	private static final String[] SNMP_STATUSES = { "2", "3", "4" };
+	private static final String[] WMI_STATUSES = { "OK", "Degraded", "Error" };
+	private static final String[] METRIC_NAMES = {
+		"hw.status{hw.type=\"disk\", state=\"ok\"}",
+		"hw.status{hw.type=\"disk\", state=\"degraded\"}",
+		"hw.status{hw.type=\"disk\", state=\"failed\"}",
+		"hw.temperature",
+		"hw.errors{hw.type=\"disk\"}",
+		"hw.disk.io{disk.io.direction=\"read\"}",
+		"hw.disk.io{disk.io.direction=\"write\"}",
+		"hw.energy{hw.type=\"disk\"}"
+	};
+
+	/**
+	 * Build a table shaped like the result of an SNMP table walk on a storage array: index, name, status code,
+	 * size in MB, temperature in Celsius and serial number.
+	 *
+	 * @param rowCount Number of rows.
+	 * @return A new mutable table.
+	 */
+	public static List<List<String>> snmpTable(final int rowCount) {
+		final List<List<String>> table = new ArrayList<>(rowCount);
+		for (int i = 0; i < rowCount; i++) {
+			final List<String> row = new ArrayList<>(6);
+			row.add(String.valueOf(i + 1));
+			row.add("Physical Disk " + (i + 1));
+			row.add(SNMP_STATUSES[i % SNMP_STATUSES.length]);
+			row.add(String.valueOf(286_102 + (i % 16) * 1024));
+			row.add(String.valueOf(25 + i % 30));
+			row.add(String.format("SN%08X", i * 7919));
+			table.add(row);
+		}
+		return table;
+	}
+
+	/**
+	 * Build the CSV output of a WMI query on <code>Win32_DiskDrive</code>: DeviceID, Caption, Status, Size and
+	 * BytesPerSector, separated with {@link org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants#TABLE_SEP}.
+	 *
+	 * @param rowCount Number of lines.
+	 * @return The CSV output.
+	 */
+	public static String wmiOutput(final int rowCount) {
+		final StringBuilder output = new StringBuilder(rowCount * 80);
+		for (int i = 0; i < rowCount; i++) {
+			output
+				.append("\\\\.\\PHYSICALDRIVE")
+				.append(i)
+				.append(TABLE_SEP)
+				.append("ATA Virtual Disk ")
+				.append(i)
+				.append(TABLE_SEP)
+				.append(WMI_STATUSES[i % WMI_STATUSES.length])
+				.append(TABLE_SEP)
+				.append(500_107_862_016L + i)
+				.append(TABLE_SEP)
+				.append(512)
+				.append(TABLE_SEP)
+				.append(NEW_LINE);
+		}
+		return output.toString();
+	}
+
+	/**
+	 * Build a {@link TelemetryManager} holding an endpoint host monitor and the given number of disk monitors,
+	 * each one with its attributes and a set of collected metrics.
+	 *
+	 * @param monitorCount Number of disk monitors.
+	 * @return A new {@link TelemetryManager}.
+	 */
+	public static TelemetryManager telemetryManager(final int monitorCount) {
+		final TelemetryManager telemetryManager = TelemetryManager
+			.builder()
+			.hostConfiguration(
+				HostConfiguration.builder().hostId(HOSTNAME).hostname(HOSTNAME).hostType(DeviceKind.STORAGE).build()
+			)
+			.build();
+
+		final Monitor host = Monitor.builder().id(HOSTNAME).type(KnownMonitorType.HOST.getKey()).isEndpoint(true).build();
+		telemetryManager.addNewMonitor(host, KnownMonitorType.HOST.getKey(), HOSTNAME);
+
+		final long discoveryTime = System.currentTimeMillis();
+		final MetricFactory metricFactory = new MetricFactory(HOSTNAME);
+		final List<List<String>> table = snmpTable(monitorCount);
+
+		for (final List<String> row : table) {
+			final Map<String, String> attributes = new HashMap<>();
+			attributes.put(MONITOR_ATTRIBUTE_ID, row.get(0));
+			attributes.put(MONITOR_ATTRIBUTE_NAME, row.get(1));
+			attributes.put("serial_number", row.get(5));
+			attributes.put("hw.parent.type", KnownMonitorType.ENCLOSURE.getKey());
+			attributes.put("hw.parent.id", "enclosure-1");
+
+			final Monitor monitor = MonitorFactory
+				.builder()
+				.monitorType(DISK_MONITOR_TYPE)
+				.telemetryManager(telemetryManager)
+				.connectorId(CONNECTOR_ID)
+				.attributes(attributes)
+				.discoveryTime(discoveryTime)
+				.keys(DEFAULT_KEYS)
+				.build()
+				.createOrUpdateMonitor();
+
+			for (final String metricName : METRIC_NAMES) {
+				metricFactory.collectNumberMetric(monitor, metricName, Double.valueOf(row.get(4)), discoveryTime);
+			}
+		}
+
+		return telemetryManager;
+	}
+
+	/**
+	 * Names of the metrics collected on each disk monitor of {@link #telemetryManager(int)}.
+	 *
+	 * @return A copy of the metric names.
+	 */
+	public static String[] metricNames() {
+		return METRIC_NAMES.clone();
+	}
+
+	/**
+	 * Build a {@link ConnectorStore} holding the <code>BenchmarkConnector</code>. The connector store only parses the
+	 * connectors of a directory, so the connector is copied to a temporary directory deleted once parsed.
+	 *
+	 * @return A new {@link ConnectorStore}.
+	 * @throws IOException If the connector cannot be copied.
+	 */
+	public static ConnectorStore connectorStore() throws IOException {
+		final Path connectorDirectory = Files.createTempDirectory("metricshub-benchmark-connectors");
+		final Path connectorFile = connectorDirectory.resolve(CONNECTOR_ID + ".yaml");
+		try (InputStream connector = BenchmarkFixtures.class.getResourceAsStream(CONNECTOR_RESOURCE)) {
+			Files.copy(connector, connectorFile);
+			return new ConnectorStore(connectorDirectory);
+		} finally {
+			Files.deleteIfExists(connectorFile);
+			Files.deleteIfExists(connectorDirectory);
+		}
+	}
+}
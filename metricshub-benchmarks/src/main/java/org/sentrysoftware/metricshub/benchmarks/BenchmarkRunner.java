@@ -0,0 +1,72 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Entry point of the <code>benchmarks.jar</code>. Delegates to the JMH command line, and writes the results as JSON
+ * in <code>jmh-result.json</code> unless another result format or file is requested, so that the results of
+ * successive runs can be compared to track performance trends.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BenchmarkRunner {
+
+	/**
+	 * Default file where the benchmark results are written
+	 */
+	static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+	private static final String RESULT_FORMAT_OPTION = "-rf";
+	private static final String RESULT_FILE_OPTION = "-rff";
+
+	/**
+	 * Run the benchmarks matching the given JMH command line arguments.
+	 *
+	 * @param args JMH command line arguments, e.g. <code>CollectBenchmark -f 1 -wi 3 -i 5</code>
+	 * @throws RunnerException if the benchmarks fail to run
+	 * @throws IOException     if the results cannot be written
+	 */
+	public static void main(final String[] args) throws RunnerException, IOException {
+		final List<String> arguments = new ArrayList<>(Arrays.asList(args));
+
+		if (!arguments.contains(RESULT_FORMAT_OPTION)) {
+			arguments.add(RESULT_FORMAT_OPTION);
+			arguments.add("json");
+		}
+
+		if (!arguments.contains(RESULT_FILE_OPTION)) {
+			arguments.add(RESULT_FILE_OPTION);
+			arguments.add(DEFAULT_RESULT_FILE);
+		}
+
+		Main.main(arguments.toArray(String[]::new));
+	}
+}
@@ -0,0 +1,153 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_ID;
+import static org.sentrysoftware.metricshub.engine.strategy.AbstractStrategy.CONNECTOR_ID_FORMAT;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sentrysoftware.metricshub.engine.client.ClientsExecutor;
+import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
+import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
+import org.sentrysoftware.metricshub.engine.strategy.collect.CollectStrategy;
+import org.sentrysoftware.metricshub.engine.strategy.collect.PrepareCollectStrategy;
+import org.sentrysoftware.metricshub.engine.strategy.discovery.DiscoveryStrategy;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+/**
+ * End-to-end benchmark of a collect cycle (prepare and collect strategies) on a resource monitored through the
+ * <code>BenchmarkConnector</code>, with the SNMP tables answered by the {@link StubProtocolExtension}.<br>
+ * The detection is skipped: the connector monitor is created directly, then the discovery runs once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CollectBenchmark {
+
+	@Param({ "100", "1000" })
+	private int monitorCount;
+
+	private TelemetryManager telemetryManager;
+
+	private ClientsExecutor clientsExecutor;
+
+	private ExtensionManager extensionManager;
+
+	/**
+	 * Load the connector, build the resource and run the discovery.
+	 *
+	 * @throws IOException If the connector cannot be loaded.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		final StubConfiguration configuration = new StubConfiguration();
+		configuration.setHostname(BenchmarkFixtures.HOSTNAME);
+
+		telemetryManager =
+			TelemetryManager
+				.builder()
+				.hostConfiguration(
+					HostConfiguration
+						.builder()
+						.hostId(BenchmarkFixtures.HOSTNAME)
+						.hostname(BenchmarkFixtures.HOSTNAME)
+						.hostType(DeviceKind.STORAGE)
+						.configurations(Map.of(StubConfiguration.class, configuration))
+						.build()
+				)
+				.connectorStore(BenchmarkFixtures.connectorStore())
+				.build();
+
+		final Monitor host = Monitor
+			.builder()
+			.id(BenchmarkFixtures.HOSTNAME)
+			.type(KnownMonitorType.HOST.getKey())
+			.isEndpoint(true)
+			.build();
+		telemetryManager.addNewMonitor(host, KnownMonitorType.HOST.getKey(), BenchmarkFixtures.HOSTNAME);
+
+		final String connectorMonitorId = String.format(
+			CONNECTOR_ID_FORMAT,
+			KnownMonitorType.CONNECTOR.getKey(),
+			BenchmarkFixtures.CONNECTOR_ID
+		);
+		final Monitor connectorMonitor = Monitor
+			.builder()
+			.id(connectorMonitorId)
+			.type(KnownMonitorType.CONNECTOR.getKey())
+			.build();
+		connectorMonitor.addAttribute(MONITOR_ATTRIBUTE_ID, BenchmarkFixtures.CONNECTOR_ID);
+		telemetryManager.addNewMonitor(connectorMonitor, KnownMonitorType.CONNECTOR.getKey(), connectorMonitorId);
+
+		final List<List<String>> cannedTable = BenchmarkFixtures.snmpTable(monitorCount);
+		extensionManager =
+			ExtensionManager.builder().withProtocolExtensions(List.of(new StubProtocolExtension(cannedTable))).build();
+		clientsExecutor = new ClientsExecutor(telemetryManager);
+
+		final long discoveryTime = System.currentTimeMillis();
+		telemetryManager.run(new DiscoveryStrategy(telemetryManager, discoveryTime, clientsExecutor, extensionManager));
+
+		final int discoveredCount = telemetryManager.findMonitorsByType(BenchmarkFixtures.DISK_MONITOR_TYPE).size();
+		if (discoveredCount != monitorCount) {
+			throw new IllegalStateException(
+				String.format("%d disk monitors discovered, %d expected.", discoveredCount, monitorCount)
+			);
+		}
+	}
+
+	/**
+	 * Run a collect cycle.
+	 *
+	 * @return The telemetry manager holding the collected metrics.
+	 */
+	@Benchmark
+	public TelemetryManager collect() {
+		final long collectTime = System.currentTimeMillis();
+		telemetryManager.run(
+			new PrepareCollectStrategy(telemetryManager, collectTime, clientsExecutor, extensionManager),
+			new CollectStrategy(telemetryManager, collectTime, clientsExecutor, extensionManager)
+		);
+		return telemetryManager;
+	}
+}
@@ -0,0 +1,154 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sentrysoftware.metricshub.engine.client.ClientsExecutor;
+import org.sentrysoftware.metricshub.engine.connector.model.common.TranslationTable;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.compute.KeepOnlyMatchingLines;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.compute.Multiply;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.compute.Translate;
+import org.sentrysoftware.metricshub.engine.strategy.source.SourceTable;
+import org.sentrysoftware.metricshub.engine.strategy.source.compute.ComputeProcessor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+/**
+ * Benchmarks of the most frequent {@link ComputeProcessor} operations applied on an SNMP table.<br>
+ * The computes modify the source table in place, so the table is restored before each invocation. The operations
+ * last long enough on the benchmarked table sizes for the per-invocation setup not to skew the results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ComputeProcessorBenchmark {
+
+	@Param({ "1000", "10000" })
+	private int rowCount;
+
+	private List<List<String>> snmpTable;
+
+	private SourceTable sourceTable;
+
+	private ComputeProcessor computeProcessor;
+
+	private final KeepOnlyMatchingLines keepOnlyMatchingLines = KeepOnlyMatchingLines
+		.builder()
+		.column(2)
+		.regExp("Physical Disk [0-9]*[02468]$")
+		.build();
+
+	private final Multiply multiply = Multiply.builder().column(4).value("1048576").build();
+
+	private Translate translate;
+
+	/**
+	 * Build the fixtures and the compute processor.
+	 */
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		snmpTable = BenchmarkFixtures.snmpTable(rowCount);
+
+		final TelemetryManager telemetryManager = BenchmarkFixtures.telemetryManager(0);
+		sourceTable = new SourceTable();
+		computeProcessor =
+			ComputeProcessor
+				.builder()
+				.telemetryManager(telemetryManager)
+				.clientsExecutor(new ClientsExecutor(telemetryManager))
+				.connectorId(BenchmarkFixtures.CONNECTOR_ID)
+				.hostname(BenchmarkFixtures.HOSTNAME)
+				.sourceKey("${source::monitors.disk.collect.sources.source(1)}")
+				.sourceTable(sourceTable)
+				.build();
+
+		final Map<String, String> translations = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		translations.put("2", "ok");
+		translations.put("3", "degraded");
+		translations.put("4", "failed");
+		translations.put("default", "UNKNOWN");
+		translate = Translate.builder().column(3).translationTable(new TranslationTable(translations)).build();
+	}
+
+	/**
+	 * Restore the source table modified by the previous invocation.
+	 */
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		final List<List<String>> table = new ArrayList<>(snmpTable.size());
+		snmpTable.forEach(row -> table.add(new ArrayList<>(row)));
+		sourceTable.setTable(table);
+		sourceTable.setRawData(null);
+	}
+
+	/**
+	 * Keep the lines matching a regular expression.
+	 *
+	 * @return The resulting table.
+	 */
+	@Benchmark
+	public List<List<String>> keepOnlyMatchingLines() {
+		computeProcessor.process(keepOnlyMatchingLines);
+		return sourceTable.getTable();
+	}
+
+	/**
+	 * Multiply a column.
+	 *
+	 * @return The resulting table.
+	 */
+	@Benchmark
+	public List<List<String>> multiply() {
+		computeProcessor.process(multiply);
+		return sourceTable.getTable();
+	}
+
+	/**
+	 * Translate a status column.
+	 *
+	 * @return The resulting table.
+	 */
+	@Benchmark
+	public List<List<String>> translate() {
+		computeProcessor.process(translate);
+		return sourceTable.getTable();
+	}
+}
@@ -0,0 +1,131 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sentrysoftware.metricshub.engine.common.JobInfo;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.Mapping;
+import org.sentrysoftware.metricshub.engine.strategy.utils.MappingProcessor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+/**
+ * Benchmark of the {@link MappingProcessor} interpreting the attributes and metrics of every row of an SNMP table,
+ * as done for each monitor during discovery and collect.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MappingProcessorBenchmark {
+
+	@Param({ "100", "1000" })
+	private int rowCount;
+
+	private List<List<String>> snmpTable;
+
+	private TelemetryManager telemetryManager;
+
+	private JobInfo jobInfo;
+
+	private Mapping mapping;
+
+	private long collectTime;
+
+	/**
+	 * Build the fixtures and the mapping definition.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		snmpTable = BenchmarkFixtures.snmpTable(rowCount);
+		collectTime = System.currentTimeMillis();
+		telemetryManager = BenchmarkFixtures.telemetryManager(0);
+		jobInfo =
+			JobInfo
+				.builder()
+				.hostname(BenchmarkFixtures.HOSTNAME)
+				.connectorId(BenchmarkFixtures.CONNECTOR_ID)
+				.monitorType(BenchmarkFixtures.DISK_MONITOR_TYPE)
+				.jobName("collect")
+				.build();
+
+		final Map<String, String> attributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		attributes.put("id", "$1");
+		attributes.put("name", "$2 ($6)");
+		attributes.put("serial_number", "$6");
+		attributes.put("hw.parent.type", "enclosure");
+
+		final Map<String, String> metrics = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		metrics.put("hw.status{hw.type=\"disk\"}", "$3");
+		metrics.put("hw.disk.size", "mebibyte2byte($4)");
+		metrics.put("hw.temperature", "$5");
+		metrics.put("hw.disk.spare", "boolean($3)");
+
+		mapping =
+			Mapping
+				.builder()
+				.source("${source::monitors.disk.collect.sources.source(1)}")
+				.attributes(attributes)
+				.metrics(metrics)
+				.build();
+	}
+
+	/**
+	 * Interpret the attributes and metrics of each row.
+	 *
+	 * @param blackhole JMH black hole consuming the interpreted values.
+	 */
+	@Benchmark
+	public void interpretRows(final Blackhole blackhole) {
+		for (final List<String> row : snmpTable) {
+			final MappingProcessor mappingProcessor = MappingProcessor
+				.builder()
+				.telemetryManager(telemetryManager)
+				.mapping(mapping)
+				.jobInfo(jobInfo)
+				.collectTime(collectTime)
+				.row(row)
+				.build();
+
+			blackhole.consume(mappingProcessor.interpretNonContextMappingAttributes());
+			blackhole.consume(mappingProcessor.interpretNonContextMappingMetrics());
+		}
+	}
+}
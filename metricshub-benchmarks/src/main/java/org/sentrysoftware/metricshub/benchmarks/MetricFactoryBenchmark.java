@@ -0,0 +1,97 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+
+/**
+ * Benchmark of the {@link MetricFactory} collecting the metrics of multi-thousand-monitor telemetry managers, as done
+ * at the end of each collect.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MetricFactoryBenchmark {
+
+	@Param({ "1000", "5000" })
+	private int monitorCount;
+
+	private List<Monitor> monitors;
+
+	private String[] metricNames;
+
+	private MetricFactory metricFactory;
+
+	private long collectTime;
+
+	/**
+	 * Build the telemetry manager and its monitors.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		monitors =
+			new ArrayList<>(
+				BenchmarkFixtures
+					.telemetryManager(monitorCount)
+					.findMonitorsByType(BenchmarkFixtures.DISK_MONITOR_TYPE)
+					.values()
+			);
+		metricNames = BenchmarkFixtures.metricNames();
+		metricFactory = new MetricFactory(BenchmarkFixtures.HOSTNAME);
+	}
+
+	/**
+	 * Collect a new value of each metric of each monitor.
+	 *
+	 * @param blackhole JMH black hole consuming the collected metrics.
+	 */
+	@Benchmark
+	public void collectNumberMetrics(final Blackhole blackhole) {
+		collectTime++;
+		for (final Monitor monitor : monitors) {
+			for (final String metricName : metricNames) {
+				blackhole.consume(metricFactory.collectNumberMetric(monitor, metricName, "42.5", collectTime));
+			}
+		}
+	}
+}
@@ -0,0 +1,232 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.CollectionRegistration;
+import io.opentelemetry.sdk.metrics.export.MetricReader;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sentrysoftware.metricshub.agent.config.StateSetMetricCompression;
+import org.sentrysoftware.metricshub.agent.service.signal.MetricObserverRegistry;
+import org.sentrysoftware.metricshub.agent.service.signal.MetricTypeVisitor;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.IMetricType;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricDefinition;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricType;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.StateSet;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.StateSetMetric;
+
+/**
+ * Benchmark of the OpenTelemetry metric export of a resource, comparing the layout with one meter and one callback
+ * instrument per metric of each monitor (and per state) with the batch layout registering one instrument per metric
+ * name through the {@link MetricObserverRegistry}.<br>
+ * Run it with <code>-prof gc</code> to compare the allocation rates of both layouts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MetricObserverBenchmark {
+
+	private static final String[] STATES = { "ok", "degraded", "failed" };
+
+	private static final int NUMBER_METRICS_PER_MONITOR = 5;
+
+	private static final IMetricType STATUS_TYPE = StateSet
+		.builder()
+		.output(MetricType.UP_DOWN_COUNTER)
+		.set(Set.of(STATES))
+		.build();
+
+	@Param({ "200", "2000" })
+	private int monitorCount;
+
+	@Param({ "false", "true" })
+	private boolean batch;
+
+	private SdkMeterProvider sdkMeterProvider;
+
+	private PullMetricReader metricReader;
+
+	/**
+	 * Register the observers of the monitors of a resource, each monitor reporting a few gauges and a status.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		metricReader = new PullMetricReader();
+		sdkMeterProvider = SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+
+		final MetricObserverRegistry registry = batch
+			? new MetricObserverRegistry(sdkMeterProvider.get("benchmark." + BenchmarkFixtures.HOSTNAME))
+			: null;
+		final long collectTime = System.currentTimeMillis();
+
+		for (int i = 0; i < monitorCount; i++) {
+			final String monitorId = "disk-" + i;
+			final Attributes attributes = Attributes.of(
+				AttributeKey.stringKey("id"),
+				monitorId,
+				AttributeKey.stringKey("name"),
+				"Disk " + i
+			);
+
+			for (int j = 0; j < NUMBER_METRICS_PER_MONITOR; j++) {
+				final String metricName = "hw.metric." + j;
+				register(
+					registry,
+					MetricType.GAUGE,
+					metricName,
+					monitorId,
+					attributes,
+					NumberMetric.builder().name(metricName).collectTime(collectTime).value((double) i).build()
+				);
+			}
+
+			register(
+				registry,
+				STATUS_TYPE,
+				"hw.status",
+				monitorId,
+				attributes,
+				StateSetMetric.builder().name("hw.status").collectTime(collectTime).stateSet(STATES).value("ok").build()
+			);
+		}
+	}
+
+	/**
+	 * Register the observer of the given metric through the {@link MetricTypeVisitor}, as the monitoring task does.
+	 *
+	 * @param registry   The batch registry, <code>null</code> for the layout with one meter per metric.
+	 * @param metricType The type of the metric.
+	 * @param metricName The name of the metric.
+	 * @param monitorId  The identifier of the monitor.
+	 * @param attributes The attributes of the monitor.
+	 * @param metric     The metric to observe.
+	 */
+	private void register(
+		final MetricObserverRegistry registry,
+		final IMetricType metricType,
+		final String metricName,
+		final String monitorId,
+		final Attributes attributes,
+		final AbstractMetric metric
+	) {
+		metricType
+			.get()
+			.getMetricKeyType()
+			.accept(
+				MetricTypeVisitor
+					.builder()
+					.withSdkMeterProvider(sdkMeterProvider)
+					.withMetricDefinition(MetricDefinition.builder().type(metricType).description(metricName).build())
+					.withMetric(metric)
+					.withMonitorId(monitorId)
+					.withResourceKey(BenchmarkFixtures.HOSTNAME)
+					.withResourceGroupKey("benchmark")
+					.withMetricName(metricName)
+					.withAttributes(attributes)
+					.withStateSetCompression(StateSetMetricCompression.NONE)
+					.withMetricObserverRegistry(registry)
+					.build()
+			);
+	}
+
+	/**
+	 * Close the meter provider.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sdkMeterProvider.close();
+	}
+
+	/**
+	 * Collect all the metrics of the resource, as a metric reader does at each export.
+	 *
+	 * @return The collected metric data.
+	 */
+	@Benchmark
+	public Collection<MetricData> export() {
+		return metricReader.collectAllMetrics();
+	}
+
+	/**
+	 * A {@link MetricReader} collecting the metrics on demand.
+	 */
+	static class PullMetricReader implements MetricReader {
+
+		private CollectionRegistration registration = CollectionRegistration.noop();
+
+		@Override
+		public void register(final CollectionRegistration registration) {
+			this.registration = registration;
+		}
+
+		/**
+		 * Collect all the metrics of the registered meter provider.
+		 *
+		 * @return The collected metric data.
+		 */
+		Collection<MetricData> collectAllMetrics() {
+			return registration.collectAllMetrics();
+		}
+
+		@Override
+		public AggregationTemporality getAggregationTemporality(final InstrumentType instrumentType) {
+			return AggregationTemporality.CUMULATIVE;
+		}
+
+		@Override
+		public CompletableResultCode forceFlush() {
+			return CompletableResultCode.ofSuccess();
+		}
+
+		@Override
+		public CompletableResultCode shutdown() {
+			return CompletableResultCode.ofSuccess();
+		}
+	}
+}
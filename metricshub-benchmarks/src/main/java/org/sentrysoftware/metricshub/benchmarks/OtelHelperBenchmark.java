@@ -0,0 +1,100 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sentrysoftware.metricshub.agent.helper.OtelHelper;
+
+/**
+ * Benchmark of the {@link OtelHelper} conversions performed for each monitor and each resource at every export.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class OtelHelperBenchmark {
+
+	@Param({ "5", "20" })
+	private int attributeCount;
+
+	private Map<String, String> attributes;
+
+	private Map<String, String> hostAttributes;
+
+	/**
+	 * Build the attribute maps.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		attributes = new HashMap<>();
+		for (int i = 0; i < attributeCount; i++) {
+			attributes.put("attribute." + i, "value-" + i);
+		}
+		attributes.put("__internal", "ignored");
+
+		hostAttributes = new HashMap<>();
+		hostAttributes.put("host.id", BenchmarkFixtures.HOSTNAME);
+		hostAttributes.put("host.name", BenchmarkFixtures.HOSTNAME);
+		hostAttributes.put("host.type", "storage");
+		hostAttributes.put("os.type", "storage");
+		hostAttributes.put("agent.host.name", "agent-host");
+	}
+
+	/**
+	 * Convert the attributes of a monitor.
+	 *
+	 * @return The OpenTelemetry attributes.
+	 */
+	@Benchmark
+	public Attributes buildOtelAttributesFromMap() {
+		return OtelHelper.buildOtelAttributesFromMap(attributes);
+	}
+
+	/**
+	 * Create the resource of a host, merging the computed and user attributes.
+	 *
+	 * @return The OpenTelemetry resource.
+	 */
+	@Benchmark
+	public Resource createHostResource() {
+		return OtelHelper.createHostResource(hostAttributes, attributes);
+	}
+}
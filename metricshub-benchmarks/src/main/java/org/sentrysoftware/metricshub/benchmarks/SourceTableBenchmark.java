@@ -0,0 +1,88 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.TABLE_SEP;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sentrysoftware.metricshub.engine.strategy.source.SourceTable;
+
+/**
+ * Benchmarks of the {@link SourceTable} CSV conversions, executed on every source result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SourceTableBenchmark {
+
+	@Param({ "100", "10000" })
+	private int rowCount;
+
+	private String wmiOutput;
+
+	private List<List<String>> snmpTable;
+
+	/**
+	 * Build the fixtures.
+	 */
+	@Setup
+	public void setUp() {
+		wmiOutput = BenchmarkFixtures.wmiOutput(rowCount);
+		snmpTable = BenchmarkFixtures.snmpTable(rowCount);
+	}
+
+	/**
+	 * Parse a WMI query output.
+	 *
+	 * @return The parsed table.
+	 */
+	@Benchmark
+	public List<List<String>> csvToTable() {
+		return SourceTable.csvToTable(wmiOutput, TABLE_SEP);
+	}
+
+	/**
+	 * Serialize an SNMP table.
+	 *
+	 * @return The CSV representation of the table.
+	 */
+	@Benchmark
+	public String tableToCsv() {
+		return SourceTable.tableToCsv(snmpTable, TABLE_SEP, true);
+	}
+}
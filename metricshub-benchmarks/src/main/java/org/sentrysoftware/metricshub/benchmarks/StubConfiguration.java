@@ -0,0 +1,47 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import lombok.Data;
+import org.sentrysoftware.metricshub.engine.configuration.IConfiguration;
+
+/**
+ * Configuration of the {@link StubProtocolExtension}. It only holds the hostname of the benchmarked resource.
+ */
+@Data
+public class StubConfiguration implements IConfiguration {
+
+	private String hostname;
+
+	@Override
+	public void validateConfiguration(final String resourceKey) {
+		// Always valid
+	}
+
+	@Override
+	public IConfiguration copy() {
+		final StubConfiguration copy = new StubConfiguration();
+		copy.setHostname(hostname);
+		return copy;
+	}
+}
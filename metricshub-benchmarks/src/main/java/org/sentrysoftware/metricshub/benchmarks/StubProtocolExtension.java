@@ -0,0 +1,134 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import lombok.NonNull;
+import org.sentrysoftware.metricshub.engine.configuration.IConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.identity.criterion.Criterion;
+import org.sentrysoftware.metricshub.engine.connector.model.identity.criterion.SnmpGetNextCriterion;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.SnmpTableSource;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.Source;
+import org.sentrysoftware.metricshub.engine.extension.IProtocolExtension;
+import org.sentrysoftware.metricshub.engine.strategy.detection.CriterionTestResult;
+import org.sentrysoftware.metricshub.engine.strategy.source.SourceTable;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+/**
+ * Protocol extension answering the SNMP table sources with a canned table, so that the end-to-end benchmarks measure
+ * the engine processing without any network round trip.<br>
+ * A copy of the canned table is returned for each source, as the engine modifies the source tables in place.
+ */
+public class StubProtocolExtension implements IProtocolExtension {
+
+	/**
+	 * Configuration type handled by this extension
+	 */
+	public static final String STUB_CONFIGURATION_TYPE = "stub";
+
+	private final List<List<String>> cannedTable;
+
+	/**
+	 * Constructs a new {@code StubProtocolExtension}.
+	 *
+	 * @param cannedTable The table returned for each SNMP table source.
+	 */
+	public StubProtocolExtension(@NonNull final List<List<String>> cannedTable) {
+		this.cannedTable = cannedTable;
+	}
+
+	@Override
+	public boolean isValidConfiguration(final IConfiguration configuration) {
+		return configuration instanceof StubConfiguration;
+	}
+
+	@Override
+	public Set<Class<? extends Source>> getSupportedSources() {
+		return Set.of(SnmpTableSource.class);
+	}
+
+	@Override
+	public Map<Class<? extends IConfiguration>, Set<Class<? extends Source>>> getConfigurationToSourceMapping() {
+		return Map.of(StubConfiguration.class, Set.of(SnmpTableSource.class));
+	}
+
+	@Override
+	public Set<Class<? extends Criterion>> getSupportedCriteria() {
+		return Set.of(SnmpGetNextCriterion.class);
+	}
+
+	@Override
+	public Optional<Boolean> checkProtocol(final TelemetryManager telemetryManager) {
+		return Optional.of(true);
+	}
+
+	@Override
+	public SourceTable processSource(
+		final Source source,
+		final String connectorId,
+		final TelemetryManager telemetryManager
+	) {
+		final List<List<String>> table = new ArrayList<>(cannedTable.size());
+		cannedTable.forEach(row -> table.add(new ArrayList<>(row)));
+		return SourceTable.builder().table(table).build();
+	}
+
+	@Override
+	public CriterionTestResult processCriterion(
+		final Criterion criterion,
+		final String connectorId,
+		final TelemetryManager telemetryManager
+	) {
+		return CriterionTestResult.success(criterion, "Benchmark");
+	}
+
+	@Override
+	public boolean isSupportedConfigurationType(final String configurationType) {
+		return STUB_CONFIGURATION_TYPE.equalsIgnoreCase(configurationType);
+	}
+
+	@Override
+	public IConfiguration buildConfiguration(
+		final String configurationType,
+		final JsonNode jsonNode,
+		final UnaryOperator<char[]> decrypt
+	) {
+		return new StubConfiguration();
+	}
+
+	@Override
+	public String getIdentifier() {
+		return STUB_CONFIGURATION_TYPE;
+	}
+
+	@Override
+	public String executeQuery(final IConfiguration configuration, final JsonNode queryNode) {
+		return null;
+	}
+}
@@ -0,0 +1,97 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sentrysoftware.metricshub.engine.client.ClientsExecutor;
+
+/**
+ * Benchmark of the <code>TableJoin</code> source through {@link ClientsExecutor#executeTableJoin}, joining two SNMP
+ * tables on their index column.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TableJoinBenchmark {
+
+	@Param({ "100", "1000" })
+	private int rowCount;
+
+	private List<List<String>> leftTable;
+
+	private List<List<String>> rightTable;
+
+	private List<String> defaultRightLine;
+
+	private ClientsExecutor clientsExecutor;
+
+	/**
+	 * Build the left and right tables. The right table only covers half of the left keys, in reverse order.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		leftTable = BenchmarkFixtures.snmpTable(rowCount);
+		rightTable = new ArrayList<>(BenchmarkFixtures.snmpTable(rowCount).subList(0, rowCount / 2));
+		Collections.reverse(rightTable);
+		defaultRightLine = List.of("", "", "", "", "", "");
+		clientsExecutor = new ClientsExecutor(BenchmarkFixtures.telemetryManager(0));
+	}
+
+	/**
+	 * Join the tables with a case-sensitive key.
+	 *
+	 * @return The joined table.
+	 */
+	@Benchmark
+	public List<List<String>> join() {
+		return clientsExecutor.executeTableJoin(leftTable, rightTable, 1, 1, defaultRightLine, false, false);
+	}
+
+	/**
+	 * Join the tables with a case-insensitive key.
+	 *
+	 * @return The joined table.
+	 */
+	@Benchmark
+	public List<List<String>> joinCaseInsensitive() {
+		return clientsExecutor.executeTableJoin(leftTable, rightTable, 1, 1, defaultRightLine, false, true);
+	}
+}
@@ -0,0 +1,115 @@
+package org.sentrysoftware.metricshub.benchmarks;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sentrysoftware.metricshub.engine.client.ClientsExecutor;
+import org.sentrysoftware.xflat.XFlat;
+
+/**
+ * Benchmark of the <code>Xml2Csv</code> compute through {@link ClientsExecutor#executeXmlParsing}, compared with the
+ * XFlat DOM-based implementation, on a UCS-like response where only some of the elements are extracted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class Xml2CsvBenchmark {
+
+	private static final String PROPERTIES =
+		">classId;outConfigs/equipmentFan>dn;outConfigs/equipmentFan>serial;outConfigs/equipmentFan>model;" +
+		"outConfigs/equipmentFan>vendor;outConfigs/equipmentFan>operState";
+
+	private static final String RECORD_TAG = "/configResolveClass";
+
+	@Param({ "100", "1000" })
+	private int recordCount;
+
+	private String xml;
+
+	private ClientsExecutor clientsExecutor;
+
+	/**
+	 * Build the XML response: each fan comes with sibling elements and nested statistics that are not extracted.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		final StringBuilder builder = new StringBuilder(
+			"<?xml version=\"1.0\"?>\n<configResolveClass cookie=\"1234\" response=\"yes\" classId=\"equipmentFan\">\n" +
+			"<outConfigs>\n"
+		);
+		for (int index = 0; index < recordCount; index++) {
+			builder
+				.append("<equipmentFan dn=\"sys/chassis-1/fan-module-1-")
+				.append(index)
+				.append("/fan-1\" serial=\"NWG")
+				.append(index)
+				.append("\" model=\"N20-FAN5\" vendor=\"Cisco Systems Inc\" operState=\"operable\" presence=\"equipped\">\n")
+				.append("<equipmentFanStats dn=\"stats\" speed=\"4000\" speedAvg=\"3950\" speedMax=\"4100\" speedMin=\"3900\"/>\n")
+				.append("<faultInst code=\"F0000\" descr=\"no fault on this fan\"/>\n")
+				.append("</equipmentFan>\n")
+				.append("<equipmentPsu dn=\"sys/chassis-1/psu-")
+				.append(index)
+				.append("\" operState=\"operable\"><equipmentPsuStats input=\"230\" output=\"12\"/></equipmentPsu>\n");
+		}
+		xml = builder.append("</outConfigs>\n</configResolveClass>\n").toString();
+		clientsExecutor = new ClientsExecutor(BenchmarkFixtures.telemetryManager(0));
+	}
+
+	/**
+	 * Convert the XML response with the streaming parser.
+	 *
+	 * @return The table.
+	 * @throws Exception if the XML cannot be parsed.
+	 */
+	@Benchmark
+	public List<List<String>> streaming() throws Exception {
+		return clientsExecutor.executeXmlParsing(xml, PROPERTIES, RECORD_TAG);
+	}
+
+	/**
+	 * Convert the XML response with XFlat.
+	 *
+	 * @return The table.
+	 * @throws Exception if the XML cannot be parsed.
+	 */
+	@Benchmark
+	public List<List<String>> xflat() throws Exception {
+		return XFlat.parseXml(xml, PROPERTIES, RECORD_TAG);
+	}
+}
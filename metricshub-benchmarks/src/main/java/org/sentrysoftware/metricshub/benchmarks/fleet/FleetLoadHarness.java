@@ -0,0 +1,223 @@
+package org.sentrysoftware.metricshub.benchmarks.fleet;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.sentrysoftware.metricshub.agent.helper.OtelSdkConfigConstants.DEFAULT_EXPORTER;
+import static org.sentrysoftware.metricshub.agent.helper.OtelSdkConfigConstants.OTEL_EXPORTER_OTLP_LOGS_ENDPOINT;
+import static org.sentrysoftware.metricshub.agent.helper.OtelSdkConfigConstants.OTEL_EXPORTER_OTLP_LOGS_PROTOCOL;
+import static org.sentrysoftware.metricshub.agent.helper.OtelSdkConfigConstants.OTEL_EXPORTER_OTLP_METRICS_ENDPOINT;
+import static org.sentrysoftware.metricshub.agent.helper.OtelSdkConfigConstants.OTEL_EXPORTER_OTLP_METRICS_PROTOCOL;
+import static org.sentrysoftware.metricshub.agent.helper.OtelSdkConfigConstants.OTEL_LOGS_EXPORTER;
+import static org.sentrysoftware.metricshub.agent.helper.OtelSdkConfigConstants.OTEL_METRICS_EXPORTER;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+import org.sentrysoftware.metricshub.agent.config.AgentConfig;
+import org.sentrysoftware.metricshub.agent.config.ResourceConfig;
+import org.sentrysoftware.metricshub.agent.context.AgentInfo;
+import org.sentrysoftware.metricshub.agent.helper.ConfigHelper;
+import org.sentrysoftware.metricshub.agent.helper.OtelConfigHelper;
+import org.sentrysoftware.metricshub.agent.service.OtelCollectorProcessService;
+import org.sentrysoftware.metricshub.agent.service.TaskSchedulingService;
+import org.sentrysoftware.metricshub.benchmarks.BenchmarkFixtures;
+import org.sentrysoftware.metricshub.engine.common.helpers.JsonHelper;
+import org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants;
+import org.sentrysoftware.metricshub.engine.configuration.IConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
+import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+import org.sentrysoftware.metricshub.it.load.HttpStubServer;
+import org.sentrysoftware.metricshub.it.load.LoadReport;
+import org.sentrysoftware.metricshub.it.load.LoadStatistics;
+import org.sentrysoftware.metricshub.it.load.SimulatedConfiguration;
+import org.sentrysoftware.metricshub.it.load.SimulatedProtocolExtension;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Load-testing harness measuring how many resources one agent handles.<br>
+ * It generates the given number of synthetic resources in an {@link AgentConfig}, answers their requests with the
+ * {@link SimulatedProtocolExtension} (configurable latency and jitter), runs the real {@link TaskSchedulingService}
+ * and <code>MonitoringTask</code> scheduling path, exports to a local OTLP/HTTP sink and finally reports the throughput,
+ * the collect latency percentiles and the peak heap and thread usage.
+ */
+@Data
+@Command(name = "fleet-load", description = "Runs the MetricsHub Agent against a simulated fleet of resources.")
+public class FleetLoadHarness implements Callable<Integer> {
+	static {
+		Locale.setDefault(Locale.US);
+	}
+
+	private static final String OTLP_HTTP_PROTOCOL = "http/protobuf";
+	private static final String OTLP_CONTENT_TYPE = "application/x-protobuf";
+
+	@Option(names = { "-h", "-?", "--help" }, usageHelp = true, description = "Shows this help message and exits")
+	private boolean usageHelpRequested;
+
+	@Option(names = "--resources", defaultValue = "1000", description = "Number of simulated resources")
+	private int resourceCount;
+
+	@Option(names = "--duration", defaultValue = "300", description = "Duration of the run in seconds")
+	private long duration;
+
+	@Option(names = "--collect-period", defaultValue = "60", description = "Collect period in seconds")
+	private long collectPeriod;
+
+	@Option(names = "--job-pool-size", defaultValue = "20", description = "Size of the agent job pool")
+	private int jobPoolSize;
+
+	@Option(names = "--latency", defaultValue = "50", description = "Latency of each protocol request in milliseconds")
+	private long latency;
+
+	@Option(names = "--jitter", defaultValue = "50", description = "Maximum random jitter added to the latency in ms")
+	private long jitter;
+
+	@Option(names = "--rows", defaultValue = "100", description = "Number of disks reported by each resource")
+	private int rowCount;
+
+	@Option(names = "--report", description = "JSON file where the report is written")
+	private File reportFile;
+
+	/**
+	 * Entry point of the harness.
+	 *
+	 * @param args The command-line arguments.
+	 */
+	public static void main(final String[] args) {
+		System.exit(new CommandLine(new FleetLoadHarness()).execute(args));
+	}
+
+	@Override
+	public Integer call() throws Exception {
+		final LoadStatistics statistics = new LoadStatistics();
+		final SimulatedProtocolExtension protocolExtension = new SimulatedProtocolExtension(
+			BenchmarkFixtures.snmpTable(rowCount)
+		);
+		final ExtensionManager extensionManager = ExtensionManager
+			.builder()
+			.withProtocolExtensions(List.of(protocolExtension))
+			.build();
+
+		// Local OTLP/HTTP sink acknowledging the exports with an empty protobuf response
+		final HttpStubServer otlpSink = new HttpStubServer(4)
+			.route("/v1/metrics", 200, OTLP_CONTENT_TYPE, "")
+			.route("/v1/logs", 200, OTLP_CONTENT_TYPE, "")
+			.start();
+
+		final AgentConfig agentConfig = buildAgentConfig(otlpSink);
+		ConfigHelper.normalizeAgentConfiguration(agentConfig);
+
+		final ConnectorStore connectorStore = BenchmarkFixtures.connectorStore();
+		final Map<String, Map<String, TelemetryManager>> telemetryManagers = ConfigHelper.buildTelemetryManagers(
+			agentConfig,
+			connectorStore
+		);
+
+		final TaskSchedulingService taskSchedulingService = TaskSchedulingService
+			.builder()
+			.withAgentConfig(agentConfig)
+			.withAgentInfo(new AgentInfo())
+			.withOtelCollectorProcessService(new OtelCollectorProcessService(agentConfig))
+			.withTaskScheduler(new TimedTaskScheduler(statistics, jobPoolSize))
+			.withTelemetryManagers(telemetryManagers)
+			.withSchedules(new HashMap<>())
+			.withOtelSdkConfiguration(OtelConfigHelper.buildOtelSdkConfiguration(agentConfig))
+			.withHostMetricDefinitions(ConfigHelper.readHostMetricDefinitions())
+			.withExtensionManager(extensionManager)
+			.build();
+
+		System.out.printf("Starting %d simulated resources for %d seconds...%n", resourceCount, duration);
+		taskSchedulingService.start();
+
+		final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(duration);
+		while (System.nanoTime() < end) {
+			statistics.sampleJvm();
+			TimeUnit.SECONDS.sleep(1);
+		}
+
+		final LoadReport report = statistics.report(
+			resourceCount,
+			protocolExtension.getRequestCount().get(),
+			otlpSink.getRequestCount().get()
+		);
+
+		taskSchedulingService.stop();
+		otlpSink.stop();
+
+		System.out.println(report.format());
+		if (reportFile != null) {
+			JsonHelper.buildObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Build the agent configuration of the simulated fleet.
+	 *
+	 * @param otlpSink The OTLP/HTTP sink receiving the exports.
+	 * @return A new {@link AgentConfig}.
+	 */
+	AgentConfig buildAgentConfig(final HttpStubServer otlpSink) {
+		final Map<String, String> otelSdkConfig = new HashMap<>();
+		otelSdkConfig.put(OTEL_METRICS_EXPORTER, DEFAULT_EXPORTER);
+		otelSdkConfig.put(OTEL_LOGS_EXPORTER, DEFAULT_EXPORTER);
+		otelSdkConfig.put(OTEL_EXPORTER_OTLP_METRICS_ENDPOINT, otlpSink.url("/v1/metrics"));
+		otelSdkConfig.put(OTEL_EXPORTER_OTLP_LOGS_ENDPOINT, otlpSink.url("/v1/logs"));
+		otelSdkConfig.put(OTEL_EXPORTER_OTLP_METRICS_PROTOCOL, OTLP_HTTP_PROTOCOL);
+		otelSdkConfig.put(OTEL_EXPORTER_OTLP_LOGS_PROTOCOL, OTLP_HTTP_PROTOCOL);
+
+		final Map<String, ResourceConfig> resources = new HashMap<>();
+		for (int i = 1; i <= resourceCount; i++) {
+			final String hostname = String.format("sim-host-%06d", i);
+
+			final Map<String, String> attributes = new HashMap<>();
+			attributes.put(MetricsHubConstants.HOST_NAME, hostname);
+			attributes.put("host.type", "storage");
+
+			final Map<String, IConfiguration> protocols = new HashMap<>();
+			protocols.put(
+				SimulatedProtocolExtension.SIMULATED_PROTOCOL,
+				SimulatedConfiguration.builder().hostname(hostname).latency(latency).jitter(jitter).build()
+			);
+
+			resources.put(hostname, ResourceConfig.builder().attributes(attributes).protocols(protocols).build());
+		}
+
+		return AgentConfig
+			.builder()
+			.loggerLevel("off")
+			.jobPoolSize(jobPoolSize)
+			.collectPeriod(collectPeriod)
+			.otelSdkConfig(otelSdkConfig)
+			.resources(resources)
+			.build();
+	}
+}
@@ -0,0 +1,78 @@
+package org.sentrysoftware.metricshub.benchmarks.fleet;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Benchmarks
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.concurrent.ScheduledFuture;
+import lombok.NonNull;
+import org.sentrysoftware.metricshub.agent.service.task.MonitoringTask;
+import org.sentrysoftware.metricshub.it.load.LoadStatistics;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@link ThreadPoolTaskScheduler} timing each execution of the {@link MonitoringTask} instances it schedules, so that
+ * the collect latency is measured on the real scheduling path of the agent.
+ */
+public class TimedTaskScheduler extends ThreadPoolTaskScheduler {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient LoadStatistics statistics;
+
+	/**
+	 * Constructs a new {@code TimedTaskScheduler}.
+	 *
+	 * @param statistics  The statistics recording the collect durations.
+	 * @param jobPoolSize The size of the job pool.
+	 */
+	public TimedTaskScheduler(@NonNull final LoadStatistics statistics, final int jobPoolSize) {
+		this.statistics = statistics;
+		setPoolSize(jobPoolSize);
+		setThreadNamePrefix("metricshub-task-");
+		initialize();
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(final Runnable task, final Trigger trigger) {
+		if (task instanceof MonitoringTask) {
+			return super.schedule(() -> timedRun(task), trigger);
+		}
+		return super.schedule(task, trigger);
+	}
+
+	/**
+	 * Run the given task and record its duration.
+	 *
+	 * @param task The monitoring task.
+	 */
+	void timedRun(final Runnable task) {
+		final long start = System.nanoTime();
+		try {
+			task.run();
+			statistics.recordCollect(System.nanoTime() - start);
+		} catch (RuntimeException e) {
+			statistics.recordFailure();
+			throw e;
+		}
+	}
+}
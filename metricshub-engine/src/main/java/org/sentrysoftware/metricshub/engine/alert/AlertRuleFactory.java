@@ -0,0 +1,198 @@
+package org.sentrysoftware.metricshub.engine.alert;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.STATE_SET_METRIC_FAILED;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricDefinition;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.StateSet;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.StateSetMetric;
+
+/**
+ * Builds the alert rules of the monitors from the metric definitions of their connector.<br>
+ * A state set metric raises an alarm when it reports the <code>failed</code> state and a warning when it reports the
+ * <code>degraded</code> state. The rules are keyed by the metric name without attributes, they check all the variants
+ * of the metric, whether the state is the metric value or its <code>state</code> attribute.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AlertRuleFactory {
+
+	/**
+	 * The degraded state of a state set metric
+	 */
+	static final String STATE_DEGRADED = "degraded";
+
+	private static final String STATE_ATTRIBUTE = "state";
+
+	private static final Map<String, Severity> SEVERITY_PER_STATE = Map.of(
+		STATE_SET_METRIC_FAILED,
+		Severity.ALARM,
+		STATE_DEGRADED,
+		Severity.WARN
+	);
+
+	/**
+	 * Build the alert rules of the given metric definitions.
+	 *
+	 * @param metricDefinitions The metric definitions of the connector, keyed by metric name.
+	 * @return A new map of the alert rules keyed by metric name, never <code>null</code>.
+	 */
+	public static Map<String, List<AlertRule>> buildAlertRules(final Map<String, MetricDefinition> metricDefinitions) {
+		final Map<String, List<AlertRule>> alertRules = new HashMap<>();
+		if (metricDefinitions == null) {
+			return alertRules;
+		}
+
+		metricDefinitions.forEach((metricName, metricDefinition) -> {
+			if (metricDefinition != null && metricDefinition.getType() instanceof StateSet stateSet) {
+				final List<AlertRule> rules = new ArrayList<>();
+				SEVERITY_PER_STATE.forEach((state, severity) -> {
+					if (stateSet.getSet().contains(state)) {
+						rules.add(buildStateRule(metricName, state, severity));
+					}
+				});
+				if (!rules.isEmpty()) {
+					alertRules.put(metricName, rules);
+				}
+			}
+		});
+
+		return alertRules;
+	}
+
+	/**
+	 * Attach copies of the given alert rules to the monitor. The rules already attached to the monitor for a metric are
+	 * kept, so their state is not lost when the monitor is discovered again.
+	 *
+	 * @param monitor    The {@link Monitor} instance to which the alert rules should be attached.
+	 * @param alertRules The alert rules keyed by metric name.
+	 */
+	public static void attachAlertRules(
+		@NonNull final Monitor monitor,
+		@NonNull final Map<String, List<AlertRule>> alertRules
+	) {
+		if (alertRules.isEmpty()) {
+			return;
+		}
+
+		if (monitor.getAlertRules() == null) {
+			monitor.setAlertRules(new HashMap<>());
+		}
+
+		final Map<String, List<AlertRule>> monitorAlertRules = monitor.getAlertRules();
+		for (Map.Entry<String, List<AlertRule>> entry : alertRules.entrySet()) {
+			final List<AlertRule> rules = entry.getValue();
+			monitorAlertRules.computeIfAbsent(
+				entry.getKey(),
+				metricName -> rules.stream().map(AlertRule::copy).collect(Collectors.toCollection(ArrayList::new))
+			);
+		}
+	}
+
+	/**
+	 * Build the rule raising an alert when the given metric reports the given state.
+	 *
+	 * @param metricName The metric name without attributes.
+	 * @param state      The state raising the alert.
+	 * @param severity   The severity of the alert.
+	 * @return A new {@link AlertRule} instance.
+	 */
+	static AlertRule buildStateRule(
+		@NonNull final String metricName,
+		@NonNull final String state,
+		@NonNull final Severity severity
+	) {
+		return new AlertRule(
+			(monitor, conditions) -> checkState(monitor, metricName, state, conditions),
+			new HashSet<>(Set.of(AlertCondition.builder().operator(AlertOperator.EQ).threshold(1.0).build())),
+			severity
+		);
+	}
+
+	/**
+	 * Check whether a variant of the given metric reports the given state.
+	 *
+	 * @param monitor    The monitor of the metric.
+	 * @param metricName The metric name without attributes.
+	 * @param state      The state raising the alert.
+	 * @param conditions The conditions checked on the state value, 1 when the metric reports the state.
+	 * @return The details of the alert, <code>null</code> if no variant of the metric reports the state.
+	 */
+	static AlertDetails checkState(
+		final Monitor monitor,
+		final String metricName,
+		final String state,
+		final Set<AlertCondition> conditions
+	) {
+		for (AbstractMetric metric : monitor.getMetricsByName(metricName)) {
+			final Double value = getStateValue(metric, state);
+			if (value != null && conditions.stream().allMatch(condition -> matches(condition, value))) {
+				return AlertDetails
+					.builder()
+					.problem(String.format("%s reports the %s state.", metric.getName(), state))
+					.build();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Check whether the given state value matches the given condition.
+	 *
+	 * @param condition The alert condition.
+	 * @param value     The state value.
+	 * @return <code>true</code> if the operator of the condition accepts the value and the threshold.
+	 */
+	private static boolean matches(final AlertCondition condition, final Double value) {
+		return condition.getOperator().getFunction().test(value, condition.getThreshold());
+	}
+
+	/**
+	 * Get the value of the given state on the given metric.
+	 *
+	 * @param metric The metric.
+	 * @param state  The state.
+	 * @return 1 when a state set metric reports the state, 0 when it reports another state, the value of a number
+	 *         metric whose <code>state</code> attribute is the state, otherwise <code>null</code>.
+	 */
+	private static Double getStateValue(final AbstractMetric metric, final String state) {
+		if (metric instanceof StateSetMetric stateSetMetric) {
+			return state.equals(stateSetMetric.getValue()) ? 1.0 : 0.0;
+		}
+		if (metric instanceof NumberMetric numberMetric && state.equals(metric.getAttributes().get(STATE_ATTRIBUTE))) {
+			return numberMetric.getValue();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,42 @@
+package org.sentrysoftware.metricshub.engine.alert;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+/**
+ * Receives the alerts raised and cleared by the evaluation of the monitors alert rules.
+ */
+public interface IAlertListener {
+	/**
+	 * Called when an alert rule becomes active, once per abnormality.
+	 *
+	 * @param alertInfo The information of the alert: rule, monitor, metric name and host.
+	 */
+	void onAlertTriggered(AlertInfo alertInfo);
+
+	/**
+	 * Called when the condition of a triggered alert rule is no longer met.
+	 *
+	 * @param alertInfo The information of the alert: rule, monitor, metric name and host.
+	 */
+	void onAlertResolved(AlertInfo alertInfo);
+}
@@ -26,6 +26,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.sentrysoftware.jawk.intermediate.AwkTuples;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
 
 /**
  * Utility class for executing AWK scripts.
@@ -50,23 +51,26 @@ public class AwkExecutor {
 		// We're using our ConcurrentHashMap to cache the intermediate
 		// code, so we don't "compile" it every time.
 		// This saves a lot of CPU.
-		final AwkTuples tuples;
-		try {
-			tuples =
-				awkCodeMap.computeIfAbsent(
-					awkScript,
-					code -> {
-						try {
-							return Awk.getIntermediateCode(code);
-						} catch (ParseException e) {
-							// Throw a RuntimeException so the e.getMessage() can be passed
-							// through the call stack
-							throw new RuntimeException(e.getMessage());
+		AwkTuples tuples = awkCodeMap.get(awkScript);
+		EngineMetrics.recordCacheLookup(EngineMetrics.AWK_CACHE, tuples != null);
+		if (tuples == null) {
+			try {
+				tuples =
+					awkCodeMap.computeIfAbsent(
+						awkScript,
+						code -> {
+							try {
+								return Awk.getIntermediateCode(code);
+							} catch (ParseException e) {
+								// Throw a RuntimeException so the e.getMessage() can be passed
+								// through the call stack
+								throw new RuntimeException(e.getMessage());
+							}
 						}
-					}
-				);
-		} catch (Exception e) {
-			throw new AwkException("Failed to get intermediate code.", e);
+					);
+			} catch (Exception e) {
+				throw new AwkException("Failed to get intermediate code.", e);
+			}
 		}
 
 		if (tuples == null) {
@@ -23,30 +23,27 @@ package org.sentrysoftware.metricshub.engine.client;
 
 import io.opentelemetry.instrumentation.annotations.SpanAttribute;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import java.io.IOException;
 import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import javax.xml.stream.XMLStreamException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.sentrysoftware.jflat.JFlat;
 import org.sentrysoftware.metricshub.engine.awk.AwkException;
 import org.sentrysoftware.metricshub.engine.awk.AwkExecutor;
 import org.sentrysoftware.metricshub.engine.common.helpers.LoggingHelper;
 import org.sentrysoftware.metricshub.engine.common.helpers.TextTableHelper;
-import org.sentrysoftware.metricshub.engine.common.helpers.ThreadHelper;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 import org.sentrysoftware.tablejoin.TableJoin;
-import org.sentrysoftware.xflat.XFlat;
-import org.sentrysoftware.xflat.exceptions.XFlatException;
 
 /**
  * The ClientsExecutor class provides utility methods for executing
  * various operations through Clients. It includes functionalities for executing
  * computations and running scripts. The execution is done on utilities like
- * AWK, JFlat, TableJoin and XFlat are supported.
+ * AWK, JSON to CSV, TableJoin and XML to CSV are supported.
  */
 @Slf4j
 @Data
@@ -138,11 +135,9 @@ public class ClientsExecutor {
 	 * @param separator     The separator for CSV.
 	 * @return The CSV representation of the JSON.
 	 * @throws TimeoutException       If the execution times out.
-	 * @throws ExecutionException     If an execution exception occurs.
-	 * @throws InterruptedException   If the execution is interrupted.
 	 */
 	public String executeJson2Csv(String jsonSource, String jsonEntryKey, List<String> propertyList, String separator)
-		throws InterruptedException, ExecutionException, TimeoutException {
+		throws TimeoutException {
 		return executeJson2Csv(jsonSource, jsonEntryKey, propertyList, separator, telemetryManager.getHostname());
 	}
 
@@ -156,8 +151,6 @@ public class ClientsExecutor {
 	 * @param hostname      The hostname, for logging purpose.
 	 * @return The CSV representation of the JSON.
 	 * @throws TimeoutException       If the execution times out.
-	 * @throws ExecutionException     If an execution exception occurs.
-	 * @throws InterruptedException   If the execution is interrupted.
 	 */
 	public static String executeJson2Csv(
 		String jsonSource,
@@ -165,7 +158,62 @@ public class ClientsExecutor {
 		List<String> propertyList,
 		String separator,
 		String hostname
-	) throws InterruptedException, ExecutionException, TimeoutException {
+	) throws TimeoutException {
+		final List<List<String>> table = executeJson2Table(jsonSource, jsonEntryKey, propertyList, separator, hostname);
+
+		return table != null ? json2TableToCsv(table, separator) : null;
+	}
+
+	/**
+	 * Convert the table returned by a JSON to table operation into the CSV returned by the JSON to CSV operation.
+	 *
+	 * @param table     The table extracted from the JSON.
+	 * @param separator The separator for CSV.
+	 * @return The CSV representation of the table.
+	 */
+	public static String json2TableToCsv(final List<List<String>> table, final String separator) {
+		return Json2CsvStreamer.toCsv(table, separator);
+	}
+
+	/**
+	 * Execute JSON to table operation. The JSON source is read in a single streaming pass, each row starting with the
+	 * path of the JSON entry followed by the values of the properties.
+	 *
+	 * @param jsonSource    The JSON source string.
+	 * @param jsonEntryKey  The JSON entry key.
+	 * @param propertyList  The list of properties.
+	 * @param separator     The separator for CSV.
+	 * @return The table extracted from the JSON.
+	 * @throws TimeoutException       If the execution times out.
+	 */
+	public List<List<String>> executeJson2Table(
+		String jsonSource,
+		String jsonEntryKey,
+		List<String> propertyList,
+		String separator
+	) throws TimeoutException {
+		return executeJson2Table(jsonSource, jsonEntryKey, propertyList, separator, telemetryManager.getHostname());
+	}
+
+	/**
+	 * Execute JSON to table operation. The JSON source is read in a single streaming pass, each row starting with the
+	 * path of the JSON entry followed by the values of the properties.
+	 *
+	 * @param jsonSource    The JSON source string.
+	 * @param jsonEntryKey  The JSON entry key.
+	 * @param propertyList  The list of properties.
+	 * @param separator     The separator for CSV.
+	 * @param hostname      The hostname, for logging purpose.
+	 * @return The table extracted from the JSON, {@code null} if the conversion failed.
+	 * @throws TimeoutException       If the execution times out.
+	 */
+	public static List<List<String>> executeJson2Table(
+		String jsonSource,
+		String jsonEntryKey,
+		List<String> propertyList,
+		String separator,
+		String hostname
+	) throws TimeoutException {
 		LoggingHelper.trace(() ->
 			log.trace(
 				"Executing JSON to CSV conversion:\n- Json-source:\n{}\n- Json-entry-key: {}\n" + // NOSONAR
@@ -177,29 +225,22 @@ public class ClientsExecutor {
 			)
 		);
 
-		final Callable<String> jflatToCSV = () -> {
-			try {
-				JFlat jsonFlat = new JFlat(jsonSource);
-
-				jsonFlat.parse();
-
-				// Get the CSV
-				return jsonFlat.toCSV(jsonEntryKey, propertyList.toArray(new String[0]), separator).toString();
-			} catch (IllegalArgumentException e) {
-				log.error(
-					"Hostname {} - Error detected in the arguments when translating the JSON structure into CSV.",
-					hostname
-				);
-			} catch (Exception e) {
-				log.warn("Hostname {} - Error detected when running jsonFlat parsing:\n{}", hostname, jsonSource);
-				log.debug("Hostname {} - Exception detected when running jsonFlat parsing: ", hostname, e);
-			}
-
-			return null;
-		};
-
-		String result = ThreadHelper.execute(jflatToCSV, JSON_2_CSV_TIMEOUT);
+		List<List<String>> result = null;
+		try {
+			result =
+				new Json2CsvStreamer(jsonEntryKey, propertyList, separator, TimeUnit.SECONDS.toNanos(JSON_2_CSV_TIMEOUT))
+					.convert(jsonSource);
+		} catch (IllegalArgumentException e) {
+			log.error(
+				"Hostname {} - Error detected in the arguments when translating the JSON structure into CSV.",
+				hostname
+			);
+		} catch (IOException | RuntimeException e) {
+			log.warn("Hostname {} - Error detected when running jsonFlat parsing:\n{}", hostname, jsonSource);
+			log.debug("Hostname {} - Exception detected when running jsonFlat parsing: ", hostname, e);
+		}
 
+		final List<List<String>> table = result;
 		LoggingHelper.trace(() ->
 			log.trace(
 				"Executed JSON to CSV conversion:\n- Json-source:\n{}\n- Json-entry-key: {}\n" + // NOSONAR
@@ -208,7 +249,7 @@ public class ClientsExecutor {
 				jsonEntryKey,
 				propertyList,
 				separator,
-				result
+				table
 			)
 		);
 
@@ -223,10 +264,10 @@ public class ClientsExecutor {
 	 *                   If the property comes from an attribute, it will be preceded by a superior character: '>'.
 	 * @param recordTag  A string containing the first element xml tags path to convert. example: /rootTag/tag2
 	 * @return The list of values list.
-	 * @throws XFlatException if an error occurred in the XML parsing.
+	 * @throws XMLStreamException if an error occurred in the XML parsing.
 	 */
 	public List<List<String>> executeXmlParsing(final String xml, final String properties, final String recordTag)
-		throws XFlatException {
+		throws XMLStreamException {
 		LoggingHelper.trace(() ->
 			log.trace(
 				"Executing XML parsing:\n- Xml-source:\n{}\n- Properties: {}\n- Record-tag: {}\n",
@@ -236,7 +277,7 @@ public class ClientsExecutor {
 			)
 		);
 
-		List<List<String>> result = XFlat.parseXml(xml, properties, recordTag);
+		final List<List<String>> result = new Xml2CsvStreamer(properties, recordTag).convert(xml);
 
 		LoggingHelper.trace(() ->
 			log.trace(
@@ -0,0 +1,480 @@
+package org.sentrysoftware.metricshub.engine.client;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streaming JSON to CSV converter, producing the same output as JFlat's {@code parse().toCSV(...)} in a single pass
+ * over the JSON document.
+ * <p>
+ * Instead of flattening the whole document, only the values located on the entry key path or on one of the property
+ * paths (wherever array indexes are) are kept, and the subtrees that cannot contain such a value are skipped by the
+ * parser. The memory used is therefore proportional to the extracted table, not to the size of the JSON document.
+ * The conversion checks its deadline as it goes and gives up with a {@link TimeoutException} once it is reached.
+ * </p>
+ */
+@Slf4j
+final class Json2CsvStreamer {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private static final String DEFAULT_SEPARATOR = ";";
+	private static final String PATH_SEPARATOR = "/";
+	private static final String PARENT_SEGMENT = "/../";
+	private static final String CURRENT_ENTRY = ".";
+	private static final String OBJECT_VALUE = "{object}";
+	private static final String ARRAY_VALUE = "{array}";
+	private static final Pattern ARRAY_INDEX_PATTERN = Pattern.compile("\\[[^\\]]*\\]");
+
+	/**
+	 * Number of JSON tokens read between two deadline checks.
+	 */
+	private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+	private final String entryKey;
+	private final String[] properties;
+	private final String separator;
+	private final long deadlineNanos;
+
+	/**
+	 * Flat paths (case-insensitive, as in JFlat) of the values we have kept, associated with their value.
+	 */
+	private final TreeMap<String, String> flatValues = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+	/**
+	 * Length of the arrays located on the entry key path, indexed by their flat path.
+	 */
+	private final Map<String, Integer> arrayLengths = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+	/**
+	 * Normalized paths (lower case, without array indexes) of the values to keep.
+	 */
+	private final Set<String> wantedPaths = new HashSet<>();
+
+	/**
+	 * Normalized paths of the containers that may hold a value to keep.
+	 */
+	private final Set<String> wantedPrefixes = new HashSet<>();
+
+	private int tokenCount;
+
+	/**
+	 * Create a new converter.
+	 *
+	 * @param entryKey     The path of the JSON entries to convert into rows. E.g. <code>/monitors</code>
+	 * @param propertyList The paths of the properties to extract for each entry, relative to the entry.
+	 * @param separator    The CSV separator. Defaults to <code>;</code>.
+	 * @param timeoutNanos The maximum duration of the conversion, in nanoseconds.
+	 */
+	Json2CsvStreamer(
+		final String entryKey,
+		final List<String> propertyList,
+		final String separator,
+		final long timeoutNanos
+	) {
+		if (entryKey == null) {
+			throw new IllegalArgumentException("entryKey cannot be null");
+		}
+		if (propertyList == null || propertyList.stream().anyMatch(Objects::isNull)) {
+			throw new IllegalArgumentException("properties cannot be null");
+		}
+
+		this.entryKey = normalizeEntryKey(entryKey);
+		this.properties = propertyList.stream().map(Json2CsvStreamer::normalizeProperty).toArray(String[]::new);
+		this.separator = separator != null ? separator : DEFAULT_SEPARATOR;
+		this.deadlineNanos = System.nanoTime() + timeoutNanos;
+
+		initWantedPaths();
+	}
+
+	/**
+	 * Convert the given JSON document into a table. Each row starts with the path of the entry in the JSON document,
+	 * followed by the value of each property ("" when the property is not found).
+	 *
+	 * @param json The JSON document.
+	 * @return The list of rows.
+	 * @throws IOException      If the JSON document cannot be parsed.
+	 * @throws TimeoutException If the conversion takes longer than the configured timeout.
+	 */
+	List<List<String>> convert(final String json) throws IOException, TimeoutException {
+		try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+			final JsonToken rootToken = parser.nextToken();
+			if (rootToken != JsonToken.START_OBJECT && rootToken != JsonToken.START_ARRAY) {
+				throw new JsonParseException(parser, "Expected a JSON object or array");
+			}
+			readDocument(parser, rootToken);
+		}
+
+		// Like JFlat, the root is known as "/"
+		final String rootValue = flatValues.remove("");
+		if (rootValue != null) {
+			flatValues.put(PATH_SEPARATOR, rootValue);
+		}
+
+		return buildRows();
+	}
+
+	/**
+	 * Convert the given table into CSV, one line per row, each value followed by the separator.
+	 *
+	 * @param rows      The rows returned by {@link #convert(String)}.
+	 * @param separator The CSV separator. Defaults to <code>;</code>.
+	 * @return The CSV representation of the table.
+	 */
+	static String toCsv(final List<List<String>> rows, final String separator) {
+		final String csvSeparator = separator != null ? separator : DEFAULT_SEPARATOR;
+		final StringBuilder csv = new StringBuilder();
+		for (List<String> row : rows) {
+			for (String value : row) {
+				csv.append(value).append(csvSeparator);
+			}
+			csv.append('\n');
+		}
+		return csv.toString();
+	}
+
+	/**
+	 * Read the whole JSON document, keeping only the wanted values.
+	 *
+	 * @param parser    The JSON parser, positioned on the root token.
+	 * @param rootToken The root token.
+	 * @throws IOException      If the JSON document cannot be parsed.
+	 * @throws TimeoutException If the deadline is reached.
+	 */
+	private void readDocument(final JsonParser parser, final JsonToken rootToken) throws IOException, TimeoutException {
+		final Deque<Container> containers = new ArrayDeque<>();
+		readValue(parser, rootToken, "", "", containers);
+
+		while (!containers.isEmpty()) {
+			checkDeadline();
+
+			JsonToken token = parser.nextToken();
+			if (token == null) {
+				throw new JsonParseException(parser, "Unexpected end of JSON document");
+			}
+
+			final Container container = containers.peek();
+			if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+				containers.pop();
+				if (container.isArray && container.isWanted) {
+					arrayLengths.putIfAbsent(container.path, container.length);
+				}
+				continue;
+			}
+
+			final String path;
+			final String normalizedPath;
+			if (container.isArray) {
+				path = container.path + "[" + container.length + "]";
+				normalizedPath = container.normalizedPath;
+				container.length++;
+			} else {
+				final String name = parser.currentName();
+				token = parser.nextToken();
+				path = container.path + PATH_SEPARATOR + name;
+				normalizedPath = container.normalizedPath + normalizePath(PATH_SEPARATOR + name);
+			}
+
+			readValue(parser, token, path, normalizedPath, containers);
+		}
+	}
+
+	/**
+	 * Read the value the parser is positioned on. Containers that may hold wanted values are pushed onto the stack,
+	 * the others are skipped.
+	 *
+	 * @param parser         The JSON parser.
+	 * @param token          The current token.
+	 * @param path           The flat path of the value.
+	 * @param normalizedPath The normalized path of the value.
+	 * @param containers     The stack of the containers being read.
+	 * @throws IOException If the JSON document cannot be parsed.
+	 */
+	private void readValue(
+		final JsonParser parser,
+		final JsonToken token,
+		final String path,
+		final String normalizedPath,
+		final Deque<Container> containers
+	) throws IOException {
+		final boolean isWanted = wantedPaths.contains(normalizedPath);
+
+		if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+			if (!wantedPrefixes.contains(normalizedPath)) {
+				parser.skipChildren();
+				return;
+			}
+
+			final boolean isArray = token == JsonToken.START_ARRAY;
+			if (isWanted) {
+				flatValues.put(path, isArray ? ARRAY_VALUE : OBJECT_VALUE);
+			}
+			containers.push(new Container(path, normalizedPath, isArray, isWanted));
+		} else if (isWanted) {
+			flatValues.put(path, scalarValue(parser, token));
+		}
+	}
+
+	/**
+	 * Get the text of a scalar value, as JFlat (javax.json) would render it.
+	 *
+	 * @param parser The JSON parser.
+	 * @param token  The current scalar token.
+	 * @return The text of the value.
+	 * @throws IOException If the value cannot be read.
+	 */
+	private static String scalarValue(final JsonParser parser, final JsonToken token) throws IOException {
+		switch (token) {
+			case VALUE_NUMBER_INT:
+			case VALUE_NUMBER_FLOAT:
+				return new BigDecimal(parser.getText()).toString();
+			case VALUE_TRUE:
+				return "TRUE";
+			case VALUE_FALSE:
+				return "FALSE";
+			case VALUE_NULL:
+				return "NULL";
+			default:
+				return parser.getText();
+		}
+	}
+
+	/**
+	 * Build the rows out of the values kept while reading the JSON document.
+	 *
+	 * @return The list of rows.
+	 */
+	private List<List<String>> buildRows() {
+		final List<List<String>> rows = new ArrayList<>();
+
+		for (String entryPath : expandEntryPaths()) {
+			if (!flatValues.containsKey(entryPath)) {
+				continue;
+			}
+
+			final List<String> row = new ArrayList<>(properties.length + 1);
+			row.add(flatValues.floorKey(entryPath));
+
+			final String basePath = PATH_SEPARATOR.equals(entryPath) ? "" : entryPath;
+			for (String property : properties) {
+				final String propertyPath = resolveParentSegments(
+					CURRENT_ENTRY.equals(property) ? basePath : basePath + PATH_SEPARATOR + property
+				);
+				final String value = propertyPath != null ? flatValues.get(propertyPath) : null;
+				row.add(value != null ? value : "");
+			}
+
+			rows.add(row);
+		}
+
+		return rows;
+	}
+
+	/**
+	 * Expand the entry key into the flat paths of all the entries, each array on the way being replaced by its elements.
+	 *
+	 * @return The flat paths of the entries.
+	 */
+	private List<String> expandEntryPaths() {
+		List<String> entryPaths = new ArrayList<>();
+		final int rootLength = arrayLengths.getOrDefault("", 0);
+		if (rootLength > 0) {
+			for (int index = 0; index < rootLength; index++) {
+				entryPaths.add("[" + index + "]");
+			}
+		} else {
+			entryPaths.add(PATH_SEPARATOR);
+		}
+
+		for (String segment : entryKey.split(PATH_SEPARATOR)) {
+			if (segment.isEmpty()) {
+				continue;
+			}
+
+			final List<String> expandedPaths = new ArrayList<>();
+			for (String entryPath : entryPaths) {
+				final String path = PATH_SEPARATOR.equals(entryPath)
+					? PATH_SEPARATOR + segment
+					: entryPath + PATH_SEPARATOR + segment;
+				final int length = arrayLengths.getOrDefault(path, 0);
+				if (length > 0) {
+					for (int index = 0; index < length; index++) {
+						expandedPaths.add(path + "[" + index + "]");
+					}
+				} else {
+					expandedPaths.add(path);
+				}
+			}
+			entryPaths = expandedPaths;
+		}
+
+		return entryPaths;
+	}
+
+	/**
+	 * Compute the normalized paths to keep: the entry key and its ancestors, and the path of each property.
+	 */
+	private void initWantedPaths() {
+		String entryPath = "";
+		wantedPaths.add(entryPath);
+		for (String segment : entryKey.split(PATH_SEPARATOR)) {
+			if (!segment.isEmpty()) {
+				entryPath += normalizePath(PATH_SEPARATOR + segment);
+				wantedPaths.add(entryPath);
+			}
+		}
+
+		for (String property : properties) {
+			final String propertyPath = CURRENT_ENTRY.equals(property)
+				? entryPath
+				: entryPath + normalizePath(PATH_SEPARATOR + property);
+			final String resolvedPath = resolveParentSegments(propertyPath);
+			if (resolvedPath != null) {
+				wantedPaths.add(resolvedPath);
+			} else {
+				log.error(
+					"Property {} goes above the root of the JSON document from entry {}. Its value will be empty.",
+					property,
+					entryKey
+				);
+			}
+		}
+
+		for (String wantedPath : wantedPaths) {
+			wantedPrefixes.add("");
+			int index = wantedPath.indexOf(PATH_SEPARATOR, 1);
+			while (index > 0) {
+				wantedPrefixes.add(wantedPath.substring(0, index));
+				index = wantedPath.indexOf(PATH_SEPARATOR, index + 1);
+			}
+			wantedPrefixes.add(wantedPath);
+		}
+	}
+
+	/**
+	 * Throw a {@link TimeoutException} if the deadline is reached. The clock is only read every
+	 * {@value #DEADLINE_CHECK_INTERVAL} tokens.
+	 *
+	 * @throws TimeoutException If the deadline is reached.
+	 */
+	private void checkDeadline() throws TimeoutException {
+		if (++tokenCount % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadlineNanos > 0) {
+			throw new TimeoutException("JSON to CSV conversion timed out");
+		}
+	}
+
+	/**
+	 * Make the entry key absolute, the empty key being the root.
+	 *
+	 * @param entryKey The entry key.
+	 * @return The absolute entry key.
+	 */
+	private static String normalizeEntryKey(final String entryKey) {
+		if (entryKey.isEmpty()) {
+			return PATH_SEPARATOR;
+		}
+		return entryKey.startsWith(PATH_SEPARATOR) ? entryKey : PATH_SEPARATOR + entryKey;
+	}
+
+	/**
+	 * Remove the leading <code>./</code> and <code>/</code> of a property path.
+	 *
+	 * @param property The property path.
+	 * @return The property path relative to the entry.
+	 */
+	private static String normalizeProperty(final String property) {
+		String relativeProperty = property.startsWith("./") ? property.substring(2) : property;
+		while (relativeProperty.startsWith(PATH_SEPARATOR)) {
+			relativeProperty = relativeProperty.substring(1);
+		}
+		return relativeProperty;
+	}
+
+	/**
+	 * Normalize a path for the wanted paths lookup: lower case (the flat paths are case-insensitive) and without
+	 * array indexes.
+	 *
+	 * @param path The path to normalize.
+	 * @return The normalized path.
+	 */
+	private static String normalizePath(final String path) {
+		return ARRAY_INDEX_PATTERN.matcher(path).replaceAll("").toLowerCase();
+	}
+
+	/**
+	 * Resolve the <code>/../</code> segments of the given path, each one removing the segment before it.
+	 *
+	 * @param path The path to resolve.
+	 * @return The resolved path, <code>null</code> if a <code>/../</code> segment goes above the root.
+	 */
+	private static String resolveParentSegments(final String path) {
+		String resolvedPath = path;
+		int index = resolvedPath.indexOf(PARENT_SEGMENT);
+		while (index >= 0) {
+			final int parentIndex = resolvedPath.lastIndexOf(PATH_SEPARATOR, index - 1);
+			if (parentIndex < 0) {
+				return null;
+			}
+			resolvedPath = resolvedPath.substring(0, parentIndex) + resolvedPath.substring(index + 3);
+			index = resolvedPath.indexOf(PARENT_SEGMENT);
+		}
+		return resolvedPath;
+	}
+
+	/**
+	 * A JSON object or array being read.
+	 */
+	private static class Container {
+
+		private final String path;
+		private final String normalizedPath;
+		private final boolean isArray;
+		private final boolean isWanted;
+		private int length;
+
+		private Container(final String path, final String normalizedPath, final boolean isArray, final boolean isWanted) {
+			this.path = path;
+			this.normalizedPath = normalizedPath;
+			this.isArray = isArray;
+			this.isWanted = isWanted;
+		}
+	}
+}
@@ -0,0 +1,785 @@
+package org.sentrysoftware.metricshub.engine.client;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming XML to table converter, producing the same rows as XFlat's {@code parseXml(xml, properties, recordTag)}
+ * with a StAX pull parser instead of a DOM.
+ * <p>
+ * The properties are compiled into the same search path tree as XFlat. While the XML document is read, only the
+ * elements reachable through this tree (and the attributes and text they are searched for) are kept, under each
+ * element matching the first tag of the record path. Each of these subtrees is converted into rows as soon as its end
+ * tag is read and then released, so the memory used follows the extracted data, not the size of the XML document.
+ * </p>
+ */
+final class Xml2CsvStreamer {
+
+	private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+	private static final String SLASH = "/";
+	private static final String ATTRIBUTE_TAG = ">";
+	private static final String ELEMENT_BEFORE_TAG = "..";
+	private static final String LINK_SEPARATOR = "=>";
+	private static final int ROOT_TAG_NOT_FOUND = -1;
+	private static final String LINK_KEY_PADDING = "00000000";
+
+	private final int propertyCount;
+	private final SearchNode rootNode;
+
+	/**
+	 * Values found for each link key. A link key identifies a branch of the navigation, each element found several
+	 * times under its parent opening a new branch (<code>parentKey=&gt;childKey</code>).
+	 */
+	private final Map<String, Map<Integer, String>> resultMap = new LinkedHashMap<>();
+
+	private int linkKeyCount;
+
+	/**
+	 * Create a new converter.
+	 *
+	 * @param properties The paths of the properties to extract, separated by a semicolon. The paths are relative to the
+	 *                   record tag and the attributes are preceded by a <code>&gt;</code>.
+	 *                   E.g. <code>name;status&gt;value</code>
+	 * @param recordTag  The path of the record elements. E.g. <code>/rootTag/tag2</code>
+	 */
+	Xml2CsvStreamer(final String properties, final String recordTag) {
+		checkNonBlank(properties, "properties");
+		checkNonBlank(recordTag, "rootTag");
+
+		final List<String> propertyPaths = Stream
+			.of(properties.replaceAll("\\s", "").split(";"))
+			.filter(property -> !isBlank(property))
+			.toList();
+		if (propertyPaths.isEmpty()) {
+			throw new IllegalArgumentException("Should have at least one property.");
+		}
+
+		propertyCount = propertyPaths.size();
+		rootNode = buildSearchTree(propertyPaths, SLASH + recordTag.replaceAll("\\s", "") + SLASH);
+	}
+
+	/**
+	 * Convert the given XML document into a table, one row per record.
+	 *
+	 * @param xml The XML document.
+	 * @return The list of rows.
+	 * @throws XMLStreamException If the XML document cannot be parsed.
+	 */
+	List<List<String>> convert(final String xml) throws XMLStreamException {
+		checkNonBlank(xml, "xml");
+
+		final String rootKey = nextLinkKey();
+		final Deque<List<XmlNode>> openElements = new ArrayDeque<>();
+		final Deque<XmlNode> pendingRecords = new ArrayDeque<>();
+		boolean recordFound = false;
+
+		final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+		try {
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+					case XMLStreamConstants.START_ELEMENT:
+						final List<XmlNode> nodes = startElement(reader, openElements.peek());
+						if (!nodes.isEmpty() && nodes.get(nodes.size() - 1).isRecord) {
+							pendingRecords.add(nodes.get(nodes.size() - 1));
+							recordFound = true;
+						}
+						openElements.push(nodes);
+						break;
+					case XMLStreamConstants.END_ELEMENT:
+						openElements.pop().forEach(node -> node.isComplete = true);
+
+						// Records are converted in document order, an enclosing record waits for the ones it contains
+						while (!pendingRecords.isEmpty() && pendingRecords.peek().isComplete) {
+							navigateNext(rootNode, pendingRecords.poll(), rootKey + LINK_SEPARATOR + nextLinkKey(), new HashMap<>());
+						}
+						break;
+					case XMLStreamConstants.CHARACTERS:
+					case XMLStreamConstants.CDATA:
+					case XMLStreamConstants.SPACE:
+						appendText(reader, openElements);
+						break;
+					default:
+						break;
+				}
+			}
+		} finally {
+			reader.close();
+		}
+
+		if (!recordFound) {
+			endNavigate(rootNode.element, rootKey, new HashMap<>());
+		}
+
+		return arrange();
+	}
+
+	/**
+	 * Keep the element the reader is positioned on under each of the kept parent elements searching for it, and as a
+	 * new record if its name is the first tag of the record path.
+	 *
+	 * @param reader      The XML reader, positioned on a start element.
+	 * @param parentNodes The kept nodes of the parent element, {@code null} for the document element.
+	 * @return The kept nodes of this element, the record being the last one.
+	 */
+	private List<XmlNode> startElement(final XMLStreamReader reader, final List<XmlNode> parentNodes) {
+		final String name = qualifiedName(reader.getPrefix(), reader.getLocalName());
+		List<XmlNode> nodes = Collections.emptyList();
+
+		if (parentNodes != null) {
+			for (XmlNode parentNode : parentNodes) {
+				final List<SearchNode> searchNodes = parentNode.childSearchNodes(name);
+				if (!searchNodes.isEmpty()) {
+					final XmlNode node = new XmlNode(name, searchNodes, reader, false);
+					parentNode.children.add(node);
+					nodes = add(nodes, node);
+				}
+			}
+		}
+
+		if (name.equals(rootNode.element.name)) {
+			nodes = add(nodes, new XmlNode(name, List.of(rootNode), reader, true));
+		}
+
+		return nodes;
+	}
+
+	/**
+	 * Append the text the reader is positioned on to the text content of the open elements searched as properties.
+	 *
+	 * @param reader       The XML reader, positioned on character data.
+	 * @param openElements The kept nodes of the open elements.
+	 */
+	private static void appendText(final XMLStreamReader reader, final Deque<List<XmlNode>> openElements) {
+		for (List<XmlNode> nodes : openElements) {
+			for (XmlNode node : nodes) {
+				if (node.textContent != null) {
+					node.textContent.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Navigate the nexts of the given search node from the given XML element.
+	 *
+	 * @param searchNode The current search node.
+	 * @param xmlNode    The current XML element.
+	 * @param linkKey    The link key of the current branch.
+	 * @param values     The values found in the current branch, indexed by property.
+	 */
+	private void navigateNext(
+		final SearchNode searchNode,
+		final XmlNode xmlNode,
+		final String linkKey,
+		final Map<Integer, String> values
+	) {
+		if (searchNode.nexts.isEmpty()) {
+			endNavigate(linkKey, values);
+			return;
+		}
+
+		for (SearchNode next : searchNode.nexts) {
+			final SearchElement element = next.element;
+			if (element instanceof AttributeElement attribute) {
+				// XFlat stores a missing attribute as null and then fails when merging the branches, skip it instead
+				final String value = xmlNode.attributes.get(attribute.name);
+				if (value != null) {
+					values.put(attribute.id, value);
+				}
+				navigateNext(next, xmlNode, linkKey, values);
+				continue;
+			}
+
+			final List<XmlNode> children = xmlNode.children
+				.stream()
+				.filter(child -> element.name.equals(child.name))
+				.toList();
+			if (children.isEmpty()) {
+				endNavigate(element, linkKey, values);
+			} else if (children.size() == 1) {
+				navigateElement(next, children.get(0), linkKey, values);
+			} else {
+				for (XmlNode child : children) {
+					navigateElement(next, child, linkKey + LINK_SEPARATOR + nextLinkKey(), new HashMap<>(values));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Read the value of the given XML element if it is searched as a property, then navigate its nexts.
+	 *
+	 * @param searchNode The search node of the element.
+	 * @param xmlNode    The XML element.
+	 * @param linkKey    The link key of the current branch.
+	 * @param values     The values found in the current branch, indexed by property.
+	 */
+	private void navigateElement(
+		final SearchNode searchNode,
+		final XmlNode xmlNode,
+		final String linkKey,
+		final Map<Integer, String> values
+	) {
+		if (searchNode.element instanceof PropertyElement property) {
+			values.put(property.id, xmlNode.textContent.toString());
+		}
+		navigateNext(searchNode, xmlNode, linkKey, values);
+	}
+
+	/**
+	 * End a branch on a missing element. A missing element of the record path discards the branch.
+	 *
+	 * @param element The missing element.
+	 * @param linkKey The link key of the branch.
+	 * @param values  The values found in the branch.
+	 */
+	private void endNavigate(final SearchElement element, final String linkKey, final Map<Integer, String> values) {
+		if (element.fromRootTag) {
+			values.put(ROOT_TAG_NOT_FOUND, "");
+		}
+		endNavigate(linkKey, values);
+	}
+
+	/**
+	 * End a branch, merging its values with the ones already found for the same link key.
+	 *
+	 * @param linkKey The link key of the branch.
+	 * @param values  The values found in the branch.
+	 */
+	private void endNavigate(final String linkKey, final Map<Integer, String> values) {
+		resultMap.compute(
+			linkKey,
+			(key, previousValues) ->
+				previousValues == null
+					? values
+					: Stream
+						.concat(previousValues.entrySet().stream(), values.entrySet().stream())
+						.collect(Collectors.toMap(Entry::getKey, Entry::getValue, (first, second) -> first))
+		);
+	}
+
+	/**
+	 * Generate a new link key. The keys have a fixed length so that no key is the prefix of another one.
+	 *
+	 * @return The link key.
+	 */
+	private String nextLinkKey() {
+		final String hex = Integer.toHexString(++linkKeyCount);
+		return LINK_KEY_PADDING.substring(Math.min(hex.length(), LINK_KEY_PADDING.length())) + hex;
+	}
+
+	/**
+	 * Build the rows out of the branches: each branch is merged into its sub-branches, down to the leaves.
+	 *
+	 * @return The list of rows.
+	 */
+	private List<List<String>> arrange() {
+		if (resultMap.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		return linkAndMergeRows(resultMap).stream().map(this::getValueData).collect(Collectors.toList());
+	}
+
+	/**
+	 * Get the row of a leaf branch. A branch with a missing record element gives an empty row.
+	 *
+	 * @param values The values of the branch.
+	 * @return The row.
+	 */
+	private List<String> getValueData(final Map<Integer, String> values) {
+		if (values.containsKey(ROOT_TAG_NOT_FOUND)) {
+			return new ArrayList<>();
+		}
+		return IntStream
+			.range(0, propertyCount)
+			.boxed()
+			.map(index -> values.getOrDefault(index, ""))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Recursively merge the top level branches into their sub-branches.
+	 *
+	 * @param branches The branches, indexed by link key.
+	 * @return The values of the leaf branches.
+	 */
+	private static List<Map<Integer, String>> linkAndMergeRows(final Map<String, Map<Integer, String>> branches) {
+		final Map<String, Map<Integer, String>> topBranches = branches
+			.entrySet()
+			.stream()
+			.filter(entry -> !entry.getKey().contains(LINK_SEPARATOR))
+			.collect(Collectors.toMap(Entry::getKey, Entry::getValue, (first, second) -> first, LinkedHashMap::new));
+
+		if (topBranches.isEmpty()) {
+			return linkAndMergeRows(
+				branches
+					.entrySet()
+					.stream()
+					.collect(
+						Collectors.toMap(
+							entry -> removeFirstLinkPart(entry.getKey()),
+							Entry::getValue,
+							(first, second) -> first,
+							LinkedHashMap::new
+						)
+					)
+			);
+		}
+
+		final Map<String, Map<Integer, String>> subBranches = branches
+			.entrySet()
+			.stream()
+			.filter(entry -> entry.getKey().contains(LINK_SEPARATOR))
+			.collect(Collectors.toMap(Entry::getKey, Entry::getValue, (first, second) -> first, LinkedHashMap::new));
+
+		if (subBranches.isEmpty()) {
+			return topBranches.values().stream().collect(Collectors.toList());
+		}
+
+		return linkAndMergeRows(linkAndMergeRowMap(topBranches, subBranches));
+	}
+
+	/**
+	 * Merge each top level branch into its direct sub-branches, which become top level branches. As the link keys have
+	 * a fixed length, the sub-branches of a branch are grouped by the first part of their key instead of being searched
+	 * by prefix for each branch.
+	 *
+	 * @param topBranches The top level branches.
+	 * @param subBranches The sub-branches.
+	 * @return The merged branches.
+	 */
+	private static Map<String, Map<Integer, String>> linkAndMergeRowMap(
+		final Map<String, Map<Integer, String>> topBranches,
+		final Map<String, Map<Integer, String>> subBranches
+	) {
+		final Map<String, Map<String, Map<Integer, String>>> subBranchesByParent = new HashMap<>();
+		subBranches.forEach((linkKey, values) ->
+			subBranchesByParent
+				.computeIfAbsent(firstLinkPart(linkKey), parentKey -> new LinkedHashMap<>())
+				.putIfAbsent(removeFirstLinkPart(linkKey), values)
+		);
+
+		final Map<String, Map<Integer, String>> mergedBranches = new LinkedHashMap<>();
+		topBranches.forEach((linkKey, values) -> {
+			final Map<String, Map<Integer, String>> children = subBranchesByParent.get(linkKey);
+			if (children == null) {
+				mergedBranches.put(linkKey, values);
+				return;
+			}
+			children.forEach((childKey, childValues) ->
+				mergedBranches.putIfAbsent(
+					childKey,
+					Stream
+						.concat(childValues.entrySet().stream(), values.entrySet().stream())
+						.collect(Collectors.toMap(Entry::getKey, Entry::getValue, (first, second) -> first))
+				)
+			);
+		});
+
+		// Sub-branches of missing branches move up a level
+		subBranches.forEach((linkKey, values) -> {
+			if (!topBranches.containsKey(firstLinkPart(linkKey))) {
+				mergedBranches.putIfAbsent(removeFirstLinkPart(linkKey), values);
+			}
+		});
+
+		return mergedBranches;
+	}
+
+	/**
+	 * Get the first part of a link key. E.g. <code>a</code> for <code>a=&gt;b=&gt;c</code>.
+	 *
+	 * @param linkKey The link key.
+	 * @return The first part of the link key.
+	 */
+	private static String firstLinkPart(final String linkKey) {
+		final int index = linkKey.indexOf(LINK_SEPARATOR);
+		return index == -1 ? linkKey : linkKey.substring(0, index);
+	}
+
+	/**
+	 * Remove the first part of a link key. E.g. <code>a=&gt;b=&gt;c</code> becomes <code>b=&gt;c</code>.
+	 *
+	 * @param linkKey The link key.
+	 * @return The link key without its first part.
+	 */
+	private static String removeFirstLinkPart(final String linkKey) {
+		final int index = linkKey.indexOf(LINK_SEPARATOR);
+		return index == -1 ? linkKey : linkKey.substring(index + LINK_SEPARATOR.length());
+	}
+
+	/**
+	 * Build the search path tree of the properties, as XFlat does: the property paths, prefixed with the record path,
+	 * are sorted and merged level by level.
+	 *
+	 * @param propertyPaths The property paths.
+	 * @param rootTagPath   The record path, starting and ending with a slash.
+	 * @return The root node of the tree.
+	 */
+	private static SearchNode buildSearchTree(final List<String> propertyPaths, final String rootTagPath) {
+		final List<Deque<SearchElement>> searchPaths = IntStream
+			.range(0, propertyPaths.size())
+			.mapToObj(index -> buildSearchPath(index, propertyPaths.get(index), rootTagPath))
+			.sorted((path1, path2) -> joinNames(path1).compareToIgnoreCase(joinNames(path2)))
+			.toList();
+
+		SearchNode root = null;
+		Map<Integer, SearchNode> previousLevelNodes = new HashMap<>();
+		final int depth = searchPaths.stream().mapToInt(Deque::size).max().orElse(0);
+		for (int level = 0; level < depth; level++) {
+			final Map<Integer, SearchNode> levelNodes = new HashMap<>();
+			final Map<SearchElement, SearchNode> nodesByElement = new HashMap<>();
+			for (int index = 0; index < searchPaths.size(); index++) {
+				final SearchElement element = searchPaths.get(index).pollFirst();
+				if (element == null) {
+					continue;
+				}
+
+				final SearchNode node = nodesByElement.computeIfAbsent(element, SearchNode::new);
+				if (root == null) {
+					root = node;
+				}
+				levelNodes.put(index, node);
+
+				final SearchNode parent = previousLevelNodes.get(index);
+				if (parent != null) {
+					parent.nexts.add(node);
+				}
+			}
+			previousLevelNodes = levelNodes;
+		}
+
+		return root;
+	}
+
+	/**
+	 * Build the search path of a property: the elements from the first tag of the record path to the property.
+	 *
+	 * @param index        The index of the property.
+	 * @param propertyPath The property path, relative to the record path.
+	 * @param rootTagPath  The record path, starting and ending with a slash.
+	 * @return The elements of the search path.
+	 */
+	private static Deque<SearchElement> buildSearchPath(
+		final int index,
+		final String propertyPath,
+		final String rootTagPath
+	) {
+		final String searchPath = (rootTagPath + propertyPath).replace(SLASH + ATTRIBUTE_TAG, ATTRIBUTE_TAG);
+		final Queue<String> rootTags = Stream
+			.of(rootTagPath.split(SLASH))
+			.filter(tag -> !isBlank(tag))
+			.collect(Collectors.toCollection(LinkedList::new));
+
+		final Deque<SearchElement> elements = new LinkedList<>();
+		for (String name : searchPath.split(SLASH)) {
+			if (isBlank(name)) {
+				continue;
+			}
+
+			final String rootTag = rootTags.poll();
+			if (ELEMENT_BEFORE_TAG.equals(name)) {
+				elements.removeLast();
+				continue;
+			}
+
+			final SearchElement previous = elements.peekLast();
+			if (previous != null && previous.name.contains(ATTRIBUTE_TAG)) {
+				throw new IllegalArgumentException(
+					String.format("attribute %s is not the last element of the searchingPath %s", previous.name, searchPath)
+				);
+			}
+			elements.add(new SearchElement(name, rootTag != null && name.contains(rootTag)));
+		}
+
+		final SearchElement last = elements.removeLast();
+		if (last.name.contains(ATTRIBUTE_TAG)) {
+			final String[] parts = last.name.split(ATTRIBUTE_TAG);
+			if (parts.length != 2) {
+				throw new IllegalArgumentException(
+					String.format("Invalid attribute tag in element %s of the searchingPath %s", last.name, searchPath)
+				);
+			}
+			if (!ELEMENT_BEFORE_TAG.equals(parts[0])) {
+				elements.add(new SearchElement(parts[0], last.fromRootTag));
+			}
+			elements.add(new AttributeElement(index, parts[1]));
+		} else {
+			elements.add(new PropertyElement(index, last.name));
+		}
+
+		return elements;
+	}
+
+	/**
+	 * Join the names of the given search path elements.
+	 *
+	 * @param searchPath The search path.
+	 * @return The slash-separated names.
+	 */
+	private static String joinNames(final Deque<SearchElement> searchPath) {
+		return searchPath.stream().map(element -> element.name).collect(Collectors.joining(SLASH));
+	}
+
+	/**
+	 * Add a node to the given list, which may be the immutable empty list.
+	 *
+	 * @param nodes The list of nodes.
+	 * @param node  The node to add.
+	 * @return The list of nodes.
+	 */
+	private static List<XmlNode> add(final List<XmlNode> nodes, final XmlNode node) {
+		final List<XmlNode> result = nodes.isEmpty() ? new ArrayList<>(1) : nodes;
+		result.add(node);
+		return result;
+	}
+
+	/**
+	 * Get the qualified name of an element or attribute, as a DOM built without namespace awareness would name it.
+	 *
+	 * @param prefix    The namespace prefix, if any.
+	 * @param localName The local name.
+	 * @return The qualified name.
+	 */
+	private static String qualifiedName(final String prefix, final String localName) {
+		return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+	}
+
+	/**
+	 * Throw an {@link IllegalArgumentException} if the given value is blank.
+	 *
+	 * @param value The value to check.
+	 * @param name  The name of the value.
+	 */
+	private static void checkNonBlank(final String value, final String name) {
+		if (isBlank(value)) {
+			throw new IllegalArgumentException(name + " must not be null or empty.");
+		}
+	}
+
+	/**
+	 * @param value The value to check.
+	 * @return Whether the given value is null or only made of whitespaces.
+	 */
+	private static boolean isBlank(final String value) {
+		return value == null || value.trim().isEmpty();
+	}
+
+	/**
+	 * Create the StAX factory, which does not resolve any external entity or DTD.
+	 *
+	 * @return The {@link XMLInputFactory}.
+	 */
+	private static XMLInputFactory createXmlInputFactory() {
+		final XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+		return factory;
+	}
+
+	/**
+	 * An element of a search path.
+	 */
+	private static class SearchElement {
+
+		protected final String name;
+		protected final boolean fromRootTag;
+
+		private SearchElement(final String name, final boolean fromRootTag) {
+			this.name = name;
+			this.fromRootTag = fromRootTag;
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (other == null || getClass() != other.getClass()) {
+				return false;
+			}
+			final SearchElement element = (SearchElement) other;
+			return fromRootTag == element.fromRootTag && Objects.equals(name, element.name);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(name, fromRootTag);
+		}
+	}
+
+	/**
+	 * The last element of a search path, whose text content is the value of the property.
+	 */
+	private static class PropertyElement extends SearchElement {
+
+		protected final int id;
+
+		private PropertyElement(final int id, final String name) {
+			super(name, false);
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			return super.equals(other) && id == ((PropertyElement) other).id;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * super.hashCode() + id;
+		}
+	}
+
+	/**
+	 * The last element of a search path, when the value of the property is an attribute of the previous element.
+	 */
+	private static class AttributeElement extends PropertyElement {
+
+		private AttributeElement(final int id, final String name) {
+			super(id, name);
+		}
+	}
+
+	/**
+	 * A node of the search path tree. As in XFlat, the nexts are sorted with the attributes first, then the properties,
+	 * then the elements by name.
+	 */
+	private static class SearchNode {
+
+		private final SearchElement element;
+		private final Set<SearchNode> nexts = new TreeSet<>(SearchNode::compare);
+
+		private SearchNode(final SearchElement element) {
+			this.element = element;
+		}
+
+		private static int compare(final SearchNode node1, final SearchNode node2) {
+			final boolean isAttribute1 = node1.element instanceof AttributeElement;
+			final boolean isAttribute2 = node2.element instanceof AttributeElement;
+			if (isAttribute1 != isAttribute2) {
+				return isAttribute1 ? -1 : 1;
+			}
+			if (node1.element instanceof PropertyElement) {
+				return -1;
+			}
+			if (node2.element instanceof PropertyElement) {
+				return 1;
+			}
+			return node1.element.name.compareToIgnoreCase(node2.element.name);
+		}
+	}
+
+	/**
+	 * An XML element kept while reading the document, with the attributes and children it may be searched for.
+	 */
+	private static class XmlNode {
+
+		private final String name;
+		private final List<SearchNode> searchNodes;
+		private final boolean isRecord;
+		private final Map<String, String> attributes = new HashMap<>();
+		private final List<XmlNode> children = new ArrayList<>();
+		private final StringBuilder textContent;
+		private boolean isComplete;
+
+		private XmlNode(
+			final String name,
+			final List<SearchNode> searchNodes,
+			final XMLStreamReader reader,
+			final boolean isRecord
+		) {
+			this.name = name;
+			this.searchNodes = searchNodes;
+			this.isRecord = isRecord;
+
+			boolean isProperty = false;
+			for (SearchNode searchNode : searchNodes) {
+				isProperty |= searchNode.element instanceof PropertyElement;
+				for (SearchNode next : searchNode.nexts) {
+					if (next.element instanceof AttributeElement) {
+						attributes.put(next.element.name, null);
+					}
+				}
+			}
+			textContent = isProperty ? new StringBuilder() : null;
+
+			if (!attributes.isEmpty()) {
+				for (int index = 0; index < reader.getAttributeCount(); index++) {
+					final String attributeName = qualifiedName(
+						reader.getAttributePrefix(index),
+						reader.getAttributeLocalName(index)
+					);
+					if (attributes.containsKey(attributeName)) {
+						attributes.put(attributeName, reader.getAttributeValue(index));
+					}
+				}
+			}
+		}
+
+		/**
+		 * @param childName The name of a child element.
+		 * @return The search nodes the child element may be searched with.
+		 */
+		private List<SearchNode> childSearchNodes(final String childName) {
+			List<SearchNode> result = Collections.emptyList();
+			for (SearchNode searchNode : searchNodes) {
+				for (SearchNode next : searchNode.nexts) {
+					if (!(next.element instanceof AttributeElement) && next.element.name.equals(childName)) {
+						if (result.isEmpty()) {
+							result = new ArrayList<>(1);
+						}
+						result.add(next);
+					}
+				}
+			}
+			return result;
+		}
+	}
+}
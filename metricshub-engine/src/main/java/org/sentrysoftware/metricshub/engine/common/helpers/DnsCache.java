@@ -0,0 +1,428 @@
+package org.sentrysoftware.metricshub.engine.common.helpers;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
+
+/**
+ * DNS resolution cache shared by all the resources.<br>
+ * The forward lookups (hostname to IP address) and reverse lookups (IP address to fully qualified domain name) are
+ * kept for a time to live, which differs for the successful and the failed lookups. Only one lookup of a given name is
+ * sent to the resolver at a time, the other callers wait for its result. A successful lookup used during the last
+ * quarter of its time to live is refreshed in the background, so the names looked up at each collect never wait for
+ * the resolver once resolved.<br>
+ * The lookups sent to the resolver are reported through {@link EngineMetrics#recordDnsLookup(String, long, boolean)},
+ * whether the cache is enabled or not.
+ * <br>
+ * Nothing is cached until {@link #configure(boolean, long, long)} enables it.
+ */
+@Slf4j
+public class DnsCache {
+
+	private static final DnsCache INSTANCE = new DnsCache();
+
+	/**
+	 * Number of entries above which the expired entries are purged when a new name is looked up
+	 */
+	private static final int PURGE_THRESHOLD = 1024;
+
+	/**
+	 * Fraction of the time to live after which a used entry is refreshed in the background
+	 */
+	private static final double REFRESH_RATIO = 0.75;
+
+	private final Map<String, Entry<InetAddress>> forwardEntries = new ConcurrentHashMap<>();
+
+	private final Map<String, Entry<String>> reverseEntries = new ConcurrentHashMap<>();
+
+	private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(newDaemonThreadFactory());
+
+	private volatile boolean enabled;
+
+	private volatile long ttlNanos;
+
+	private volatile long negativeTtlNanos;
+
+	/**
+	 * Gets the static instance shared by all the resources
+	 *
+	 * @return the static instance of the cache
+	 */
+	public static DnsCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Configures the cache and drops the entries kept so far.
+	 *
+	 * @param enabled            Whether the lookups are cached.
+	 * @param ttlSeconds         Time in seconds during which a successful lookup is reused.
+	 * @param negativeTtlSeconds Time in seconds during which a failed lookup is reused.
+	 */
+	public synchronized void configure(final boolean enabled, final long ttlSeconds, final long negativeTtlSeconds) {
+		this.enabled = enabled;
+		this.ttlNanos = Math.max(0, TimeUnit.SECONDS.toNanos(ttlSeconds));
+		this.negativeTtlNanos = Math.max(0, TimeUnit.SECONDS.toNanos(negativeTtlSeconds));
+		forwardEntries.clear();
+		reverseEntries.clear();
+	}
+
+	/**
+	 * Resolves the IP address of the given hostname, like {@link InetAddress#getByName(String)}.
+	 *
+	 * @param hostname The hostname to resolve.
+	 * @return The {@link InetAddress} of the hostname.
+	 * @throws UnknownHostException When the hostname cannot be resolved.
+	 */
+	public InetAddress getByName(@NonNull final String hostname) throws UnknownHostException {
+		return lookup(
+			forwardEntries,
+			hostname,
+			() -> InetAddress.getByName(hostname),
+			EngineMetrics.FORWARD_LOOKUP,
+			address -> false
+		);
+	}
+
+	/**
+	 * Resolves the fully qualified domain name of the given hostname, like
+	 * {@link InetAddress#getCanonicalHostName()}: the IP address is returned when the reverse lookup fails.
+	 *
+	 * @param hostname The hostname to resolve.
+	 * @return The fully qualified domain name of the hostname.
+	 * @throws UnknownHostException When the hostname cannot be resolved to an IP address.
+	 */
+	public String getCanonicalHostName(@NonNull final String hostname) throws UnknownHostException {
+		final InetAddress inetAddress = getByName(hostname);
+		if (inetAddress == null) {
+			throw new UnknownHostException(hostname);
+		}
+
+		final String hostAddress = inetAddress.getHostAddress();
+		return lookup(
+			reverseEntries,
+			hostAddress,
+			inetAddress::getCanonicalHostName,
+			EngineMetrics.REVERSE_LOOKUP,
+			// The reverse lookup returns the IP address when it fails
+			hostAddress::equals
+		);
+	}
+
+	/**
+	 * Looks up the given name in the given entries, sending the lookup to the resolver if it is not cached.
+	 *
+	 * @param <T>      The type of the lookup result.
+	 * @param entries  The cached entries.
+	 * @param name     The name to look up.
+	 * @param resolver The lookup sent to the resolver.
+	 * @param lookup   The type of lookup, reported in the metrics.
+	 * @param failed   Whether a result returned by the resolver is a failure.
+	 * @return The lookup result.
+	 * @throws UnknownHostException When the name cannot be resolved.
+	 */
+	private <T> T lookup(
+		final Map<String, Entry<T>> entries,
+		final String name,
+		final Resolver<T> resolver,
+		final String lookup,
+		final Predicate<T> failed
+	) throws UnknownHostException {
+		if (!enabled) {
+			return resolve(resolver, lookup, failed).getValue();
+		}
+
+		final long now = System.nanoTime();
+
+		final Entry<T> existing = entries.get(name);
+		if (existing != null && !existing.isExpired(now)) {
+			EngineMetrics.recordCacheLookup(EngineMetrics.DNS_CACHE, true);
+			if (existing.needsRefresh(now)) {
+				refresh(entries, name, existing, resolver, lookup, failed);
+			}
+			return existing.await(name);
+		}
+
+		final Entry<T> entry = new Entry<>();
+		final Entry<T> winner = existing == null
+			? entries.putIfAbsent(name, entry)
+			: entries.replace(name, existing, entry) ? null : entries.putIfAbsent(name, entry);
+
+		// Another thread is looking up the same name
+		if (winner != null) {
+			EngineMetrics.recordCacheLookup(EngineMetrics.DNS_CACHE, true);
+			return winner.await(name);
+		}
+
+		EngineMetrics.recordCacheLookup(EngineMetrics.DNS_CACHE, false);
+		purgeExpired(entries, now);
+
+		try {
+			entry.complete(resolve(resolver, lookup, failed), ttlNanos, negativeTtlNanos);
+		} catch (RuntimeException e) {
+			// Not a resolution failure, nothing to cache
+			entry.completeExceptionally(e);
+			entries.remove(name, entry);
+		}
+
+		return entry.await(name);
+	}
+
+	/**
+	 * Refreshes the given entry in the background, unless a refresh is already in progress. The entry is replaced
+	 * only if the new lookup succeeds, otherwise the current result is used until it expires.
+	 *
+	 * @param <T>      The type of the lookup result.
+	 * @param entries  The cached entries.
+	 * @param name     The name to look up.
+	 * @param existing The entry to refresh.
+	 * @param resolver The lookup sent to the resolver.
+	 * @param lookup   The type of lookup, reported in the metrics.
+	 * @param failed   Whether a result returned by the resolver is a failure.
+	 */
+	private <T> void refresh(
+		final Map<String, Entry<T>> entries,
+		final String name,
+		final Entry<T> existing,
+		final Resolver<T> resolver,
+		final String lookup,
+		final Predicate<T> failed
+	) {
+		if (!existing.refreshing.compareAndSet(false, true)) {
+			return;
+		}
+
+		refreshExecutor.execute(() -> {
+			try {
+				final Resolution<T> resolution = resolve(resolver, lookup, failed);
+				if (!resolution.isFailed()) {
+					final Entry<T> refreshed = new Entry<>();
+					refreshed.complete(resolution, ttlNanos, negativeTtlNanos);
+					entries.replace(name, existing, refreshed);
+					return;
+				}
+			} catch (RuntimeException e) {
+				log.debug("Failed to refresh the DNS lookup of {}: ", name, e);
+			}
+			existing.refreshing.set(false);
+		});
+	}
+
+	/**
+	 * Sends the lookup to the resolver and reports it in the metrics.
+	 *
+	 * @param <T>      The type of the lookup result.
+	 * @param resolver The lookup sent to the resolver.
+	 * @param lookup   The type of lookup, reported in the metrics.
+	 * @param failed   Whether a result returned by the resolver is a failure.
+	 * @return The {@link Resolution} of the lookup.
+	 */
+	private static <T> Resolution<T> resolve(
+		final Resolver<T> resolver,
+		final String lookup,
+		final Predicate<T> failed
+	) {
+		final long startNano = System.nanoTime();
+		try {
+			final T value = resolver.resolve();
+			final boolean isFailed = value == null || failed.test(value);
+			EngineMetrics.recordDnsLookup(lookup, startNano, !isFailed);
+			return new Resolution<>(value, null, isFailed);
+		} catch (UnknownHostException e) {
+			EngineMetrics.recordDnsLookup(lookup, startNano, false);
+			return new Resolution<>(null, e, true);
+		}
+	}
+
+	/**
+	 * Removes the expired entries once the number of entries exceeds {@link #PURGE_THRESHOLD}.
+	 *
+	 * @param <T>     The type of the lookup result.
+	 * @param entries The cached entries.
+	 * @param now     The current {@link System#nanoTime()} value.
+	 */
+	private static <T> void purgeExpired(final Map<String, Entry<T>> entries, final long now) {
+		if (entries.size() > PURGE_THRESHOLD) {
+			entries.values().removeIf(entry -> entry.isExpired(now));
+		}
+	}
+
+	/**
+	 * Create a factory of daemon threads, so the refresh never prevents the JVM from exiting.
+	 *
+	 * @return a new {@link ThreadFactory}
+	 */
+	private static ThreadFactory newDaemonThreadFactory() {
+		final AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			final Thread thread = new Thread(runnable, "metricshub-dns-refresh-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * A lookup sent to the resolver.
+	 *
+	 * @param <T> The type of the lookup result.
+	 */
+	@FunctionalInterface
+	private interface Resolver<T> {
+		/**
+		 * Send the lookup.
+		 *
+		 * @return The lookup result.
+		 * @throws UnknownHostException When the name cannot be resolved.
+		 */
+		T resolve() throws UnknownHostException;
+	}
+
+	/**
+	 * The result of a lookup sent to the resolver.
+	 *
+	 * @param <T>       The type of the lookup result.
+	 * @param value     The lookup result, <code>null</code> if the lookup threw an exception.
+	 * @param exception The exception thrown by the lookup.
+	 * @param isFailed  Whether the lookup failed.
+	 */
+	private record Resolution<T>(T value, UnknownHostException exception, boolean isFailed) {
+		/**
+		 * Get the lookup result, or throw the exception of the lookup.
+		 *
+		 * @return The lookup result.
+		 * @throws UnknownHostException When the name could not be resolved.
+		 */
+		T getValue() throws UnknownHostException {
+			if (exception != null) {
+				throw exception;
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * A lookup in progress, or completed with the time until which its result can be reused
+	 *
+	 * @param <T> The type of the lookup result.
+	 */
+	private static class Entry<T> {
+
+		private final CompletableFuture<Resolution<T>> resolution = new CompletableFuture<>();
+
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+
+		/**
+		 * {@link System#nanoTime()} value after which the result is refreshed when used, set on completion
+		 */
+		private volatile long refreshAt;
+
+		/**
+		 * {@link System#nanoTime()} value after which the result is expired, set on completion
+		 */
+		private volatile long expiresAt;
+
+		/**
+		 * Complete the lookup.
+		 *
+		 * @param result           The result of the lookup.
+		 * @param ttlNanos         The time to live of a successful lookup in nanoseconds.
+		 * @param negativeTtlNanos The time to live of a failed lookup in nanoseconds.
+		 */
+		private void complete(final Resolution<T> result, final long ttlNanos, final long negativeTtlNanos) {
+			final long now = System.nanoTime();
+			if (result.isFailed()) {
+				refreshAt = Long.MAX_VALUE;
+				expiresAt = now + negativeTtlNanos;
+			} else {
+				refreshAt = now + (long) (ttlNanos * REFRESH_RATIO);
+				expiresAt = now + ttlNanos;
+			}
+			resolution.complete(result);
+		}
+
+		/**
+		 * Complete the lookup with an unexpected exception.
+		 *
+		 * @param exception The exception thrown by the lookup.
+		 */
+		private void completeExceptionally(final RuntimeException exception) {
+			expiresAt = System.nanoTime();
+			resolution.completeExceptionally(exception);
+		}
+
+		/**
+		 * Whether the lookup has completed and its result has expired.
+		 *
+		 * @param now The current {@link System#nanoTime()} value.
+		 * @return <code>true</code> if the result can no longer be used.
+		 */
+		private boolean isExpired(final long now) {
+			return resolution.isDone() && now - expiresAt >= 0;
+		}
+
+		/**
+		 * Whether the lookup has completed and its result should be refreshed in the background.
+		 *
+		 * @param now The current {@link System#nanoTime()} value.
+		 * @return <code>true</code> if the result should be refreshed.
+		 */
+		private boolean needsRefresh(final long now) {
+			return resolution.isDone() && refreshAt != Long.MAX_VALUE && now - refreshAt >= 0;
+		}
+
+		/**
+		 * Wait for the result of the lookup.
+		 *
+		 * @param name The name looked up.
+		 * @return The lookup result.
+		 * @throws UnknownHostException When the name could not be resolved.
+		 */
+		private T await(final String name) throws UnknownHostException {
+			try {
+				return resolution.get().getValue();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new UnknownHostException(name + ": interrupted while waiting for the DNS lookup");
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
+}
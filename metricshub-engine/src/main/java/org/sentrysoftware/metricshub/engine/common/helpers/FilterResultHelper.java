@@ -73,11 +73,11 @@ public class FilterResultHelper {
 
 		final Pattern excludePattern = excludeRegExp == null || excludeRegExp.isEmpty()
 			? null
-			: Pattern.compile(PslUtils.psl2JavaRegex(excludeRegExp));
+			: PslUtils.compilePslRegex(excludeRegExp, 0);
 
 		final Pattern keepOnlyPattern = keepOnlyRegExp == null || keepOnlyRegExp.isEmpty()
 			? null
-			: Pattern.compile(PslUtils.psl2JavaRegex(keepOnlyRegExp));
+			: PslUtils.compilePslRegex(keepOnlyRegExp, 0);
 
 		// Remove lines containing a given regular expression excludeRegExp
 		// Keep only the lines containing a given regular expression
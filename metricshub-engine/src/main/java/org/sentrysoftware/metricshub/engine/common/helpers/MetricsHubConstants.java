@@ -111,6 +111,14 @@ public class MetricsHubConstants {
 	 * Monitor Attribute: Parent ID
 	 */
 	public static final String MONITOR_ATTRIBUTE_PARENT_ID = "parent.id";
+	/**
+	 * Monitor Attribute: Hardware Parent ID
+	 */
+	public static final String MONITOR_ATTRIBUTE_HW_PARENT_ID = "hw.parent.id";
+	/**
+	 * Monitor Attribute: Hardware Parent Type
+	 */
+	public static final String MONITOR_ATTRIBUTE_HW_PARENT_TYPE = "hw.parent.type";
 
 	/**
 	 * Other Monitor Job Types
@@ -79,7 +79,7 @@ public class NetworkHelper {
 		// Try to resolve the provided hostname
 		InetAddress inetAddress = null;
 		try {
-			inetAddress = InetAddress.getByName(hostname);
+			inetAddress = DnsCache.getInstance().getByName(hostname);
 		} catch (UnknownHostException e) {
 			log.warn(
 				"Hostname {} - Could not resolve the hostname to a valid IP address. The host is considered remote.",
@@ -126,7 +126,7 @@ public class NetworkHelper {
 
 		if (hostname != null && !hostname.isBlank()) {
 			try {
-				inetAddress = InetAddress.getByName(hostname);
+				inetAddress = DnsCache.getInstance().getByName(hostname);
 
 				if (inetAddress != null) {
 					ipAddress = inetAddress.getHostAddress();
@@ -149,10 +149,7 @@ public class NetworkHelper {
 	public static String getFqdn(final String hostname) {
 		if (hostname != null && !hostname.isBlank()) {
 			try {
-				final InetAddress inetAddress = InetAddress.getByName(hostname);
-				if (inetAddress != null) {
-					return inetAddress.getCanonicalHostName();
-				}
+				return DnsCache.getInstance().getCanonicalHostName(hostname);
 			} catch (UnknownHostException e) {
 				log.error(
 					"Hostname {} - Could not resolve the hostname to a valid IP address. Cannot retrieve FQDN. Using hostname as FQDN.",
@@ -180,7 +177,7 @@ public class NetworkHelper {
 	public static URL createUrl(@NonNull String protocol, @NonNull String hostnameOrIp, @NonNull Integer portNumber)
 		throws MalformedURLException, UnknownHostException, URISyntaxException {
 		// Detect if the host is an IPv6 address
-		final InetAddress address = InetAddress.getByName(hostnameOrIp);
+		final InetAddress address = DnsCache.getInstance().getByName(hostnameOrIp);
 
 		final String uriHost;
 		if (
@@ -91,6 +91,12 @@ public class ConnectorIdentity implements Serializable {
 	 */
 	private Detection detection;
 
+	/**
+	 * The default time to live in seconds of the source results of the connector, used by the sources not defining
+	 * their own cacheTtl.
+	 */
+	private Long sourceCacheTtl;
+
 	/**
 	 * The connector default variables that can be specified.
 	 */
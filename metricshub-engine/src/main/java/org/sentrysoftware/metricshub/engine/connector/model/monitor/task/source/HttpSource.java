@@ -89,6 +89,12 @@ public class HttpSource extends Source {
 	@JsonSetter(nulls = SKIP)
 	private ResultContent resultContent = ResultContent.BODY;
 
+	/**
+	 * Whether the HTTP response is cached and revalidated with the server (ETag, Last-Modified and Cache-Control max-age)
+	 * instead of being downloaded again at each cycle.
+	 */
+	private boolean cacheResponse;
+
 	/**
 	 * Builder for creating instances of {@code HttpSource}.
 	 *
@@ -104,6 +110,7 @@ public class HttpSource extends Source {
 	 * @param resultContent        The type of content to retrieve from the HTTP response.
 	 * @param key                  The key associated with the source.
 	 * @param executeForEachEntryOf The execution context for each entry of the source.
+	 * @param cacheResponse        Whether the HTTP response is cached and revalidated with the server.
 	 */
 	@Builder
 	public HttpSource(
@@ -118,7 +125,8 @@ public class HttpSource extends Source {
 		@JsonProperty("authenticationToken") String authenticationToken,
 		@JsonProperty("resultContent") ResultContent resultContent,
 		@JsonProperty("key") String key,
-		@JsonProperty("executeForEachEntryOf") ExecuteForEachEntryOf executeForEachEntryOf
+		@JsonProperty("executeForEachEntryOf") ExecuteForEachEntryOf executeForEachEntryOf,
+		@JsonProperty("cacheResponse") boolean cacheResponse
 	) {
 		super(type, computes, forceSerialization, key, executeForEachEntryOf);
 		this.method = method;
@@ -128,6 +136,7 @@ public class HttpSource extends Source {
 		this.body = body;
 		this.authenticationToken = authenticationToken;
 		this.resultContent = resultContent == null ? ResultContent.BODY : resultContent;
+		this.cacheResponse = cacheResponse;
 	}
 
 	public HttpSource copy() {
@@ -145,6 +154,7 @@ public class HttpSource extends Source {
 			.body(body)
 			.authenticationToken(authenticationToken)
 			.resultContent(resultContent)
+			.cacheResponse(cacheResponse)
 			.build();
 	}
 
@@ -170,6 +180,9 @@ public class HttpSource extends Source {
 		addNonNull(stringJoiner, "- body=", body);
 		addNonNull(stringJoiner, "- authenticationToken=", authenticationToken);
 		addNonNull(stringJoiner, "- resultContent=", resultContent != null ? resultContent.getName() : null);
+		if (cacheResponse) {
+			stringJoiner.add("- cacheResponse=true");
+		}
 
 		return stringJoiner.toString();
 	}
@@ -101,6 +101,13 @@ public abstract class Source implements Serializable {
 	 * Configuration for executing an operation for each entry of the source.
 	 */
 	protected ExecuteForEachEntryOf executeForEachEntryOf;
+
+	/**
+	 * Time to live in seconds of the source result. While it is not expired, the result (after the computes) is reused
+	 * instead of executing the source. When not set, the default of the connector applies.
+	 */
+	protected Long cacheTtl;
+
 	/**
 	 * Set of references associated with the source.
 	 */
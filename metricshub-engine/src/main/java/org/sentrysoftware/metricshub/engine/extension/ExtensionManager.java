@@ -23,6 +23,7 @@ package org.sentrysoftware.metricshub.engine.extension;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -43,6 +44,7 @@ import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
 import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
 import org.sentrysoftware.metricshub.engine.connector.model.identity.criterion.Criterion;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.Source;
+import org.sentrysoftware.metricshub.engine.strategy.ExecutionPlan;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
 /**
@@ -96,17 +98,29 @@ public class ExtensionManager {
 		final Criterion criterion,
 		final TelemetryManager telemetryManager
 	) {
-		final List<IProtocolExtension> criterionExtensions = protocolExtensions
+		final ExecutionPlan executionPlan = getValidExecutionPlan(telemetryManager);
+		if (executionPlan != null) {
+			return executionPlan.findCriterionExtension(criterion.getClass());
+		}
+
+		return resolveCriterionExtension(criterion.getClass(), telemetryManager);
+	}
+
+	/**
+	 * Resolve the extension which satisfies the processing of the given criterion type according to the user's
+	 * configuration.
+	 *
+	 * @param criterionType    The class of the {@link Criterion}
+	 * @param telemetryManager {@link TelemetryManager} instance where the configurations are located.
+	 * @return an {@link Optional} of an {@link IProtocolExtension} instance.
+	 */
+	private Optional<IProtocolExtension> resolveCriterionExtension(
+		final Class<? extends Criterion> criterionType,
+		final TelemetryManager telemetryManager
+	) {
+		final List<IProtocolExtension> criterionExtensions = findConfiguredExtensions(telemetryManager)
 			.stream()
-			.filter(extension ->
-				telemetryManager
-					.getHostConfiguration()
-					.getConfigurations()
-					.values()
-					.stream()
-					.anyMatch(extension::isValidConfiguration)
-			)
-			.filter(extension -> extension.getSupportedCriteria().contains(criterion.getClass()))
+			.filter(extension -> extension.getSupportedCriteria().contains(criterionType))
 			.toList();
 
 		return filterWithBusinessLogic(telemetryManager, criterionExtensions);
@@ -189,29 +203,41 @@ public class ExtensionManager {
 		final Source source,
 		final TelemetryManager telemetryManager
 	) {
-		final List<IProtocolExtension> sourceExtensions = protocolExtensions
+		final ExecutionPlan executionPlan = getValidExecutionPlan(telemetryManager);
+		if (executionPlan != null) {
+			return executionPlan.findSourceExtension(source.getClass());
+		}
+
+		return resolveSourceExtension(source.getClass(), telemetryManager);
+	}
+
+	/**
+	 * Resolve the extension which satisfies the processing of the given source type according to the user's
+	 * configuration.
+	 *
+	 * @param sourceType       The class of the {@link Source}
+	 * @param telemetryManager {@link TelemetryManager} instance where the configurations are located.
+	 * @return an {@link Optional} of an {@link IProtocolExtension} instance.
+	 */
+	private Optional<IProtocolExtension> resolveSourceExtension(
+		final Class<? extends Source> sourceType,
+		final TelemetryManager telemetryManager
+	) {
+		final List<IProtocolExtension> sourceExtensions = findConfiguredExtensions(telemetryManager)
 			.stream()
-			.filter(extension ->
-				telemetryManager
-					.getHostConfiguration()
-					.getConfigurations()
-					.values()
-					.stream()
-					.anyMatch(extension::isValidConfiguration)
-			)
-			.filter(extension -> extension.getSupportedSources().contains(source.getClass()))
+			.filter(extension -> extension.getSupportedSources().contains(sourceType))
 			.toList();
 
 		return filterWithBusinessLogic(telemetryManager, sourceExtensions);
 	}
 
 	/**
-	 * Find the extensions that satisfy the protocol check according to the user's configuration.
+	 * Find the protocol extensions accepting at least one of the configurations of the host.
 	 *
 	 * @param telemetryManager {@link TelemetryManager} instance where the configurations are located.
 	 * @return a {@link List} of {@link IProtocolExtension} instances.
 	 */
-	public List<IProtocolExtension> findProtocolCheckExtensions(@NonNull TelemetryManager telemetryManager) {
+	private List<IProtocolExtension> findConfiguredExtensions(final TelemetryManager telemetryManager) {
 		return protocolExtensions
 			.stream()
 			.filter(extension ->
@@ -222,7 +248,71 @@ public class ExtensionManager {
 					.stream()
 					.anyMatch(extension::isValidConfiguration)
 			)
-			.collect(Collectors.toList());
+			.toList();
+	}
+
+	/**
+	 * Get the execution plan of the host if it has been resolved with the current host configurations.
+	 *
+	 * @param telemetryManager {@link TelemetryManager} instance where the execution plan is located.
+	 * @return the valid {@link ExecutionPlan} or {@code null}.
+	 */
+	private static ExecutionPlan getValidExecutionPlan(final TelemetryManager telemetryManager) {
+		final ExecutionPlan executionPlan = telemetryManager.getHostProperties().getExecutionPlan();
+		return executionPlan != null && executionPlan.isValidFor(telemetryManager) ? executionPlan : null;
+	}
+
+	/**
+	 * Build the execution plan of the given host: resolve once the protocol extension of each source and criterion
+	 * type supported by the extensions, according to the host configurations, the host type and the localhost
+	 * property.
+	 *
+	 * @param telemetryManager {@link TelemetryManager} instance where the configurations are located.
+	 * @return a new {@link ExecutionPlan}.
+	 */
+	public ExecutionPlan buildExecutionPlan(@NonNull final TelemetryManager telemetryManager) {
+		final Map<Class<? extends Source>, IProtocolExtension> sourceExtensions = new HashMap<>();
+		final Map<Class<? extends Criterion>, IProtocolExtension> criterionExtensions = new HashMap<>();
+
+		for (final IProtocolExtension extension : protocolExtensions) {
+			extension
+				.getSupportedSources()
+				.forEach(sourceType ->
+					sourceExtensions.computeIfAbsent(
+						sourceType,
+						type -> resolveSourceExtension(type, telemetryManager).orElse(null)
+					)
+				);
+			extension
+				.getSupportedCriteria()
+				.forEach(criterionType ->
+					criterionExtensions.computeIfAbsent(
+						criterionType,
+						type -> resolveCriterionExtension(type, telemetryManager).orElse(null)
+					)
+				);
+		}
+
+		return new ExecutionPlan(telemetryManager, sourceExtensions, criterionExtensions);
+	}
+
+	/**
+	 * Find the extensions that satisfy the protocol check according to the user's configuration.
+	 *
+	 * @param telemetryManager {@link TelemetryManager} instance where the configurations are located.
+	 * @return a {@link List} of {@link IProtocolExtension} instances.
+	 */
+	public List<IProtocolExtension> findProtocolCheckExtensions(@NonNull TelemetryManager telemetryManager) {
+		return new ArrayList<>(findConfiguredExtensions(telemetryManager));
+	}
+
+	/**
+	 * Release the resources held by the protocol extensions for the given resource.
+	 *
+	 * @param telemetryManager {@link TelemetryManager} instance of the resource.
+	 */
+	public void releaseResources(@NonNull TelemetryManager telemetryManager) {
+		protocolExtensions.forEach(extension -> extension.releaseResources(telemetryManager));
 	}
 
 	/**
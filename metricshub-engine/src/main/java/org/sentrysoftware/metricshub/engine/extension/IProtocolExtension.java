@@ -158,4 +158,15 @@ public interface IProtocolExtension {
 	 * @throws Exception if the query execution fails due to an error or unexpected condition.
 	 */
 	String executeQuery(IConfiguration configuration, JsonNode queryNode) throws Exception;
+
+	/**
+	 * Releases the resources held by this extension for the given resource, such as its persistent sessions or
+	 * processes. Called when the resource is no longer monitored, or before it is monitored again with a new
+	 * configuration.
+	 *
+	 * @param telemetryManager The {@link TelemetryManager} of the resource.
+	 */
+	default void releaseResources(TelemetryManager telemetryManager) {
+		// Nothing to release by default
+	}
 }
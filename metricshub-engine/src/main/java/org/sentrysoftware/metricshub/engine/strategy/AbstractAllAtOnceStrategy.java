@@ -53,12 +53,13 @@ import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.Abstrac
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.Discovery;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.Mapping;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.Simple;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.Source;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
-import org.sentrysoftware.metricshub.engine.strategy.source.OrderedSources;
 import org.sentrysoftware.metricshub.engine.strategy.source.SourceTable;
 import org.sentrysoftware.metricshub.engine.strategy.surrounding.AfterAllStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.surrounding.BeforeAllStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.utils.MappingProcessor;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
 import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
 import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
 import org.sentrysoftware.metricshub.engine.telemetry.MonitorFactory;
@@ -178,7 +179,14 @@ public abstract class AbstractAllAtOnceStrategy extends AbstractStrategy {
 
 			otherMonitorJobs
 				.entrySet()
-				.forEach(entry -> threadsPool.execute(() -> processMonitorJob(currentConnector, hostname, entry)));
+				.forEach(entry ->
+					threadsPool.execute(
+						EngineMetrics.trackPooledJob(
+							EngineMetrics.MONITOR_JOBS_POOL,
+							() -> processMonitorJob(currentConnector, hostname, entry)
+						)
+					)
+				);
 
 			// Order the shutdown
 			threadsPool.shutdown();
@@ -244,18 +252,15 @@ public abstract class AbstractAllAtOnceStrategy extends AbstractStrategy {
 			.build();
 
 		// Build the ordered sources
-		final OrderedSources orderedSources = OrderedSources
-			.builder()
-			.sources(
-				monitorTask.getSources(),
-				monitorTask.getExecutionOrder().stream().collect(Collectors.toList()), // NOSONAR
-				monitorTask.getSourceDep(),
-				jobInfo
-			)
-			.build();
+		final List<Source> orderedSources = getOrderedSources(
+			monitorTask.getSources(),
+			monitorTask.getExecutionOrder(),
+			monitorTask.getSourceDep(),
+			jobInfo
+		);
 
 		// Create the sources and the computes for a connector
-		processSourcesAndComputes(orderedSources.getSources(), jobInfo);
+		processSourcesAndComputes(orderedSources, jobInfo);
 
 		// Create the monitors
 		final Mapping mapping = monitorTask.getMapping();
@@ -27,10 +27,13 @@ import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubCons
 import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.STATE_SET_METRIC_OK;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -45,6 +48,7 @@ import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
 import org.sentrysoftware.metricshub.engine.common.helpers.TextTableHelper;
 import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
 import org.sentrysoftware.metricshub.engine.connector.model.Connector;
+import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.SimpleMonitorJob;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.StandardMonitorJob;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.Source;
@@ -54,6 +58,7 @@ import org.sentrysoftware.metricshub.engine.strategy.detection.ConnectorSelectio
 import org.sentrysoftware.metricshub.engine.strategy.detection.ConnectorTestResult;
 import org.sentrysoftware.metricshub.engine.strategy.detection.CriterionTestResult;
 import org.sentrysoftware.metricshub.engine.strategy.source.ISourceProcessor;
+import org.sentrysoftware.metricshub.engine.strategy.source.OrderedSources;
 import org.sentrysoftware.metricshub.engine.strategy.source.SourceProcessor;
 import org.sentrysoftware.metricshub.engine.strategy.source.SourceTable;
 import org.sentrysoftware.metricshub.engine.strategy.source.SourceUpdaterProcessor;
@@ -62,6 +67,7 @@ import org.sentrysoftware.metricshub.engine.strategy.source.compute.ComputeUpdat
 import org.sentrysoftware.metricshub.engine.strategy.utils.ForceSerializationHelper;
 import org.sentrysoftware.metricshub.engine.strategy.utils.RetryOperation;
 import org.sentrysoftware.metricshub.engine.telemetry.ConnectorNamespace;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
 import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
 import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
@@ -95,6 +101,34 @@ public abstract class AbstractStrategy implements IStrategy {
 	 */
 	public static final String CONNECTOR_ID_FORMAT = "%s_%s";
 
+	/**
+	 * Get the sources of a job ordered using the execution order or the source dependency tree. The order is taken
+	 * from the host's {@link ExecutionPlan} when the detection has produced one.
+	 *
+	 * @param sources        Map of source instances of the job
+	 * @param executionOrder The source order defined by the connector
+	 * @param sourceDepTree  The source dependency tree built by the compiler on each monitor's job
+	 * @param jobInfo        Information about the job (discovery, collect, etc.) used for logging
+	 * @return the {@link List} of ordered sources
+	 */
+	protected List<Source> getOrderedSources(
+		final Map<String, Source> sources,
+		final Collection<String> executionOrder,
+		final List<Set<String>> sourceDepTree,
+		final JobInfo jobInfo
+	) {
+		final ExecutionPlan executionPlan = telemetryManager.getHostProperties().getExecutionPlan();
+		if (executionPlan != null) {
+			return executionPlan.getOrderedSources(sources, executionOrder, sourceDepTree, jobInfo);
+		}
+
+		return OrderedSources
+			.builder()
+			.sources(sources, executionOrder == null ? null : List.copyOf(executionOrder), sourceDepTree, jobInfo)
+			.build()
+			.getSources();
+	}
+
 	/**
 	 * Execute each source in the given list of sources then for each source table apply all the attached computes.
 	 * When the {@link SourceTable} is ready it is added to {@link TelemetryManager}
@@ -135,15 +169,37 @@ public abstract class AbstractStrategy implements IStrategy {
 
 		// Loop over all the sources and accept the SourceProcessor which is going to
 		// process the source
+		final ConnectorNamespace connectorNamespace = telemetryManager
+			.getHostProperties()
+			.getConnectorNamespace(connectorId);
+
 		for (final Source source : sources) {
 			final String sourceKey = source.getKey();
 
+			// The results of the mono-instance sources depend on the monitor, they are not cached
+			final long cacheTtlMillis = attributes == null ? getSourceCacheTtlMillis(source, connectorId) : 0;
+			if (cacheTtlMillis > 0) {
+				final Optional<SourceTable> maybeCachedSourceTable = connectorNamespace.getCachedSourceTable(
+					sourceKey,
+					strategyTime,
+					cacheTtlMillis
+				);
+				EngineMetrics.recordSourceCacheLookup(connectorId, maybeCachedSourceTable.isPresent());
+				if (maybeCachedSourceTable.isPresent()) {
+					log.debug(
+						"Hostname {} - Reusing the cached result of source {} - Connector {}.",
+						hostname,
+						sourceKey,
+						connectorId
+					);
+					connectorNamespace.addSourceTable(sourceKey, maybeCachedSourceTable.get());
+					continue;
+				}
+			}
+
 			logBeginOperation(SOURCE, source, sourceKey, connectorId, hostname);
 
-			final SourceTable previousSourceTable = telemetryManager
-				.getHostProperties()
-				.getConnectorNamespace(connectorId)
-				.getSourceTable(sourceKey);
+			final SourceTable previousSourceTable = connectorNamespace.getSourceTable(sourceKey);
 
 			// Execute the source and retry the operation
 			// in case the source fails but the previous source table didn't fail
@@ -171,6 +227,12 @@ public abstract class AbstractStrategy implements IStrategy {
 				sourceTable = SourceTable.builder().rawData(sourceTable.getRawData()).table(new ArrayList<>()).build();
 			}
 
+			EngineMetrics.recordSourceTable(
+				connectorId,
+				sourceTable.getTable() != null ? sourceTable.getTable().size() : 0,
+				sourceTable.getRawData() != null ? sourceTable.getRawData().length() : 0
+			);
+
 			// log the source table
 			logSourceTable(SOURCE, source.getClass().getSimpleName(), sourceKey, connectorId, sourceTable, hostname);
 
@@ -178,7 +240,7 @@ public abstract class AbstractStrategy implements IStrategy {
 
 			// Add the source table and stop if no compute is found
 			if (computes == null || computes.isEmpty()) {
-				telemetryManager.getHostProperties().getConnectorNamespace(connectorId).addSourceTable(sourceKey, sourceTable);
+				addSourceTable(connectorNamespace, sourceKey, sourceTable, cacheTtlMillis);
 				continue;
 			}
 
@@ -223,13 +285,57 @@ public abstract class AbstractStrategy implements IStrategy {
 				);
 			}
 
-			telemetryManager
-				.getHostProperties()
-				.getConnectorNamespace(connectorId)
-				.addSourceTable(sourceKey, computeProcessor.getSourceTable());
+			addSourceTable(connectorNamespace, sourceKey, computeProcessor.getSourceTable(), cacheTtlMillis);
 		}
 	}
 
+	/**
+	 * Add the given source table to the connector namespace, and cache it if the source defines a time to live and the
+	 * source table is not empty.
+	 *
+	 * @param connectorNamespace The namespace of the connector defining the source
+	 * @param sourceKey          The key of the source
+	 * @param sourceTable        The source table produced by the source and its computes
+	 * @param cacheTtlMillis     The time to live of the source result in milliseconds, 0 if it is not cached
+	 */
+	private void addSourceTable(
+		final ConnectorNamespace connectorNamespace,
+		final String sourceKey,
+		final SourceTable sourceTable,
+		final long cacheTtlMillis
+	) {
+		connectorNamespace.addSourceTable(sourceKey, sourceTable);
+
+		if (cacheTtlMillis > 0 && !sourceTable.isEmpty()) {
+			connectorNamespace.cacheSourceTable(sourceKey, sourceTable, strategyTime);
+		}
+	}
+
+	/**
+	 * Get the time to live of the given source result, defined by the source itself or by default for the whole
+	 * connector.
+	 *
+	 * @param source      The source
+	 * @param connectorId The identifier of the connector defining the source
+	 * @return the time to live in milliseconds, 0 if the source result is not cached
+	 */
+	private long getSourceCacheTtlMillis(final Source source, final String connectorId) {
+		Long cacheTtl = source.getCacheTtl();
+
+		if (cacheTtl == null) {
+			final ConnectorStore connectorStore = telemetryManager.getConnectorStore();
+			final Connector connector = connectorStore != null && connectorStore.getStore() != null
+				? connectorStore.getStore().get(connectorId)
+				: null;
+			cacheTtl =
+				connector != null && connector.getConnectorIdentity() != null
+					? connector.getConnectorIdentity().getSourceCacheTtl()
+					: null;
+		}
+
+		return cacheTtl != null && cacheTtl > 0 ? TimeUnit.SECONDS.toMillis(cacheTtl) : 0;
+	}
+
 	/**
 	 * Whether the given source table is empty or not
 	 *
@@ -580,6 +686,7 @@ public abstract class AbstractStrategy implements IStrategy {
 		final long jobStartTime,
 		final long jobEndTime
 	) {
+		EngineMetrics.recordJobDuration(jobName, monitorType, connectorId, jobStartTime, jobEndTime);
 		setJobDurationMetric(
 			() -> generateJobDurationMetricKey(jobName, monitorType, connectorId),
 			jobStartTime,
@@ -601,6 +708,7 @@ public abstract class AbstractStrategy implements IStrategy {
 		final long jobStartTime,
 		final long jobEndTime
 	) {
+		EngineMetrics.recordJobDuration(jobName, null, connectorId, jobStartTime, jobEndTime);
 		setJobDurationMetric(() -> generateJobDurationMetricKey(jobName, connectorId), jobStartTime, jobEndTime);
 	}
 
@@ -0,0 +1,182 @@
+package org.sentrysoftware.metricshub.engine.strategy;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.Getter;
+import lombok.NonNull;
+import org.sentrysoftware.metricshub.engine.common.JobInfo;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.configuration.IConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
+import org.sentrysoftware.metricshub.engine.connector.model.identity.criterion.Criterion;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.Source;
+import org.sentrysoftware.metricshub.engine.extension.IProtocolExtension;
+import org.sentrysoftware.metricshub.engine.strategy.source.OrderedSources;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+/**
+ * Execution plan of a host, produced by the detection and executed by the discovery and the collect.
+ * <p>
+ * The plan holds the protocol extension resolved for each source and criterion type according to the host
+ * configurations, the host type and the localhost property, so the extensions are not filtered again for each
+ * source execution. It also memoizes the ordered sources of each job, which only depend on the connector.
+ * The plan is only valid for the configurations it has been resolved with, it is replaced at each detection.
+ * </p>
+ */
+public class ExecutionPlan {
+
+	/**
+	 * Maximum number of jobs whose ordered sources are memoized
+	 */
+	static final int MAX_ORDERED_SOURCES_ENTRIES = 4096;
+
+	private final Map<Class<? extends IConfiguration>, IConfiguration> configurations;
+	private final DeviceKind hostType;
+	private final boolean localhost;
+
+	@Getter
+	private final Map<Class<? extends Source>, IProtocolExtension> sourceExtensions;
+
+	@Getter
+	private final Map<Class<? extends Criterion>, IProtocolExtension> criterionExtensions;
+
+	/**
+	 * Ordered sources of each job, identified by the instance of its source map
+	 */
+	private final Map<Map<String, Source>, List<Source>> orderedSources = new IdentityHashMap<>();
+
+	/**
+	 * Constructs a new {@code ExecutionPlan}.
+	 *
+	 * @param telemetryManager    The {@link TelemetryManager} of the host the extensions have been resolved for.
+	 * @param sourceExtensions    The protocol extension resolved for each source type.
+	 * @param criterionExtensions The protocol extension resolved for each criterion type.
+	 */
+	public ExecutionPlan(
+		@NonNull final TelemetryManager telemetryManager,
+		@NonNull final Map<Class<? extends Source>, IProtocolExtension> sourceExtensions,
+		@NonNull final Map<Class<? extends Criterion>, IProtocolExtension> criterionExtensions
+	) {
+		final HostConfiguration hostConfiguration = telemetryManager.getHostConfiguration();
+		this.configurations = hostConfiguration.getConfigurations();
+		this.hostType = hostConfiguration.getHostType();
+		this.localhost = telemetryManager.getHostProperties().isLocalhost();
+		this.sourceExtensions = Map.copyOf(sourceExtensions);
+		this.criterionExtensions = Map.copyOf(criterionExtensions);
+	}
+
+	/**
+	 * Whether the extensions of this plan have been resolved with the current configurations of the given host.
+	 *
+	 * @param telemetryManager The {@link TelemetryManager} of the host.
+	 * @return {@code true} if the plan can be used to find the extensions of the host.
+	 */
+	public boolean isValidFor(@NonNull final TelemetryManager telemetryManager) {
+		final HostConfiguration hostConfiguration = telemetryManager.getHostConfiguration();
+		// CHECKSTYLE:OFF
+		return (
+			hostConfiguration != null &&
+			hostConfiguration.getConfigurations() == configurations &&
+			hostConfiguration.getHostType() == hostType &&
+			telemetryManager.getHostProperties().isLocalhost() == localhost
+		);
+		// CHECKSTYLE:ON
+	}
+
+	/**
+	 * Find the protocol extension resolved for the given source type.
+	 *
+	 * @param sourceType The class of the {@link Source}.
+	 * @return an {@link Optional} of an {@link IProtocolExtension} instance, empty if no extension supports the type.
+	 */
+	public Optional<IProtocolExtension> findSourceExtension(final Class<? extends Source> sourceType) {
+		return Optional.ofNullable(sourceExtensions.get(sourceType));
+	}
+
+	/**
+	 * Find the protocol extension resolved for the given criterion type.
+	 *
+	 * @param criterionType The class of the {@link Criterion}.
+	 * @return an {@link Optional} of an {@link IProtocolExtension} instance, empty if no extension supports the type.
+	 */
+	public Optional<IProtocolExtension> findCriterionExtension(final Class<? extends Criterion> criterionType) {
+		return Optional.ofNullable(criterionExtensions.get(criterionType));
+	}
+
+	/**
+	 * Get the sources of a job ordered using the execution order or the source dependency tree.
+	 * The order is computed the first time the job is executed.
+	 *
+	 * @param sources        Map of source instances of the job
+	 * @param executionOrder The source order defined by the connector
+	 * @param sourceDepTree  The source dependency tree built by the compiler on each monitor's job
+	 * @param jobInfo        Information about the job (discovery, collect, etc.) used for logging
+	 * @return an unmodifiable {@link List} of the ordered sources
+	 */
+	public List<Source> getOrderedSources(
+		final Map<String, Source> sources,
+		final Collection<String> executionOrder,
+		final List<Set<String>> sourceDepTree,
+		final JobInfo jobInfo
+	) {
+		if (sources == null) {
+			return List.of();
+		}
+
+		synchronized (orderedSources) {
+			final List<Source> ordered = orderedSources.get(sources);
+			if (ordered != null) {
+				return ordered;
+			}
+		}
+
+		final List<Source> ordered = Collections.unmodifiableList(
+			OrderedSources
+				.builder()
+				.sources(
+					sources,
+					executionOrder == null ? null : List.copyOf(executionOrder),
+					sourceDepTree,
+					jobInfo
+				)
+				.build()
+				.getSources()
+		);
+
+		synchronized (orderedSources) {
+			if (orderedSources.size() >= MAX_ORDERED_SOURCES_ENTRIES) {
+				orderedSources.clear();
+			}
+			orderedSources.put(sources, ordered);
+		}
+
+		return ordered;
+	}
+}
@@ -0,0 +1,156 @@
+package org.sentrysoftware.metricshub.engine.strategy.alert;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_HW_PARENT_ID;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sentrysoftware.metricshub.engine.alert.AlertInfo;
+import org.sentrysoftware.metricshub.engine.alert.AlertRule;
+import org.sentrysoftware.metricshub.engine.alert.IAlertListener;
+import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
+import org.sentrysoftware.metricshub.engine.strategy.IStrategy;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
+
+/**
+ * Evaluates the alert rules of the monitors after the collect, on the host where the metrics are collected.<br>
+ * The rules of a monitor are indexed by metric name, only the rules of the metrics updated by the current collect
+ * are evaluated. The alerts raised and cleared by the evaluation are reported to the {@link IAlertListener}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Data
+public class AlertEvaluationStrategy implements IStrategy {
+
+	@NonNull
+	private TelemetryManager telemetryManager;
+
+	@NonNull
+	private Long strategyTime;
+
+	@NonNull
+	private IAlertListener alertListener;
+
+	@Override
+	public void run() {
+		for (Map<String, Monitor> monitors : telemetryManager.getMonitors().values()) {
+			for (Monitor monitor : monitors.values()) {
+				final Map<String, List<AlertRule>> alertRules = monitor.getAlertRules();
+				if (alertRules != null && !alertRules.isEmpty()) {
+					alertRules.forEach((metricName, rules) -> evaluateMetricRules(monitor, metricName, rules));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evaluate the alert rules of the given metric if the metric has been updated by the current collect.
+	 *
+	 * @param monitor    The monitor of the metric.
+	 * @param metricName The name of the metric.
+	 * @param rules      The alert rules of the metric.
+	 */
+	void evaluateMetricRules(final Monitor monitor, final String metricName, final List<AlertRule> rules) {
+		if (rules == null || !isUpdated(monitor, metricName)) {
+			return;
+		}
+
+		for (AlertRule rule : rules) {
+			if (rule.getAlertInfo() == null) {
+				rule.setAlertInfo(buildAlertInfo(rule, monitor, metricName));
+			}
+			if (rule.getTrigger() == null) {
+				rule.setTrigger(alertListener::onAlertTriggered);
+			}
+
+			final boolean wasTriggered = rule.isTriggered();
+			try {
+				rule.evaluate(monitor);
+			} catch (Exception e) {
+				log.debug(
+					"Hostname {} - Failed to evaluate the alert rule of metric {} on monitor {}.",
+					telemetryManager.getHostname(),
+					metricName,
+					monitor.getId(),
+					e
+				);
+				continue;
+			}
+
+			if (wasTriggered && !rule.isTriggered()) {
+				alertListener.onAlertResolved(rule.getAlertInfo());
+			}
+		}
+	}
+
+	/**
+	 * Check whether the given metric has been updated by the current collect. When the metric name has no attributes,
+	 * any variant of the metric may be updated. E.g. <code>hw.status{state="failed"}</code> for <code>hw.status</code>.
+	 *
+	 * @param monitor    The monitor of the metric.
+	 * @param metricName The name of the metric, with or without attributes.
+	 * @return <code>true</code> if the metric or one of its variants has been updated.
+	 */
+	private static boolean isUpdated(final Monitor monitor, final String metricName) {
+		final AbstractMetric metric = monitor.getMetric(metricName);
+		if (metric != null) {
+			return metric.isUpdated();
+		}
+		return monitor.getMetricsByName(metricName).stream().anyMatch(AbstractMetric::isUpdated);
+	}
+
+	/**
+	 * Build the information reported with the alerts of the given rule.
+	 *
+	 * @param rule       The alert rule.
+	 * @param monitor    The monitor of the rule.
+	 * @param metricName The name of the metric checked by the rule.
+	 * @return a new {@link AlertInfo} instance.
+	 */
+	private AlertInfo buildAlertInfo(final AlertRule rule, final Monitor monitor, final String metricName) {
+		final DeviceKind hostType = telemetryManager.getHostConfiguration().getHostType();
+		return AlertInfo
+			.builder()
+			.alertRule(rule)
+			.monitor(monitor)
+			.metricName(metricName)
+			.hostname(telemetryManager.getHostname())
+			.hostType(hostType != null ? hostType.name() : null)
+			.parentMonitor(
+				monitor.getAttribute(MONITOR_ATTRIBUTE_HW_PARENT_ID) != null ? telemetryManager.findParentMonitor(monitor) : null
+			)
+			.build();
+	}
+
+	@Override
+	public long getStrategyTimeout() {
+		return telemetryManager.getHostConfiguration().getStrategyTimeout();
+	}
+}
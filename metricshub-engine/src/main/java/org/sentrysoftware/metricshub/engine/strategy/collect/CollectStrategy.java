@@ -29,6 +29,7 @@ import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubCons
 import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.THREAD_TIMEOUT;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.sentrysoftware.metricshub.engine.client.ClientsExecutor;
 import org.sentrysoftware.metricshub.engine.common.ConnectorMonitorTypeComparator;
 import org.sentrysoftware.metricshub.engine.common.JobInfo;
+import org.sentrysoftware.metricshub.engine.common.helpers.JUtils;
 import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
 import org.sentrysoftware.metricshub.engine.connector.model.Connector;
 import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
@@ -54,13 +56,14 @@ import org.sentrysoftware.metricshub.engine.connector.model.monitor.StandardMoni
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.AbstractCollect;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.Mapping;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.MultiInstanceCollect;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.Source;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
 import org.sentrysoftware.metricshub.engine.strategy.AbstractStrategy;
-import org.sentrysoftware.metricshub.engine.strategy.source.OrderedSources;
 import org.sentrysoftware.metricshub.engine.strategy.source.SourceTable;
 import org.sentrysoftware.metricshub.engine.strategy.surrounding.AfterAllStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.surrounding.BeforeAllStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.utils.MappingProcessor;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
 import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
 import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
@@ -85,6 +88,8 @@ import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 public class CollectStrategy extends AbstractStrategy {
 
 	private static final String JOB_NAME = "collect";
+	private static final String INVENTORY_KEY_SEPARATOR = "\u001F";
+	private static final String INVENTORY_INSTANCE_SEPARATOR = "\u001E";
 
 	/**
 	 * Constructs a new {@code CollectStrategy} using the provided telemetry manager, strategy time, and
@@ -190,7 +195,14 @@ public class CollectStrategy extends AbstractStrategy {
 
 			otherMonitorJobs
 				.entrySet()
-				.forEach(entry -> threadsPool.execute(() -> processMonitorJob(currentConnector, hostname, entry)));
+				.forEach(entry ->
+					threadsPool.execute(
+						EngineMetrics.trackPooledJob(
+							EngineMetrics.MONITOR_JOBS_POOL,
+							() -> processMonitorJob(currentConnector, hostname, entry)
+						)
+					)
+				);
 
 			// Order the shutdown
 			threadsPool.shutdown();
@@ -254,10 +266,12 @@ public class CollectStrategy extends AbstractStrategy {
 				.build();
 
 			// Build the ordered sources
-			final OrderedSources orderedSources = OrderedSources
-				.builder()
-				.sources(collect.getSources(), collect.getExecutionOrder().stream().toList(), collect.getSourceDep(), jobInfo)
-				.build();
+			final List<Source> orderedSources = getOrderedSources(
+				collect.getSources(),
+				collect.getExecutionOrder(),
+				collect.getSourceDep(),
+				jobInfo
+			);
 
 			if (collect instanceof MultiInstanceCollect multiInstanceCollect) {
 				final Map<String, Monitor> monitors = telemetryManager.findMonitorsByType(monitorType);
@@ -266,7 +280,7 @@ public class CollectStrategy extends AbstractStrategy {
 				}
 
 				// Create the sources and the computes for a connector
-				processSourcesAndComputes(orderedSources.getSources(), jobInfo);
+				processSourcesAndComputes(orderedSources, jobInfo);
 
 				// Retrieve monitor job keys
 				final Set<String> monitorJobKeys = monitorJob.getValue().getKeys();
@@ -283,7 +297,7 @@ public class CollectStrategy extends AbstractStrategy {
 							currentConnector.getCompiledFilename().equals(monitor.getAttribute(MONITOR_ATTRIBUTE_CONNECTOR_ID))
 						)
 						.forEach(monitor -> {
-							processSourcesAndComputes(orderedSources.getSources(), monitor.getAttributes(), jobInfo);
+							processSourcesAndComputes(orderedSources, monitor.getAttributes(), jobInfo);
 							processMonitors(monitorType, collect.getMapping(), currentConnector, hostname, monitor);
 						});
 				}
@@ -403,6 +417,9 @@ public class CollectStrategy extends AbstractStrategy {
 
 		final Map<String, Monitor> sameTypeMonitors = telemetryManager.findMonitorsByType(monitorType);
 
+		// In case of multi-instance, the key values of the collected instances make up the inventory of the collect
+		final Set<List<String>> inventory = maybeMonitor.isEmpty() ? new HashSet<>() : null;
+
 		// Loop over the source table rows
 		for (int i = 0; i < rowCountLimit; i++) {
 			final List<String> row = table.get(i);
@@ -428,14 +445,11 @@ public class CollectStrategy extends AbstractStrategy {
 
 			// In case of multi-instance, maybeMonitor is empty. So, we try to find it by type, connector id and attribute keys
 			maybeMonitor
-				.or(() ->
-					findMonitor(
-						connectorId,
-						sameTypeMonitors,
-						mappingProcessor.interpretNonContextMappingAttributes(),
-						attributeKeys
-					)
-				)
+				.or(() -> {
+					final Map<String, String> collectedAttributeValues = mappingProcessor.interpretNonContextMappingAttributes();
+					inventory.add(attributeKeys.stream().map(collectedAttributeValues::get).toList());
+					return findMonitor(connectorId, sameTypeMonitors, collectedAttributeValues, attributeKeys);
+				})
 				.ifPresent(monitor -> {
 					// Collect metrics
 					final Map<String, String> metrics = mappingProcessor.interpretNonContextMappingMetrics();
@@ -459,6 +473,28 @@ public class CollectStrategy extends AbstractStrategy {
 					monitor.addLegacyParameters(mappingProcessor.interpretContextMappingLegacyTextParameters(monitor));
 				});
 		}
+
+		// Record the inventory, a change since the last discovery means that instances have been added or removed
+		if (inventory != null) {
+			telemetryManager.getHostProperties().updateCollectInventory(connectorId, monitorType, digestInventory(inventory));
+		}
+	}
+
+	/**
+	 * Compute the SHA-256 digest of the given inventory. The instance keys are sorted so that the digest doesn't depend
+	 * on the order of the rows returned by the source.
+	 *
+	 * @param inventory The key values of the collected instances
+	 * @return the digest of the inventory in hexadecimal format
+	 */
+	static String digestInventory(final Set<List<String>> inventory) {
+		return JUtils.encodeSha256(
+			inventory
+				.stream()
+				.map(keys -> keys.stream().map(String::valueOf).collect(Collectors.joining(INVENTORY_KEY_SEPARATOR)))
+				.sorted()
+				.collect(Collectors.joining(INVENTORY_INSTANCE_SEPARATOR))
+		);
 	}
 
 	/**
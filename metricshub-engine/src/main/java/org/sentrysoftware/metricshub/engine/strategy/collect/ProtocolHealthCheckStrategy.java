@@ -21,16 +21,28 @@ package org.sentrysoftware.metricshub.engine.strategy.collect;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.MAX_THREADS_COUNT;
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.THREAD_TIMEOUT;
+
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import lombok.Builder;
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 import org.sentrysoftware.metricshub.engine.client.ClientsExecutor;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
 import org.sentrysoftware.metricshub.engine.extension.IProtocolExtension;
 import org.sentrysoftware.metricshub.engine.strategy.AbstractStrategy;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
 import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
 import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.ProtocolRequestLimiter;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
 
 /**
  * A strategy that aims to perform health check over a hostname on each protocol
@@ -42,7 +54,13 @@ import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
  * and a metric is generated for each protocol indicating whether it is
  * responding or not.
  * </p>
+ * <p>
+ * The protocols are checked concurrently, unless the resource is configured for a sequential execution,
+ * so an unreachable host costs a single timeout. The sources of a protocol reported down are skipped for
+ * the rest of the cycle, see {@link #isProtocolDown(TelemetryManager, String)}.
+ * </p>
  */
+@Slf4j
 public class ProtocolHealthCheckStrategy extends AbstractStrategy {
 
 	/**
@@ -90,38 +108,122 @@ public class ProtocolHealthCheckStrategy extends AbstractStrategy {
 	public void run() {
 		// Call the extensions to check the protocol health
 		final List<IProtocolExtension> protocolExtensions = extensionManager.findProtocolCheckExtensions(telemetryManager);
+		final String hostname = telemetryManager.getHostname();
+
+		final Map<String, ProtocolCheckResult> results = new ConcurrentHashMap<>();
+
+		if (telemetryManager.getHostConfiguration().isSequential() || protocolExtensions.size() < 2) {
+			protocolExtensions.forEach(protocolExtension -> checkProtocol(protocolExtension, results));
+		} else {
+			final ExecutorService threadsPool = Executors.newFixedThreadPool(
+				Math.min(protocolExtensions.size(), MAX_THREADS_COUNT)
+			);
+
+			protocolExtensions.forEach(protocolExtension ->
+				threadsPool.execute(() -> checkProtocol(protocolExtension, results))
+			);
+
+			// Order the shutdown
+			threadsPool.shutdown();
 
-		// CHECKSTYLE:OFF
-		protocolExtensions.forEach(protocolExtension -> {
-			// Record the start time before launching protocol checks
-			final long startTime = System.currentTimeMillis();
-			protocolExtension
-				.checkProtocol(telemetryManager)
-				.ifPresent(isUp -> {
-					// Calculate the response time of each protocol check.
-					final Double responseTime = (System.currentTimeMillis() - startTime) / 1000.0;
-					final Monitor endpointHostMonitor = telemetryManager.getEndpointHostMonitor();
-					final Long strategyTime = telemetryManager.getStrategyTime();
-					MetricFactory metricFactory = new MetricFactory();
-					// Collect protocol check metric
-					metricFactory.collectNumberMetric(
-						endpointHostMonitor,
-						UP_METRIC_FORMAT.formatted(protocolExtension.getIdentifier()),
-						Boolean.TRUE.equals(isUp) ? UP : DOWN,
-						strategyTime
-					);
-					// Collect protocol check response time metric
-					metricFactory.collectNumberMetric(
-						endpointHostMonitor,
-						RESPONSE_TIME_METRIC_FORMAT.formatted(protocolExtension.getIdentifier()),
-						responseTime,
-						strategyTime
-					);
-				});
+			try {
+				// Blocks until all the protocol checks have completed execution after a shutdown request
+				threadsPool.awaitTermination(THREAD_TIMEOUT, TimeUnit.SECONDS);
+			} catch (Exception e) {
+				if (e instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+				log.debug("Hostname {} - Waiting for protocol health checks termination aborted with an error.", hostname, e);
+			}
+		}
+
+		// The metrics are collected by the current thread as the monitor metrics are not thread-safe
+		final Monitor endpointHostMonitor = telemetryManager.getEndpointHostMonitor();
+		final Long strategyTime = telemetryManager.getStrategyTime();
+		final MetricFactory metricFactory = new MetricFactory();
+		results.forEach((protocol, result) -> {
+			// Collect protocol check metric
+			metricFactory.collectNumberMetric(
+				endpointHostMonitor,
+				UP_METRIC_FORMAT.formatted(protocol),
+				result.isUp() ? UP : DOWN,
+				strategyTime
+			);
+			// Collect protocol check response time metric
+			metricFactory.collectNumberMetric(
+				endpointHostMonitor,
+				RESPONSE_TIME_METRIC_FORMAT.formatted(protocol),
+				result.responseTime(),
+				strategyTime
+			);
 		});
-		// CHECKSTYLE:ON
 	}
 
+	/**
+	 * Check the given protocol within the limits of the {@link ProtocolRequestLimiter} and store the result.
+	 *
+	 * @param protocolExtension The protocol extension performing the check.
+	 * @param results           The results of the protocol checks, indexed by protocol identifier.
+	 */
+	private void checkProtocol(
+		final IProtocolExtension protocolExtension,
+		final Map<String, ProtocolCheckResult> results
+	) {
+		final String protocol = protocolExtension.getIdentifier();
+		ProtocolRequestLimiter
+			.getInstance()
+			.run(
+				telemetryManager.getHostname(),
+				protocol,
+				() -> {
+					// Record the start time before launching protocol checks
+					final long startTime = System.currentTimeMillis();
+					final long startNano = System.nanoTime();
+					protocolExtension
+						.checkProtocol(telemetryManager)
+						.ifPresent(isUp -> {
+							EngineMetrics.recordRequest(protocol, startNano, Boolean.TRUE.equals(isUp));
+							// Calculate the response time of each protocol check.
+							results.put(
+								protocol,
+								new ProtocolCheckResult(Boolean.TRUE.equals(isUp), (System.currentTimeMillis() - startTime) / 1000.0)
+							);
+						});
+				}
+			);
+	}
+
+	/**
+	 * Whether the given protocol has been reported down by the health check of the current cycle.
+	 * A down status collected during a previous cycle is ignored, the protocol is checked again at each cycle.
+	 *
+	 * @param telemetryManager The telemetry manager of the resource.
+	 * @param protocol         The protocol identifier.
+	 * @return {@code true} if the protocol is down for the current cycle.
+	 */
+	public static boolean isProtocolDown(final TelemetryManager telemetryManager, final String protocol) {
+		final Monitor endpointHostMonitor = telemetryManager.getEndpointHostMonitor();
+		final Long strategyTime = telemetryManager.getStrategyTime();
+		if (endpointHostMonitor == null || strategyTime == null) {
+			return false;
+		}
+
+		final NumberMetric upMetric = endpointHostMonitor.getMetric(
+			UP_METRIC_FORMAT.formatted(protocol),
+			NumberMetric.class
+		);
+
+		return upMetric != null && strategyTime.equals(upMetric.getCollectTime()) && DOWN.equals(upMetric.getValue());
+	}
+
+	/**
+	 * The result of a protocol check.
+	 *
+	 * @param isUp         Whether the protocol is responding.
+	 * @param responseTime The response time of the check in seconds.
+	 */
+	private record ProtocolCheckResult(boolean isUp, double responseTime) {}
+
 	@Override
 	public long getStrategyTimeout() {
 		return telemetryManager.getHostConfiguration().getStrategyTimeout();
@@ -51,6 +51,7 @@ import org.sentrysoftware.metricshub.engine.connector.model.monitor.SimpleMonito
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.StandardMonitorJob;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
 import org.sentrysoftware.metricshub.engine.strategy.utils.ForceSerializationHelper;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
 /**
@@ -142,7 +143,11 @@ public abstract class AbstractConnectorProcessor {
 		final ExecutorService threadsPool = Executors.newFixedThreadPool(MAX_THREADS_COUNT);
 
 		connectors.forEach(connector ->
-			threadsPool.execute(() -> connectorTestResultsSynchronized.add(runConnectorDetectionCriteria(connector, hostname))
+			threadsPool.execute(
+				EngineMetrics.trackPooledJob(
+					EngineMetrics.CONNECTOR_DETECTION_POOL,
+					() -> connectorTestResultsSynchronized.add(runConnectorDetectionCriteria(connector, hostname))
+				)
 			)
 		);
 
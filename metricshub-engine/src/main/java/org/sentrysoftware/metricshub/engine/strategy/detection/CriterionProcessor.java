@@ -52,6 +52,8 @@ import org.sentrysoftware.metricshub.engine.connector.model.identity.criterion.W
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
 import org.sentrysoftware.metricshub.engine.extension.IProtocolExtension;
 import org.sentrysoftware.metricshub.engine.strategy.utils.CriterionProcessVisitor;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
+import org.sentrysoftware.metricshub.engine.telemetry.ProtocolRequestLimiter;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
 /**
@@ -364,7 +366,13 @@ public class CriterionProcessor {
 		);
 		return maybeExtension
 			.map(extension -> {
-				CriterionTestResult result = extension.processCriterion(criterion, connectorId, telemetryManager);
+				final CriterionTestResult result = ProtocolRequestLimiter
+					.getInstance()
+					.execute(
+						telemetryManager.getHostname(),
+						extension.getIdentifier(),
+						() -> processCriterionAndRecordRequest(extension, criterion)
+					);
 				if (result != null) {
 					result.setCriterion(criterion);
 				}
@@ -373,6 +381,27 @@ public class CriterionProcessor {
 			.orElseGet(CriterionTestResult::empty);
 	}
 
+	/**
+	 * Processes the given {@link Criterion} through the given protocol extension and records the request latency.
+	 *
+	 * @param extension The protocol extension processing the criterion.
+	 * @param criterion The criterion to process.
+	 * @return The {@link CriterionTestResult} returned by the extension.
+	 */
+	private CriterionTestResult processCriterionAndRecordRequest(
+		final IProtocolExtension extension,
+		final Criterion criterion
+	) {
+		final long startNano = System.nanoTime();
+		CriterionTestResult result = null;
+		try {
+			result = extension.processCriterion(criterion, connectorId, telemetryManager);
+			return result;
+		} finally {
+			EngineMetrics.recordRequest(extension.getIdentifier(), startNano, result != null && result.getException() == null);
+		}
+	}
+
 	/**
 	 * Process the given {@link SnmpGetNextCriterion} through Client and return the {@link CriterionTestResult}
 	 *
@@ -122,6 +122,9 @@ public class DetectionStrategy extends AbstractStrategy {
 				.allMatch(config -> NetworkHelper.isLocalhost(config.getHostname()))
 		);
 
+		// Resolve once the extensions of the sources and criteria, the discovery and the collect will execute this plan
+		hostProperties.setExecutionPlan(extensionManager.buildExecutionPlan(telemetryManager));
+
 		// Get the configured connector
 		final String configuredConnectorId = hostConfiguration.getConfiguredConnectorId();
 
@@ -31,6 +31,7 @@ import org.sentrysoftware.metricshub.engine.connector.model.monitor.StandardMoni
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.AbstractMonitorTask;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
 import org.sentrysoftware.metricshub.engine.strategy.AbstractAllAtOnceStrategy;
+import org.sentrysoftware.metricshub.engine.telemetry.ConnectorNamespace;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
 /**
@@ -65,6 +66,18 @@ public class DiscoveryStrategy extends AbstractAllAtOnceStrategy {
 		super(telemetryManager, strategyTime, clientsExecutor, extensionManager);
 	}
 
+	@Override
+	public void run() {
+		// The discovery executes again the sources whose results are cached
+		telemetryManager
+			.getHostProperties()
+			.getConnectorNamespaces()
+			.values()
+			.forEach(ConnectorNamespace::clearSourceTableCache);
+
+		super.run();
+	}
+
 	@Override
 	protected String getJobName() {
 		return JOB_NAME;
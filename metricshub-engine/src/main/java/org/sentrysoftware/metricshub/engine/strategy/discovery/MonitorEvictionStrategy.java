@@ -0,0 +1,221 @@
+package org.sentrysoftware.metricshub.engine.strategy.discovery;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_CONNECTOR_ID;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
+import org.sentrysoftware.metricshub.engine.strategy.IStrategy;
+import org.sentrysoftware.metricshub.engine.telemetry.ConnectorNamespace;
+import org.sentrysoftware.metricshub.engine.telemetry.IMonitorEvictionListener;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
+
+/**
+ * Evicts the monitors that have not been discovered during the given number of consecutive discovery cycles.<br>
+ * To be run after the discovery strategies, with the same strategy time: a monitor whose discovery time differs from
+ * the strategy time has not been discovered in this cycle and is counted as missing. Nothing is counted if the
+ * detection has not completed, and the monitors of a connector whose status is not OK, or which has not discovered
+ * any of its monitors in this cycle, are left untouched since their discovery has most likely failed. The endpoint
+ * host monitor is never evicted.<br>
+ * The metrics of an evicted monitor are published one last time as not updated, so that the exporters stop reporting
+ * them, and the {@link IMonitorEvictionListener} is notified. When a connector monitor is evicted, the connector
+ * namespace holding the source tables of the connector is released.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Data
+public class MonitorEvictionStrategy implements IStrategy {
+
+	@NonNull
+	private TelemetryManager telemetryManager;
+
+	@NonNull
+	private Long strategyTime;
+
+	/**
+	 * Number of consecutive discovery cycles after which a monitor that is not discovered is evicted
+	 */
+	private final int maxMissedDiscoveries;
+
+	private final IMonitorEvictionListener evictionListener;
+
+	@Override
+	public void run() {
+		if (maxMissedDiscoveries <= 0) {
+			return;
+		}
+
+		// The endpoint host monitor is created at the end of the detection, if it is not up to date the detection has
+		// not completed and nothing can be said about the other monitors
+		final Monitor endpointHostMonitor = telemetryManager.getEndpointHostMonitor();
+		if (endpointHostMonitor == null || !strategyTime.equals(endpointHostMonitor.getDiscoveryTime())) {
+			log.debug(
+				"Hostname {} - The detection has not completed. Skipping the eviction of the missing monitors.",
+				telemetryManager.getHostname()
+			);
+			return;
+		}
+
+		final List<Monitor> allMonitors = new ArrayList<>();
+		telemetryManager.getMonitors().values().stream().map(Map::values).forEach(allMonitors::addAll);
+
+		final Set<String> discoveringConnectors = findDiscoveringConnectors(allMonitors);
+
+		// The connector monitors are processed last, their namespace is still needed to check the status of the
+		// connector of the other monitors
+		final List<Monitor> connectorMonitors = new ArrayList<>();
+		for (Monitor monitor : allMonitors) {
+			if (KnownMonitorType.CONNECTOR.getKey().equals(monitor.getType())) {
+				connectorMonitors.add(monitor);
+			} else {
+				checkMonitor(monitor, discoveringConnectors);
+			}
+		}
+		connectorMonitors.forEach(monitor -> checkMonitor(monitor, discoveringConnectors));
+	}
+
+	/**
+	 * Find the connectors which have discovered at least one of their monitors, other than their connector monitor,
+	 * during this cycle, or whose connector monitor has not been discovered (the connector is no longer detected).
+	 *
+	 * @param allMonitors All the monitors of the telemetry manager.
+	 * @return The identifiers of the connectors whose discovery can be trusted.
+	 */
+	private Set<String> findDiscoveringConnectors(final Collection<Monitor> allMonitors) {
+		final Set<String> discoveringConnectors = new HashSet<>();
+		final Map<String, Boolean> connectorsRediscovered = new HashMap<>();
+		for (Monitor monitor : allMonitors) {
+			final String connectorId = monitor.getAttribute(MONITOR_ATTRIBUTE_CONNECTOR_ID);
+			if (connectorId == null || monitor.isEndpointHost()) {
+				continue;
+			}
+			final boolean rediscovered = strategyTime.equals(monitor.getDiscoveryTime());
+			if (KnownMonitorType.CONNECTOR.getKey().equals(monitor.getType())) {
+				connectorsRediscovered.put(connectorId, rediscovered);
+			} else if (rediscovered) {
+				discoveringConnectors.add(connectorId);
+			}
+		}
+		connectorsRediscovered.forEach((connectorId, rediscovered) -> {
+			if (!rediscovered) {
+				discoveringConnectors.add(connectorId);
+			}
+		});
+		return discoveringConnectors;
+	}
+
+	/**
+	 * Reset the missed discoveries of the given monitor if it has been discovered, otherwise count a missed discovery
+	 * and evict the monitor once the maximum is reached.
+	 *
+	 * @param monitor               The monitor to check.
+	 * @param discoveringConnectors The connectors whose discovery can be trusted.
+	 */
+	private void checkMonitor(final Monitor monitor, final Set<String> discoveringConnectors) {
+		if (monitor.isEndpointHost() || monitor.getDiscoveryTime() == null) {
+			return;
+		}
+
+		if (strategyTime.equals(monitor.getDiscoveryTime())) {
+			monitor.setMissedDiscoveries(0);
+			return;
+		}
+
+		final String connectorId = monitor.getAttribute(MONITOR_ATTRIBUTE_CONNECTOR_ID);
+		if (connectorId == null || !discoveringConnectors.contains(connectorId) || !isConnectorStatusOk(connectorId)) {
+			return;
+		}
+
+		monitor.setMissedDiscoveries(monitor.getMissedDiscoveries() + 1);
+		if (monitor.getMissedDiscoveries() >= maxMissedDiscoveries) {
+			evict(monitor, connectorId);
+		}
+	}
+
+	/**
+	 * Whether the status of the given connector is OK. A connector without namespace is no longer processed.
+	 *
+	 * @param connectorId The connector identifier.
+	 * @return <code>true</code> if the monitors of the connector can be evicted.
+	 */
+	private boolean isConnectorStatusOk(final String connectorId) {
+		final ConnectorNamespace connectorNamespace = telemetryManager
+			.getHostProperties()
+			.getConnectorNamespaces()
+			.get(connectorId);
+		return connectorNamespace == null || connectorNamespace.isStatusOk();
+	}
+
+	/**
+	 * Remove the given monitor from the telemetry manager, publish its metrics as not updated and notify the listener.
+	 *
+	 * @param monitor     The monitor to evict.
+	 * @param connectorId The identifier of the connector which discovered the monitor.
+	 */
+	private void evict(final Monitor monitor, final String connectorId) {
+		if (!telemetryManager.removeMonitor(monitor)) {
+			return;
+		}
+
+		log.info(
+			"Hostname {} - Evicting monitor {} of type {}, not discovered during the last {} discovery cycles.",
+			telemetryManager.getHostname(),
+			monitor.getId(),
+			monitor.getType(),
+			monitor.getMissedDiscoveries()
+		);
+
+		// The metrics are no longer collected, the observers still holding them must stop reporting them
+		for (AbstractMetric metric : monitor.getMetrics().values()) {
+			metric.save();
+			metric.publish();
+		}
+
+		if (KnownMonitorType.CONNECTOR.getKey().equals(monitor.getType())) {
+			synchronized (telemetryManager.getHostProperties().getConnectorNamespaces()) {
+				telemetryManager.getHostProperties().getConnectorNamespaces().remove(connectorId);
+			}
+		}
+
+		if (evictionListener != null) {
+			evictionListener.onMonitorEvicted(monitor);
+		}
+	}
+
+	@Override
+	public long getStrategyTimeout() {
+		return telemetryManager.getHostConfiguration().getStrategyTimeout();
+	}
+}
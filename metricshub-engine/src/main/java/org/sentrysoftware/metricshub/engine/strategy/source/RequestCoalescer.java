@@ -0,0 +1,297 @@
+package org.sentrysoftware.metricshub.engine.strategy.source;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.sentrysoftware.metricshub.engine.configuration.IConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.Source;
+import org.sentrysoftware.metricshub.engine.extension.IProtocolExtension;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+/**
+ * Coalesces the identical source requests sent by different resources to the same management endpoint.<br>
+ * Two requests are identical when they go through the same protocol extension, to the same endpoint, with the same
+ * credentials and the same fully expanded source (macros and source references already replaced). Only one of the
+ * concurrent identical requests is sent, the others wait for its result (single-flight), and a non-empty result is
+ * kept for a short time to answer the identical requests of the resources collected right after.<br>
+ * Each caller gets its own copy of the result, since the computes modify the source tables in place.
+ * <br>
+ * Nothing is coalesced until {@link #configure(boolean, long)} enables it.
+ */
+@Slf4j
+public class RequestCoalescer {
+
+	private static final RequestCoalescer INSTANCE = new RequestCoalescer();
+
+	/**
+	 * Number of entries above which the expired results are purged when a new request is registered
+	 */
+	private static final int PURGE_THRESHOLD = 256;
+
+	private final Map<RequestKey, Flight> flights = new ConcurrentHashMap<>();
+
+	private volatile boolean enabled;
+
+	private volatile long ttlNanos;
+
+	/**
+	 * Gets the static instance shared by all the resources
+	 *
+	 * @return the static instance of the coalescer
+	 */
+	public static RequestCoalescer getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Configures the coalescer and drops the results kept so far.
+	 *
+	 * @param enabled    Whether the identical requests are coalesced.
+	 * @param ttlSeconds Time in seconds during which a result is reused once its request has completed. A value lower
+	 *                   than or equal to zero only coalesces the concurrent requests.
+	 */
+	public synchronized void configure(final boolean enabled, final long ttlSeconds) {
+		this.enabled = enabled;
+		this.ttlNanos = Math.max(0, TimeUnit.SECONDS.toNanos(ttlSeconds));
+		flights.clear();
+	}
+
+	/**
+	 * Executes the given source request, unless an identical request is in flight or has completed less than the time
+	 * to live ago, in which case its result is returned instead.
+	 *
+	 * @param extension        The protocol extension processing the source.
+	 * @param source           The fully expanded source.
+	 * @param connectorId      The identifier of the connector defining the source.
+	 * @param telemetryManager The telemetry manager of the resource sending the request.
+	 * @param request          The request to execute if no identical result is available.
+	 * @return A copy of the {@link SourceTable} result, or <code>null</code> if the request returned <code>null</code>.
+	 */
+	public SourceTable execute(
+		@NonNull final IProtocolExtension extension,
+		@NonNull final Source source,
+		final String connectorId,
+		@NonNull final TelemetryManager telemetryManager,
+		@NonNull final Supplier<SourceTable> request
+	) {
+		if (!enabled) {
+			return request.get();
+		}
+
+		final RequestKey key = RequestKey.of(extension, source, connectorId, telemetryManager);
+		final long now = System.nanoTime();
+
+		final Flight existing = flights.get(key);
+		if (existing != null && !existing.isExpired(now)) {
+			EngineMetrics.recordCacheLookup(EngineMetrics.REQUEST_CACHE, true);
+			log.debug(
+				"Hostname {} - Reusing the result of an identical {} request for source {}.",
+				telemetryManager.getHostname(),
+				extension.getIdentifier(),
+				source.getKey()
+			);
+			return copy(existing.await());
+		}
+
+		final Flight flight = new Flight();
+		final Flight winner = existing == null
+			? flights.putIfAbsent(key, flight)
+			: flights.replace(key, existing, flight) ? null : flights.putIfAbsent(key, flight);
+
+		// Another resource registered the same request in the meantime
+		if (winner != null) {
+			EngineMetrics.recordCacheLookup(EngineMetrics.REQUEST_CACHE, true);
+			return copy(winner.await());
+		}
+
+		EngineMetrics.recordCacheLookup(EngineMetrics.REQUEST_CACHE, false);
+		purgeExpired(now);
+
+		SourceTable result = null;
+		try {
+			result = request.get();
+			return copy(result);
+		} finally {
+			flight.complete(result, ttlNanos);
+
+			// Failed requests are not kept, the next identical request is sent again
+			if (result == null || result.isEmpty() || ttlNanos == 0) {
+				flights.remove(key, flight);
+			}
+		}
+	}
+
+	/**
+	 * Removes the expired results once the number of entries exceeds {@link #PURGE_THRESHOLD}.
+	 *
+	 * @param now The current {@link System#nanoTime()} value.
+	 */
+	private void purgeExpired(final long now) {
+		if (flights.size() > PURGE_THRESHOLD) {
+			flights.values().removeIf(flight -> flight.isExpired(now));
+		}
+	}
+
+	/**
+	 * Deep copy of the table so that the computes of a resource do not modify the result shared with the others.
+	 *
+	 * @param sourceTable The source table to copy.
+	 * @return A new {@link SourceTable}, or <code>null</code> if the given table is <code>null</code>.
+	 */
+	static SourceTable copy(final SourceTable sourceTable) {
+		if (sourceTable == null) {
+			return null;
+		}
+
+		return SourceTable
+			.builder()
+			.table(
+				sourceTable.getTable() == null
+					? null
+					: sourceTable.getTable().stream().map(ArrayList::new).collect(Collectors.toList()) // NOSONAR
+			)
+			.headers(sourceTable.getHeaders() == null ? null : new ArrayList<>(sourceTable.getHeaders()))
+			.rawData(sourceTable.getRawData())
+			.build();
+	}
+
+	/**
+	 * A request in flight, or completed with the time until which its result can be reused
+	 */
+	private static class Flight {
+
+		private final CompletableFuture<SourceTable> result = new CompletableFuture<>();
+
+		/**
+		 * {@link System#nanoTime()} value after which the result is expired, set on completion
+		 */
+		private volatile long expiresAt;
+
+		/**
+		 * Completes the flight and starts its time to live.
+		 *
+		 * @param sourceTable The result of the request.
+		 * @param ttlNanos    The time to live of the result in nanoseconds.
+		 */
+		private void complete(final SourceTable sourceTable, final long ttlNanos) {
+			expiresAt = System.nanoTime() + ttlNanos;
+			result.complete(sourceTable);
+		}
+
+		/**
+		 * Whether the request has completed and its result can no longer be reused.
+		 *
+		 * @param now The current {@link System#nanoTime()} value.
+		 * @return <code>true</code> if the result is expired.
+		 */
+		private boolean isExpired(final long now) {
+			return result.isDone() && now - expiresAt >= 0;
+		}
+
+		/**
+		 * Waits for the result of the request.
+		 *
+		 * @return The result, or <code>null</code> if the current thread has been interrupted.
+		 */
+		private SourceTable await() {
+			try {
+				return result.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			} catch (ExecutionException e) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Identity of a request: protocol, endpoint, credentials and fully expanded source.<br>
+	 * The protocol configurations and the sources implement value equality, the credentials are therefore compared
+	 * without being exposed in the key.
+	 *
+	 * @param protocol       The identifier of the protocol extension.
+	 * @param endpoint       The hostname the request is sent to.
+	 * @param hostType       The type of the resource, which decides how some sources are executed.
+	 * @param connectorId    The connector defining the source, which owns the embedded files it references.
+	 * @param configurations The configurations of the resource handled by the protocol extension.
+	 * @param source         The fully expanded source.
+	 */
+	private record RequestKey(
+		String protocol,
+		String endpoint,
+		DeviceKind hostType,
+		String connectorId,
+		List<IConfiguration> configurations,
+		Source source
+	) {
+		/**
+		 * Builds the key of the given source request.
+		 *
+		 * @param extension        The protocol extension processing the source.
+		 * @param source           The fully expanded source.
+		 * @param connectorId      The identifier of the connector defining the source.
+		 * @param telemetryManager The telemetry manager of the resource sending the request.
+		 * @return a new {@link RequestKey}
+		 */
+		private static RequestKey of(
+			final IProtocolExtension extension,
+			final Source source,
+			final String connectorId,
+			final TelemetryManager telemetryManager
+		) {
+			final Map<Class<? extends IConfiguration>, IConfiguration> hostConfigurations = telemetryManager
+				.getHostConfiguration()
+				.getConfigurations();
+
+			final List<Class<? extends IConfiguration>> configurationTypes = extension
+				.getConfigurationToSourceMapping()
+				.keySet()
+				.stream()
+				.filter(hostConfigurations::containsKey)
+				.sorted((first, second) -> first.getName().compareTo(second.getName()))
+				.collect(Collectors.toList()); // NOSONAR
+
+			return new RequestKey(
+				extension.getIdentifier(),
+				telemetryManager.getHostname(configurationTypes),
+				telemetryManager.getHostConfiguration().getHostType(),
+				connectorId,
+				configurationTypes.stream().map(hostConfigurations::get).filter(Objects::nonNull).toList(),
+				source
+			);
+		}
+	}
+}
@@ -59,6 +59,9 @@ import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
 import org.sentrysoftware.metricshub.engine.extension.ICompositeSourceScriptExtension;
 import org.sentrysoftware.metricshub.engine.extension.IProtocolExtension;
 import org.sentrysoftware.metricshub.engine.extension.ISourceComputationExtension;
+import org.sentrysoftware.metricshub.engine.strategy.collect.ProtocolHealthCheckStrategy;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
+import org.sentrysoftware.metricshub.engine.telemetry.ProtocolRequestLimiter;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
 /**
@@ -148,10 +151,64 @@ public class SourceProcessor implements ISourceProcessor {
 	private SourceTable processSourceThroughExtension(final Source source) {
 		final Optional<IProtocolExtension> maybeExtension = extensionManager.findSourceExtension(source, telemetryManager);
 		return maybeExtension
-			.map(extension -> extension.processSource(source, connectorId, telemetryManager))
+			.map(extension -> processSourceAndRecordRequest(extension, source))
 			.orElseGet(SourceTable::empty);
 	}
 
+	/**
+	 * Processes the given {@link Source} through the given protocol extension, within the limits of the
+	 * {@link ProtocolRequestLimiter}, and records the request latency. Identical requests sent by other resources
+	 * are coalesced by the {@link RequestCoalescer}.
+	 * A request failing with an exception or returning no table is counted as a failed request, while an empty table is
+	 * a legitimate result (no instances). The source is skipped if its protocol has been reported down by the
+	 * {@link ProtocolHealthCheckStrategy} of the current cycle.
+	 *
+	 * @param extension The protocol extension processing the source.
+	 * @param source    The source data to be processed.
+	 * @return The {@link SourceTable} returned by the extension.
+	 */
+	private SourceTable processSourceAndRecordRequest(final IProtocolExtension extension, final Source source) {
+		if (ProtocolHealthCheckStrategy.isProtocolDown(telemetryManager, extension.getIdentifier())) {
+			log.debug(
+				"Hostname {} - Protocol {} is down. Skipping source {}.",
+				telemetryManager.getHostname(),
+				extension.getIdentifier(),
+				source.getKey()
+			);
+			return SourceTable.empty();
+		}
+
+		return RequestCoalescer
+			.getInstance()
+			.execute(
+				extension,
+				source,
+				connectorId,
+				telemetryManager,
+				() ->
+					ProtocolRequestLimiter
+						.getInstance()
+						.execute(
+							telemetryManager.getHostname(),
+							extension.getIdentifier(),
+							() -> {
+								final long startNano = System.nanoTime();
+								SourceTable sourceTable = null;
+								try {
+									sourceTable = extension.processSource(source, connectorId, telemetryManager);
+									return sourceTable;
+								} finally {
+									EngineMetrics.recordRequest(
+										extension.getIdentifier(),
+										startNano,
+										sourceTable != null
+									);
+								}
+							}
+						)
+			);
+	}
+
 	/**
 	 * Processes a given {@link Source} by using an appropriate {@link ISourceComputationExtension} found through
 	 * an {@link ExtensionManager}. This method delegates the processing of the source to the extension
@@ -32,6 +32,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -61,6 +66,7 @@ import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.WbemSource;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.WmiSource;
 import org.sentrysoftware.metricshub.engine.strategy.utils.PslUtils;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
 /**
@@ -80,6 +86,11 @@ public class SourceUpdaterProcessor implements ISourceProcessor {
 		Pattern.CASE_INSENSITIVE
 	);
 
+	/**
+	 * Maximum number of entries of an executeForEachEntryOf source executed at the same time
+	 */
+	static final int MAX_ENTRY_THREADS_COUNT = 8;
+
 	private ISourceProcessor sourceProcessor;
 	private TelemetryManager telemetryManager;
 	private String connectorId;
@@ -511,10 +522,14 @@ public class SourceUpdaterProcessor implements ISourceProcessor {
 			return SourceTable.empty();
 		}
 
-		final SourceTable result = SourceTable.builder().rawData(EMPTY).build();
-
 		final Integer sleep = source.getSleepExecuteForEachEntryOf();
+		final TokenBucket rateLimiter = sleep != null && sleep > 0
+			? new TokenBucket(1, TimeUnit.MILLISECONDS.toNanos(sleep))
+			: null;
 
+		// Prepare the source of each entry, the rows are kept to concatenate the results in the same order
+		final List<List<String>> rows = new ArrayList<>();
+		final List<Source> entrySources = new ArrayList<>();
 		for (List<String> row : maybeSourceTable.get().getTable()) {
 			final Source copy = source.copy();
 
@@ -529,23 +544,95 @@ public class SourceUpdaterProcessor implements ISourceProcessor {
 
 			copy.update(value -> replaceSourceReference(value, copy));
 
-			concatEntryResult(source, result, row, copy.accept(sourceProcessor));
-			if (sleep != null && sleep != 0) {
-				try {
-					Thread.sleep(sleep);
-				} catch (InterruptedException e) {
-					log.error(
-						"Hostname {} - Thread interrupted during sleep between two 'execute for each entry' requests.",
-						hostname
-					);
-					Thread.currentThread().interrupt();
-				}
-			}
+			rows.add(row);
+			entrySources.add(copy);
+		}
+
+		final List<SourceTable> entryResults = executeEntrySources(entrySources, rateLimiter);
+
+		final SourceTable result = SourceTable.builder().rawData(EMPTY).build();
+		for (int i = 0; i < entryResults.size(); i++) {
+			concatEntryResult(source, result, rows.get(i), entryResults.get(i));
 		}
 
 		return result;
 	}
 
+	/**
+	 * Execute the given entry sources, in parallel unless the host is monitored in sequential mode. At most
+	 * {@link #MAX_ENTRY_THREADS_COUNT} entries are executed at the same time and each execution waits for a token of
+	 * the given rate limiter.
+	 *
+	 * @param entrySources The sources to execute, one per entry.
+	 * @param rateLimiter  The rate limiter of the executions, <code>null</code> if the executions are not limited.
+	 * @return The results of the executions in the order of the entry sources. The list is truncated if the current
+	 *         thread is interrupted.
+	 */
+	private List<SourceTable> executeEntrySources(final List<Source> entrySources, final TokenBucket rateLimiter) {
+		final List<SourceTable> results = new ArrayList<>();
+
+		final int threadsCount = telemetryManager.getHostConfiguration().isSequential()
+			? 1
+			: Math.min(entrySources.size(), MAX_ENTRY_THREADS_COUNT);
+
+		if (threadsCount <= 1) {
+			entrySources.forEach(entrySource -> results.add(executeEntrySource(entrySource, rateLimiter)));
+			return results;
+		}
+
+		final ExecutorService threadsPool = Executors.newFixedThreadPool(threadsCount);
+		try {
+			final List<FutureTask<SourceTable>> tasks = new ArrayList<>();
+			for (Source entrySource : entrySources) {
+				final FutureTask<SourceTable> task = new FutureTask<>(() -> executeEntrySource(entrySource, rateLimiter));
+				tasks.add(task);
+				threadsPool.execute(EngineMetrics.trackPooledJob(EngineMetrics.ENTRY_SOURCES_POOL, task));
+			}
+
+			for (FutureTask<SourceTable> task : tasks) {
+				results.add(task.get());
+			}
+		} catch (InterruptedException e) {
+			log.error(
+				"Hostname {} - Thread interrupted while waiting for the 'execute for each entry' requests.",
+				telemetryManager.getHostname()
+			);
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			threadsPool.shutdownNow();
+		}
+
+		return results;
+	}
+
+	/**
+	 * Execute the given entry source once a token of the rate limiter is available.
+	 *
+	 * @param entrySource The source of the entry.
+	 * @param rateLimiter The rate limiter of the executions, <code>null</code> if the executions are not limited.
+	 * @return {@link SourceTable} result of the entry.
+	 */
+	private SourceTable executeEntrySource(final Source entrySource, final TokenBucket rateLimiter) {
+		if (rateLimiter != null) {
+			try {
+				rateLimiter.acquire();
+			} catch (InterruptedException e) {
+				log.error(
+					"Hostname {} - Thread interrupted during sleep between two 'execute for each entry' requests.",
+					telemetryManager.getHostname()
+				);
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		return entrySource.accept(sourceProcessor);
+	}
+
 	/**
 	 * Replace the dynamic parts of the key by the right column from the row.
 	 *
@@ -0,0 +1,78 @@
+package org.sentrysoftware.metricshub.engine.strategy.source;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket limiting the rate of the requests. One token is added every interval, up to the capacity of the
+ * bucket, and each request waits for a token before it is sent.<br>
+ * With a capacity of one, the requests are spaced by at least the interval, whatever the number of threads sending
+ * them.
+ */
+class TokenBucket {
+
+	private final int capacity;
+	private final long intervalNanos;
+
+	/**
+	 * Time at which the next token is available, in {@link System#nanoTime()} units
+	 */
+	private long nextTokenNanos;
+
+	/**
+	 * Constructs a new full {@code TokenBucket}.
+	 *
+	 * @param capacity      The maximum number of tokens, i.e. the number of requests that can be sent at once.
+	 * @param intervalNanos The time needed to add one token, in nanoseconds.
+	 */
+	TokenBucket(final int capacity, final long intervalNanos) {
+		this.capacity = Math.max(1, capacity);
+		this.intervalNanos = intervalNanos;
+		this.nextTokenNanos = System.nanoTime() - (this.capacity - 1) * intervalNanos;
+	}
+
+	/**
+	 * Take a token, waiting until one is available.
+	 *
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	void acquire() throws InterruptedException {
+		final long waitNanos;
+		synchronized (this) {
+			final long now = System.nanoTime();
+
+			// The tokens accumulated while the bucket was not used cannot exceed its capacity
+			final long earliestTokenNanos = now - (capacity - 1) * intervalNanos;
+			if (nextTokenNanos - earliestTokenNanos < 0) {
+				nextTokenNanos = earliestTokenNanos;
+			}
+
+			waitNanos = nextTokenNanos - now;
+			nextTokenNanos += intervalNanos;
+		}
+
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+}
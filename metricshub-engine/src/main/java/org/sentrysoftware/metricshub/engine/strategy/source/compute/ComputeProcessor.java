@@ -706,7 +706,7 @@ public class ComputeProcessor implements IComputeProcessor {
 	 * 								that can be used to filter the lines in the {@link SourceTable}.
 	 */
 	private Predicate<String> getPredicate(final String pslRegexp, final AbstractMatchingLines abstractMatchingLines) {
-		Pattern pattern = Pattern.compile(PslUtils.psl2JavaRegex(pslRegexp), Pattern.CASE_INSENSITIVE);
+		final Pattern pattern = PslUtils.compilePslRegex(pslRegexp, Pattern.CASE_INSENSITIVE);
 
 		return abstractMatchingLines instanceof KeepOnlyMatchingLines
 			? value -> pattern.matcher(value).find()
@@ -881,7 +881,7 @@ public class ComputeProcessor implements IComputeProcessor {
 		try {
 			final List<String> jsonToCsvProperties = SourceTable.lineToList(properties, SEMICOLON);
 
-			final String json2csvResult = clientsExecutor.executeJson2Csv(
+			final List<List<String>> json2csvResult = clientsExecutor.executeJson2Table(
 				sourceTable.getRawData(),
 				json2csv.getEntryKey(),
 				jsonToCsvProperties,
@@ -889,8 +889,8 @@ public class ComputeProcessor implements IComputeProcessor {
 			);
 
 			if (json2csvResult != null && !json2csvResult.isEmpty()) {
-				sourceTable.setRawData(json2csvResult);
-				sourceTable.setTable(SourceTable.csvToTable(json2csvResult, json2csv.getSeparator()));
+				sourceTable.setRawData(ClientsExecutor.json2TableToCsv(json2csvResult, json2csv.getSeparator()));
+				sourceTable.setTable(json2csvResult);
 			}
 		} catch (Exception e) {
 			logComputeError(
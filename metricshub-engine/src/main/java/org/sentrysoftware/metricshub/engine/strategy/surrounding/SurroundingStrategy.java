@@ -21,7 +21,6 @@ package org.sentrysoftware.metricshub.engine.strategy.surrounding;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,7 +34,6 @@ import org.sentrysoftware.metricshub.engine.connector.model.Connector;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.Source;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
 import org.sentrysoftware.metricshub.engine.strategy.AbstractStrategy;
-import org.sentrysoftware.metricshub.engine.strategy.source.OrderedSources;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
 /**
@@ -113,13 +111,10 @@ public abstract class SurroundingStrategy extends AbstractStrategy {
 			.build();
 
 		// Build and order sources based on dependencies.
-		final OrderedSources orderedSources = OrderedSources
-			.builder()
-			.sources(sources, new ArrayList<>(), getSourceDependencies(), jobInfo)
-			.build();
+		final List<Source> orderedSources = getOrderedSources(sources, List.of(), getSourceDependencies(), jobInfo);
 
 		// Process the ordered sources along with computes, based on the constructed job information.
-		processSourcesAndComputes(orderedSources.getSources(), jobInfo);
+		processSourcesAndComputes(orderedSources, jobInfo);
 
 		final long jobEndTime = System.currentTimeMillis();
 		// Set the job duration metric in the host monitor
@@ -33,8 +33,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -57,6 +61,10 @@ public class OsCommandHelper {
 	);
 	public static final BiFunction<String, String, File> TEMP_FILE_CREATOR = OsCommandHelper::createEmbeddedTempFile;
 
+	private static final Object SHARED_EMBEDDED_FILES_LOCK = new Object();
+
+	private static Path sharedEmbeddedFilesDirectory;
+
 	/**
 	 * Create the temporary embedded files in the given command line.
 	 *
@@ -72,6 +80,55 @@ public class OsCommandHelper {
 		final SudoInformation sudoInformation,
 		@NonNull final Map<Integer, EmbeddedFile> commandLineEmbeddedFiles,
 		@NonNull final BiFunction<String, String, File> tempFileCreator
+	) throws IOException {
+		return createOsCommandEmbeddedFiles(
+			commandLine,
+			commandLineEmbeddedFiles,
+			embeddedFile -> createTempFileWithEmbeddedFileContent(embeddedFile, sudoInformation, tempFileCreator),
+			true
+		);
+	}
+
+	/**
+	 * Get the shared embedded files in the given command line, creating them if they have not been written yet.<br>
+	 * Unlike {@link #createOsCommandEmbeddedFiles(String, SudoInformation, Map, BiFunction)}, the files are named after
+	 * the hash of their content and are reused by all the commands until the JVM exits: they must not be deleted by
+	 * the caller.
+	 *
+	 * @param commandLine              The command line to process.
+	 * @param sudoInformation          The Sudo Information of the Os Command configuration.
+	 * @param commandLineEmbeddedFiles A map of embedded files referenced in the command line.
+	 * @return A map with EmbeddedFile tags as keys and corresponding shared File objects.
+	 * @throws IOException If an error occurs during file creation.
+	 */
+	public static Map<String, File> getOsCommandSharedEmbeddedFiles(
+		@NonNull final String commandLine,
+		final SudoInformation sudoInformation,
+		@NonNull final Map<Integer, EmbeddedFile> commandLineEmbeddedFiles
+	) throws IOException {
+		return createOsCommandEmbeddedFiles(
+			commandLine,
+			commandLineEmbeddedFiles,
+			embeddedFile -> getOrCreateSharedEmbeddedFile(embeddedFile, sudoInformation),
+			false
+		);
+	}
+
+	/**
+	 * Create the embedded files in the given command line with the given file writer.
+	 *
+	 * @param commandLine              The command line to process.
+	 * @param commandLineEmbeddedFiles A map of embedded files referenced in the command line.
+	 * @param fileWriter               The function writing the content of an embedded file on disk.
+	 * @param deleteOnFailure          Whether the files already written are deleted when a file cannot be written.
+	 * @return A map with EmbeddedFile tags as keys and corresponding File objects.
+	 * @throws IOException If an error occurs during file creation.
+	 */
+	private static Map<String, File> createOsCommandEmbeddedFiles(
+		final String commandLine,
+		final Map<Integer, EmbeddedFile> commandLineEmbeddedFiles,
+		final EmbeddedFileWriter fileWriter,
+		final boolean deleteOnFailure
 	) throws IOException {
 		final Map<String, File> embeddedTempFiles = new HashMap<>();
 		try {
@@ -100,7 +157,7 @@ public class OsCommandHelper {
 						state(content != null, () -> "EmbeddedFile content is null. File name: " + fileNumber);
 
 						try {
-							return createTempFileWithEmbeddedFileContent(embeddedFile, sudoInformation, tempFileCreator);
+							return fileWriter.write(embeddedFile);
 						} catch (final IOException e) {
 							throw new TempFileCreationException(e);
 						}
@@ -109,8 +166,10 @@ public class OsCommandHelper {
 			}
 			return Collections.unmodifiableMap(embeddedTempFiles);
 		} catch (final Exception e) {
-			//noinspection ResultOfMethodCallIgnored
-			embeddedTempFiles.values().forEach(File::delete);
+			if (deleteOnFailure) {
+				//noinspection ResultOfMethodCallIgnored
+				embeddedTempFiles.values().forEach(File::delete);
+			}
 			if (e instanceof TempFileCreationException) {
 				throw (IOException) e.getCause();
 			}
@@ -151,6 +210,83 @@ public class OsCommandHelper {
 		return tempFile;
 	}
 
+	/**
+	 * Get the shared file holding the content of the given embedded file, writing it if it does not exist yet.<br>
+	 * The file is named after the SHA-256 hash of its content (once the sudo tags are replaced), so two connectors
+	 * embedding the same script share the same file. The files are written in a private directory created once per
+	 * JVM and deleted when the JVM exits.
+	 *
+	 * @param embeddedFile    {@link EmbeddedFile} instance used to write the file content (mandatory)
+	 * @param sudoInformation The Sudo Information of the Os Command configuration.
+	 * @return The File.
+	 * @throws IOException When the file cannot be written.
+	 */
+	public static File getOrCreateSharedEmbeddedFile(
+		@NonNull final EmbeddedFile embeddedFile,
+		final SudoInformation sudoInformation
+	) throws IOException {
+		final String contentAsString = embeddedFile.getContentAsString();
+		final byte[] content = contentAsString.contains("%{SUDO:")
+			? replaceSudo(contentAsString, sudoInformation).getBytes(StandardCharsets.UTF_8)
+			: embeddedFile.getContent();
+
+		final String fileName = String.format(
+			"metricshub_embedded_%s_%s%s",
+			embeddedFile.getBaseName(),
+			hashContent(content),
+			embeddedFile.getFileExtension()
+		);
+
+		final Path filePath = getSharedEmbeddedFilesDirectory().resolve(fileName);
+		synchronized (SHARED_EMBEDDED_FILES_LOCK) {
+			if (!Files.exists(filePath)) {
+				final Path tempFilePath = Files.createTempFile(filePath.getParent(), fileName, ".tmp");
+				try {
+					Files.write(tempFilePath, content);
+					Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE);
+				} finally {
+					Files.deleteIfExists(tempFilePath);
+				}
+				filePath.toFile().deleteOnExit();
+			}
+		}
+
+		return filePath.toFile();
+	}
+
+	/**
+	 * Get the private directory holding the shared embedded files, creating it on first use.
+	 *
+	 * @return The directory {@link Path}.
+	 * @throws IOException When the directory cannot be created.
+	 */
+	private static Path getSharedEmbeddedFilesDirectory() throws IOException {
+		synchronized (SHARED_EMBEDDED_FILES_LOCK) {
+			// The directory may have been removed by a temporary files cleanup
+			if (sharedEmbeddedFilesDirectory == null || !Files.isDirectory(sharedEmbeddedFilesDirectory)) {
+				// Created with owner-only permissions, no other user can replace a script run by the agent
+				sharedEmbeddedFilesDirectory = Files.createTempDirectory("metricshub_embedded_");
+				sharedEmbeddedFilesDirectory.toFile().deleteOnExit();
+			}
+			return sharedEmbeddedFilesDirectory;
+		}
+	}
+
+	/**
+	 * Hash the given content with SHA-256.
+	 *
+	 * @param content The content to hash.
+	 * @return The hexadecimal hash.
+	 */
+	private static String hashContent(final byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is available on every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
 	/**
 	 * Create a temporary file with the given extension.<br>
 	 * The temporary file name is prefixed with "metricshub_embedded_" to easily identify
@@ -222,4 +358,19 @@ public class OsCommandHelper {
 			super(cause);
 		}
 	}
+
+	/**
+	 * Writes the content of an embedded file on disk.
+	 */
+	@FunctionalInterface
+	private interface EmbeddedFileWriter {
+		/**
+		 * Write the given embedded file.
+		 *
+		 * @param embeddedFile The embedded file to write.
+		 * @return The written {@link File}.
+		 * @throws IOException When the file cannot be written.
+		 */
+		File write(EmbeddedFile embeddedFile) throws IOException;
+	}
 }
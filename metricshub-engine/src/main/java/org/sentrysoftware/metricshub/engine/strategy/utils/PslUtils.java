@@ -28,10 +28,14 @@ import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubCons
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.sentrysoftware.metricshub.engine.strategy.source.SourceTable;
+import org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics;
 
 /**
  * Utility class for handling PSL (PATROL Script Language) regular expressions
@@ -55,9 +59,43 @@ public class PslUtils {
 	private static final char LOWER_THAN_CHAR = '<';
 	private static final char GREATER_THAN_CHAR = '>';
 
+	/**
+	 * Maximum number of compiled patterns kept in the cache. The cache is cleared when this size is reached.
+	 */
+	static final int MAX_PATTERN_CACHE_SIZE = 1024;
+
+	/**
+	 * Compiled patterns indexed by flags and PSL regular expression
+	 */
+	private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+
 	// Private constructor to prevent instantiation of PslUtils
 	private PslUtils() {}
 
+	/**
+	 * Compiles the given PSL regex into a Java {@link Pattern}. The compiled patterns are cached, as connectors apply
+	 * the same regular expressions at each collect.
+	 *
+	 * @param pslRegex Regular expression as used in PSL's grep() function.
+	 * @param flags    Match flags, a bit mask as defined in {@link Pattern#compile(String, int)}.
+	 * @return The compiled {@link Pattern}.
+	 */
+	public static Pattern compilePslRegex(final String pslRegex, final int flags) {
+		final String key = flags + "/" + pslRegex;
+		final Pattern cachedPattern = PATTERN_CACHE.get(key);
+		EngineMetrics.recordCacheLookup(EngineMetrics.REGEX_CACHE, cachedPattern != null);
+		if (cachedPattern != null) {
+			return cachedPattern;
+		}
+
+		final Pattern pattern = Pattern.compile(psl2JavaRegex(pslRegex), flags);
+		if (PATTERN_CACHE.size() >= MAX_PATTERN_CACHE_SIZE) {
+			PATTERN_CACHE.clear();
+		}
+		PATTERN_CACHE.put(key, pattern);
+		return pattern;
+	}
+
 	/**
 	 * Converts a PSL regex into its Java equivalent.
 	 * Method shamelessly taken from somewhere else.
@@ -23,6 +23,8 @@ package org.sentrysoftware.metricshub.engine.telemetry;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -51,6 +53,20 @@ public class ConnectorNamespace {
 	@Default
 	private ReentrantLock forceSerializationLock = new ReentrantLock(true);
 
+	/**
+	 * The source results cached for the sources defining a time to live, indexed by source key
+	 */
+	@Default
+	private Map<String, CachedSourceTable> sourceTableCache = new ConcurrentHashMap<>();
+
+	/**
+	 * A source result and the time it has been fetched
+	 *
+	 * @param sourceTable The source table produced by the source and its computes.
+	 * @param fetchTime   The time of the strategy which executed the source.
+	 */
+	public record CachedSourceTable(SourceTable sourceTable, long fetchTime) {}
+
 	/**
 	 * Add a source in the current sourceTables map
 	 *
@@ -70,4 +86,39 @@ public class ConnectorNamespace {
 	public SourceTable getSourceTable(@NonNull String key) {
 		return sourceTables.get(key);
 	}
+
+	/**
+	 * Get the cached {@link SourceTable} identified with the given key if it has been fetched less than the given time
+	 * to live ago.
+	 *
+	 * @param key       sourceTable key
+	 * @param now       The current strategy time in milliseconds
+	 * @param ttlMillis The time to live of the source result in milliseconds
+	 * @return the cached {@link SourceTable} or an empty optional if there is no valid cache entry
+	 */
+	public Optional<SourceTable> getCachedSourceTable(@NonNull String key, final long now, final long ttlMillis) {
+		final CachedSourceTable cached = sourceTableCache.get(key);
+		if (cached == null || now - cached.fetchTime() >= ttlMillis) {
+			return Optional.empty();
+		}
+		return Optional.of(cached.sourceTable());
+	}
+
+	/**
+	 * Cache the given {@link SourceTable}
+	 *
+	 * @param key         sourceTable key
+	 * @param sourceTable sourceTable instance
+	 * @param fetchTime   The time of the strategy which executed the source
+	 */
+	public void cacheSourceTable(@NonNull String key, @NonNull SourceTable sourceTable, final long fetchTime) {
+		sourceTableCache.put(key, new CachedSourceTable(sourceTable, fetchTime));
+	}
+
+	/**
+	 * Remove all the cached source results, so that the sources are executed again.
+	 */
+	public void clearSourceTableCache() {
+		sourceTableCache.clear();
+	}
 }
@@ -0,0 +1,574 @@
+package org.sentrysoftware.metricshub.engine.telemetry;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * Self-observability instruments of the MetricsHub Engine.<br>
+ * The engine records its hot-path measurements (strategy and job durations, protocol request latencies and errors,
+ * source table sizes, cache efficiency and job pool saturation) through this class. Until a {@link Meter} is
+ * registered with {@link #register(Meter)}, all the instruments are no-op and recording costs nothing.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EngineMetrics {
+
+	/**
+	 * Instrumentation scope name of the engine metrics
+	 */
+	public static final String INSTRUMENTATION_SCOPE = "org.sentrysoftware.metricshub.engine";
+
+	/**
+	 * Duration of a strategy execution (detection, discovery, collect, ...)
+	 */
+	public static final String STRATEGY_DURATION_METRIC = "metricshub.engine.strategy.duration";
+
+	/**
+	 * Duration of a connector job (discovery, collect or simple job of a monitor type)
+	 */
+	public static final String JOB_DURATION_METRIC = "metricshub.engine.job.duration";
+
+	/**
+	 * Latency of the requests sent through the protocol extensions
+	 */
+	public static final String REQUEST_DURATION_METRIC = "metricshub.engine.request.duration";
+
+	/**
+	 * Number of failed requests sent through the protocol extensions
+	 */
+	public static final String REQUEST_ERRORS_METRIC = "metricshub.engine.request.errors";
+
+	/**
+	 * Time spent by the requests waiting for the protocol concurrency limiter
+	 */
+	public static final String REQUEST_WAIT_DURATION_METRIC = "metricshub.engine.request.wait.duration";
+
+	/**
+	 * Number of requests waiting for the protocol concurrency limiter
+	 */
+	public static final String REQUESTS_WAITING_METRIC = "metricshub.engine.requests.waiting";
+
+	/**
+	 * Number of rows of the source tables
+	 */
+	public static final String SOURCE_ROWS_METRIC = "metricshub.engine.source.rows";
+
+	/**
+	 * Size of the raw data of the source tables
+	 */
+	public static final String SOURCE_SIZE_METRIC = "metricshub.engine.source.size";
+
+	/**
+	 * Number of lookups in the engine caches, by cache and result (hit or miss)
+	 */
+	public static final String CACHE_REQUESTS_METRIC = "metricshub.engine.cache.requests";
+
+	/**
+	 * Number of jobs waiting for a thread in the engine job pools
+	 */
+	public static final String JOBS_QUEUED_METRIC = "metricshub.engine.jobs.queued";
+
+	/**
+	 * Number of jobs running in the engine job pools
+	 */
+	public static final String JOBS_ACTIVE_METRIC = "metricshub.engine.jobs.active";
+
+	/**
+	 * Duration of the export of the collected metrics
+	 */
+	public static final String EXPORT_DURATION_METRIC = "metricshub.engine.export.duration";
+
+	/**
+	 * Latency of the DNS lookups
+	 */
+	public static final String DNS_DURATION_METRIC = "metricshub.engine.dns.duration";
+
+	/**
+	 * Number of failed DNS lookups
+	 */
+	public static final String DNS_ERRORS_METRIC = "metricshub.engine.dns.errors";
+
+	/**
+	 * Cache of the compiled AWK scripts
+	 */
+	public static final String AWK_CACHE = "awk";
+
+	/**
+	 * Cache of the compiled regular expressions
+	 */
+	public static final String REGEX_CACHE = "regex";
+
+	/**
+	 * Cache of the source results, see {@link ConnectorNamespace}
+	 */
+	public static final String SOURCE_CACHE = "source";
+
+	/**
+	 * Cache of the source requests shared by the resources, see {@link org.sentrysoftware.metricshub.engine.strategy.source.RequestCoalescer}
+	 */
+	public static final String REQUEST_CACHE = "request";
+
+	/**
+	 * Name of the DNS resolution cache
+	 */
+	public static final String DNS_CACHE = "dns";
+
+	/**
+	 * Lookup of the IP address of a hostname
+	 */
+	public static final String FORWARD_LOOKUP = "forward";
+
+	/**
+	 * Lookup of the fully qualified domain name of an IP address
+	 */
+	public static final String REVERSE_LOOKUP = "reverse";
+
+	/**
+	 * Job pool running the monitor jobs of a connector in parallel
+	 */
+	public static final String MONITOR_JOBS_POOL = "monitor_jobs";
+
+	/**
+	 * Job pool running the connector detection criteria in parallel
+	 */
+	public static final String CONNECTOR_DETECTION_POOL = "connector_detection";
+
+	/**
+	 * Job pool running the per-entry executions of the executeForEachEntryOf sources in parallel
+	 */
+	public static final String ENTRY_SOURCES_POOL = "execute_for_each_entry";
+
+	static final AttributeKey<String> STRATEGY_KEY = AttributeKey.stringKey("strategy");
+	static final AttributeKey<String> JOB_TYPE_KEY = AttributeKey.stringKey("job.type");
+	static final AttributeKey<String> MONITOR_TYPE_KEY = AttributeKey.stringKey("monitor.type");
+	static final AttributeKey<String> CONNECTOR_ID_KEY = AttributeKey.stringKey("connector_id");
+	static final AttributeKey<String> PROTOCOL_KEY = AttributeKey.stringKey("protocol");
+	static final AttributeKey<String> CACHE_KEY = AttributeKey.stringKey("cache");
+	static final AttributeKey<String> RESULT_KEY = AttributeKey.stringKey("result");
+	static final AttributeKey<String> POOL_KEY = AttributeKey.stringKey("pool");
+	static final AttributeKey<String> EXPORTER_KEY = AttributeKey.stringKey("exporter");
+	static final AttributeKey<String> LOOKUP_KEY = AttributeKey.stringKey("lookup");
+
+	private static final String HIT = "hit";
+	private static final String MISS = "miss";
+	private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+	private static volatile Instruments instruments = new Instruments(MeterProvider.noop().get(INSTRUMENTATION_SCOPE));
+
+	/**
+	 * Attributes shared by the recordings, built once per combination of attribute values so recording does not build
+	 * new {@link Attributes}. There is one cache per attribute shape.
+	 */
+	private static final Map<SingleAttribute, Attributes> SINGLE_ATTRIBUTES_CACHE = new ConcurrentHashMap<>();
+
+	private static final Map<JobAttributes, Attributes> JOB_ATTRIBUTES_CACHE = new ConcurrentHashMap<>();
+
+	private static final Map<CacheLookupAttributes, Attributes> CACHE_LOOKUP_ATTRIBUTES_CACHE = new ConcurrentHashMap<>();
+
+	private static final Map<SourceCacheLookupAttributes, Attributes> SOURCE_CACHE_LOOKUP_ATTRIBUTES_CACHE =
+		new ConcurrentHashMap<>();
+
+	/**
+	 * Register the {@link Meter} used to create the engine instruments. Replaces the previously registered instruments.
+	 *
+	 * @param meter The OpenTelemetry meter.
+	 */
+	public static void register(@NonNull final Meter meter) {
+		instruments = new Instruments(meter);
+	}
+
+	/**
+	 * Restore the no-op instruments.
+	 */
+	public static void reset() {
+		instruments = new Instruments(MeterProvider.noop().get(INSTRUMENTATION_SCOPE));
+	}
+
+	/**
+	 * Record the duration of a strategy execution.
+	 *
+	 * @param strategy  The name of the strategy.
+	 * @param startNano The {@link System#nanoTime()} value read when the strategy started.
+	 */
+	public static void recordStrategyDuration(final String strategy, final long startNano) {
+		instruments.strategyDuration.record(secondsSince(startNano), attributes(STRATEGY_KEY, strategy));
+	}
+
+	/**
+	 * Record the duration of a connector job.
+	 *
+	 * @param jobType     The type of job (discovery, collect, simple, ...).
+	 * @param monitorType The monitor type processed by the job.
+	 * @param connectorId The connector identifier.
+	 * @param startTime   The start time of the job in milliseconds.
+	 * @param endTime     The end time of the job in milliseconds.
+	 */
+	public static void recordJobDuration(
+		final String jobType,
+		final String monitorType,
+		final String connectorId,
+		final long startTime,
+		final long endTime
+	) {
+		final Attributes jobAttributes = JOB_ATTRIBUTES_CACHE.computeIfAbsent(
+			new JobAttributes(jobType, monitorType, connectorId),
+			JobAttributes::toAttributes
+		);
+		instruments.jobDuration.record((endTime - startTime) / 1000.0, jobAttributes);
+	}
+
+	/**
+	 * Record a request sent through a protocol extension.
+	 *
+	 * @param protocol  The protocol (extension identifier).
+	 * @param startNano The {@link System#nanoTime()} value read before the request was sent.
+	 * @param success   Whether the request succeeded.
+	 */
+	public static void recordRequest(final String protocol, final long startNano, final boolean success) {
+		final Attributes protocolAttributes = attributes(PROTOCOL_KEY, protocol);
+		final Instruments current = instruments;
+		current.requestDuration.record(secondsSince(startNano), protocolAttributes);
+		if (!success) {
+			current.requestErrors.add(1, protocolAttributes);
+		}
+	}
+
+	/**
+	 * Record a request starting to wait for the protocol concurrency limiter.
+	 *
+	 * @param protocol The protocol (extension identifier).
+	 */
+	public static void recordRequestWaitStart(final String protocol) {
+		instruments.requestsWaiting.add(1, attributes(PROTOCOL_KEY, protocol));
+	}
+
+	/**
+	 * Record a request done waiting for the protocol concurrency limiter, whether it got its permits or not.
+	 *
+	 * @param protocol  The protocol (extension identifier).
+	 * @param startNano The {@link System#nanoTime()} value read when the request started waiting.
+	 */
+	public static void recordRequestWaitEnd(final String protocol, final long startNano) {
+		final Attributes protocolAttributes = attributes(PROTOCOL_KEY, protocol);
+		final Instruments current = instruments;
+		current.requestsWaiting.add(-1, protocolAttributes);
+		current.requestWaitDuration.record(secondsSince(startNano), protocolAttributes);
+	}
+
+	/**
+	 * Record the dimensions of a source table.
+	 *
+	 * @param connectorId The connector identifier.
+	 * @param rows        The number of rows of the table.
+	 * @param size        The size of the raw data of the table.
+	 */
+	public static void recordSourceTable(final String connectorId, final long rows, final long size) {
+		final Attributes connectorAttributes = attributes(CONNECTOR_ID_KEY, connectorId);
+		final Instruments current = instruments;
+		current.sourceRows.record(rows, connectorAttributes);
+		current.sourceSize.record(size, connectorAttributes);
+	}
+
+	/**
+	 * Record a lookup in an engine cache.
+	 *
+	 * @param cache The name of the cache (e.g. {@link #AWK_CACHE}, {@link #REGEX_CACHE}).
+	 * @param hit   Whether the value was found in the cache.
+	 */
+	public static void recordCacheLookup(final String cache, final boolean hit) {
+		final Attributes lookupAttributes = CACHE_LOOKUP_ATTRIBUTES_CACHE.computeIfAbsent(
+			new CacheLookupAttributes(cache, hit),
+			CacheLookupAttributes::toAttributes
+		);
+		instruments.cacheRequests.add(1, lookupAttributes);
+	}
+
+	/**
+	 * Record a lookup in the source result cache of a connector.
+	 *
+	 * @param connectorId The connector identifier.
+	 * @param hit         Whether a valid source result was found in the cache.
+	 */
+	public static void recordSourceCacheLookup(final String connectorId, final boolean hit) {
+		final Attributes lookupAttributes = SOURCE_CACHE_LOOKUP_ATTRIBUTES_CACHE.computeIfAbsent(
+			new SourceCacheLookupAttributes(connectorId, hit),
+			SourceCacheLookupAttributes::toAttributes
+		);
+		instruments.cacheRequests.add(1, lookupAttributes);
+	}
+
+	/**
+	 * Record the duration of an export.
+	 *
+	 * @param exporter  The name of the component exporting the metrics.
+	 * @param startNano The {@link System#nanoTime()} value read when the export started.
+	 */
+	public static void recordExportDuration(final String exporter, final long startNano) {
+		instruments.exportDuration.record(secondsSince(startNano), attributes(EXPORTER_KEY, exporter));
+	}
+
+	/**
+	 * Record a DNS lookup sent to the resolver.
+	 *
+	 * @param lookup    The type of lookup ({@link #FORWARD_LOOKUP} or {@link #REVERSE_LOOKUP}).
+	 * @param startNano The {@link System#nanoTime()} value read before the lookup was sent.
+	 * @param success   Whether the lookup succeeded.
+	 */
+	public static void recordDnsLookup(final String lookup, final long startNano, final boolean success) {
+		final Attributes lookupAttributes = attributes(LOOKUP_KEY, lookup);
+		final Instruments current = instruments;
+		current.dnsDuration.record(secondsSince(startNano), lookupAttributes);
+		if (!success) {
+			current.dnsErrors.add(1, lookupAttributes);
+		}
+	}
+
+	/**
+	 * Wrap a job submitted to an engine job pool so that the number of queued and active jobs of the pool is tracked.
+	 * The job is counted as queued as soon as this method is called.
+	 *
+	 * @param pool The name of the job pool.
+	 * @param job  The job to wrap.
+	 * @return The wrapped job.
+	 */
+	public static Runnable trackPooledJob(final String pool, @NonNull final Runnable job) {
+		final Attributes poolAttributes = attributes(POOL_KEY, pool);
+		final Instruments current = instruments;
+		current.jobsQueued.add(1, poolAttributes);
+		return () -> {
+			current.jobsQueued.add(-1, poolAttributes);
+			current.jobsActive.add(1, poolAttributes);
+			try {
+				job.run();
+			} finally {
+				current.jobsActive.add(-1, poolAttributes);
+			}
+		};
+	}
+
+	/**
+	 * Elapsed time in seconds since the given {@link System#nanoTime()} value.
+	 *
+	 * @param startNano The start time in nanoseconds.
+	 * @return The elapsed time in seconds.
+	 */
+	private static double secondsSince(final long startNano) {
+		return (System.nanoTime() - startNano) / NANOS_PER_SECOND;
+	}
+
+	/**
+	 * Get the cached {@link Attributes} made of a single attribute.
+	 *
+	 * @param key   The attribute key.
+	 * @param value The attribute value.
+	 * @return {@link Attributes} instance.
+	 */
+	static Attributes attributes(final AttributeKey<String> key, final String value) {
+		if (value == null) {
+			return Attributes.empty();
+		}
+		return SINGLE_ATTRIBUTES_CACHE.computeIfAbsent(new SingleAttribute(key, value), SingleAttribute::toAttributes);
+	}
+
+	/**
+	 * Get the value of the result attribute of a cache lookup.
+	 *
+	 * @param hit Whether the lookup is a hit.
+	 * @return <code>hit</code> or <code>miss</code>.
+	 */
+	private static String result(final boolean hit) {
+		return hit ? HIT : MISS;
+	}
+
+	/**
+	 * Values of the recordings made with a single attribute.
+	 *
+	 * @param key   The attribute key.
+	 * @param value The attribute value.
+	 */
+	private record SingleAttribute(AttributeKey<String> key, String value) {
+		private Attributes toAttributes() {
+			return Attributes.of(key, value);
+		}
+	}
+
+	/**
+	 * Values of the attributes of a job duration.
+	 *
+	 * @param jobType     The type of job.
+	 * @param monitorType The monitor type processed by the job, <code>null</code> when the job is not per monitor type.
+	 * @param connectorId The connector identifier.
+	 */
+	private record JobAttributes(String jobType, String monitorType, String connectorId) {
+		private Attributes toAttributes() {
+			return monitorType == null
+				? Attributes.of(JOB_TYPE_KEY, jobType, CONNECTOR_ID_KEY, connectorId)
+				: Attributes.of(JOB_TYPE_KEY, jobType, MONITOR_TYPE_KEY, monitorType, CONNECTOR_ID_KEY, connectorId);
+		}
+	}
+
+	/**
+	 * Values of the attributes of a lookup in an engine cache.
+	 *
+	 * @param cache The name of the cache.
+	 * @param hit   Whether the lookup is a hit.
+	 */
+	private record CacheLookupAttributes(String cache, boolean hit) {
+		private Attributes toAttributes() {
+			return Attributes.of(CACHE_KEY, cache, RESULT_KEY, result(hit));
+		}
+	}
+
+	/**
+	 * Values of the attributes of a lookup in the source result cache of a connector.
+	 *
+	 * @param connectorId The connector identifier.
+	 * @param hit         Whether the lookup is a hit.
+	 */
+	private record SourceCacheLookupAttributes(String connectorId, boolean hit) {
+		private Attributes toAttributes() {
+			return Attributes.of(CACHE_KEY, SOURCE_CACHE, CONNECTOR_ID_KEY, connectorId, RESULT_KEY, result(hit));
+		}
+	}
+
+	/**
+	 * The set of instruments created from the same {@link Meter}
+	 */
+	private static class Instruments {
+
+		private final DoubleHistogram strategyDuration;
+		private final DoubleHistogram jobDuration;
+		private final DoubleHistogram requestDuration;
+		private final LongCounter requestErrors;
+		private final DoubleHistogram requestWaitDuration;
+		private final LongUpDownCounter requestsWaiting;
+		private final LongHistogram sourceRows;
+		private final LongHistogram sourceSize;
+		private final LongCounter cacheRequests;
+		private final LongUpDownCounter jobsQueued;
+		private final LongUpDownCounter jobsActive;
+		private final DoubleHistogram exportDuration;
+		private final DoubleHistogram dnsDuration;
+		private final LongCounter dnsErrors;
+
+		private Instruments(final Meter meter) {
+			strategyDuration =
+				meter
+					.histogramBuilder(STRATEGY_DURATION_METRIC)
+					.setDescription("Duration of the strategy executions.")
+					.setUnit("s")
+					.build();
+			jobDuration =
+				meter
+					.histogramBuilder(JOB_DURATION_METRIC)
+					.setDescription("Duration of the connector jobs.")
+					.setUnit("s")
+					.build();
+			requestDuration =
+				meter
+					.histogramBuilder(REQUEST_DURATION_METRIC)
+					.setDescription("Latency of the requests sent through the protocol extensions.")
+					.setUnit("s")
+					.build();
+			requestErrors =
+				meter
+					.counterBuilder(REQUEST_ERRORS_METRIC)
+					.setDescription("Number of failed requests sent through the protocol extensions.")
+					.setUnit("{request}")
+					.build();
+			requestWaitDuration =
+				meter
+					.histogramBuilder(REQUEST_WAIT_DURATION_METRIC)
+					.setDescription("Time spent by the requests waiting for the protocol concurrency limiter.")
+					.setUnit("s")
+					.build();
+			requestsWaiting =
+				meter
+					.upDownCounterBuilder(REQUESTS_WAITING_METRIC)
+					.setDescription("Number of requests waiting for the protocol concurrency limiter.")
+					.setUnit("{request}")
+					.build();
+			sourceRows =
+				meter
+					.histogramBuilder(SOURCE_ROWS_METRIC)
+					.ofLongs()
+					.setDescription("Number of rows of the source tables.")
+					.setUnit("{row}")
+					.build();
+			sourceSize =
+				meter
+					.histogramBuilder(SOURCE_SIZE_METRIC)
+					.ofLongs()
+					.setDescription("Size of the raw data of the source tables.")
+					.setUnit("By")
+					.build();
+			cacheRequests =
+				meter
+					.counterBuilder(CACHE_REQUESTS_METRIC)
+					.setDescription("Number of lookups in the engine caches.")
+					.setUnit("{request}")
+					.build();
+			jobsQueued =
+				meter
+					.upDownCounterBuilder(JOBS_QUEUED_METRIC)
+					.setDescription("Number of jobs waiting for a thread in the engine job pools.")
+					.setUnit("{job}")
+					.build();
+			jobsActive =
+				meter
+					.upDownCounterBuilder(JOBS_ACTIVE_METRIC)
+					.setDescription("Number of jobs running in the engine job pools.")
+					.setUnit("{job}")
+					.build();
+			exportDuration =
+				meter
+					.histogramBuilder(EXPORT_DURATION_METRIC)
+					.setDescription("Duration of the export of the collected metrics.")
+					.setUnit("s")
+					.build();
+			dnsDuration =
+				meter
+					.histogramBuilder(DNS_DURATION_METRIC)
+					.setDescription("Latency of the DNS lookups.")
+					.setUnit("s")
+					.build();
+			dnsErrors =
+				meter
+					.counterBuilder(DNS_ERRORS_METRIC)
+					.setDescription("Number of failed DNS lookups.")
+					.setUnit("{lookup}")
+					.build();
+		}
+	}
+}
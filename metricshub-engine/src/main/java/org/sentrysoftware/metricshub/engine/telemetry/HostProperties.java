@@ -25,12 +25,16 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.ToString;
+import org.sentrysoftware.metricshub.engine.strategy.ExecutionPlan;
 
 /**
  * Represents properties related to a host, including information about IPMI, WMI, WBEM, and connector namespaces.
@@ -59,6 +63,31 @@ public class HostProperties {
 	@Default
 	private Map<String, ConnectorNamespace> connectorNamespaces = new HashMap<>();
 
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private ExecutionPlan executionPlan;
+
+	/**
+	 * Number of consecutive collects that must return the same changed inventory before it is considered as changed.
+	 */
+	public static final int INVENTORY_CHANGE_CONFIRMATIONS = 2;
+
+	/**
+	 * Inventory of the instances returned by each multi-instance collect since the last discovery, indexed by connector
+	 * identifier and monitor type.
+	 */
+	@Default
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private Map<String, CollectInventory> collectInventories = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether the inventory of the collected instances has changed since the last discovery.
+	 */
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private volatile boolean collectInventoryChanged;
+
 	/**
 	 * Get the connector namespace defined for the given connector identifier
 	 *
@@ -70,4 +99,75 @@ public class HostProperties {
 			return connectorNamespaces.computeIfAbsent(connectorId, cn -> ConnectorNamespace.builder().build());
 		}
 	}
+
+	/**
+	 * Record the inventory of the instances returned by a multi-instance collect. The first inventory recorded after a
+	 * discovery is the reference. The collect inventory is flagged as changed only when the same inventory, different
+	 * from the reference, is returned by {@value #INVENTORY_CHANGE_CONFIRMATIONS} consecutive collects, so that an
+	 * inventory flapping between two states doesn't trigger a discovery on every other cycle.
+	 *
+	 * @param connectorId     The identifier of the connector defining the collect
+	 * @param monitorType     The type of the collected monitors
+	 * @param inventoryDigest The digest of the instance keys returned by the collect
+	 */
+	public void updateCollectInventory(
+		@NonNull final String connectorId,
+		@NonNull final String monitorType,
+		@NonNull final String inventoryDigest
+	) {
+		final CollectInventory collectInventory = collectInventories.compute(
+			connectorId + "/" + monitorType,
+			(key, previous) -> previous == null ? new CollectInventory(inventoryDigest) : previous.next(inventoryDigest)
+		);
+		if (collectInventory.isChanged()) {
+			collectInventoryChanged = true;
+		}
+	}
+
+	/**
+	 * Forget the recorded collect inventories, so that the next collect records the new reference. To be called once the
+	 * discovery has run.
+	 */
+	public void resetCollectInventories() {
+		collectInventories.clear();
+		collectInventoryChanged = false;
+	}
+
+	/**
+	 * The inventory of a multi-instance collect: the reference digest recorded after the discovery, the digest returned
+	 * by the last collect and the number of consecutive collects that returned it.
+	 *
+	 * @param referenceDigest The digest of the first inventory recorded after the discovery
+	 * @param lastDigest      The digest of the inventory returned by the last collect
+	 * @param lastCount       The number of consecutive collects that returned the last digest
+	 */
+	public record CollectInventory(String referenceDigest, String lastDigest, int lastCount) {
+		/**
+		 * Create the inventory of a collect with the given reference digest.
+		 *
+		 * @param referenceDigest The digest of the first inventory recorded after the discovery
+		 */
+		public CollectInventory(final String referenceDigest) {
+			this(referenceDigest, referenceDigest, 1);
+		}
+
+		/**
+		 * Record the digest returned by a new collect.
+		 *
+		 * @param digest The digest of the inventory returned by the collect
+		 * @return the updated {@link CollectInventory}
+		 */
+		public CollectInventory next(final String digest) {
+			return new CollectInventory(referenceDigest, digest, digest.equals(lastDigest) ? lastCount + 1 : 1);
+		}
+
+		/**
+		 * Whether a changed inventory has been returned by enough consecutive collects.
+		 *
+		 * @return <code>true</code> if the inventory is considered as changed
+		 */
+		public boolean isChanged() {
+			return !lastDigest.equals(referenceDigest) && lastCount >= INVENTORY_CHANGE_CONFIRMATIONS;
+		}
+	}
 }
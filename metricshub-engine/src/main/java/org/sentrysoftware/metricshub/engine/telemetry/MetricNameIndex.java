@@ -0,0 +1,138 @@
+package org.sentrysoftware.metricshub.engine.telemetry;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
+
+/**
+ * Secondary index of the metrics of a {@link Monitor}, from the metric name without attributes to the keys of its
+ * variants. E.g. <code>hw.fan.speed.limit</code> to <code>hw.fan.speed.limit{limit_type="low.critical"}</code> and
+ * <code>hw.fan.speed.limit{limit_type="low.degraded"}</code>.<br>
+ * The metrics are added and removed through the index ({@link Monitor#addMetric(String, AbstractMetric)} and
+ * {@link Monitor#removeMetric(String)}), which keeps it up to date, {@link Monitor#getMetrics()} only exposes an
+ * unmodifiable view. As the metrics map can still be replaced (builder, setter or deserialization), the index is
+ * rebuilt on lookup when the map instance has changed since the last update.<br>
+ * The monitor jobs run in parallel may update the metrics of the same monitor (the endpoint host), so all the
+ * operations are synchronized on the index.
+ */
+class MetricNameIndex {
+
+	private final Map<String, Set<String>> keysByName = new HashMap<>();
+
+	private Map<String, AbstractMetric> indexedMetrics;
+
+	/**
+	 * Put the given metric in the metrics map and record its key.
+	 *
+	 * @param metrics   The metrics map of the monitor.
+	 * @param metricKey The unique key of the metric.
+	 * @param metric    The metric instance.
+	 */
+	synchronized void put(final Map<String, AbstractMetric> metrics, final String metricKey, final AbstractMetric metric) {
+		final boolean inSync = isInSync(metrics);
+		metrics.put(metricKey, metric);
+
+		// When the index is not in sync with the map, it will be rebuilt by the next lookup
+		if (inSync) {
+			keysByName.computeIfAbsent(MetricFactory.extractName(metricKey), name -> new LinkedHashSet<>()).add(metricKey);
+		}
+	}
+
+	/**
+	 * Remove the given metric from the metrics map and forget its key.
+	 *
+	 * @param metrics   The metrics map of the monitor.
+	 * @param metricKey The unique key of the metric.
+	 * @return The removed metric, <code>null</code> if the metric was not in the map.
+	 */
+	synchronized AbstractMetric remove(final Map<String, AbstractMetric> metrics, final String metricKey) {
+		final boolean inSync = isInSync(metrics);
+		final AbstractMetric removed = metrics.remove(metricKey);
+
+		if (inSync) {
+			final String metricName = MetricFactory.extractName(metricKey);
+			final Set<String> keys = keysByName.get(metricName);
+			if (keys != null && keys.remove(metricKey) && keys.isEmpty()) {
+				keysByName.remove(metricName);
+			}
+		}
+
+		return removed;
+	}
+
+	/**
+	 * Get the metrics of the given map whose name without attributes is the given metric name.
+	 *
+	 * @param metrics    The metrics map of the monitor.
+	 * @param metricName The metric name without attributes. E.g. <code>hw.errors.limit</code>
+	 * @return The list of matching metrics, never <code>null</code>.
+	 */
+	synchronized List<AbstractMetric> get(final Map<String, AbstractMetric> metrics, final String metricName) {
+		if (!isInSync(metrics)) {
+			rebuild(metrics);
+		}
+
+		final Set<String> keys = keysByName.get(metricName);
+		if (keys == null) {
+			return Collections.emptyList();
+		}
+
+		final List<AbstractMetric> result = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			final AbstractMetric metric = metrics.get(key);
+			if (metric != null) {
+				result.add(metric);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Check whether the index reflects the given metrics map.
+	 *
+	 * @param metrics The metrics map of the monitor.
+	 * @return <code>true</code> if the map is the indexed one.
+	 */
+	private boolean isInSync(final Map<String, AbstractMetric> metrics) {
+		return metrics == indexedMetrics;
+	}
+
+	/**
+	 * Rebuild the index from the given metrics map.
+	 *
+	 * @param metrics The metrics map of the monitor.
+	 */
+	private void rebuild(final Map<String, AbstractMetric> metrics) {
+		keysByName.clear();
+		for (String key : metrics.keySet()) {
+			keysByName.computeIfAbsent(MetricFactory.extractName(key), name -> new LinkedHashSet<>()).add(key);
+		}
+		indexedMetrics = metrics;
+	}
+}
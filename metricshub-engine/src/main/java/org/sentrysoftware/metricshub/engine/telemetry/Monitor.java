@@ -21,16 +21,22 @@ package org.sentrysoftware.metricshub.engine.telemetry;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.ToString;
 import org.sentrysoftware.metricshub.engine.alert.AlertRule;
 import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
 import org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants;
@@ -68,6 +74,29 @@ public class Monitor {
 	@JsonProperty("is_endpoint")
 	private boolean isEndpoint;
 
+	/**
+	 * Number of consecutive discovery cycles in which the monitor has not been discovered
+	 */
+	@JsonIgnore
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private int missedDiscoveries;
+
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private final MetricNameIndex metricNameIndex = new MetricNameIndex();
+
+	/**
+	 * Get the metrics of the monitor. The returned map is an unmodifiable view, the metrics are added and removed
+	 * through {@link #addMetric(String, AbstractMetric)} and {@link #removeMetric(String)}.
+	 *
+	 * @return Unmodifiable map of the metrics by unique name
+	 */
+	public Map<String, AbstractMetric> getMetrics() {
+		return Collections.unmodifiableMap(metrics);
+	}
+
 	/**
 	 * Gets a metric of the specified type by name.
 	 *
@@ -97,7 +126,29 @@ public class Monitor {
 	 * @param metric     The metric instance to add
 	 */
 	public void addMetric(final String metricName, final AbstractMetric metric) {
-		metrics.put(metricName, metric);
+		metricNameIndex.put(metrics, metricName, metric);
+	}
+
+	/**
+	 * Remove a metric from the map of metrics
+	 *
+	 * @param metricName The unique name of the metric
+	 * @return The removed metric instance, {@code null} if the metric was not collected
+	 */
+	public AbstractMetric removeMetric(final String metricName) {
+		return metricNameIndex.remove(metrics, metricName);
+	}
+
+	/**
+	 * Get the variants of a metric, i.e. the metrics whose name without attributes is the given name.
+	 * E.g. <code>hw.fan.speed.limit{limit_type="low.critical"}</code> and
+	 * <code>hw.fan.speed.limit{limit_type="low.degraded"}</code> for <code>hw.fan.speed.limit</code>.
+	 *
+	 * @param metricName The metric name without attributes.
+	 * @return The list of metric variants, empty if the metric is not collected.
+	 */
+	public List<AbstractMetric> getMetricsByName(final String metricName) {
+		return metricNameIndex.get(metrics, metricName);
 	}
 
 	/**
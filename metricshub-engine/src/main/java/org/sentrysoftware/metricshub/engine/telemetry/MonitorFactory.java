@@ -31,6 +31,7 @@ import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubCons
 import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.UNDERSCORE;
 
 import java.net.InetAddress;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -43,12 +44,15 @@ import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.sentrysoftware.metricshub.engine.alert.AlertRule;
+import org.sentrysoftware.metricshub.engine.alert.AlertRuleFactory;
 import org.sentrysoftware.metricshub.engine.common.HostLocation;
 import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
 import org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants;
 import org.sentrysoftware.metricshub.engine.common.helpers.NetworkHelper;
 import org.sentrysoftware.metricshub.engine.common.helpers.StringHelper;
 import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.Connector;
+import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
 import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
 import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
 
@@ -156,6 +160,9 @@ public class MonitorFactory {
 			// Set the connector identifier attribute
 			setConnectorIdAttribute(foundMonitor);
 
+			// Attach the alert rules of the metrics
+			attachAlertRules(foundMonitor);
+
 			return foundMonitor;
 		} else {
 			final Monitor newMonitor = Monitor
@@ -170,6 +177,9 @@ public class MonitorFactory {
 			// Set the connector identifier attribute
 			setConnectorIdAttribute(newMonitor);
 
+			// Attach the alert rules of the metrics
+			attachAlertRules(newMonitor);
+
 			telemetryManager.addNewMonitor(newMonitor, monitorType, id);
 
 			return newMonitor;
@@ -187,6 +197,40 @@ public class MonitorFactory {
 		}
 	}
 
+	/**
+	 * Attaches the alert rules to the specified monitor. The rules are the ones given to the factory, otherwise the ones
+	 * built from the metric definitions of the connector. The rules already attached to the monitor are kept, so their
+	 * state is not lost when the monitor is discovered again.
+	 *
+	 * @param monitor The {@link Monitor} instance to which the alert rules should be attached.
+	 */
+	private void attachAlertRules(final Monitor monitor) {
+		if (alertRules == null) {
+			alertRules = buildConnectorAlertRules();
+		}
+
+		AlertRuleFactory.attachAlertRules(monitor, alertRules);
+	}
+
+	/**
+	 * Builds the alert rules of the metrics defined in the connector of the monitor.
+	 *
+	 * @return The alert rules keyed by metric name, empty if the connector is unknown.
+	 */
+	private Map<String, List<AlertRule>> buildConnectorAlertRules() {
+		if (connectorId == null) {
+			return Collections.emptyMap();
+		}
+
+		final ConnectorStore connectorStore = telemetryManager.getConnectorStore();
+		if (connectorStore == null || connectorStore.getStore() == null) {
+			return Collections.emptyMap();
+		}
+
+		final Connector connector = connectorStore.getStore().get(connectorId);
+		return connector != null ? AlertRuleFactory.buildAlertRules(connector.getMetrics()) : Collections.emptyMap();
+	}
+
 	/**
 	 * Creates the endpoint Host monitor
 	 *
@@ -0,0 +1,209 @@
+package org.sentrysoftware.metricshub.engine.telemetry;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limits the number of concurrent requests sent through the protocol extensions.<br>
+ * Two budgets are applied to each request: one per (hostname, protocol) pair and one global budget per protocol,
+ * shared by all the hosts of the agent. The permits are handed out in arrival order (fair semaphores) so that a host
+ * with many monitors cannot starve the others, and the time spent waiting is reported through {@link EngineMetrics}.
+ * <br>
+ * No limit is applied until {@link #configure(int, Map)} is called with positive values.
+ */
+@Slf4j
+public class ProtocolRequestLimiter {
+
+	private static final ProtocolRequestLimiter INSTANCE = new ProtocolRequestLimiter();
+
+	/**
+	 * Keys of the budgets held by the current thread, so that nested requests do not wait for their own permits
+	 */
+	private static final ThreadLocal<Set<String>> HELD_KEYS = ThreadLocal.withInitial(HashSet::new);
+
+	private final Map<String, Semaphore> hostSemaphores = new ConcurrentHashMap<>();
+
+	private final Map<String, Semaphore> protocolSemaphores = new ConcurrentHashMap<>();
+
+	private volatile int maxRequestsPerHost;
+
+	private volatile Map<String, Integer> maxRequestsPerProtocol = Map.of();
+
+	/**
+	 * Gets the static instance shared by all the hosts
+	 *
+	 * @return the static instance of the limiter
+	 */
+	public static ProtocolRequestLimiter getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Configures the budgets of the limiter. A value lower than or equal to zero means no limit.<br>
+	 * The requests already holding permits keep them until they complete.
+	 *
+	 * @param maxRequestsPerHost     Maximum number of concurrent requests per hostname and protocol.
+	 * @param maxRequestsPerProtocol Maximum number of concurrent requests per protocol, all hosts included. The keys are
+	 *                               the protocol extension identifiers (case insensitive).
+	 */
+	public synchronized void configure(final int maxRequestsPerHost, final Map<String, Integer> maxRequestsPerProtocol) {
+		final Map<String, Integer> protocolBudgets = new HashMap<>();
+		if (maxRequestsPerProtocol != null) {
+			maxRequestsPerProtocol.forEach((protocol, max) -> {
+				if (protocol != null && max != null && max > 0) {
+					protocolBudgets.put(protocol.toLowerCase(), max);
+				}
+			});
+		}
+
+		this.maxRequestsPerHost = maxRequestsPerHost;
+		this.maxRequestsPerProtocol = Map.copyOf(protocolBudgets);
+		hostSemaphores.clear();
+		protocolSemaphores.clear();
+	}
+
+	/**
+	 * Executes the given request once a permit is available in both the hostname and the protocol budgets.
+	 *
+	 * @param <T>      The type of the request result.
+	 * @param hostname The hostname targeted by the request.
+	 * @param protocol The identifier of the protocol extension sending the request, requests without identifier are
+	 *                 not limited.
+	 * @param request  The request to execute.
+	 * @return The result of the request, or <code>null</code> if the thread has been interrupted while waiting.
+	 */
+	public <T> T execute(final String hostname, final String protocol, @NonNull final Supplier<T> request) {
+		if (protocol == null) {
+			return request.get();
+		}
+
+		final String protocolKey = protocol.toLowerCase();
+		final Semaphore hostSemaphore = getHostSemaphore(hostname, protocolKey);
+		final Semaphore protocolSemaphore = getProtocolSemaphore(protocolKey);
+
+		if (hostSemaphore == null && protocolSemaphore == null) {
+			return request.get();
+		}
+
+		final String hostKey = hostname + "|" + protocolKey;
+		final Set<String> heldKeys = HELD_KEYS.get();
+		final boolean acquireHost = hostSemaphore != null && heldKeys.add(hostKey);
+		final boolean acquireProtocol = protocolSemaphore != null && heldKeys.add(protocolKey);
+
+		// Nested request, the permits are already held by the current thread
+		if (!acquireHost && !acquireProtocol) {
+			return request.get();
+		}
+
+		boolean hostAcquired = false;
+		boolean protocolAcquired = false;
+		final long waitStart = System.nanoTime();
+		EngineMetrics.recordRequestWaitStart(protocolKey);
+		try {
+			if (acquireHost) {
+				hostSemaphore.acquire();
+				hostAcquired = true;
+			}
+			if (acquireProtocol) {
+				protocolSemaphore.acquire();
+				protocolAcquired = true;
+			}
+			EngineMetrics.recordRequestWaitEnd(protocolKey, waitStart);
+
+			return request.get();
+		} catch (InterruptedException e) {
+			EngineMetrics.recordRequestWaitEnd(protocolKey, waitStart);
+			Thread.currentThread().interrupt();
+			log.debug("Hostname {} - Interrupted while waiting for a {} request permit.", hostname, protocolKey);
+			return null;
+		} finally {
+			if (protocolAcquired) {
+				protocolSemaphore.release();
+			}
+			if (hostAcquired) {
+				hostSemaphore.release();
+			}
+			if (acquireProtocol) {
+				heldKeys.remove(protocolKey);
+			}
+			if (acquireHost) {
+				heldKeys.remove(hostKey);
+			}
+		}
+	}
+
+	/**
+	 * Runs the given request once a permit is available in both the hostname and the protocol budgets.
+	 *
+	 * @param hostname The hostname targeted by the request.
+	 * @param protocol The identifier of the protocol extension sending the request.
+	 * @param request  The request to run.
+	 */
+	public void run(final String hostname, final String protocol, @NonNull final Runnable request) {
+		execute(
+			hostname,
+			protocol,
+			() -> {
+				request.run();
+				return null;
+			}
+		);
+	}
+
+	/**
+	 * Gets the fair semaphore of the hostname and protocol pair, creating it if it does not exist.
+	 *
+	 * @param hostname    The hostname targeted by the request.
+	 * @param protocolKey The lower case protocol identifier.
+	 * @return The semaphore, or <code>null</code> if the requests per host are not limited.
+	 */
+	private Semaphore getHostSemaphore(final String hostname, final String protocolKey) {
+		final int max = maxRequestsPerHost;
+		if (max <= 0 || hostname == null) {
+			return null;
+		}
+		return hostSemaphores.computeIfAbsent(hostname + "|" + protocolKey, key -> new Semaphore(max, true));
+	}
+
+	/**
+	 * Gets the fair semaphore of the protocol, creating it if it does not exist.
+	 *
+	 * @param protocolKey The lower case protocol identifier.
+	 * @return The semaphore, or <code>null</code> if the requests of this protocol are not limited.
+	 */
+	private Semaphore getProtocolSemaphore(final String protocolKey) {
+		final Integer max = maxRequestsPerProtocol.get(protocolKey);
+		if (max == null) {
+			return null;
+		}
+		return protocolSemaphores.computeIfAbsent(protocolKey, key -> new Semaphore(max, true));
+	}
+}
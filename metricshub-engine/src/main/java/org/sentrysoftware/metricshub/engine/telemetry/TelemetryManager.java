@@ -26,6 +26,7 @@ import static org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorTy
 import io.opentelemetry.instrumentation.annotations.SpanAttribute;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -50,6 +51,7 @@ import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
 import org.sentrysoftware.metricshub.engine.connector.model.common.EmbeddedFile;
 import org.sentrysoftware.metricshub.engine.strategy.ContextExecutor;
 import org.sentrysoftware.metricshub.engine.strategy.IStrategy;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
 
 /**
  * The `TelemetryManager` class manages telemetry-related operations, monitors, and strategies.
@@ -104,6 +106,7 @@ public class TelemetryManager {
 	void runStrategy(final IStrategy strategy) {
 		final String hostname = hostConfiguration.getHostname();
 		strategyTime = strategy.getStrategyTime();
+		final long startNano = System.nanoTime();
 
 		try {
 			new ContextExecutor(strategy).execute();
@@ -132,6 +135,8 @@ public class TelemetryManager {
 				e.getClass().getSimpleName()
 			);
 			log.debug("Hostname {} - Operation failed with exception: ", hostname, e);
+		} finally {
+			EngineMetrics.recordStrategyDuration(strategy.getClass().getSimpleName(), startNano);
 		}
 	}
 
@@ -170,6 +175,21 @@ public class TelemetryManager {
 		return monitorsVo;
 	}
 
+	/**
+	 * Publish a snapshot of all the metrics of this telemetry manager. To be called when the collect cycle is complete,
+	 * so that the metric readers running concurrently see the metrics of the same cycle.
+	 */
+	public void publishMetricSnapshots() {
+		synchronized (monitors) {
+			monitors
+				.values()
+				.stream()
+				.map(Map::values)
+				.flatMap(Collection::stream)
+				.forEach(monitor -> monitor.getMetrics().values().forEach(AbstractMetric::publish));
+		}
+	}
+
 	/**
 	 * Finds a monitor using its type and its id attribute
 	 * @param type monitor's type
@@ -223,6 +243,25 @@ public class TelemetryManager {
 		}
 	}
 
+	/**
+	 * Remove the given monitor. The type entry is removed as well when it has no monitor left.
+	 *
+	 * @param monitor The monitor to remove
+	 * @return <code>true</code> if the monitor has been removed
+	 */
+	public boolean removeMonitor(@NonNull final Monitor monitor) {
+		synchronized (monitors) {
+			final Map<String, Monitor> sameTypeMonitors = monitors.get(monitor.getType());
+			if (sameTypeMonitors == null || !sameTypeMonitors.remove(monitor.getId(), monitor)) {
+				return false;
+			}
+			if (sameTypeMonitors.isEmpty()) {
+				monitors.remove(monitor.getType());
+			}
+			return true;
+		}
+	}
+
 	/**
 	 * Return the root host monitor instance
 	 *
@@ -255,8 +294,8 @@ public class TelemetryManager {
 	 * @return the parent monitor which is a {@link Monitor} instance
 	 */
 	public Monitor findParentMonitor(final Monitor monitor) {
-		final String hwParentId = monitor.getAttribute("hw.parent.id");
-		final String hwParentType = monitor.getAttribute("hw.parent.type");
+		final String hwParentId = monitor.getAttribute(MetricsHubConstants.MONITOR_ATTRIBUTE_HW_PARENT_ID);
+		final String hwParentType = monitor.getAttribute(MetricsHubConstants.MONITOR_ATTRIBUTE_HW_PARENT_TYPE);
 
 		if (hwParentType != null && hwParentId != null) {
 			Optional<Map<String, Monitor>> sameTypeMonitors = Optional.ofNullable(findMonitorsByType(hwParentType));
@@ -21,12 +21,17 @@ package org.sentrysoftware.metricshub.engine.telemetry.metric;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import java.util.HashMap;
 import java.util.Map;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * An abstract base class representing a telemetry metric. Concrete implementations
@@ -49,6 +54,12 @@ public abstract class AbstractMetric {
 	private Map<String, String> attributes = new HashMap<>();
 	private boolean resetMetricTime;
 
+	@JsonIgnore
+	@Setter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private volatile MetricSnapshot<?> snapshot;
+
 	/**
 	 * Constructs an AbstractMetric with the given name, collect time, and attributes.
 	 *
@@ -97,4 +108,37 @@ public abstract class AbstractMetric {
 	 * @return The value of the metric.
 	 */
 	public abstract <T> T getValue();
+
+	/**
+	 * Gets the value of the metric collected in the previous cycle.
+	 *
+	 * @param <T> The type of the metric value.
+	 * @return The previous value of the metric.
+	 */
+	public abstract <T> T getPreviousValue();
+
+	/**
+	 * Publish an immutable snapshot of the metric. Called by the collecting thread once the cycle is complete, the
+	 * snapshot is then read without lock by the other threads.
+	 */
+	public void publish() {
+		snapshot = new MetricSnapshot<>(getValue(), getPreviousValue(), collectTime, isUpdated());
+	}
+
+	/**
+	 * Get the last published snapshot of the metric. If the metric has never been published, the snapshot is built
+	 * from its current state.
+	 *
+	 * @param <T> The type of the metric value.
+	 * @return {@link MetricSnapshot} instance
+	 */
+	@JsonIgnore
+	@SuppressWarnings("unchecked")
+	public <T> MetricSnapshot<T> getSnapshot() {
+		final MetricSnapshot<?> published = snapshot;
+		if (published != null) {
+			return (MetricSnapshot<T>) published;
+		}
+		return new MetricSnapshot<>(getValue(), getPreviousValue(), collectTime, isUpdated());
+	}
 }
@@ -0,0 +1,35 @@
+package org.sentrysoftware.metricshub.engine.telemetry.metric;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Engine
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+/**
+ * Immutable view of a metric, published at the end of a collect cycle. Readers running on other threads, such as the
+ * OpenTelemetry observer callbacks, see the value, the previous value and the collect time of the same cycle, while
+ * the next collect updates the metric.
+ *
+ * @param <T>           The type of the metric value.
+ * @param value         The value of the metric.
+ * @param previousValue The value of the metric collected in the previous cycle.
+ * @param collectTime   The timestamp when the metric was collected.
+ * @param updated       Whether the metric has been collected during the cycle.
+ */
+public record MetricSnapshot<T>(T value, T previousValue, Long collectTime, boolean updated) {}
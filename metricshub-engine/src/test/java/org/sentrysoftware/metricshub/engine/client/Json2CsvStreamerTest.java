@@ -0,0 +1,139 @@
+package org.sentrysoftware.metricshub.engine.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.jflat.JFlat;
+import org.sentrysoftware.metricshub.engine.common.helpers.ResourceHelper;
+
+class Json2CsvStreamerTest {
+
+	private static final String NESTED_JSON =
+		"""
+		{
+			"Name": "enclosure",
+			"Members": [
+				{ "Id": "disk-1", "Size": 1.50, "Count": 12, "Big": 1e3, "Zero": -0, "Ok": true, "Status": { "Health": "OK" } },
+				{ "Id": "disk-2", "Size": 2, "Count": 3, "Big": 2E-2, "Zero": 0, "Ok": false, "Status": { "Health": null } },
+				{ "id": "disk-3", "Extra": [ [1, 2], { "a": "b" } ] }
+			],
+			"Controllers": [
+				{ "Name": "ctrl-1", "Ports": [ { "Name": "port-1" }, { "Name": "port-2" } ] },
+				{ "Name": "ctrl-2", "Ports": { "Name": "single" } }
+			],
+			"Empty": []
+		}
+		""";
+
+	private static String convertWithJFlat(
+		final String json,
+		final String entryKey,
+		final List<String> properties,
+		final String separator
+	) throws Exception {
+		final JFlat jsonFlat = new JFlat(json);
+		jsonFlat.parse();
+		return jsonFlat.toCSV(entryKey, properties.toArray(new String[0]), separator).toString();
+	}
+
+	private static String convert(
+		final String json,
+		final String entryKey,
+		final List<String> properties,
+		final String separator
+	) throws Exception {
+		return Json2CsvStreamer.toCsv(
+			new Json2CsvStreamer(entryKey, properties, separator, TimeUnit.SECONDS.toNanos(60)).convert(json),
+			separator
+		);
+	}
+
+	private static void assertSameAsJFlat(
+		final String json,
+		final String entryKey,
+		final List<String> properties,
+		final String separator
+	) throws Exception {
+		assertEquals(
+			convertWithJFlat(json, entryKey, properties, separator),
+			convert(json, entryKey, properties, separator)
+		);
+	}
+
+	@Test
+	void testConvert() throws Exception {
+		final String json = ResourceHelper.getResourceAsString(
+			"/test-files/compute/json2Csv/json2CsvSample.json",
+			Json2CsvStreamerTest.class
+		);
+
+		assertEquals(
+			"/monitors[0];enclosure-1;enclosure-1;ENCLOSURE;hostId;\n" +
+			"/monitors[1];enclosure-2;enclosure-2;ENCLOSURE;hostId;\n",
+			convert(json, "/monitors", List.of("id", "name", "monitorType", "hostId"), ";")
+		);
+		assertSameAsJFlat(
+			json,
+			"/monitors/parameters/present",
+			List.of("name", "state/numericValue", "../../id", "collectTime", "."),
+			";"
+		);
+	}
+
+	@Test
+	void testSameAsJFlat() throws Exception {
+		assertSameAsJFlat(
+			NESTED_JSON,
+			"/Members",
+			List.of("Id", "size", "Count", "Big", "Zero", "Ok", "Status/Health", "Status", "Extra", "Missing"),
+			";"
+		);
+		assertSameAsJFlat(NESTED_JSON, "members", List.of("./Id", "/Extra[1]/a", "Extra[0][1]", "../Name", "."), ",");
+		assertSameAsJFlat(NESTED_JSON, "/Controllers/Ports", List.of("Name", "../Name", "../../Name"), null);
+		assertSameAsJFlat(NESTED_JSON, "", List.of("Name", "Members", "Empty", "."), "|");
+		assertSameAsJFlat(NESTED_JSON, "/Empty", List.of("."), ";");
+		assertSameAsJFlat(NESTED_JSON, "/Unknown", List.of("Name"), ";");
+		assertSameAsJFlat("[ { \"a\": 1 }, { \"a\": 2, \"b\": [ 3 ] } ]", "/", List.of("a", "b", "b[0]"), ";");
+		assertSameAsJFlat("[ { \"a\": { \"c\": 1 } }, { \"a\": [ { \"c\": 2 } ] } ]", "/a", List.of("c"), ";");
+	}
+
+	@Test
+	void testPropertyAboveRoot() throws Exception {
+		// A property going above the root of the document is never found, like a missing property
+		assertEquals(
+			convert(NESTED_JSON, "/Members", List.of("Id", "Missing"), ";"),
+			convert(NESTED_JSON, "/Members", List.of("Id", "a/../../../b"), ";")
+		);
+		assertEquals(
+			convert(NESTED_JSON, "/Controllers", List.of("Missing"), ";"),
+			convert(NESTED_JSON, "/Controllers", List.of("../../Name"), ";")
+		);
+	}
+
+	@Test
+	void testInvalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> convert(NESTED_JSON, null, List.of("Name"), ";"));
+		assertThrows(IllegalArgumentException.class, () -> convert(NESTED_JSON, "/", null, ";"));
+		assertThrows(IOException.class, () -> convert("{ \"a\": ", "/", List.of("a"), ";"));
+		assertThrows(IOException.class, () -> convert("12", "/", List.of("a"), ";"));
+	}
+
+	@Test
+	void testTimeout() {
+		final StringBuilder json = new StringBuilder("[");
+		for (int index = 0; index < 5000; index++) {
+			json.append(index > 0 ? "," : "").append("{\"a\":").append(index).append('}');
+		}
+		json.append(']');
+
+		assertThrows(
+			TimeoutException.class,
+			() -> new Json2CsvStreamer("/", List.of("a"), ";", -1).convert(json.toString())
+		);
+	}
+}
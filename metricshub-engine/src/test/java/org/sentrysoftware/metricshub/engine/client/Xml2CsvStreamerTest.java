@@ -0,0 +1,105 @@
+package org.sentrysoftware.metricshub.engine.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.metricshub.engine.common.helpers.ResourceHelper;
+import org.sentrysoftware.xflat.XFlat;
+import org.sentrysoftware.xflat.exceptions.XFlatException;
+
+class Xml2CsvStreamerTest {
+
+	private static final String NESTED_XML =
+		"""
+		<?xml version="1.0" encoding="UTF-8"?>
+		<root>
+			<enclosure id="encl-1" vendor="Acme">
+				<name>Enclosure 1</name>
+				<disk id="disk-1"><model>M1</model><status health="OK">online</status></disk>
+				<disk id="disk-2"><model><![CDATA[M<2>]]></model><status>offline</status></disk>
+				<controller id="ctrl-1">
+					<port name="port-1"><speed>10</speed></port>
+					<port name="port-2"/>
+				</controller>
+				<Disk id="upper"><model>M3</model></Disk>
+			</enclosure>
+			<enclosure id="encl-2">
+				<name>Enclosure &amp; 2</name>
+			</enclosure>
+			<other>
+				<enclosure id="encl-3"><enclosure id="encl-4"><name>inner</name></enclosure></enclosure>
+			</other>
+		</root>
+		""";
+
+	private static void assertSameAsXFlat(final String xml, final String properties, final String recordTag)
+		throws Exception {
+		final List<List<String>> result = new Xml2CsvStreamer(properties, recordTag).convert(xml);
+
+		final List<List<String>> expected;
+		try {
+			expected = XFlat.parseXml(xml, properties, recordTag);
+		} catch (XFlatException | NullPointerException e) {
+			// XFlat fails on missing attributes in repeated elements, where the streamer leaves the cell empty
+			assertTrue(result.stream().flatMap(List::stream).anyMatch(String::isEmpty));
+			return;
+		}
+		assertEquals(expected, result, () -> properties + " from " + recordTag);
+	}
+
+	@Test
+	void testConvert() throws Exception {
+		final String xml = ResourceHelper.getResourceAsString("/test-files/compute/xml2Csv/xml2Csv.xml", getClass());
+		final String properties =
+			">classId;outConfigs/equipmentFan>dn;outConfigs/equipmentFan>serial;outConfigs/equipmentFan>model;" +
+			"outConfigs/equipmentFan>vendor;outConfigs/equipmentFan>operState";
+
+		final List<List<String>> result = new Xml2CsvStreamer(properties, "/configResolveClass").convert(xml);
+
+		assertEquals(
+			List.of(
+				"equipmentFan",
+				"sys/switch-A/fan-module-1-1/fan-1",
+				"N/A",
+				"N10-FAN1",
+				"Cisco Systems, Inc.",
+				"operable"
+			),
+			result.get(0)
+		);
+		assertSameAsXFlat(xml, properties, "/configResolveClass");
+	}
+
+	@Test
+	void testSameAsXFlat() throws Exception {
+		for (String recordTag : List.of("/root", "/root/enclosure", "/enclosure", "/root/missing", "/missing")) {
+			for (String properties : List.of(
+				"enclosure>id;enclosure/name",
+				">id;>vendor;name",
+				">id;disk>id;disk/model;disk/status;disk/status>health",
+				"disk/model;Disk/model;>id",
+				"controller/port>name;controller/port/speed;controller>id;name",
+				"disk/model;disk/../name;disk/..>id",
+				"name;missing;missing>id;disk/missing",
+				"enclosure/name;>id",
+				"disk;controller"
+			)) {
+				assertSameAsXFlat(NESTED_XML, properties, recordTag);
+			}
+		}
+	}
+
+	@Test
+	void testInvalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new Xml2CsvStreamer(" ", "/root"));
+		assertThrows(IllegalArgumentException.class, () -> new Xml2CsvStreamer("name", null));
+		assertThrows(IllegalArgumentException.class, () -> new Xml2CsvStreamer(" ; ", "/root"));
+		assertThrows(IllegalArgumentException.class, () -> new Xml2CsvStreamer("a>b>c", "/root"));
+		assertThrows(IllegalArgumentException.class, () -> new Xml2CsvStreamer("name", "/root").convert(""));
+		assertThrows(XMLStreamException.class, () -> new Xml2CsvStreamer("name", "/root").convert("<root><name>"));
+	}
+}
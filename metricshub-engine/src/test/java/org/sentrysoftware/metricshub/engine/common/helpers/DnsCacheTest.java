@@ -0,0 +1,120 @@
+package org.sentrysoftware.metricshub.engine.common.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class DnsCacheTest {
+
+	private static final String HOSTNAME = "host-01";
+	private static final String IP_ADDRESS = "10.0.0.1";
+	private static final String FQDN = "host-01.domain.com";
+
+	@AfterEach
+	void tearDown() {
+		DnsCache.getInstance().configure(false, 0, 0);
+	}
+
+	@Test
+	void testGetByNameDisabled() throws Exception {
+		final InetAddress inetAddress = mock(InetAddress.class);
+		try (MockedStatic<InetAddress> inetAddressMock = mockStatic(InetAddress.class)) {
+			inetAddressMock.when(() -> InetAddress.getByName(eq(HOSTNAME))).thenReturn(inetAddress);
+
+			assertSame(inetAddress, DnsCache.getInstance().getByName(HOSTNAME));
+			assertSame(inetAddress, DnsCache.getInstance().getByName(HOSTNAME));
+
+			inetAddressMock.verify(() -> InetAddress.getByName(HOSTNAME), times(2));
+		}
+	}
+
+	@Test
+	void testGetByName() throws Exception {
+		DnsCache.getInstance().configure(true, 300, 30);
+
+		final InetAddress inetAddress = mock(InetAddress.class);
+		try (MockedStatic<InetAddress> inetAddressMock = mockStatic(InetAddress.class)) {
+			inetAddressMock.when(() -> InetAddress.getByName(eq(HOSTNAME))).thenReturn(inetAddress);
+
+			assertSame(inetAddress, DnsCache.getInstance().getByName(HOSTNAME));
+			assertSame(inetAddress, DnsCache.getInstance().getByName(HOSTNAME));
+			inetAddressMock.verify(() -> InetAddress.getByName(HOSTNAME), times(1));
+
+			// The entries are dropped when the cache is configured again
+			DnsCache.getInstance().configure(true, 300, 30);
+			assertSame(inetAddress, DnsCache.getInstance().getByName(HOSTNAME));
+			inetAddressMock.verify(() -> InetAddress.getByName(HOSTNAME), times(2));
+		}
+	}
+
+	@Test
+	void testGetByNameNegative() throws Exception {
+		DnsCache.getInstance().configure(true, 300, 30);
+
+		try (MockedStatic<InetAddress> inetAddressMock = mockStatic(InetAddress.class)) {
+			inetAddressMock.when(() -> InetAddress.getByName(eq(HOSTNAME))).thenThrow(new UnknownHostException(HOSTNAME));
+
+			assertThrows(UnknownHostException.class, () -> DnsCache.getInstance().getByName(HOSTNAME));
+			assertThrows(UnknownHostException.class, () -> DnsCache.getInstance().getByName(HOSTNAME));
+			inetAddressMock.verify(() -> InetAddress.getByName(HOSTNAME), times(1));
+		}
+	}
+
+	@Test
+	void testGetByNameNegativeNotCached() throws Exception {
+		DnsCache.getInstance().configure(true, 300, 0);
+
+		try (MockedStatic<InetAddress> inetAddressMock = mockStatic(InetAddress.class)) {
+			inetAddressMock.when(() -> InetAddress.getByName(eq(HOSTNAME))).thenThrow(new UnknownHostException(HOSTNAME));
+
+			assertThrows(UnknownHostException.class, () -> DnsCache.getInstance().getByName(HOSTNAME));
+			assertThrows(UnknownHostException.class, () -> DnsCache.getInstance().getByName(HOSTNAME));
+			inetAddressMock.verify(() -> InetAddress.getByName(HOSTNAME), times(2));
+		}
+	}
+
+	@Test
+	void testGetCanonicalHostName() throws Exception {
+		DnsCache.getInstance().configure(true, 300, 30);
+
+		final InetAddress inetAddress = mock(InetAddress.class);
+		when(inetAddress.getHostAddress()).thenReturn(IP_ADDRESS);
+		when(inetAddress.getCanonicalHostName()).thenReturn(FQDN);
+		try (MockedStatic<InetAddress> inetAddressMock = mockStatic(InetAddress.class)) {
+			inetAddressMock.when(() -> InetAddress.getByName(eq(HOSTNAME))).thenReturn(inetAddress);
+
+			assertEquals(FQDN, DnsCache.getInstance().getCanonicalHostName(HOSTNAME));
+			assertEquals(FQDN, DnsCache.getInstance().getCanonicalHostName(HOSTNAME));
+			verify(inetAddress, times(1)).getCanonicalHostName();
+		}
+	}
+
+	@Test
+	void testGetCanonicalHostNameReverseLookupFailed() throws Exception {
+		DnsCache.getInstance().configure(true, 300, 0);
+
+		final InetAddress inetAddress = mock(InetAddress.class);
+		when(inetAddress.getHostAddress()).thenReturn(IP_ADDRESS);
+		when(inetAddress.getCanonicalHostName()).thenReturn(IP_ADDRESS);
+		try (MockedStatic<InetAddress> inetAddressMock = mockStatic(InetAddress.class)) {
+			inetAddressMock.when(() -> InetAddress.getByName(eq(HOSTNAME))).thenReturn(inetAddress);
+
+			// The IP address is returned, and the failed reverse lookup is not kept
+			assertEquals(IP_ADDRESS, DnsCache.getInstance().getCanonicalHostName(HOSTNAME));
+			assertEquals(IP_ADDRESS, DnsCache.getInstance().getCanonicalHostName(HOSTNAME));
+			verify(inetAddress, times(2)).getCanonicalHostName();
+		}
+	}
+}
@@ -106,6 +106,27 @@ class HttpSourceDeserializerTest extends DeserializerTest {
 		assertEquals(expected, connector.getBeforeAll());
 	}
 
+	@Test
+	void testDeserializeHttpSourceWithCacheResponse() throws IOException {
+		final Connector connector = getConnector("httpCacheResponse");
+
+		final Map<String, Source> expected = new LinkedHashMap<>(
+			Map.of(
+				"chassis",
+				HttpSource
+					.builder()
+					.key("${source::beforeAll.chassis}")
+					.type("http")
+					.url("/redfish/v1/Chassis")
+					.method(GET)
+					.cacheResponse(true)
+					.build()
+			)
+		);
+
+		assertEquals(expected, connector.getBeforeAll());
+	}
+
 	@Test
 	void testDeserializeHttpSourceWithExecuteForEachEntryOf() throws IOException {
 		final Connector connector = getConnector("httpExecuteForEachEntryOf");
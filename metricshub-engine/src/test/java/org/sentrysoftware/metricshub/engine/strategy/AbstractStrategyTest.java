@@ -16,20 +16,26 @@ import static org.sentrysoftware.metricshub.engine.strategy.AbstractStrategy.CON
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.sentrysoftware.metricshub.engine.client.ClientsExecutor;
+import org.sentrysoftware.metricshub.engine.common.JobInfo;
 import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
 import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
 import org.sentrysoftware.metricshub.engine.connector.model.Connector;
+import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
+import org.sentrysoftware.metricshub.engine.connector.model.identity.ConnectorIdentity;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.MonitorJob;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.SimpleMonitorJob;
 import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.Simple;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.StaticSource;
 import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
 import org.sentrysoftware.metricshub.engine.extension.TestConfiguration;
 import org.sentrysoftware.metricshub.engine.strategy.collect.CollectStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.simple.SimpleStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.surrounding.BeforeAllStrategy;
+import org.sentrysoftware.metricshub.engine.telemetry.ConnectorNamespace;
 import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
@@ -339,4 +345,71 @@ class AbstractStrategyTest {
 		);
 		assertEquals("Unknown strategy job name: unknown", exception.getMessage());
 	}
+
+	@Test
+	void testProcessSourcesAndComputesWithCache() {
+		final String sourceKey = "${source::monitors.cpu.collect.sources.source1}";
+		final String otherSourceKey = "${source::monitors.cpu.collect.sources.source2}";
+		final StaticSource cachedSource = StaticSource.builder().key(sourceKey).value("a;b").build();
+		cachedSource.setCacheTtl(60L);
+		final StaticSource otherSource = StaticSource.builder().key(otherSourceKey).value("1;2").build();
+
+		// The other source uses the default time to live of the connector
+		final ConnectorIdentity connectorIdentity = new ConnectorIdentity();
+		connectorIdentity.setSourceCacheTtl(10L);
+		final ConnectorStore connectorStore = new ConnectorStore();
+		connectorStore.setStore(
+			new HashMap<>(Map.of(TEST_CONNECTOR_ID, Connector.builder().connectorIdentity(connectorIdentity).build()))
+		);
+
+		final TelemetryManager telemetryManager = TelemetryManager
+			.builder()
+			.connectorStore(connectorStore)
+			.hostConfiguration(HostConfiguration.builder().hostId(HOST_ID).hostname(HOST_NAME).build())
+			.build();
+		final CollectStrategy collectStrategy = CollectStrategy
+			.builder()
+			.telemetryManager(telemetryManager)
+			.strategyTime(0L)
+			.clientsExecutor(new ClientsExecutor())
+			.extensionManager(new ExtensionManager())
+			.build();
+		final JobInfo jobInfo = JobInfo
+			.builder()
+			.hostname(HOST_NAME)
+			.connectorId(TEST_CONNECTOR_ID)
+			.monitorType("cpu")
+			.jobName("collect")
+			.build();
+		final ConnectorNamespace connectorNamespace = telemetryManager
+			.getHostProperties()
+			.getConnectorNamespace(TEST_CONNECTOR_ID);
+
+		collectStrategy.processSourcesAndComputes(List.of(cachedSource, otherSource), jobInfo);
+		assertEquals(List.of(List.of("a", "b")), connectorNamespace.getSourceTable(sourceKey).getTable());
+
+		// Within the time to live, the cached results are used
+		cachedSource.setValue("c;d");
+		otherSource.setValue("3;4");
+		collectStrategy.setStrategyTime(9_000L);
+		collectStrategy.processSourcesAndComputes(List.of(cachedSource, otherSource), jobInfo);
+		assertEquals(List.of(List.of("a", "b")), connectorNamespace.getSourceTable(sourceKey).getTable());
+		assertEquals(List.of(List.of("1", "2")), connectorNamespace.getSourceTable(otherSourceKey).getTable());
+
+		// The default time to live of the connector has expired
+		collectStrategy.setStrategyTime(30_000L);
+		collectStrategy.processSourcesAndComputes(List.of(cachedSource, otherSource), jobInfo);
+		assertEquals(List.of(List.of("a", "b")), connectorNamespace.getSourceTable(sourceKey).getTable());
+		assertEquals(List.of(List.of("3", "4")), connectorNamespace.getSourceTable(otherSourceKey).getTable());
+
+		// The discovery clears the cache
+		connectorNamespace.clearSourceTableCache();
+		collectStrategy.processSourcesAndComputes(List.of(cachedSource), jobInfo);
+		assertEquals(List.of(List.of("c", "d")), connectorNamespace.getSourceTable(sourceKey).getTable());
+
+		// The mono-instance sources are never cached
+		cachedSource.setValue("e;f");
+		collectStrategy.processSourcesAndComputes(List.of(cachedSource), Map.of("id", "cpu-1"), jobInfo);
+		assertEquals(List.of(List.of("e", "f")), connectorNamespace.getSourceTable(sourceKey).getTable());
+	}
 }
@@ -0,0 +1,144 @@
+package org.sentrysoftware.metricshub.engine.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sentrysoftware.metricshub.engine.common.JobInfo;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.configuration.IConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
+import org.sentrysoftware.metricshub.engine.connector.model.identity.criterion.HttpCriterion;
+import org.sentrysoftware.metricshub.engine.connector.model.identity.criterion.SnmpGetCriterion;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.HttpSource;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.SnmpGetSource;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.Source;
+import org.sentrysoftware.metricshub.engine.extension.ExtensionManager;
+import org.sentrysoftware.metricshub.engine.extension.IProtocolExtension;
+import org.sentrysoftware.metricshub.engine.extension.TestConfiguration;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutionPlanTest {
+
+	private static final String HOST_NAME = "host-01";
+	private static final JobInfo JOB_INFO = JobInfo
+		.builder()
+		.connectorId("connector")
+		.hostname(HOST_NAME)
+		.monitorType("enclosure")
+		.jobName("discovery")
+		.build();
+
+	@Mock
+	private IProtocolExtension protocolExtensionMock;
+
+	private ExtensionManager extensionManager;
+	private TelemetryManager telemetryManager;
+
+	@BeforeEach
+	void setUp() {
+		extensionManager = ExtensionManager.builder().withProtocolExtensions(List.of(protocolExtensionMock)).build();
+		final Map<Class<? extends IConfiguration>, IConfiguration> configurations = new HashMap<>(
+			Map.of(TestConfiguration.class, TestConfiguration.builder().build())
+		);
+		telemetryManager =
+			TelemetryManager
+				.builder()
+				.hostConfiguration(
+					HostConfiguration
+						.builder()
+						.hostname(HOST_NAME)
+						.hostId(HOST_NAME)
+						.hostType(DeviceKind.LINUX)
+						.configurations(configurations)
+						.build()
+				)
+				.build();
+	}
+
+	@Test
+	void testExtensionsResolvedOnce() {
+		doReturn(true).when(protocolExtensionMock).isValidConfiguration(any(IConfiguration.class));
+		doReturn(Set.of(HttpSource.class)).when(protocolExtensionMock).getSupportedSources();
+		doReturn(Set.of(HttpCriterion.class)).when(protocolExtensionMock).getSupportedCriteria();
+
+		final ExecutionPlan executionPlan = extensionManager.buildExecutionPlan(telemetryManager);
+		telemetryManager.getHostProperties().setExecutionPlan(executionPlan);
+		assertTrue(executionPlan.isValidFor(telemetryManager));
+		assertEquals(Map.of(HttpSource.class, protocolExtensionMock), executionPlan.getSourceExtensions());
+		assertEquals(Map.of(HttpCriterion.class, protocolExtensionMock), executionPlan.getCriterionExtensions());
+
+		for (int i = 0; i < 3; i++) {
+			assertSame(protocolExtensionMock, extensionManager.findSourceExtension(new HttpSource(), telemetryManager).get());
+			assertSame(
+				protocolExtensionMock,
+				extensionManager.findCriterionExtension(new HttpCriterion(), telemetryManager).get()
+			);
+			assertTrue(extensionManager.findSourceExtension(new SnmpGetSource(), telemetryManager).isEmpty());
+			assertTrue(extensionManager.findCriterionExtension(new SnmpGetCriterion(), telemetryManager).isEmpty());
+		}
+
+		// The extensions have only been filtered when the plan has been built
+		verify(protocolExtensionMock, times(2)).isValidConfiguration(any(IConfiguration.class));
+		verify(protocolExtensionMock, times(2)).getSupportedSources();
+	}
+
+	@Test
+	void testPlanInvalidatedByConfigurationChange() {
+		doReturn(true).when(protocolExtensionMock).isValidConfiguration(any(IConfiguration.class));
+		doReturn(Set.of(HttpSource.class)).when(protocolExtensionMock).getSupportedSources();
+
+		final ExecutionPlan executionPlan = extensionManager.buildExecutionPlan(telemetryManager);
+		telemetryManager.getHostProperties().setExecutionPlan(executionPlan);
+
+		telemetryManager.getHostProperties().setLocalhost(true);
+		assertFalse(executionPlan.isValidFor(telemetryManager));
+		telemetryManager.getHostProperties().setLocalhost(false);
+
+		telemetryManager.getHostConfiguration().setConfigurations(Map.of());
+		assertFalse(executionPlan.isValidFor(telemetryManager));
+
+		// Without configuration, the extension is resolved again and no longer accepted
+		assertTrue(extensionManager.findSourceExtension(new HttpSource(), telemetryManager).isEmpty());
+	}
+
+	@Test
+	void testOrderedSourcesMemoized() {
+		final ExecutionPlan executionPlan = new ExecutionPlan(telemetryManager, Map.of(), Map.of());
+		final HttpSource source1 = HttpSource.builder().url("/system").build();
+		final HttpSource source2 = HttpSource.builder().url("/health").build();
+		final Map<String, Source> sources = new LinkedHashMap<>();
+		sources.put("source1", source1);
+		sources.put("source2", source2);
+
+		final List<Source> ordered = executionPlan.getOrderedSources(
+			sources,
+			List.of("source2", "source1"),
+			null,
+			JOB_INFO
+		);
+		assertEquals(List.of(source2, source1), ordered);
+		assertSame(ordered, executionPlan.getOrderedSources(sources, List.of("source2", "source1"), null, JOB_INFO));
+
+		// Another job is ordered separately
+		final Map<String, Source> otherSources = new LinkedHashMap<>(sources);
+		assertEquals(List.of(source1, source2), executionPlan.getOrderedSources(otherSources, List.of(), null, JOB_INFO));
+		assertTrue(executionPlan.getOrderedSources(null, List.of(), null, JOB_INFO).isEmpty());
+	}
+}
@@ -0,0 +1,123 @@
+package org.sentrysoftware.metricshub.engine.strategy.alert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.metricshub.engine.alert.AlertCondition;
+import org.sentrysoftware.metricshub.engine.alert.AlertDetails;
+import org.sentrysoftware.metricshub.engine.alert.AlertInfo;
+import org.sentrysoftware.metricshub.engine.alert.AlertOperator;
+import org.sentrysoftware.metricshub.engine.alert.AlertRule;
+import org.sentrysoftware.metricshub.engine.alert.IAlertListener;
+import org.sentrysoftware.metricshub.engine.alert.Severity;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
+
+class AlertEvaluationStrategyTest {
+
+	private static final String HOST_NAME = "host-01";
+	private static final String TEMPERATURE_METRIC = "hw.temperature";
+	private static final double THRESHOLD = 80.0;
+
+	private final List<AlertInfo> triggered = new ArrayList<>();
+	private final List<AlertInfo> resolved = new ArrayList<>();
+
+	private final IAlertListener listener = new IAlertListener() {
+		@Override
+		public void onAlertTriggered(final AlertInfo alertInfo) {
+			triggered.add(alertInfo);
+		}
+
+		@Override
+		public void onAlertResolved(final AlertInfo alertInfo) {
+			resolved.add(alertInfo);
+		}
+	};
+
+	private TelemetryManager telemetryManager;
+	private Monitor monitor;
+	private AlertRule rule;
+
+	@BeforeEach
+	void setUp() {
+		monitor = Monitor.builder().id("temperature-1").type("temperature").build();
+		final Map<String, Map<String, Monitor>> monitors = new HashMap<>(
+			Map.of("temperature", new HashMap<>(Map.of(monitor.getId(), monitor)))
+		);
+		telemetryManager =
+			TelemetryManager
+				.builder()
+				.monitors(monitors)
+				.hostConfiguration(HostConfiguration.builder().hostId(HOST_NAME).hostname(HOST_NAME).build())
+				.build();
+
+		rule =
+			new AlertRule(
+				(mo, conditions) -> {
+					final Double value = mo.getMetric(TEMPERATURE_METRIC, NumberMetric.class).getValue();
+					return value != null && value > THRESHOLD ? AlertDetails.builder().problem("Too hot").build() : null;
+				},
+				Set.of(AlertCondition.builder().operator(AlertOperator.GT).threshold(THRESHOLD).build()),
+				Severity.ALARM
+			);
+		monitor.getAlertRules().put(TEMPERATURE_METRIC, List.of(rule));
+	}
+
+	/**
+	 * Collect the temperature metric and run the alert evaluation
+	 *
+	 * @param value       The temperature value
+	 * @param collectTime The collect time
+	 */
+	private void collectAndEvaluate(final double value, final long collectTime) {
+		new MetricFactory(HOST_NAME).collectNumberMetric(monitor, TEMPERATURE_METRIC, value, collectTime);
+		new AlertEvaluationStrategy(telemetryManager, collectTime, listener).run();
+		monitor.getMetric(TEMPERATURE_METRIC).save();
+	}
+
+	@Test
+	void testTriggerAndResolve() {
+		collectAndEvaluate(90.0, 1000L);
+
+		assertEquals(1, triggered.size());
+		assertTrue(resolved.isEmpty());
+		final AlertInfo alertInfo = triggered.get(0);
+		assertSame(monitor, alertInfo.getMonitor());
+		assertEquals(TEMPERATURE_METRIC, alertInfo.getMetricName());
+		assertEquals(HOST_NAME, alertInfo.getHostname());
+
+		// Still above the threshold, the alert is not triggered twice
+		collectAndEvaluate(95.0, 2000L);
+		assertEquals(1, triggered.size());
+		assertTrue(resolved.isEmpty());
+
+		collectAndEvaluate(50.0, 3000L);
+		assertEquals(1, triggered.size());
+		assertEquals(1, resolved.size());
+		assertSame(alertInfo, resolved.get(0));
+	}
+
+	@Test
+	void testMetricNotUpdated() {
+		new MetricFactory(HOST_NAME).collectNumberMetric(monitor, TEMPERATURE_METRIC, 90.0, 1000L);
+		monitor.getMetric(TEMPERATURE_METRIC).save();
+
+		// The metric has not been collected again, its rules are not evaluated
+		new AlertEvaluationStrategy(telemetryManager, 2000L, listener).run();
+
+		assertTrue(triggered.isEmpty());
+		assertNull(rule.getDetails());
+	}
+}
@@ -1,7 +1,10 @@
 package org.sentrysoftware.metricshub.engine.strategy.collect;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -26,6 +29,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,6 +52,7 @@ import org.sentrysoftware.metricshub.engine.extension.TestConfiguration;
 import org.sentrysoftware.metricshub.engine.strategy.IStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.detection.CriterionTestResult;
 import org.sentrysoftware.metricshub.engine.strategy.source.SourceTable;
+import org.sentrysoftware.metricshub.engine.telemetry.HostProperties;
 import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
 import org.sentrysoftware.metricshub.engine.telemetry.MonitorFactory;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
@@ -263,6 +268,36 @@ class CollectStrategyTest {
 				.getValue()
 		);
 
+		// Check that the inventory of the multi-instance collect is recorded as the reference
+		final HostProperties hostProperties = telemetryManager.getHostProperties();
+		assertEquals(Set.of(TEST_CONNECTOR_ID + "/" + ENCLOSURE), hostProperties.getCollectInventories().keySet());
+		assertFalse(hostProperties.isCollectInventoryChanged());
+
+		// Same instances, the inventory is unchanged
+		collectStrategy.run();
+		assertFalse(hostProperties.isCollectInventoryChanged());
+
+		// A new enclosure is collected once, the change must be confirmed by the next collect
+		doReturn(
+			SourceTable
+				.builder()
+				.table(SourceTable.csvToTable("enclosure-1;1;healthy\nenclosure-2;1;healthy", MetricsHubConstants.TABLE_SEP))
+				.build()
+		)
+			.when(protocolExtensionMock)
+			.processSource(eq(enclosureSource), anyString(), any(TelemetryManager.class));
+		collectStrategy.run();
+		assertFalse(hostProperties.isCollectInventoryChanged());
+
+		// The new enclosure is still collected, the inventory has changed
+		collectStrategy.run();
+		assertTrue(hostProperties.isCollectInventoryChanged());
+
+		// The discovery resets the inventories
+		hostProperties.resetCollectInventories();
+		assertTrue(hostProperties.getCollectInventories().isEmpty());
+		assertFalse(hostProperties.isCollectInventoryChanged());
+
 		// Mock detection criteria result to switch to a failing criterion processing case
 		doReturn(CriterionTestResult.failure(snmpGetNextCriterion, "1.3.6.1.4.1.795.10.1.1.3.1.1.0	ASN_OCTET_STR	Test"))
 			.when(protocolExtensionMock)
@@ -293,4 +328,20 @@ class CollectStrategyTest {
 			connectorMonitor.getLegacyTextParameters().get(STATUS_INFORMATION)
 		);
 	}
+
+	@Test
+	void testDigestInventory() {
+		final String digest = CollectStrategy.digestInventory(Set.of(List.of("enclosure-1"), List.of("enclosure-2")));
+		assertEquals(64, digest.length());
+
+		// The digest doesn't depend on the order of the instances
+		assertEquals(
+			digest,
+			CollectStrategy.digestInventory(new LinkedHashSet<>(List.of(List.of("enclosure-2"), List.of("enclosure-1"))))
+		);
+
+		// Different instances, different digests
+		assertNotEquals(digest, CollectStrategy.digestInventory(Set.of(List.of("enclosure-1"))));
+		assertNotEquals(digest, CollectStrategy.digestInventory(Set.of(List.of("enclosure-1", "enclosure-2"))));
+	}
 }
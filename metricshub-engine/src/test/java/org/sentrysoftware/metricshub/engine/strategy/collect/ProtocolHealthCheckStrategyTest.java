@@ -2,7 +2,9 @@ package org.sentrysoftware.metricshub.engine.strategy.collect;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType.HOST;
@@ -37,6 +39,9 @@ class ProtocolHealthCheckStrategyTest {
 	@Mock
 	private static IProtocolExtension protocolExtensionMock;
 
+	@Mock
+	private static IProtocolExtension otherProtocolExtensionMock;
+
 	static Map<String, Map<String, Monitor>> monitors;
 
 	/**
@@ -114,4 +119,47 @@ class ProtocolHealthCheckStrategyTest {
 				.getMetric(ProtocolHealthCheckStrategy.RESPONSE_TIME_METRIC_FORMAT.formatted(protocol), NumberMetric.class)
 		);
 	}
+
+	@Test
+	void testCheckHealthInParallelAndProtocolDown() {
+		final TelemetryManager telemetryManager = createTelemetryManagerWithTestConfig();
+
+		final ExtensionManager extensionManager = ExtensionManager
+			.builder()
+			.withProtocolExtensions(List.of(protocolExtensionMock, otherProtocolExtensionMock))
+			.build();
+
+		final TestConfiguration configuration = (TestConfiguration) telemetryManager
+			.getHostConfiguration()
+			.getConfigurations()
+			.get(TestConfiguration.class);
+		doReturn(true).when(protocolExtensionMock).isValidConfiguration(configuration);
+		doReturn(true).when(otherProtocolExtensionMock).isValidConfiguration(configuration);
+		doReturn("snmp").when(protocolExtensionMock).getIdentifier();
+		doReturn("wmi").when(otherProtocolExtensionMock).getIdentifier();
+		doReturn(Optional.of(true)).when(protocolExtensionMock).checkProtocol(any(TelemetryManager.class));
+		doReturn(Optional.of(false)).when(otherProtocolExtensionMock).checkProtocol(any(TelemetryManager.class));
+
+		new ProtocolHealthCheckStrategy(telemetryManager, CURRENT_TIME_MILLIS, clientsExecutorMock, extensionManager).run();
+
+		final Monitor endpointHostMonitor = telemetryManager.getEndpointHostMonitor();
+		assertEquals(
+			ProtocolHealthCheckStrategy.UP,
+			endpointHostMonitor
+				.getMetric(ProtocolHealthCheckStrategy.UP_METRIC_FORMAT.formatted("snmp"), NumberMetric.class)
+				.getValue()
+		);
+		assertEquals(
+			ProtocolHealthCheckStrategy.DOWN,
+			endpointHostMonitor
+				.getMetric(ProtocolHealthCheckStrategy.UP_METRIC_FORMAT.formatted("wmi"), NumberMetric.class)
+				.getValue()
+		);
+
+		// Only the protocol reported down during the current cycle is gated
+		assertFalse(ProtocolHealthCheckStrategy.isProtocolDown(telemetryManager, "snmp"));
+		assertTrue(ProtocolHealthCheckStrategy.isProtocolDown(telemetryManager, "wmi"));
+		telemetryManager.setStrategyTime(telemetryManager.getStrategyTime() + 1);
+		assertFalse(ProtocolHealthCheckStrategy.isProtocolDown(telemetryManager, "wmi"));
+	}
 }
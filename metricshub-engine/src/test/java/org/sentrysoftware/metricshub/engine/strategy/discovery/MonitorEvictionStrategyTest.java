@@ -0,0 +1,174 @@
+package org.sentrysoftware.metricshub.engine.strategy.discovery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType.CONNECTOR;
+import static org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType.HOST;
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_CONNECTOR_ID;
+import static org.sentrysoftware.metricshub.engine.constants.Constants.HOST_ID;
+import static org.sentrysoftware.metricshub.engine.constants.Constants.HOST_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
+
+class MonitorEvictionStrategyTest {
+
+	private static final String CONNECTOR_ID = "connector1";
+	private static final String DISK_TYPE = "disk";
+	private static final String DISK_1 = "disk1";
+	private static final String DISK_2 = "disk2";
+	private static final String DISK_METRIC = "hw.status{hw.type=\"disk\"}";
+
+	private TelemetryManager telemetryManager;
+	private Monitor hostMonitor;
+	private Monitor connectorMonitor;
+	private Monitor disk1;
+	private Monitor disk2;
+	private List<Monitor> evictedMonitors;
+
+	@BeforeEach
+	void setUp() {
+		telemetryManager =
+			TelemetryManager
+				.builder()
+				.hostConfiguration(HostConfiguration.builder().hostId(HOST_ID).hostname(HOST_NAME).build())
+				.build();
+
+		hostMonitor = Monitor.builder().id(HOST_ID).type(HOST.getKey()).isEndpoint(true).build();
+		connectorMonitor = Monitor.builder().id("connector_connector1").type(CONNECTOR.getKey()).build();
+		connectorMonitor.getAttributes().put(MONITOR_ATTRIBUTE_CONNECTOR_ID, CONNECTOR_ID);
+		disk1 = Monitor.builder().id(DISK_1).type(DISK_TYPE).build();
+		disk1.getAttributes().put(MONITOR_ATTRIBUTE_CONNECTOR_ID, CONNECTOR_ID);
+		disk1.addMetric(DISK_METRIC, NumberMetric.builder().name(DISK_METRIC).value(1.0).collectTime(1L).build());
+		disk2 = Monitor.builder().id(DISK_2).type(DISK_TYPE).build();
+		disk2.getAttributes().put(MONITOR_ATTRIBUTE_CONNECTOR_ID, CONNECTOR_ID);
+
+		telemetryManager.addNewMonitor(hostMonitor, HOST.getKey(), HOST_ID);
+		telemetryManager.addNewMonitor(connectorMonitor, CONNECTOR.getKey(), connectorMonitor.getId());
+		telemetryManager.addNewMonitor(disk1, DISK_TYPE, DISK_1);
+		telemetryManager.addNewMonitor(disk2, DISK_TYPE, DISK_2);
+
+		telemetryManager.getHostProperties().getConnectorNamespace(CONNECTOR_ID).setStatusOk(true);
+
+		evictedMonitors = new ArrayList<>();
+	}
+
+	/**
+	 * Simulate a discovery cycle where only the given monitors are discovered, then run the eviction strategy
+	 *
+	 * @param strategyTime         The time of the discovery cycle
+	 * @param maxMissedDiscoveries The maximum number of missed discoveries
+	 * @param discovered           The monitors discovered during the cycle
+	 */
+	private void runCycle(final long strategyTime, final int maxMissedDiscoveries, final Monitor... discovered) {
+		for (Monitor monitor : discovered) {
+			monitor.setDiscoveryTime(strategyTime);
+		}
+		new MonitorEvictionStrategy(telemetryManager, strategyTime, maxMissedDiscoveries, evictedMonitors::add).run();
+	}
+
+	@Test
+	void testRunEvictsMissingMonitor() {
+		runCycle(1L, 2, hostMonitor, connectorMonitor, disk1, disk2);
+		runCycle(2L, 2, hostMonitor, connectorMonitor, disk2);
+
+		assertEquals(1, disk1.getMissedDiscoveries());
+		assertNotNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_1));
+		assertTrue(evictedMonitors.isEmpty());
+
+		runCycle(3L, 2, hostMonitor, connectorMonitor, disk2);
+
+		assertNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_1));
+		assertNotNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_2));
+		assertEquals(List.of(disk1), evictedMonitors);
+		assertFalse(disk1.getMetric(DISK_METRIC, NumberMetric.class).getSnapshot().updated());
+	}
+
+	@Test
+	void testRunResetsRediscoveredMonitor() {
+		runCycle(1L, 2, hostMonitor, connectorMonitor, disk1, disk2);
+		runCycle(2L, 2, hostMonitor, connectorMonitor, disk2);
+		assertEquals(1, disk1.getMissedDiscoveries());
+
+		runCycle(3L, 2, hostMonitor, connectorMonitor, disk1, disk2);
+		assertEquals(0, disk1.getMissedDiscoveries());
+
+		runCycle(4L, 2, hostMonitor, connectorMonitor, disk2);
+		assertNotNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_1));
+		assertTrue(evictedMonitors.isEmpty());
+	}
+
+	@Test
+	void testRunDisabled() {
+		runCycle(1L, 0, hostMonitor, connectorMonitor, disk1, disk2);
+		runCycle(2L, 0, hostMonitor, connectorMonitor);
+		runCycle(3L, 0, hostMonitor, connectorMonitor);
+
+		assertEquals(0, disk1.getMissedDiscoveries());
+		assertNotNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_1));
+		assertTrue(evictedMonitors.isEmpty());
+	}
+
+	@Test
+	void testRunDetectionNotCompleted() {
+		runCycle(1L, 1, hostMonitor, connectorMonitor, disk1, disk2);
+		runCycle(2L, 1, connectorMonitor, disk2);
+
+		assertEquals(0, disk1.getMissedDiscoveries());
+		assertNotNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_1));
+		assertTrue(evictedMonitors.isEmpty());
+	}
+
+	@Test
+	void testRunConnectorStatusNotOk() {
+		runCycle(1L, 1, hostMonitor, connectorMonitor, disk1, disk2);
+		telemetryManager.getHostProperties().getConnectorNamespace(CONNECTOR_ID).setStatusOk(false);
+		runCycle(2L, 1, hostMonitor, connectorMonitor, disk2);
+
+		assertNotNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_1));
+		assertTrue(evictedMonitors.isEmpty());
+	}
+
+	@Test
+	void testRunConnectorDiscoveredNothing() {
+		runCycle(1L, 1, hostMonitor, connectorMonitor, disk1, disk2);
+		runCycle(2L, 1, hostMonitor, connectorMonitor);
+
+		assertNotNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_1));
+		assertNotNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_2));
+		assertTrue(evictedMonitors.isEmpty());
+	}
+
+	@Test
+	void testRunEvictsConnector() {
+		runCycle(1L, 1, hostMonitor, connectorMonitor, disk1, disk2);
+		runCycle(2L, 1, hostMonitor);
+
+		assertNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_1));
+		assertNull(telemetryManager.findMonitorByTypeAndId(DISK_TYPE, DISK_2));
+		assertNull(telemetryManager.findMonitorsByType(CONNECTOR.getKey()));
+		assertFalse(telemetryManager.getHostProperties().getConnectorNamespaces().containsKey(CONNECTOR_ID));
+		assertEquals(3, evictedMonitors.size());
+		assertEquals(connectorMonitor, evictedMonitors.get(2));
+		assertNotNull(telemetryManager.getEndpointHostMonitor());
+	}
+
+	@Test
+	void testRemoveMonitor() {
+		assertTrue(telemetryManager.removeMonitor(disk1));
+		assertFalse(telemetryManager.removeMonitor(disk1));
+		assertTrue(telemetryManager.removeMonitor(disk2));
+		assertNull(telemetryManager.findMonitorsByType(DISK_TYPE));
+		assertEquals(Map.of(HOST_ID, hostMonitor), telemetryManager.findMonitorsByType(HOST.getKey()));
+	}
+}
@@ -0,0 +1,210 @@
+package org.sentrysoftware.metricshub.engine.strategy.source;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.configuration.SshTestConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.SnmpGetSource;
+import org.sentrysoftware.metricshub.engine.extension.IProtocolExtension;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+class RequestCoalescerTest {
+
+	private static final String CONNECTOR_ID = "connector";
+	private static final String ENDPOINT = "vcenter";
+	private static final String OID = "1.3.6.1.4.1.674.10892.5.5.1.20.130.4.1.1";
+
+	private IProtocolExtension extension;
+
+	@BeforeEach
+	void setUp() {
+		extension = mock(IProtocolExtension.class);
+		doReturn("test").when(extension).getIdentifier();
+		doReturn(Map.of(SshTestConfiguration.class, Set.of(SnmpGetSource.class)))
+			.when(extension)
+			.getConfigurationToSourceMapping();
+		RequestCoalescer.getInstance().configure(true, 60);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestCoalescer.getInstance().configure(false, 0);
+	}
+
+	private static TelemetryManager telemetryManager(final String hostname, final String username) {
+		return TelemetryManager
+			.builder()
+			.hostConfiguration(
+				HostConfiguration
+					.builder()
+					.hostname(hostname)
+					.hostId(hostname)
+					.hostType(DeviceKind.OOB)
+					.configurations(
+						Map.of(
+							SshTestConfiguration.class,
+							SshTestConfiguration
+								.builder()
+								.hostname(ENDPOINT)
+								.username(username)
+								.password("pwd".toCharArray())
+								.build()
+						)
+					)
+					.build()
+			)
+			.build();
+	}
+
+	private static SnmpGetSource source() {
+		return SnmpGetSource.builder().oid(OID).key("${source::monitors.enclosure.discovery.sources.source(1)}").build();
+	}
+
+	private static Supplier<SourceTable> countingRequest(final AtomicInteger counter, final String value) {
+		return () -> {
+			counter.incrementAndGet();
+			return SourceTable.builder().table(new ArrayList<>(List.of(new ArrayList<>(List.of(value))))).build();
+		};
+	}
+
+	private SourceTable execute(
+		final SnmpGetSource source,
+		final String hostname,
+		final String username,
+		final Supplier<SourceTable> request
+	) {
+		return RequestCoalescer
+			.getInstance()
+			.execute(extension, source, CONNECTOR_ID, telemetryManager(hostname, username), request);
+	}
+
+	@Test
+	void testIdenticalRequestsFromDifferentResources() {
+		final AtomicInteger counter = new AtomicInteger();
+
+		final SourceTable first = execute(source(), "esx-1", "admin", countingRequest(counter, "esx-1"));
+		final SourceTable second = execute(source(), "esx-2", "admin", countingRequest(counter, "esx-2"));
+
+		assertEquals(1, counter.get());
+		assertEquals(List.of(List.of("esx-1")), second.getTable());
+		assertEquals(first, second);
+		assertNotSame(first.getTable(), second.getTable());
+
+		// The computes of one resource must not alter the result shared with the others
+		second.getTable().get(0).set(0, "modified");
+		final SourceTable third = execute(source(), "esx-3", "admin", countingRequest(counter, "esx-3"));
+		assertEquals(List.of(List.of("esx-1")), third.getTable());
+		assertEquals(1, counter.get());
+	}
+
+	@Test
+	void testDifferentCredentialsOrRequests() {
+		final AtomicInteger counter = new AtomicInteger();
+
+		execute(source(), "esx-1", "admin", countingRequest(counter, "1"));
+		execute(source(), "esx-2", "other", countingRequest(counter, "2"));
+
+		final SnmpGetSource otherSource = source();
+		otherSource.setOid("1.3.6.1.2.1.1.3.0");
+		execute(otherSource, "esx-3", "admin", countingRequest(counter, "3"));
+
+		assertEquals(3, counter.get());
+	}
+
+	@Test
+	void testEmptyResultsAreNotReused() {
+		final AtomicInteger counter = new AtomicInteger();
+		final Supplier<SourceTable> emptyRequest = () -> {
+			counter.incrementAndGet();
+			return SourceTable.empty();
+		};
+
+		execute(source(), "esx-1", "admin", emptyRequest);
+		execute(source(), "esx-2", "admin", emptyRequest);
+
+		assertEquals(2, counter.get());
+	}
+
+	@Test
+	void testConcurrentRequestsWithoutTtl() throws Exception {
+		RequestCoalescer.getInstance().configure(true, 0);
+
+		final AtomicInteger counter = new AtomicInteger();
+		final CountDownLatch leaderStarted = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final Future<SourceTable> leader = executor.submit(() ->
+				execute(
+					source(),
+					"esx-0",
+					"admin",
+					() -> {
+						counter.incrementAndGet();
+						leaderStarted.countDown();
+						try {
+							release.await(10, TimeUnit.SECONDS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						return SourceTable.builder().rawData("shared").build();
+					}
+				)
+			);
+			leaderStarted.await(10, TimeUnit.SECONDS);
+
+			final List<Future<SourceTable>> followers = new ArrayList<>();
+			for (int i = 1; i < 4; i++) {
+				final String hostname = "esx-" + i;
+				followers.add(
+					executor.submit(() -> execute(source(), hostname, "admin", countingRequest(counter, hostname)))
+				);
+			}
+
+			// Let the followers join the request in flight
+			Thread.sleep(100);
+			release.countDown();
+
+			assertEquals("shared", leader.get(10, TimeUnit.SECONDS).getRawData());
+			for (Future<SourceTable> follower : followers) {
+				assertEquals("shared", follower.get(10, TimeUnit.SECONDS).getRawData());
+			}
+			assertEquals(1, counter.get());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// Without time to live, the completed request is sent again
+		execute(source(), "esx-1", "admin", countingRequest(counter, "1"));
+		assertEquals(2, counter.get());
+	}
+
+	@Test
+	void testDisabled() {
+		RequestCoalescer.getInstance().configure(false, 60);
+		final AtomicInteger counter = new AtomicInteger();
+
+		execute(source(), "esx-1", "admin", countingRequest(counter, "1"));
+		execute(source(), "esx-2", "admin", countingRequest(counter, "2"));
+
+		assertEquals(2, counter.get());
+	}
+}
@@ -6,6 +6,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.sentrysoftware.metricshub.engine.constants.Constants.AUTOMATIC;
 import static org.sentrysoftware.metricshub.engine.constants.Constants.ECS1_01;
 import static org.sentrysoftware.metricshub.engine.constants.Constants.EXPECTED_SNMP_TABLE_DATA;
@@ -33,6 +35,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.sentrysoftware.metricshub.engine.client.ClientsExecutor;
 import org.sentrysoftware.metricshub.engine.common.exception.ClientException;
+import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
 import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
 import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
 import org.sentrysoftware.metricshub.engine.connector.model.common.HttpMethod;
@@ -54,6 +57,8 @@ import org.sentrysoftware.metricshub.engine.extension.ISourceComputationExtensio
 import org.sentrysoftware.metricshub.engine.extension.TestConfiguration;
 import org.sentrysoftware.metricshub.engine.telemetry.ConnectorNamespace;
 import org.sentrysoftware.metricshub.engine.telemetry.HostProperties;
+import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
+import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -151,6 +156,52 @@ class SourceProcessorTest {
 		assertEquals(expected, actual);
 	}
 
+	@Test
+	void testProcessSourceProtocolDown() {
+		final TestConfiguration httpConfiguration = TestConfiguration.builder().build();
+		final HostConfiguration hostConfiguration = HostConfiguration
+			.builder()
+			.hostname(ECS1_01)
+			.hostId(ECS1_01)
+			.hostType(DeviceKind.LINUX)
+			.configurations(Collections.singletonMap(TestConfiguration.class, httpConfiguration))
+			.build();
+
+		final long strategyTime = System.currentTimeMillis();
+		final Monitor hostMonitor = Monitor.builder().type(KnownMonitorType.HOST.getKey()).isEndpoint(true).build();
+		final TelemetryManager telemetryManager = TelemetryManager
+			.builder()
+			.hostConfiguration(hostConfiguration)
+			.monitors(new HashMap<>(Map.of(KnownMonitorType.HOST.getKey(), Map.of(ECS1_01, hostMonitor))))
+			.strategyTime(strategyTime)
+			.build();
+
+		// The health check of the current cycle reported the HTTP protocol down
+		new MetricFactory().collectNumberMetric(hostMonitor, "metricshub.host.up{protocol=\"http\"}", 0.0, strategyTime);
+
+		final ExtensionManager extensionManager = ExtensionManager
+			.builder()
+			.withProtocolExtensions(List.of(protocolExtensionMock))
+			.build();
+
+		final SourceProcessor sourceProcessor = SourceProcessor
+			.builder()
+			.telemetryManager(telemetryManager)
+			.clientsExecutor(clientsExecutorMock)
+			.extensionManager(extensionManager)
+			.connectorId(CONNECTOR_ID)
+			.build();
+
+		doReturn(true).when(protocolExtensionMock).isValidConfiguration(httpConfiguration);
+		doReturn(Set.of(HttpSource.class)).when(protocolExtensionMock).getSupportedSources();
+		doReturn("http").when(protocolExtensionMock).getIdentifier();
+
+		final HttpSource source = HttpSource.builder().url(URL).method(HttpMethod.GET).build();
+
+		assertEquals(SourceTable.empty(), sourceProcessor.process(source));
+		verify(protocolExtensionMock, never()).processSource(any(), anyString(), any(TelemetryManager.class));
+	}
+
 	@Test
 	void testProcessWmiSource() {
 		final TestConfiguration wmiConfiguration = TestConfiguration.builder().build();
@@ -2,7 +2,9 @@ package org.sentrysoftware.metricshub.engine.strategy.source;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.MONITOR_ATTRIBUTE_ID;
 import static org.sentrysoftware.metricshub.engine.constants.Constants.EMPTY;
@@ -33,6 +35,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -74,6 +79,8 @@ class SourceUpdaterProcessorTest {
 			.hostId(LOCALHOST)
 			.hostType(DeviceKind.LINUX)
 			.configurations(Collections.singletonMap(TestConfiguration.class, httpConfiguration))
+			// The results are stubbed in the order of the calls, the entries are executed sequentially
+			.sequential(true)
 			.build();
 		final TelemetryManager telemetryManager = TelemetryManager.builder().hostConfiguration(hostConfiguration).build();
 
@@ -178,6 +185,8 @@ class SourceUpdaterProcessorTest {
 			.hostId(LOCALHOST)
 			.hostType(DeviceKind.LINUX)
 			.configurations(Collections.singletonMap(TestConfiguration.class, httpConfiguration))
+			// The results are stubbed in the order of the calls, the entries are executed sequentially
+			.sequential(true)
 			.build();
 		final TelemetryManager telemetryManager = TelemetryManager.builder().hostConfiguration(hostConfiguration).build();
 
@@ -258,6 +267,66 @@ class SourceUpdaterProcessorTest {
 		assertEquals(400, httpSource.getSleepExecuteForEachEntryOf());
 	}
 
+	@Test
+	void testProcessHttpSourceExecuteForEachEntryInParallel() {
+		final HostConfiguration hostConfiguration = HostConfiguration
+			.builder()
+			.hostname(LOCALHOST)
+			.hostId(LOCALHOST)
+			.hostType(DeviceKind.LINUX)
+			.configurations(Collections.singletonMap(TestConfiguration.class, TestConfiguration.builder().build()))
+			.build();
+		final TelemetryManager telemetryManager = TelemetryManager.builder().hostConfiguration(hostConfiguration).build();
+
+		final int entriesCount = 20;
+		final List<List<String>> rows = new ArrayList<>();
+		for (int i = 0; i < entriesCount; i++) {
+			rows.add(List.of("drive" + i));
+		}
+		telemetryManager
+			.getHostProperties()
+			.getConnectorNamespace(MY_CONNECTOR_1_NAME)
+			.addSourceTable(ENCLOSURE_COLLECT_SOURCE_1, SourceTable.builder().table(rows).build());
+
+		final Set<String> threads = ConcurrentHashMap.newKeySet();
+		doAnswer(invocation -> {
+			threads.add(Thread.currentThread().getName());
+			final String url = invocation.<HttpSource>getArgument(0).getUrl();
+			// The first entries are the slowest ones
+			Thread.sleep(entriesCount - Integer.parseInt(url.substring(url.lastIndexOf("drive") + 5)));
+			return SourceTable.builder().rawData(url).build();
+		})
+			.when(sourceProcessor)
+			.process(any(HttpSource.class));
+
+		final HttpSource httpSource = HttpSource.builder().url("/redfish/$1").build();
+		httpSource.setExecuteForEachEntryOf(
+			ExecuteForEachEntryOf
+				.builder()
+				.source(ENCLOSURE_COLLECT_SOURCE_1)
+				.concatMethod(EntryConcatMethod.JSON_ARRAY)
+				.sleep(1)
+				.build()
+		);
+
+		final SourceTable result = new SourceUpdaterProcessor(
+			sourceProcessor,
+			telemetryManager,
+			MY_CONNECTOR_1_NAME,
+			Map.of()
+		)
+			.process(httpSource);
+
+		// The results are concatenated in the order of the entries
+		final String expected = rows
+			.stream()
+			.map(row -> "/redfish/" + row.get(0))
+			.collect(Collectors.joining(",\n", "[", "]"));
+		assertEquals(expected, result.getRawData());
+		assertTrue(threads.size() > 1);
+		assertTrue(threads.size() <= SourceUpdaterProcessor.MAX_ENTRY_THREADS_COUNT);
+	}
+
 	@Test
 	void testProcessSNMPGetSource() {
 		final TestConfiguration snmpConfiguration = TestConfiguration.builder().build();
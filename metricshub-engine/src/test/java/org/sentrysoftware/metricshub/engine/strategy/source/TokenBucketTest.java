@@ -0,0 +1,37 @@
+package org.sentrysoftware.metricshub.engine.strategy.source;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	private static final long INTERVAL_MILLIS = 50;
+
+	@Test
+	void testAcquireSpacesRequests() throws InterruptedException {
+		final TokenBucket tokenBucket = new TokenBucket(1, TimeUnit.MILLISECONDS.toNanos(INTERVAL_MILLIS));
+
+		final long start = System.nanoTime();
+		for (int i = 0; i < 4; i++) {
+			tokenBucket.acquire();
+		}
+
+		// The first token is available immediately, the three others are spaced by the interval
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 3 * INTERVAL_MILLIS);
+	}
+
+	@Test
+	void testAcquireBurst() throws InterruptedException {
+		final TokenBucket tokenBucket = new TokenBucket(3, TimeUnit.SECONDS.toNanos(10));
+
+		final long start = System.nanoTime();
+		for (int i = 0; i < 3; i++) {
+			tokenBucket.acquire();
+		}
+
+		// The bucket is full, no wait
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+	}
+}
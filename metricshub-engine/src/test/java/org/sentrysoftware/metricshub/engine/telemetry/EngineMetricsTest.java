@@ -0,0 +1,227 @@
+package org.sentrysoftware.metricshub.engine.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics.CACHE_KEY;
+import static org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics.CONNECTOR_ID_KEY;
+import static org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics.JOB_TYPE_KEY;
+import static org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics.LOOKUP_KEY;
+import static org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics.MONITOR_TYPE_KEY;
+import static org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics.POOL_KEY;
+import static org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics.PROTOCOL_KEY;
+import static org.sentrysoftware.metricshub.engine.telemetry.EngineMetrics.RESULT_KEY;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Collection;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.metricshub.engine.strategy.utils.PslUtils;
+
+class EngineMetricsTest {
+
+	private InMemoryMetricReader inMemoryReader;
+
+	@BeforeEach
+	void setUp() {
+		inMemoryReader = InMemoryMetricReader.create();
+		final SdkMeterProvider meterProvider = SdkMeterProvider.builder().registerMetricReader(inMemoryReader).build();
+		EngineMetrics.register(meterProvider.get(EngineMetrics.INSTRUMENTATION_SCOPE));
+	}
+
+	@AfterEach
+	void tearDown() {
+		EngineMetrics.reset();
+	}
+
+	private static MetricData findMetric(final Collection<MetricData> metrics, final String name) {
+		return metrics.stream().filter(metricData -> name.equals(metricData.getName())).findFirst().orElseThrow();
+	}
+
+	private static long sumOf(final MetricData metricData, final Attributes attributes) {
+		return metricData
+			.getLongSumData()
+			.getPoints()
+			.stream()
+			.filter(point -> attributes.equals(point.getAttributes()))
+			.mapToLong(LongPointData::getValue)
+			.sum();
+	}
+
+	@Test
+	void testRecordRequest() {
+		EngineMetrics.recordRequest("snmp", System.nanoTime(), true);
+		EngineMetrics.recordRequest("snmp", System.nanoTime(), false);
+		EngineMetrics.recordRequest("wmi", System.nanoTime(), true);
+
+		final Collection<MetricData> metrics = inMemoryReader.collectAllMetrics();
+
+		final MetricData requestDuration = findMetric(metrics, EngineMetrics.REQUEST_DURATION_METRIC);
+		final HistogramPointData snmpPoint = requestDuration
+			.getHistogramData()
+			.getPoints()
+			.stream()
+			.filter(point -> "snmp".equals(point.getAttributes().get(PROTOCOL_KEY)))
+			.findFirst()
+			.orElseThrow();
+		assertEquals(2, snmpPoint.getCount());
+
+		final MetricData requestErrors = findMetric(metrics, EngineMetrics.REQUEST_ERRORS_METRIC);
+		assertEquals(1, sumOf(requestErrors, Attributes.of(PROTOCOL_KEY, "snmp")));
+		assertEquals(0, sumOf(requestErrors, Attributes.of(PROTOCOL_KEY, "wmi")));
+	}
+
+	@Test
+	void testRecordJobDuration() {
+		EngineMetrics.recordJobDuration("collect", "disk", "connector", 0, 1000);
+		EngineMetrics.recordJobDuration("collect", "disk", "connector", 0, 2000);
+		EngineMetrics.recordJobDuration("collect", null, "connector", 0, 1000);
+
+		final MetricData jobDuration = findMetric(inMemoryReader.collectAllMetrics(), EngineMetrics.JOB_DURATION_METRIC);
+		final HistogramPointData diskPoint = jobDuration
+			.getHistogramData()
+			.getPoints()
+			.stream()
+			.filter(point ->
+				Attributes
+					.of(JOB_TYPE_KEY, "collect", MONITOR_TYPE_KEY, "disk", CONNECTOR_ID_KEY, "connector")
+					.equals(point.getAttributes())
+			)
+			.findFirst()
+			.orElseThrow();
+		assertEquals(2, diskPoint.getCount());
+		assertEquals(3.0, diskPoint.getSum());
+
+		final HistogramPointData connectorPoint = jobDuration
+			.getHistogramData()
+			.getPoints()
+			.stream()
+			.filter(point -> Attributes.of(JOB_TYPE_KEY, "collect", CONNECTOR_ID_KEY, "connector").equals(point.getAttributes()))
+			.findFirst()
+			.orElseThrow();
+		assertEquals(1, connectorPoint.getCount());
+	}
+
+	@Test
+	void testRecordDnsLookup() {
+		EngineMetrics.recordDnsLookup(EngineMetrics.FORWARD_LOOKUP, System.nanoTime(), true);
+		EngineMetrics.recordDnsLookup(EngineMetrics.FORWARD_LOOKUP, System.nanoTime(), false);
+		EngineMetrics.recordDnsLookup(EngineMetrics.REVERSE_LOOKUP, System.nanoTime(), true);
+
+		final Collection<MetricData> metrics = inMemoryReader.collectAllMetrics();
+
+		final MetricData dnsDuration = findMetric(metrics, EngineMetrics.DNS_DURATION_METRIC);
+		final HistogramPointData forwardPoint = dnsDuration
+			.getHistogramData()
+			.getPoints()
+			.stream()
+			.filter(point -> EngineMetrics.FORWARD_LOOKUP.equals(point.getAttributes().get(LOOKUP_KEY)))
+			.findFirst()
+			.orElseThrow();
+		assertEquals(2, forwardPoint.getCount());
+
+		final MetricData dnsErrors = findMetric(metrics, EngineMetrics.DNS_ERRORS_METRIC);
+		assertEquals(1, sumOf(dnsErrors, Attributes.of(LOOKUP_KEY, EngineMetrics.FORWARD_LOOKUP)));
+		assertEquals(0, sumOf(dnsErrors, Attributes.of(LOOKUP_KEY, EngineMetrics.REVERSE_LOOKUP)));
+	}
+
+	@Test
+	void testRecordCacheLookup() {
+		EngineMetrics.recordCacheLookup(EngineMetrics.AWK_CACHE, false);
+		EngineMetrics.recordCacheLookup(EngineMetrics.AWK_CACHE, true);
+		EngineMetrics.recordCacheLookup(EngineMetrics.AWK_CACHE, true);
+
+		final MetricData cacheRequests = findMetric(inMemoryReader.collectAllMetrics(), EngineMetrics.CACHE_REQUESTS_METRIC);
+		assertEquals(2, sumOf(cacheRequests, Attributes.of(CACHE_KEY, EngineMetrics.AWK_CACHE, RESULT_KEY, "hit")));
+		assertEquals(1, sumOf(cacheRequests, Attributes.of(CACHE_KEY, EngineMetrics.AWK_CACHE, RESULT_KEY, "miss")));
+	}
+
+	@Test
+	void testRecordSourceCacheLookup() {
+		// A connector identifier looking like another attribute combination must not share its attributes
+		EngineMetrics.recordSourceTable("source/connector/hit", 1, 10);
+		EngineMetrics.recordSourceCacheLookup("connector", true);
+		EngineMetrics.recordSourceCacheLookup("connector", false);
+		EngineMetrics.recordSourceCacheLookup("connector", true);
+
+		final Collection<MetricData> metrics = inMemoryReader.collectAllMetrics();
+
+		final MetricData cacheRequests = findMetric(metrics, EngineMetrics.CACHE_REQUESTS_METRIC);
+		assertEquals(
+			2,
+			sumOf(
+				cacheRequests,
+				Attributes.of(CACHE_KEY, EngineMetrics.SOURCE_CACHE, CONNECTOR_ID_KEY, "connector", RESULT_KEY, "hit")
+			)
+		);
+		assertEquals(
+			1,
+			sumOf(
+				cacheRequests,
+				Attributes.of(CACHE_KEY, EngineMetrics.SOURCE_CACHE, CONNECTOR_ID_KEY, "connector", RESULT_KEY, "miss")
+			)
+		);
+
+		final HistogramPointData rowsPoint = findMetric(metrics, EngineMetrics.SOURCE_ROWS_METRIC)
+			.getHistogramData()
+			.getPoints()
+			.stream()
+			.findFirst()
+			.orElseThrow();
+		assertEquals(Attributes.of(CONNECTOR_ID_KEY, "source/connector/hit"), rowsPoint.getAttributes());
+	}
+
+	@Test
+	void testCompilePslRegexCache() {
+		final Pattern pattern = PslUtils.compilePslRegex("^disk[0-9]", Pattern.CASE_INSENSITIVE);
+		assertSame(pattern, PslUtils.compilePslRegex("^disk[0-9]", Pattern.CASE_INSENSITIVE));
+		assertEquals(Pattern.CASE_INSENSITIVE, pattern.flags());
+
+		final MetricData cacheRequests = findMetric(inMemoryReader.collectAllMetrics(), EngineMetrics.CACHE_REQUESTS_METRIC);
+		final Attributes hitAttributes = Attributes.of(CACHE_KEY, EngineMetrics.REGEX_CACHE, RESULT_KEY, "hit");
+		assertEquals(1, sumOf(cacheRequests, hitAttributes));
+	}
+
+	@Test
+	void testTrackPooledJob() {
+		final Attributes poolAttributes = Attributes.of(POOL_KEY, EngineMetrics.MONITOR_JOBS_POOL);
+		final long[] activeDuringRun = new long[2];
+
+		final Runnable job = EngineMetrics.trackPooledJob(
+			EngineMetrics.MONITOR_JOBS_POOL,
+			() -> {
+				final Collection<MetricData> metrics = inMemoryReader.collectAllMetrics();
+				activeDuringRun[0] = sumOf(findMetric(metrics, EngineMetrics.JOBS_QUEUED_METRIC), poolAttributes);
+				activeDuringRun[1] = sumOf(findMetric(metrics, EngineMetrics.JOBS_ACTIVE_METRIC), poolAttributes);
+			}
+		);
+
+		assertEquals(1, sumOf(findMetric(inMemoryReader.collectAllMetrics(), EngineMetrics.JOBS_QUEUED_METRIC), poolAttributes));
+
+		job.run();
+
+		assertEquals(0, activeDuringRun[0]);
+		assertEquals(1, activeDuringRun[1]);
+
+		final Collection<MetricData> metrics = inMemoryReader.collectAllMetrics();
+		assertEquals(0, sumOf(findMetric(metrics, EngineMetrics.JOBS_QUEUED_METRIC), poolAttributes));
+		assertEquals(0, sumOf(findMetric(metrics, EngineMetrics.JOBS_ACTIVE_METRIC), poolAttributes));
+	}
+
+	@Test
+	void testRecordWithoutRegistration() {
+		EngineMetrics.reset();
+
+		// No-op instruments, nothing is recorded
+		EngineMetrics.recordRequest("snmp", System.nanoTime(), false);
+		EngineMetrics.recordStrategyDuration("CollectStrategy", System.nanoTime());
+
+		assertEquals(0, inMemoryReader.collectAllMetrics().size());
+	}
+}
@@ -2,6 +2,7 @@ package org.sentrysoftware.metricshub.engine.telemetry;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.CONNECTOR_STATUS_METRIC_KEY;
@@ -24,7 +25,10 @@ import static org.sentrysoftware.metricshub.engine.constants.Constants.OS_TYPE;
 import static org.sentrysoftware.metricshub.engine.constants.Constants.STATE_SET;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -32,11 +36,17 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.sentrysoftware.metricshub.engine.alert.AlertRule;
+import org.sentrysoftware.metricshub.engine.alert.Severity;
 import org.sentrysoftware.metricshub.engine.common.HostLocation;
 import org.sentrysoftware.metricshub.engine.common.helpers.KnownMonitorType;
 import org.sentrysoftware.metricshub.engine.common.helpers.NetworkHelper;
 import org.sentrysoftware.metricshub.engine.configuration.HostConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.Connector;
+import org.sentrysoftware.metricshub.engine.connector.model.ConnectorStore;
 import org.sentrysoftware.metricshub.engine.connector.model.common.DeviceKind;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.MetricDefinition;
+import org.sentrysoftware.metricshub.engine.connector.model.metric.StateSet;
 import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
 import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
 import org.sentrysoftware.metricshub.engine.telemetry.metric.StateSetMetric;
@@ -106,6 +116,43 @@ class MonitorFactoryTest {
 		assertEquals(KnownMonitorType.CONNECTOR.getKey(), createdMonitor.getType());
 	}
 
+	@Test
+	void testCreateOrUpdateMonitorAttachesAlertRules() {
+		final Connector connector = Connector
+			.builder()
+			.metrics(
+				Map.of(
+					"hw.status",
+					MetricDefinition.builder().type(StateSet.builder().set(Set.of("ok", "degraded", "failed")).build()).build(),
+					"hw.temperature",
+					MetricDefinition.builder().build()
+				)
+			)
+			.build();
+		final ConnectorStore connectorStore = new ConnectorStore();
+		connectorStore.setStore(new HashMap<>(Map.of(COMPUTE, connector)));
+		final TelemetryManager telemetryManager = TelemetryManager.builder().connectorStore(connectorStore).build();
+
+		final MonitorFactory factory = MonitorFactory
+			.builder()
+			.telemetryManager(telemetryManager)
+			.monitorType(KnownMonitorType.CONNECTOR.getKey())
+			.connectorId(COMPUTE)
+			.attributes(new HashMap<>())
+			.discoveryTime(System.currentTimeMillis())
+			.build();
+		final Monitor monitor = factory.createOrUpdateMonitor(MONITOR_ID_ATTRIBUTE_VALUE);
+
+		// Only the state set metric has alert rules, a warning on degraded and an alarm on failed
+		assertEquals(Set.of("hw.status"), monitor.getAlertRules().keySet());
+		final List<AlertRule> rules = monitor.getAlertRules().get("hw.status");
+		assertEquals(Set.of(Severity.WARN, Severity.ALARM), rules.stream().map(AlertRule::getSeverity).collect(Collectors.toSet()));
+
+		// The rules survive the next discovery
+		assertEquals(monitor, factory.createOrUpdateMonitor(MONITOR_ID_ATTRIBUTE_VALUE));
+		assertSame(rules, monitor.getAlertRules().get("hw.status"));
+	}
+
 	@Test
 	void testCollectNumberMetricNotExists() {
 		// Set monitor attributes
@@ -0,0 +1,114 @@
+package org.sentrysoftware.metricshub.engine.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
+
+class MonitorTest {
+
+	private static final String LIMIT_METRIC = "hw.fan.speed.limit";
+	private static final String LOW_CRITICAL_KEY = "hw.fan.speed.limit{limit_type=\"low.critical\"}";
+	private static final String LOW_DEGRADED_KEY = "hw.fan.speed.limit{limit_type=\"low.degraded\"}";
+	private static final String SPEED_KEY = "hw.fan.speed";
+
+	private static NumberMetric metric(final String name) {
+		return NumberMetric.builder().name(name).value(1.0).collectTime(1L).build();
+	}
+
+	private static Set<String> namesOf(final List<AbstractMetric> metrics) {
+		return metrics.stream().map(AbstractMetric::getName).collect(Collectors.toSet());
+	}
+
+	@Test
+	void testGetMetricsByName() {
+		final Monitor monitor = Monitor.builder().id("fan-1").type("fan").build();
+		monitor.addMetric(LOW_CRITICAL_KEY, metric(LOW_CRITICAL_KEY));
+		monitor.addMetric(SPEED_KEY, metric(SPEED_KEY));
+
+		assertEquals(Set.of(LOW_CRITICAL_KEY), namesOf(monitor.getMetricsByName(LIMIT_METRIC)));
+
+		monitor.addMetric(LOW_DEGRADED_KEY, metric(LOW_DEGRADED_KEY));
+		assertEquals(Set.of(LOW_CRITICAL_KEY, LOW_DEGRADED_KEY), namesOf(monitor.getMetricsByName(LIMIT_METRIC)));
+
+		// Replace an existing variant
+		final NumberMetric newMetric = metric(LOW_DEGRADED_KEY);
+		monitor.addMetric(LOW_DEGRADED_KEY, newMetric);
+		assertEquals(2, monitor.getMetricsByName(LIMIT_METRIC).size());
+		assertTrue(monitor.getMetricsByName(LIMIT_METRIC).contains(newMetric));
+
+		assertEquals(Set.of(SPEED_KEY), namesOf(monitor.getMetricsByName(SPEED_KEY)));
+		assertTrue(monitor.getMetricsByName("hw.fan.speed_ratio").isEmpty());
+	}
+
+	@Test
+	void testGetMetricsByNameReplacedMap() {
+		final Map<String, AbstractMetric> metrics = new HashMap<>();
+		metrics.put(LOW_CRITICAL_KEY, metric(LOW_CRITICAL_KEY));
+		final Monitor monitor = Monitor.builder().id("fan-1").type("fan").metrics(metrics).build();
+
+		assertEquals(Set.of(LOW_CRITICAL_KEY), namesOf(monitor.getMetricsByName(LIMIT_METRIC)));
+
+		// The metrics can only be changed through the monitor
+		final Map<String, AbstractMetric> view = monitor.getMetrics();
+		final NumberMetric degraded = metric(LOW_DEGRADED_KEY);
+		assertThrows(UnsupportedOperationException.class, () -> view.put(LOW_DEGRADED_KEY, degraded));
+		assertThrows(UnsupportedOperationException.class, () -> view.remove(LOW_CRITICAL_KEY));
+		assertThrows(UnsupportedOperationException.class, view::clear);
+
+		monitor.setMetrics(new HashMap<>(Map.of(SPEED_KEY, metric(SPEED_KEY))));
+		assertTrue(monitor.getMetricsByName(LIMIT_METRIC).isEmpty());
+		assertEquals(Set.of(SPEED_KEY), namesOf(monitor.getMetricsByName(SPEED_KEY)));
+	}
+
+	@Test
+	void testRemoveThenAddMetric() {
+		final Monitor monitor = Monitor.builder().id("fan-1").type("fan").build();
+		monitor.addMetric(LOW_CRITICAL_KEY, metric(LOW_CRITICAL_KEY));
+		monitor.addMetric(SPEED_KEY, metric(SPEED_KEY));
+		assertEquals(Set.of(LOW_CRITICAL_KEY), namesOf(monitor.getMetricsByName(LIMIT_METRIC)));
+
+		// Same size after the removal and the addition of another variant
+		assertEquals(LOW_CRITICAL_KEY, monitor.removeMetric(LOW_CRITICAL_KEY).getName());
+		monitor.addMetric(LOW_DEGRADED_KEY, metric(LOW_DEGRADED_KEY));
+		assertEquals(Set.of(LOW_DEGRADED_KEY), namesOf(monitor.getMetricsByName(LIMIT_METRIC)));
+
+		monitor.removeMetric(SPEED_KEY);
+		assertTrue(monitor.getMetricsByName(SPEED_KEY).isEmpty());
+		assertNull(monitor.removeMetric(SPEED_KEY));
+	}
+
+	@Test
+	void testAddMetricConcurrently() throws InterruptedException {
+		final Monitor monitor = Monitor.builder().id("host-1").type("host").build();
+		final List<Thread> threads = IntStream
+			.range(0, 4)
+			.mapToObj(thread ->
+				new Thread(() -> {
+					for (int i = 0; i < 250; i++) {
+						final String key = "metricshub.job.duration{job.type=\"" + thread + "-" + i + "\"}";
+						monitor.addMetric(key, metric(key));
+						monitor.getMetricsByName("metricshub.job.duration");
+					}
+				})
+			)
+			.toList();
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(1000, monitor.getMetrics().size());
+		assertEquals(1000, monitor.getMetricsByName("metricshub.job.duration").size());
+	}
+}
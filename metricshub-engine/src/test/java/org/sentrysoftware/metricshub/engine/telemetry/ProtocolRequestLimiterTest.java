@@ -0,0 +1,168 @@
+package org.sentrysoftware.metricshub.engine.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProtocolRequestLimiterTest {
+
+	private static final String HOST_1 = "host-1";
+	private static final String HOST_2 = "host-2";
+
+	private InMemoryMetricReader inMemoryReader;
+
+	@BeforeEach
+	void setUp() {
+		inMemoryReader = InMemoryMetricReader.create();
+		final SdkMeterProvider meterProvider = SdkMeterProvider.builder().registerMetricReader(inMemoryReader).build();
+		EngineMetrics.register(meterProvider.get(EngineMetrics.INSTRUMENTATION_SCOPE));
+	}
+
+	@AfterEach
+	void tearDown() {
+		ProtocolRequestLimiter.getInstance().configure(0, null);
+		EngineMetrics.reset();
+	}
+
+	/**
+	 * Runs the given number of concurrent requests per host and returns the maximum concurrency observed
+	 */
+	private static int maxConcurrency(final String protocol, final int requestsPerHost, final String... hostnames)
+		throws Exception {
+		final ProtocolRequestLimiter limiter = ProtocolRequestLimiter.getInstance();
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maxRunning = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(requestsPerHost * hostnames.length);
+		try {
+			final List<Future<String>> futures = new ArrayList<>();
+			for (String hostname : hostnames) {
+				for (int i = 0; i < requestsPerHost; i++) {
+					futures.add(
+						executor.submit(() ->
+							limiter.execute(
+								hostname,
+								protocol,
+								() -> {
+									maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+									try {
+										Thread.sleep(20);
+									} catch (InterruptedException e) {
+										Thread.currentThread().interrupt();
+									}
+									running.decrementAndGet();
+									return hostname;
+								}
+							)
+						)
+					);
+				}
+			}
+			for (Future<String> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return maxRunning.get();
+	}
+
+	@Test
+	void testExecuteUnlimited() throws Exception {
+		assertEquals("result", ProtocolRequestLimiter.getInstance().execute(HOST_1, "snmp", () -> "result"));
+		assertEquals(8, maxConcurrency("snmp", 4, HOST_1, HOST_2));
+	}
+
+	@Test
+	void testExecuteLimitedPerHost() throws Exception {
+		ProtocolRequestLimiter.getInstance().configure(2, Map.of());
+
+		final int max = maxConcurrency("snmp", 4, HOST_1);
+		assertTrue(max <= 2);
+		assertTrue(maxConcurrency("snmp", 4, HOST_1, HOST_2) <= 4);
+	}
+
+	@Test
+	void testExecuteLimitedPerProtocol() throws Exception {
+		ProtocolRequestLimiter.getInstance().configure(0, Map.of("SNMP", 3));
+
+		assertTrue(maxConcurrency("snmp", 4, HOST_1, HOST_2) <= 3);
+		// Other protocols are not limited
+		assertEquals(8, maxConcurrency("wmi", 4, HOST_1, HOST_2));
+	}
+
+	@Test
+	void testExecuteNested() {
+		final ProtocolRequestLimiter limiter = ProtocolRequestLimiter.getInstance();
+		limiter.configure(1, Map.of("snmp", 1));
+
+		// The nested request must not wait for the permits held by its own thread
+		assertEquals(
+			"nested",
+			limiter.execute(HOST_1, "snmp", () -> limiter.execute(HOST_1, "snmp", () -> "nested"))
+		);
+	}
+
+	@Test
+	void testExecuteInterrupted() throws Exception {
+		final ProtocolRequestLimiter limiter = ProtocolRequestLimiter.getInstance();
+		limiter.configure(1, Map.of());
+
+		final CountDownLatch acquired = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final Thread holder = new Thread(() ->
+			limiter.run(
+				HOST_1,
+				"snmp",
+				() -> {
+					acquired.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			)
+		);
+		holder.start();
+		assertTrue(acquired.await(10, TimeUnit.SECONDS));
+
+		Thread.currentThread().interrupt();
+		assertNull(limiter.execute(HOST_1, "snmp", () -> "never"));
+		assertTrue(Thread.interrupted());
+
+		release.countDown();
+		holder.join();
+		assertEquals("done", limiter.execute(HOST_1, "snmp", () -> "done"));
+	}
+
+	@Test
+	void testWaitMetrics() throws Exception {
+		ProtocolRequestLimiter.getInstance().configure(1, Map.of());
+
+		maxConcurrency("snmp", 3, HOST_1);
+
+		final MetricData waitDuration = inMemoryReader
+			.collectAllMetrics()
+			.stream()
+			.filter(metricData -> EngineMetrics.REQUEST_WAIT_DURATION_METRIC.equals(metricData.getName()))
+			.findFirst()
+			.orElseThrow();
+		assertEquals(3, waitDuration.getHistogramData().getPoints().iterator().next().getCount());
+	}
+}
@@ -2,6 +2,7 @@ package org.sentrysoftware.metricshub.engine.telemetry;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -46,6 +47,8 @@ import org.sentrysoftware.metricshub.engine.extension.TestConfiguration;
 import org.sentrysoftware.metricshub.engine.strategy.detection.CriterionTestResult;
 import org.sentrysoftware.metricshub.engine.strategy.discovery.DiscoveryStrategy;
 import org.sentrysoftware.metricshub.engine.strategy.source.SourceTable;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.MetricSnapshot;
+import org.sentrysoftware.metricshub.engine.telemetry.metric.NumberMetric;
 
 @ExtendWith(MockitoExtension.class)
 class TelemetryManagerTest {
@@ -210,6 +213,33 @@ class TelemetryManagerTest {
 		assertEquals(expectedOrder, discoveredMonitors.keySet());
 	}
 
+	@Test
+	void testPublishMetricSnapshots() {
+		final TelemetryManager telemetryManager = TelemetryManager
+			.builder()
+			.hostConfiguration(HostConfiguration.builder().hostname(HOST_NAME).build())
+			.build();
+		final Monitor monitor = telemetryManager.addNewMonitor(
+			Monitor.builder().id(HOST_ID).type(HOST.getKey()).build(),
+			HOST.getKey(),
+			HOST_ID
+		);
+		final NumberMetric metric = new MetricFactory(HOST_NAME).collectNumberMetric(monitor, "hw.host.power", 100.0, 1000L);
+
+		telemetryManager.publishMetricSnapshots();
+		final MetricSnapshot<Double> snapshot = metric.getSnapshot();
+		assertEquals(new MetricSnapshot<>(100.0, null, 1000L, true), snapshot);
+
+		// The next collect does not change the published snapshot
+		metric.save();
+		metric.setValue(120.0);
+		metric.setCollectTime(2000L);
+		assertSame(snapshot, metric.getSnapshot());
+
+		telemetryManager.publishMetricSnapshots();
+		assertEquals(new MetricSnapshot<>(120.0, 100.0, 2000L, true), metric.getSnapshot());
+	}
+
 	@Test
 	void testGetHostname() {
 		// Create two configurations, with a different hostname each.
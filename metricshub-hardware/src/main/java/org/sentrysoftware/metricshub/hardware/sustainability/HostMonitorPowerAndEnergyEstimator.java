@@ -41,7 +41,6 @@ import org.sentrysoftware.metricshub.engine.strategy.utils.CollectHelper;
 import org.sentrysoftware.metricshub.engine.telemetry.MetricFactory;
 import org.sentrysoftware.metricshub.engine.telemetry.Monitor;
 import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
-import org.sentrysoftware.metricshub.engine.telemetry.metric.AbstractMetric;
 import org.sentrysoftware.metricshub.hardware.util.HwCollectHelper;
 
 @Data
@@ -161,11 +160,8 @@ public class HostMonitorPowerAndEnergyEstimator {
 			// on the first non-adjusted power and the second adjusted power and from collect to collect this energy gap will persist.
 
 			monitorStream.forEach(monitor -> {
-				final Map<String, AbstractMetric> metrics = monitor.getMetrics();
-				final String powerMetricName = HwCollectHelper.generatePowerMetricNameForMonitorType(monitor.getType());
-				final String energyMetricName = HwCollectHelper.generateEnergyMetricNameForMonitorType(monitor.getType());
-				metrics.remove(powerMetricName);
-				metrics.remove(energyMetricName);
+				monitor.removeMetric(HwCollectHelper.generatePowerMetricNameForMonitorType(monitor.getType()));
+				monitor.removeMetric(HwCollectHelper.generateEnergyMetricNameForMonitorType(monitor.getType()));
 			});
 
 			return;
@@ -87,16 +87,12 @@ public abstract class AbstractMetricNormalizer {
 	 */
 	protected boolean isMetricCollected(final Monitor monitor, final String metricNamePrefix) {
 		return monitor
-			.getMetrics()
-			.values()
+			.getMetricsByName(metricNamePrefix)
 			.stream()
 			.anyMatch(metric -> {
-				// Extract the metric name prefix
-				final String currentMetricNamePrefix = MetricFactory.extractName(metric.getName());
 				final Map<String, String> metricAttributes = metric.getAttributes();
 				// CHECKSTYLE:OFF
 				return (
-					metricNamePrefix.equals(currentMetricNamePrefix) &&
 					(!metricAttributes.containsKey("hw.type") || monitor.getType().equals(metricAttributes.get("hw.type"))) &&
 					metric.isUpdated()
 				);
@@ -120,15 +116,11 @@ public abstract class AbstractMetricNormalizer {
 		// This atomic integer is used to log a warning if multiple metrics are found with the same prefix and attributes
 		final AtomicInteger count = new AtomicInteger(0);
 		return monitor
-			.getMetrics()
-			.values()
+			.getMetricsByName(metricNamePrefix)
 			.stream()
 			.filter(metric -> {
-				// Extract the metric name prefix and check if the metric attributes are contained in the given attributes
-				final boolean result =
-					metric.isUpdated() &&
-					metricNamePrefix.equals(MetricFactory.extractName(metric.getName())) &&
-					containsAllEntries(metric.getAttributes(), metricAttributes);
+				// Check if the metric attributes are contained in the given attributes
+				final boolean result = metric.isUpdated() && containsAllEntries(metric.getAttributes(), metricAttributes);
 
 				// Log a warning if multiple metrics are found with the same prefix and attributes
 				if (result && count.incrementAndGet() > 1) {
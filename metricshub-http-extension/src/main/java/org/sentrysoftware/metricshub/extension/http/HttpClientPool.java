@@ -0,0 +1,727 @@
+package org.sentrysoftware.metricshub.extension.http;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub HTTP Extension
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pool of HTTP clients, shared by all the servers and credentials, one per timeout.
+ * <p>
+ * A client keeps its connections alive between requests, negotiates HTTP/2 with the servers supporting it over TLS,
+ * and multiplexes the concurrent requests of the monitor jobs processed in parallel on the same connections. The
+ * plain text requests are sent in HTTP/1.1, without upgrade. Compressed responses are requested and decoded. The
+ * credentials are set on each request: the Basic authentication is sent pre-emptively once the server has challenged
+ * the requests of the same origin (scheme, host and port) and credentials, the other authentication schemes (Digest,
+ * NTLM, ...) are handled by the {@link org.sentrysoftware.http.HttpClient} which opens a new connection for each
+ * request. Once a server has challenged the requests with such a scheme, the next ones go straight to the legacy
+ * client. The clients and the authentication states that have been idle for longer than the idle timeout are
+ * released periodically.
+ * </p>
+ */
+@Slf4j
+class HttpClientPool {
+
+	/**
+	 * Default duration after which an unused client is released
+	 */
+	static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+	/**
+	 * Period of the release of the idle clients of the shared pool
+	 */
+	static final long EVICTION_PERIOD_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+	/**
+	 * Maximum size of a response body
+	 */
+	static final int MAX_CONTENT_LENGTH = 50 * 1024 * 1024;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+	private static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+	private static final String AUTHORIZATION_HEADER = "Authorization";
+	private static final String USER_AGENT_HEADER = "User-Agent";
+	private static final String WWW_AUTHENTICATE_HEADER = "WWW-Authenticate";
+	private static final String BASIC_SCHEME = "Basic";
+	private static final String HOST_HEADER = "Host";
+	private static final int HTTP_UNAUTHORIZED = 401;
+
+	/**
+	 * Headers managed by the HTTP client itself, they cannot be set on a request
+	 */
+	private static final Set<String> RESTRICTED_HEADERS = Set.of(
+		"connection",
+		"content-length",
+		"expect",
+		"host",
+		"upgrade"
+	);
+
+	private static final Pattern CHARSET_PATTERN = Pattern.compile("charset=\"?([^\\s;\"]+)", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * Threads shared by all the clients to process the responses
+	 */
+	private static final ExecutorService RESPONSE_EXECUTOR = Executors.newCachedThreadPool(
+		newDaemonThreadFactory("metricshub-http-client-")
+	);
+
+	/**
+	 * Thread releasing the idle clients of the shared pool
+	 */
+	private static final ScheduledExecutorService EVICTION_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+		newDaemonThreadFactory("metricshub-http-client-eviction-")
+	);
+
+	private static final HttpClientPool INSTANCE = createSharedInstance();
+
+	/**
+	 * HTTP clients indexed by timeout
+	 */
+	private final Map<Integer, PooledClient> clients = new ConcurrentHashMap<>();
+
+	/**
+	 * Authentication states indexed by origin and credentials
+	 */
+	private final Map<ServerKey, ServerState> servers = new ConcurrentHashMap<>();
+
+	private final long idleTimeoutMillis;
+
+	@Setter
+	private LongSupplier clock = System::currentTimeMillis;
+
+	/**
+	 * Constructs a new {@code HttpClientPool}.
+	 *
+	 * @param idleTimeoutMillis The duration in milliseconds after which an unused client is released.
+	 */
+	HttpClientPool(final long idleTimeoutMillis) {
+		this.idleTimeoutMillis = idleTimeoutMillis;
+	}
+
+	/**
+	 * Get the pool shared by the HTTP requests of all the resources.
+	 *
+	 * @return the static instance of the pool
+	 */
+	static HttpClientPool getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Create the shared pool, whose idle clients are released periodically.
+	 *
+	 * @return a new {@link HttpClientPool}
+	 */
+	private static HttpClientPool createSharedInstance() {
+		final HttpClientPool pool = new HttpClientPool(DEFAULT_IDLE_TIMEOUT_MILLIS);
+		EVICTION_EXECUTOR.scheduleAtFixedRate(
+			pool::evictIdleClients,
+			EVICTION_PERIOD_MILLIS,
+			EVICTION_PERIOD_MILLIS,
+			TimeUnit.MILLISECONDS
+		);
+		return pool;
+	}
+
+	/**
+	 * Send the HTTP request through the pooled client of the request timeout.
+	 *
+	 * @param url           The full URL of the HTTP request.
+	 * @param method        The HTTP method (GET, POST, ...).
+	 * @param username      The username for the connexion.
+	 * @param password      The password for the connexion.
+	 * @param headerContent The {@link Map} of properties-values in the header.
+	 * @param bodyContent   The body as a plain text.
+	 * @param timeout       The timeout of the request in seconds.
+	 * @return The {@link org.sentrysoftware.http.HttpResponse} returned by the server.
+	 * @throws IOException If the request cannot be sent or the response cannot be read.
+	 */
+	org.sentrysoftware.http.HttpResponse send(
+		final String url,
+		final String method,
+		final String username,
+		final char[] password,
+		final Map<String, String> headerContent,
+		final String bodyContent,
+		final int timeout
+	) throws IOException {
+		final URI uri = toUri(url);
+		final long now = clock.getAsLong();
+
+		final boolean hasCredentials = username != null && !username.isEmpty();
+		final PooledClient pooledClient = clients.computeIfAbsent(timeout, key -> new PooledClient(newHttpClient(timeout)));
+		pooledClient.lastUsedTime = now;
+
+		final ServerState serverState = servers.computeIfAbsent(
+			new ServerKey(
+				String.format("%s://%s:%d", uri.getScheme(), uri.getHost(), uri.getPort()).toLowerCase(Locale.ROOT),
+				username,
+				password != null ? password.clone() : null
+			),
+			key -> new ServerState()
+		);
+		serverState.lastUsedTime = now;
+
+		reportIgnoredHostHeader(serverState, uri, headerContent);
+
+		final boolean hasAuthorization = headerContent
+			.keySet()
+			.stream()
+			.anyMatch(AUTHORIZATION_HEADER::equalsIgnoreCase);
+		final boolean sendBasic = hasCredentials && !hasAuthorization;
+
+		// The server has already challenged the client with another scheme than Basic
+		if (sendBasic && serverState.legacyAuthenticationScheme != null) {
+			return sendLegacyRequest(url, method, username, password, headerContent, bodyContent, timeout);
+		}
+
+		HttpResponse<InputStream> response = doSend(
+			pooledClient.client,
+			buildRequest(
+				uri,
+				method,
+				headerContent,
+				bodyContent,
+				timeout,
+				sendBasic && serverState.basicAuthentication,
+				username,
+				password
+			)
+		);
+
+		// The server challenges the client, answer with the credentials
+		if (response.statusCode() == HTTP_UNAUTHORIZED && sendBasic && !serverState.basicAuthentication) {
+			final String challenge = response.headers().firstValue(WWW_AUTHENTICATE_HEADER).orElse("");
+			discard(response.body());
+
+			if (!challenge.regionMatches(true, 0, BASIC_SCHEME, 0, BASIC_SCHEME.length())) {
+				// Authentication schemes other than Basic are negotiated on a dedicated connection, the next requests
+				// go straight to the legacy client instead of being challenged again
+				serverState.legacyAuthenticationScheme = challenge.trim().split("\\s", 2)[0];
+				log.debug(
+					"The server {} requires the {} authentication scheme. The requests are sent without connection reuse.",
+					uri.getHost(),
+					serverState.legacyAuthenticationScheme
+				);
+				return sendLegacyRequest(url, method, username, password, headerContent, bodyContent, timeout);
+			}
+
+			response =
+				doSend(
+					pooledClient.client,
+					buildRequest(uri, method, headerContent, bodyContent, timeout, true, username, password)
+				);
+			serverState.basicAuthentication = response.statusCode() != HTTP_UNAUTHORIZED;
+		}
+
+		return toHttpResponse(response);
+	}
+
+	/**
+	 * Report the Host header of the request when it does not match the URL. The Host header is set by the HTTP client
+	 * from the URL, the configured value is ignored. It is reported once per origin and credentials.
+	 *
+	 * @param serverState   The authentication state of the origin and credentials of the request.
+	 * @param uri           The URI of the request.
+	 * @param headerContent The header of the request.
+	 */
+	private static void reportIgnoredHostHeader(
+		final ServerState serverState,
+		final URI uri,
+		final Map<String, String> headerContent
+	) {
+		if (serverState.hostHeaderReported) {
+			return;
+		}
+
+		for (Map.Entry<String, String> header : headerContent.entrySet()) {
+			final String value = header.getValue();
+			if (
+				HOST_HEADER.equalsIgnoreCase(header.getKey()) &&
+				value != null &&
+				!value.isBlank() &&
+				!value.trim().equalsIgnoreCase(uri.getHost()) &&
+				!value.trim().equalsIgnoreCase(uri.getAuthority())
+			) {
+				serverState.hostHeaderReported = true;
+				log.warn(
+					"The HTTP header {}: {} is ignored, the requests to {} are sent with the host of the URL.",
+					header.getKey(),
+					value,
+					uri.getAuthority()
+				);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Send the HTTP request through the given client.
+	 *
+	 * @param client  The HTTP client.
+	 * @param request The HTTP request.
+	 * @return the response whose body is streamed.
+	 * @throws IOException If the request fails or the current thread is interrupted.
+	 */
+	private static HttpResponse<InputStream> doSend(final HttpClient client, final HttpRequest request)
+		throws IOException {
+		try {
+			return client.send(request, BodyHandlers.ofInputStream());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the HTTP response.");
+		}
+	}
+
+	/**
+	 * Send the HTTP request through the {@link org.sentrysoftware.http.HttpClient}, without connection reuse.
+	 *
+	 * @param url           The full URL of the HTTP request.
+	 * @param method        The HTTP method (GET, POST, ...).
+	 * @param username      The username for the connexion.
+	 * @param password      The password for the connexion.
+	 * @param headerContent The {@link Map} of properties-values in the header.
+	 * @param bodyContent   The body as a plain text.
+	 * @param timeout       The timeout of the request in seconds.
+	 * @return The {@link org.sentrysoftware.http.HttpResponse} returned by the server.
+	 * @throws IOException If a reading or writing operation fails.
+	 */
+	org.sentrysoftware.http.HttpResponse sendLegacyRequest(
+		final String url,
+		final String method,
+		final String username,
+		final char[] password,
+		final Map<String, String> headerContent,
+		final String bodyContent,
+		final int timeout
+	) throws IOException {
+		return org.sentrysoftware.http.HttpClient.sendRequest(
+			url,
+			method,
+			null,
+			username,
+			password,
+			null,
+			0,
+			null,
+			null,
+			null,
+			headerContent,
+			bodyContent,
+			timeout,
+			null
+		);
+	}
+
+	/**
+	 * Build the HTTP request.
+	 *
+	 * @param uri           The URI of the request.
+	 * @param method        The HTTP method.
+	 * @param headerContent The header of the request.
+	 * @param bodyContent   The body of the request.
+	 * @param timeout       The timeout of the request in seconds.
+	 * @param sendBasic     Whether the Basic authentication header is sent.
+	 * @param username      The username for the Basic authentication.
+	 * @param password      The password for the Basic authentication.
+	 * @return a new {@link HttpRequest}.
+	 */
+	private static HttpRequest buildRequest(
+		final URI uri,
+		final String method,
+		final Map<String, String> headerContent,
+		final String bodyContent,
+		final int timeout,
+		final boolean sendBasic,
+		final String username,
+		final char[] password
+	) {
+		final HttpRequest.Builder builder = HttpRequest
+			.newBuilder(uri)
+			.timeout(Duration.ofSeconds(timeout))
+			// HTTP/2 is negotiated over TLS only, the plain text upgrade is not supported by many servers
+			.version("https".equalsIgnoreCase(uri.getScheme()) ? Version.HTTP_2 : Version.HTTP_1_1)
+			.method(
+				method,
+				bodyContent == null || bodyContent.isEmpty()
+					? BodyPublishers.noBody()
+					: BodyPublishers.ofString(bodyContent, StandardCharsets.UTF_8)
+			);
+
+		boolean hasUserAgent = false;
+		boolean hasAcceptEncoding = false;
+		for (Map.Entry<String, String> header : headerContent.entrySet()) {
+			final String name = header.getKey();
+			final String value = header.getValue();
+			if (name == null || name.isEmpty() || value == null || value.isEmpty()) {
+				continue;
+			}
+			if (RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+				log.debug("Skipping the HTTP header {} managed by the HTTP client.", name);
+				continue;
+			}
+			hasUserAgent |= USER_AGENT_HEADER.equalsIgnoreCase(name);
+			hasAcceptEncoding |= ACCEPT_ENCODING_HEADER.equalsIgnoreCase(name);
+			builder.header(name, value);
+		}
+
+		if (!hasUserAgent) {
+			builder.header(USER_AGENT_HEADER, org.sentrysoftware.http.HttpClient.DEFAULT_USER_AGENT);
+		}
+		if (!hasAcceptEncoding) {
+			builder.header(ACCEPT_ENCODING_HEADER, ACCEPTED_ENCODINGS);
+		}
+		if (sendBasic) {
+			final String credentials = username + ":" + (password != null ? new String(password) : "");
+			builder.header(
+				AUTHORIZATION_HEADER,
+				BASIC_SCHEME + " " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8))
+			);
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Convert the response of the HTTP client, decoding its compressed body.
+	 *
+	 * @param response The response of the HTTP client.
+	 * @return a new {@link org.sentrysoftware.http.HttpResponse}.
+	 * @throws IOException If the body cannot be read or is too large.
+	 */
+	static org.sentrysoftware.http.HttpResponse toHttpResponse(final HttpResponse<InputStream> response)
+		throws IOException {
+		final org.sentrysoftware.http.HttpResponse httpResponse = new org.sentrysoftware.http.HttpResponse();
+		httpResponse.setStatusCode(response.statusCode());
+		response.headers().map().forEach((name, values) -> values.forEach(value -> httpResponse.appendHeader(name, value)));
+
+		final long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1L);
+		if (contentLength > MAX_CONTENT_LENGTH) {
+			// Closing a body which has not been read entirely closes the connection
+			response.body().close();
+			throw new IOException(
+				String.format("Content is too large (%d bytes > %d bytes)", contentLength, MAX_CONTENT_LENGTH)
+			);
+		}
+
+		final String contentEncoding = response.headers().firstValue("Content-Encoding").orElse("");
+		final Charset charset = getCharset(response.headers().firstValue("Content-Type").orElse(null));
+
+		final InputStream body = response.body();
+		try (InputStream inputStream = decode(body, contentEncoding)) {
+			final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				outputStream.write(buffer, 0, read);
+				if (outputStream.size() > MAX_CONTENT_LENGTH) {
+					throw new IOException(String.format("Content is too large (maximum %d bytes)", MAX_CONTENT_LENGTH));
+				}
+			}
+			httpResponse.appendBody(new String(outputStream.toByteArray(), charset));
+
+			// The decoder stops at the end of the compressed data, the connection returns to the pool once the
+			// body has been read entirely
+			body.transferTo(OutputStream.nullOutputStream());
+		}
+
+		return httpResponse;
+	}
+
+	/**
+	 * Read the remaining bytes of the given body and close it, so that its connection returns to the pool.
+	 *
+	 * @param body The body stream.
+	 * @throws IOException If the body cannot be read.
+	 */
+	private static void discard(final InputStream body) throws IOException {
+		try (body) {
+			body.transferTo(OutputStream.nullOutputStream());
+		}
+	}
+
+	/**
+	 * Wrap the body stream with the decoder of its content encoding.
+	 *
+	 * @param body            The body stream.
+	 * @param contentEncoding The value of the Content-Encoding header.
+	 * @return the decoded body stream.
+	 * @throws IOException If the gzip header cannot be read.
+	 */
+	private static InputStream decode(final InputStream body, final String contentEncoding) throws IOException {
+		if ("gzip".equalsIgnoreCase(contentEncoding)) {
+			return new GZIPInputStream(body);
+		}
+		if ("deflate".equalsIgnoreCase(contentEncoding)) {
+			return new InflaterInputStream(body);
+		}
+		return body;
+	}
+
+	/**
+	 * Get the charset declared in the Content-Type header, UTF-8 by default.
+	 *
+	 * @param contentType The value of the Content-Type header.
+	 * @return the {@link Charset} of the body.
+	 */
+	private static Charset getCharset(final String contentType) {
+		if (contentType != null) {
+			final Matcher matcher = CHARSET_PATTERN.matcher(contentType);
+			if (matcher.find()) {
+				try {
+					return Charset.forName(matcher.group(1));
+				} catch (Exception e) {
+					log.debug("Unsupported charset in Content-Type {}.", contentType);
+				}
+			}
+		}
+		return StandardCharsets.UTF_8;
+	}
+
+	/**
+	 * Parse the given URL.
+	 *
+	 * @param url The URL of the request.
+	 * @return the {@link URI} of the request.
+	 * @throws IOException If the URL is malformed.
+	 */
+	private static URI toUri(final String url) throws IOException {
+		try {
+			final URI uri = new URI(url);
+			if (uri.getHost() == null) {
+				throw new IOException("Invalid HTTP URL: " + url);
+			}
+			// Make the default port explicit so that the clients are shared whether it is specified or not
+			if (uri.getPort() == -1) {
+				return new URI(
+					uri.getScheme(),
+					uri.getUserInfo(),
+					uri.getHost(),
+					"https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80,
+					uri.getPath(),
+					uri.getQuery(),
+					uri.getFragment()
+				);
+			}
+			return uri;
+		} catch (URISyntaxException e) {
+			throw new IOException("Invalid HTTP URL: " + url, e);
+		}
+	}
+
+	/**
+	 * Release the clients and the authentication states that have not been used for longer than the idle timeout. A
+	 * released client closes its connections once it is no longer referenced.
+	 */
+	void evictIdleClients() {
+		final long now = clock.getAsLong();
+		clients.values().removeIf(pooledClient -> now - pooledClient.lastUsedTime > idleTimeoutMillis);
+		servers.values().removeIf(serverState -> now - serverState.lastUsedTime > idleTimeoutMillis);
+	}
+
+	/**
+	 * Get the number of clients in the pool.
+	 *
+	 * @return the number of pooled clients
+	 */
+	int size() {
+		return clients.size();
+	}
+
+	/**
+	 * Create a new HTTP client. The certificates and the hostnames of the servers are not verified, as with the
+	 * {@link org.sentrysoftware.http.HttpClient}.
+	 *
+	 * @param timeout The connection timeout in seconds.
+	 * @return a new {@link HttpClient}.
+	 */
+	private static HttpClient newHttpClient(final int timeout) {
+		return HttpClient
+			.newBuilder()
+			.version(Version.HTTP_1_1)
+			.followRedirects(Redirect.NORMAL)
+			.connectTimeout(Duration.ofSeconds(timeout))
+			.sslContext(TrustAllSslContextHolder.SSL_CONTEXT)
+			.executor(RESPONSE_EXECUTOR)
+			.build();
+	}
+
+	/**
+	 * Create the factory of the daemon threads of the pool.
+	 *
+	 * @param namePrefix The prefix of the thread names.
+	 * @return a new thread factory
+	 */
+	private static java.util.concurrent.ThreadFactory newDaemonThreadFactory(final String namePrefix) {
+		final AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			final Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Key of the authentication state of an origin and credentials.
+	 */
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	private static final class ServerKey {
+
+		private final String origin;
+		private final String username;
+		private final char[] password;
+	}
+
+	/**
+	 * A pooled HTTP client.
+	 */
+	private static final class PooledClient {
+
+		private final HttpClient client;
+		private volatile long lastUsedTime;
+
+		private PooledClient(final HttpClient client) {
+			this.client = client;
+		}
+	}
+
+	/**
+	 * The authentication state of an origin and credentials.
+	 */
+	private static final class ServerState {
+
+		private volatile long lastUsedTime;
+		private volatile boolean basicAuthentication;
+		private volatile String legacyAuthenticationScheme;
+		private volatile boolean hostHeaderReported;
+	}
+
+	/**
+	 * Lazy holder of the SSL context trusting all the certificates.
+	 */
+	private static final class TrustAllSslContextHolder {
+
+		private static final SSLContext SSL_CONTEXT = createTrustAllSslContext();
+
+		/**
+		 * Create the SSL context trusting all the certificates. The trust manager being an
+		 * {@link X509ExtendedTrustManager}, the hostname of the server is not verified either.
+		 *
+		 * @return a new {@link SSLContext}.
+		 */
+		private static SSLContext createTrustAllSslContext() {
+			try {
+				final SSLContext sslContext = SSLContext.getInstance("TLS");
+				sslContext.init(null, new TrustManager[] { new TrustAllManager() }, new SecureRandom());
+				return sslContext;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("Cannot initialize the HTTP client SSL context.", e);
+			}
+		}
+	}
+
+	/**
+	 * Trust manager accepting all the certificates.
+	 */
+	private static final class TrustAllManager extends X509ExtendedTrustManager {
+
+		@Override
+		public void checkClientTrusted(final X509Certificate[] chain, final String authType) {
+			// Trust all the certificates
+		}
+
+		@Override
+		public void checkServerTrusted(final X509Certificate[] chain, final String authType) {
+			// Trust all the certificates
+		}
+
+		@Override
+		public void checkClientTrusted(final X509Certificate[] chain, final String authType, final Socket socket) {
+			// Trust all the certificates
+		}
+
+		@Override
+		public void checkServerTrusted(final X509Certificate[] chain, final String authType, final Socket socket) {
+			// Trust all the certificates
+		}
+
+		@Override
+		public void checkClientTrusted(final X509Certificate[] chain, final String authType, final SSLEngine engine) {
+			// Trust all the certificates
+		}
+
+		@Override
+		public void checkServerTrusted(final X509Certificate[] chain, final String authType, final SSLEngine engine) {
+			// Trust all the certificates
+		}
+
+		@Override
+		public X509Certificate[] getAcceptedIssuers() {
+			return new X509Certificate[0];
+		}
+	}
+}
@@ -32,7 +32,6 @@ import java.util.Collections;
 import java.util.Map;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.sentrysoftware.http.HttpClient;
 import org.sentrysoftware.http.HttpResponse;
 import org.sentrysoftware.metricshub.engine.common.exception.RetryableException;
 import org.sentrysoftware.metricshub.engine.common.helpers.LoggingHelper;
@@ -59,6 +58,30 @@ public class HttpRequestExecutor {
 	private static final String HOSTNAME_CANNOT_BE_NULL = "hostname cannot be null";
 	private static final String PROTOCOL_CANNOT_BE_NULL = "protocol cannot be null";
 
+	private final HttpClientPool httpClientPool;
+
+	private final HttpResponseCache httpResponseCache = new HttpResponseCache(
+		HttpResponseCache.DEFAULT_MAX_ENTRIES,
+		HttpResponseCache.DEFAULT_MAX_BYTES,
+		HttpResponseCache.DEFAULT_MAX_RESPONSE_BYTES
+	);
+
+	/**
+	 * Constructs a new {@code HttpRequestExecutor} sending the requests through the shared {@link HttpClientPool}.
+	 */
+	public HttpRequestExecutor() {
+		this(HttpClientPool.getInstance());
+	}
+
+	/**
+	 * Constructs a new {@code HttpRequestExecutor} sending the requests through the given {@link HttpClientPool}.
+	 *
+	 * @param httpClientPool The pool of HTTP clients.
+	 */
+	HttpRequestExecutor(@NonNull final HttpClientPool httpClientPool) {
+		this.httpClientPool = httpClientPool;
+	}
+
 	/**
 	 * Executes the given HTTP request
 	 *
@@ -144,6 +167,27 @@ public class HttpRequestExecutor {
 		// Build the full URL
 		final String fullUrl = UrlHelper.format(protocol, hostname, httpConfiguration.getPort(), path, url);
 
+		// The responses of the cached sources are indexed by the resource, the credentials and the request without the
+		// sensitive data, so that the resources sharing the extension never get each other's responses
+		final String cacheKey = httpRequest.isCacheResponse()
+			? HttpResponseCache.buildKey(
+				telemetryManager.getHostConfiguration().getHostId(),
+				method,
+				UrlHelper.format(
+					protocol,
+					hostname,
+					httpConfiguration.getPort(),
+					MacrosUpdater.update(httpRequestPath, username, CHAR_ARRAY_MASK, MASK, hostname, false),
+					MacrosUpdater.update(httpRequestUrl, username, CHAR_ARRAY_MASK, MASK, hostname, false)
+				),
+				username,
+				password,
+				authenticationToken,
+				headerContentProtected,
+				bodyContentProtected
+			)
+			: null;
+
 		LoggingHelper.trace(() ->
 			log.trace(
 				"Executing HTTP request: {} {}\n- hostname: {}\n- url: {}\n- path: {}\n" + // NOSONAR
@@ -187,7 +231,8 @@ public class HttpRequestExecutor {
 					url,
 					path,
 					protocol,
-					fullUrl
+					fullUrl,
+					cacheKey
 				)
 			);
 	}
@@ -210,6 +255,7 @@ public class HttpRequestExecutor {
 	 * @param path                    The HTTP URL path
 	 * @param protocol               The protocol: http or https
 	 * @param fullUrl                The full HTTP URL. E.g. <pre>http://www.example.com:1080/api/v1/examples</pre>
+	 * @param cacheKey               The key of the cached response, {@code null} if the response is not cached
 	 * @return String value
 	 */
 	private String doHttpRequest(
@@ -227,7 +273,8 @@ public class HttpRequestExecutor {
 		final String url,
 		final String path,
 		final String protocol,
-		final String fullUrl
+		final String fullUrl,
+		final String cacheKey
 	) {
 		try {
 			final long startTime = System.currentTimeMillis();
@@ -240,7 +287,8 @@ public class HttpRequestExecutor {
 				password,
 				headerContent,
 				bodyContent,
-				httpConfiguration.getTimeout().intValue()
+				httpConfiguration.getTimeout().intValue(),
+				cacheKey
 			);
 
 			// Compute the response time
@@ -328,6 +376,8 @@ public class HttpRequestExecutor {
 	}
 
 	/**
+	 * Send the HTTP request through the pooled client of the host, reusing its connections.
+	 *
 	 * @param url           The full URL of the HTTP request.
 	 * @param method        The HTTP method (GET, POST, ...).
 	 * @param username      The username for the connexion.
@@ -335,7 +385,8 @@ public class HttpRequestExecutor {
 	 * @param headerContent The {@link Map} of properties-values in the header.
 	 * @param bodyContent   The body as a plain text.
 	 * @param timeout       The timeout of the request.
-	 * @return The {@link HttpResponse} returned by the server.
+	 * @param cacheKey      The key of the cached response, {@code null} if the response is not cached.
+	 * @return The {@link HttpResponse} returned by the server or the cached response if it is still valid.
 	 * @throws IOException If a reading or writing operation fails.
 	 */
 	private HttpResponse sendHttpRequest(
@@ -345,23 +396,18 @@ public class HttpRequestExecutor {
 		char[] password,
 		Map<String, String> headerContent,
 		String bodyContent,
-		int timeout
+		int timeout,
+		String cacheKey
 	) throws IOException {
-		return HttpClient.sendRequest(
-			url,
-			method,
-			null,
-			username,
-			password,
-			null,
-			0,
-			null,
-			null,
-			null,
+		if (cacheKey == null) {
+			return httpClientPool.send(url, method, username, password, headerContent, bodyContent, timeout);
+		}
+
+		return httpResponseCache.send(
+			cacheKey,
 			headerContent,
-			bodyContent,
-			timeout,
-			null
+			conditionalHeaderContent ->
+				httpClientPool.send(url, method, username, password, conditionalHeaderContent, bodyContent, timeout)
 		);
 	}
 }
@@ -0,0 +1,369 @@
+package org.sentrysoftware.metricshub.extension.http;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub HTTP Extension
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+import org.sentrysoftware.http.HttpResponse;
+
+/**
+ * Cache of the HTTP responses of the sources configured with {@code cacheResponse}.
+ * <p>
+ * The responses are indexed by the fully macro-expanded request. A cached response is returned without contacting the
+ * server as long as it is fresh according to its {@code Cache-Control: max-age} directive. Otherwise, the request is
+ * sent with the {@code If-None-Match} and {@code If-Modified-Since} validators of the cached response, and the cached
+ * response is returned if the server replies {@code 304 Not Modified}. The least recently used responses are evicted
+ * when the cache holds too many responses or too many bytes, and the responses larger than the per-response limit are
+ * not cached.
+ * </p>
+ */
+class HttpResponseCache {
+
+	/**
+	 * Default maximum number of cached responses
+	 */
+	static final int DEFAULT_MAX_ENTRIES = 1024;
+
+	/**
+	 * Default maximum total size of the cached responses, in bytes
+	 */
+	static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	/**
+	 * Default maximum size of a single cached response, in bytes
+	 */
+	static final long DEFAULT_MAX_RESPONSE_BYTES = 4L * 1024 * 1024;
+
+	static final int HTTP_NOT_MODIFIED = 304;
+
+	private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age\\s*=\\s*\"?(\\d+)", Pattern.CASE_INSENSITIVE);
+	private static final Pattern HEADER_LINE_PATTERN = Pattern.compile("^([^:\\r\\n]+):\\s*(.*)$", Pattern.MULTILINE);
+
+	private final Map<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final int maxEntries;
+	private final long maxBytes;
+	private final long maxResponseBytes;
+	private long totalBytes;
+
+	@Setter
+	private LongSupplier clock = System::currentTimeMillis;
+
+	/**
+	 * Constructs a new {@code HttpResponseCache}.
+	 *
+	 * @param maxEntries       The maximum number of cached responses.
+	 * @param maxBytes         The maximum total size of the cached responses, in bytes.
+	 * @param maxResponseBytes The maximum size of a single cached response, in bytes.
+	 */
+	HttpResponseCache(final int maxEntries, final long maxBytes, final long maxResponseBytes) {
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+		this.maxResponseBytes = maxResponseBytes;
+	}
+
+	/**
+	 * Sends a request whose response can be cached.
+	 */
+	@FunctionalInterface
+	interface ConditionalRequest {
+		/**
+		 * Send the request with the given header.
+		 *
+		 * @param headerContent The header of the request, including the validators of the cached response.
+		 * @return The {@link HttpResponse} returned by the server.
+		 * @throws IOException If the request fails.
+		 */
+		HttpResponse send(Map<String, String> headerContent) throws IOException;
+	}
+
+	/**
+	 * Return the cached response of the given request if it is still valid, otherwise send the request and cache its
+	 * response.
+	 *
+	 * @param key           The key of the request, see {@link #buildKey}.
+	 * @param headerContent The header of the request.
+	 * @param request       Sends the request.
+	 * @return The cached or the received {@link HttpResponse}.
+	 * @throws IOException If the request fails.
+	 */
+	HttpResponse send(final String key, final Map<String, String> headerContent, final ConditionalRequest request)
+		throws IOException {
+		final CachedResponse cachedResponse = get(key);
+
+		if (cachedResponse != null && cachedResponse.getExpirationTime() > clock.getAsLong()) {
+			return cachedResponse.getResponse();
+		}
+
+		final HttpResponse response = request.send(
+			cachedResponse == null ? headerContent : withValidators(headerContent, cachedResponse)
+		);
+
+		final int statusCode = response.getStatusCode();
+		if (statusCode == HTTP_NOT_MODIFIED && cachedResponse != null) {
+			// The cached response is still valid, its freshness is given by the new response
+			put(key, cachedResponse.getResponse(), parseHeaders(response.getHeader()));
+			return cachedResponse.getResponse();
+		}
+
+		if (statusCode >= 200 && statusCode < 300) {
+			put(key, response, parseHeaders(response.getHeader()));
+		}
+
+		return response;
+	}
+
+	/**
+	 * Get the cached response of the given request.
+	 *
+	 * @param key The key of the request.
+	 * @return the {@link CachedResponse} or {@code null} if the response is not cached.
+	 */
+	CachedResponse get(final String key) {
+		synchronized (entries) {
+			return entries.get(key);
+		}
+	}
+
+	/**
+	 * Get the number of cached responses.
+	 *
+	 * @return the number of cached responses.
+	 */
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Get the total size of the cached responses.
+	 *
+	 * @return the total size of the cached responses, in bytes.
+	 */
+	long totalBytes() {
+		synchronized (entries) {
+			return totalBytes;
+		}
+	}
+
+	/**
+	 * Cache the given response if it can be revalidated or has a freshness lifetime and is not larger than the
+	 * per-response limit. A response with the {@code no-store} directive removes the cached response.
+	 *
+	 * @param key      The key of the request.
+	 * @param response The response to cache.
+	 * @param headers  The headers of the last response received for the request, indexed by lower case name.
+	 */
+	private void put(final String key, final HttpResponse response, final Map<String, String> headers) {
+		final String cacheControl = headers.getOrDefault("cache-control", "").toLowerCase(Locale.ROOT);
+		final Map<String, String> cachedHeaders = parseHeaders(response.getHeader());
+		final String etag = headers.getOrDefault("etag", cachedHeaders.get("etag"));
+		final String lastModified = headers.getOrDefault("last-modified", cachedHeaders.get("last-modified"));
+
+		long maxAgeMillis = 0;
+		if (!cacheControl.contains("no-cache")) {
+			final Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+			if (matcher.find()) {
+				maxAgeMillis = Long.parseLong(matcher.group(1)) * 1000L;
+			}
+		}
+
+		final long size = sizeOf(response);
+
+		synchronized (entries) {
+			final CachedResponse previous;
+			if (
+				cacheControl.contains("no-store") ||
+				(etag == null && lastModified == null && maxAgeMillis == 0) ||
+				size > maxResponseBytes
+			) {
+				previous = entries.remove(key);
+			} else {
+				previous =
+					entries.put(key, new CachedResponse(response, etag, lastModified, clock.getAsLong() + maxAgeMillis, size));
+				totalBytes += size;
+			}
+
+			if (previous != null) {
+				totalBytes -= previous.getSize();
+			}
+
+			// Evict the least recently used responses
+			final Iterator<CachedResponse> iterator = entries.values().iterator();
+			while ((entries.size() > maxEntries || totalBytes > maxBytes) && iterator.hasNext()) {
+				totalBytes -= iterator.next().getSize();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Estimate the heap size of the given response, from the length of its header and body.
+	 *
+	 * @param response The response.
+	 * @return the size of the response, in bytes.
+	 */
+	static long sizeOf(final HttpResponse response) {
+		final String header = response.getHeader();
+		final String body = response.getBody();
+		return 2L * ((header == null ? 0 : header.length()) + (body == null ? 0 : body.length()));
+	}
+
+	/**
+	 * Copy the given header and add the validators of the cached response.
+	 *
+	 * @param headerContent  The header of the request.
+	 * @param cachedResponse The cached response.
+	 * @return a new header {@link Map}.
+	 */
+	private static Map<String, String> withValidators(
+		final Map<String, String> headerContent,
+		final CachedResponse cachedResponse
+	) {
+		final Map<String, String> conditionalHeaderContent = new HashMap<>(headerContent);
+		if (cachedResponse.getEtag() != null) {
+			conditionalHeaderContent.put("If-None-Match", cachedResponse.getEtag());
+		}
+		if (cachedResponse.getLastModified() != null) {
+			conditionalHeaderContent.put("If-Modified-Since", cachedResponse.getLastModified());
+		}
+		return conditionalHeaderContent;
+	}
+
+	/**
+	 * Parse the header of an {@link HttpResponse}, one {@code name: value} per line.
+	 *
+	 * @param header The header of the response.
+	 * @return the values indexed by lower case header name.
+	 */
+	static Map<String, String> parseHeaders(final String header) {
+		final Map<String, String> headers = new HashMap<>();
+		if (header != null) {
+			final Matcher matcher = HEADER_LINE_PATTERN.matcher(header);
+			while (matcher.find()) {
+				headers.putIfAbsent(matcher.group(1).trim().toLowerCase(Locale.ROOT), matcher.group(2).trim());
+			}
+		}
+		return headers;
+	}
+
+	/**
+	 * Build the key of a request from the resource sending it, its credentials and its macro-expanded content. The
+	 * credentials are part of the key so that two resources, or two requests authenticated differently, never share a
+	 * cached response. The key is a digest so that the cache holds neither the content of the request nor the
+	 * credentials.
+	 *
+	 * @param hostId              The identifier of the resource sending the request.
+	 * @param method              The HTTP method.
+	 * @param url                 The full URL of the request, without sensitive data.
+	 * @param username            The username of the request.
+	 * @param password            The password of the request.
+	 * @param authenticationToken The authentication token of the request.
+	 * @param headerContent       The header of the request, without sensitive data.
+	 * @param bodyContent         The body of the request, without sensitive data.
+	 * @return the key of the request.
+	 */
+	static String buildKey(
+		final String hostId,
+		final String method,
+		final String url,
+		final String username,
+		final char[] password,
+		final String authenticationToken,
+		final Map<String, String> headerContent,
+		final String bodyContent
+	) {
+		final StringBuilder request = new StringBuilder()
+			.append(hostId)
+			.append('\n')
+			.append(method)
+			.append(' ')
+			.append(url)
+			.append('\n')
+			.append(username)
+			.append('\n');
+		new TreeMap<>(headerContent).forEach((name, value) -> request.append(name).append(": ").append(value).append('\n'));
+		request.append('\n').append(bodyContent);
+
+		try {
+			final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(request.toString().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			if (password != null) {
+				final ByteBuffer passwordBytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+				digest.update(passwordBytes);
+				Arrays.fill(passwordBytes.array(), (byte) 0);
+			}
+			digest.update((byte) 0);
+			if (authenticationToken != null) {
+				digest.update(authenticationToken.getBytes(StandardCharsets.UTF_8));
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported.", e);
+		}
+	}
+
+	/**
+	 * A cached response, its validators and the time until which it is fresh.
+	 */
+	@Getter
+	static final class CachedResponse {
+
+		private final HttpResponse response;
+		private final String etag;
+		private final String lastModified;
+		private final long expirationTime;
+		private final long size;
+
+		private CachedResponse(
+			final HttpResponse response,
+			final String etag,
+			final String lastModified,
+			final long expirationTime,
+			final long size
+		) {
+			this.response = response;
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.expirationTime = expirationTime;
+			this.size = size;
+		}
+	}
+}
@@ -92,6 +92,7 @@ public class HttpSourceProcessor {
 					.body(httpSource.getBody(), connectorEmbeddedFiles, connectorId, hostname)
 					.resultContent(httpSource.getResultContent())
 					.authenticationToken(httpSource.getAuthenticationToken())
+					.cacheResponse(httpSource.isCacheResponse())
 					.httpConfiguration(httpConfiguration)
 					.build(),
 				true,
@@ -67,6 +67,11 @@ public class HttpRequest {
 	 */
 	private String authenticationToken;
 
+	/**
+	 * Whether the response is cached and revalidated with the server.
+	 */
+	private boolean cacheResponse;
+
 	/**
 	 * Builder for creating instances of {@code HttpRequest}.
 	 */
@@ -0,0 +1,180 @@
+package org.sentrysoftware.metricshub.extension.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.http.HttpResponse;
+
+class HttpClientPoolTest {
+
+	private static final String BODY = "{ \"key\": \"value\" }";
+	private static final String USERNAME = "user";
+	private static final char[] PASSWORD = "pwd".toCharArray();
+	private static final int TIMEOUT = 10;
+
+	private HttpServer server;
+	private String baseUrl;
+	private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+	private final List<String> acceptEncodings = new CopyOnWriteArrayList<>();
+	private final AtomicInteger challengeCount = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/gzip", this::handleGzip);
+		server.createContext("/secure", this::handleSecure);
+		server.createContext("/digest", this::handleDigest);
+		server.start();
+		baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	private void handleGzip(final HttpExchange exchange) throws IOException {
+		remotePorts.add(exchange.getRemoteAddress().getPort());
+		acceptEncodings.add(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+
+		final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(BODY.getBytes(StandardCharsets.UTF_8));
+		}
+		exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+		exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+		sendResponse(exchange, 200, compressed.toByteArray());
+	}
+
+	private void handleSecure(final HttpExchange exchange) throws IOException {
+		final String expected =
+			"Basic " + Base64.getEncoder().encodeToString("user:pwd".getBytes(StandardCharsets.UTF_8));
+		if (!expected.equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+			challengeCount.incrementAndGet();
+			exchange.getResponseHeaders().add("WWW-Authenticate", "Basic realm=\"test\"");
+			sendResponse(exchange, 401, new byte[0]);
+			return;
+		}
+		sendResponse(exchange, 200, BODY.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void handleDigest(final HttpExchange exchange) throws IOException {
+		challengeCount.incrementAndGet();
+		exchange.getResponseHeaders().add("WWW-Authenticate", "Digest realm=\"test\", nonce=\"abc\"");
+		sendResponse(exchange, 401, new byte[0]);
+	}
+
+	private static void sendResponse(final HttpExchange exchange, final int status, final byte[] body)
+		throws IOException {
+		exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(body);
+		}
+	}
+
+	@Test
+	void testKeepAliveAndGzip() throws IOException {
+		final HttpClientPool pool = new HttpClientPool(HttpClientPool.DEFAULT_IDLE_TIMEOUT_MILLIS);
+
+		for (int i = 0; i < 3; i++) {
+			final HttpResponse response = pool.send(baseUrl + "/gzip", "GET", null, null, Map.of(), null, TIMEOUT);
+			assertEquals(200, response.getStatusCode());
+			assertEquals(BODY, response.getBody());
+		}
+
+		// The three requests have been sent on the same connection, with compression enabled
+		assertEquals(1, remotePorts.size());
+		assertEquals(List.of("gzip, deflate", "gzip, deflate", "gzip, deflate"), acceptEncodings);
+		assertEquals(1, pool.size());
+	}
+
+	@Test
+	void testBasicAuthentication() throws IOException {
+		final HttpClientPool pool = new HttpClientPool(HttpClientPool.DEFAULT_IDLE_TIMEOUT_MILLIS);
+
+		final HttpResponse first = pool.send(baseUrl + "/secure", "GET", USERNAME, PASSWORD, Map.of(), null, TIMEOUT);
+		assertEquals(200, first.getStatusCode());
+		assertEquals(BODY, first.getBody());
+
+		// The credentials are sent pre-emptively once the server has challenged the client
+		final HttpResponse second = pool.send(baseUrl + "/secure", "GET", USERNAME, PASSWORD, Map.of(), null, TIMEOUT);
+		assertEquals(200, second.getStatusCode());
+		assertEquals(1, challengeCount.get());
+
+		// The requests without credentials are sent through the same client, without the Basic authentication
+		assertEquals(401, pool.send(baseUrl + "/secure", "GET", null, null, Map.of(), null, TIMEOUT).getStatusCode());
+		assertEquals(2, challengeCount.get());
+		assertEquals(1, pool.size());
+	}
+
+	@Test
+	void testLegacyAuthentication() throws IOException {
+		final AtomicInteger legacyCount = new AtomicInteger();
+		final HttpClientPool pool = new HttpClientPool(HttpClientPool.DEFAULT_IDLE_TIMEOUT_MILLIS) {
+			@Override
+			HttpResponse sendLegacyRequest(
+				final String url,
+				final String method,
+				final String username,
+				final char[] password,
+				final Map<String, String> headerContent,
+				final String bodyContent,
+				final int timeout
+			) {
+				legacyCount.incrementAndGet();
+				final HttpResponse response = new HttpResponse();
+				response.setStatusCode(200);
+				response.appendBody(BODY);
+				return response;
+			}
+		};
+
+		for (int i = 0; i < 3; i++) {
+			final HttpResponse response = pool.send(baseUrl + "/digest", "GET", USERNAME, PASSWORD, Map.of(), null, TIMEOUT);
+			assertEquals(BODY, response.getBody());
+		}
+
+		// Only the first request is challenged, the next ones go straight to the legacy client
+		assertEquals(1, challengeCount.get());
+		assertEquals(3, legacyCount.get());
+	}
+
+	@Test
+	void testEvictIdleClients() throws IOException {
+		final AtomicLong now = new AtomicLong(0);
+		final HttpClientPool pool = new HttpClientPool(1000);
+		pool.setClock(now::get);
+
+		pool.send(baseUrl + "/gzip", "GET", null, null, Map.of(), null, TIMEOUT);
+		pool.send(baseUrl + "/gzip", "GET", null, null, Map.of(), null, TIMEOUT + 1);
+		assertEquals(2, pool.size());
+
+		now.set(2000);
+		pool.evictIdleClients();
+		assertEquals(0, pool.size());
+
+		// A new client is created for the next request
+		assertTrue(pool.send(baseUrl + "/gzip", "GET", null, null, Map.of(), null, TIMEOUT).getBody().contains("key"));
+		assertEquals(1, pool.size());
+	}
+}
@@ -0,0 +1,157 @@
+package org.sentrysoftware.metricshub.extension.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.http.HttpResponse;
+
+class HttpResponseCacheTest {
+
+	private static final String URL = "https://host:443/redfish/v1";
+	private static final char[] PASSWORD = "pwd".toCharArray();
+	private static final String KEY = HttpResponseCache.buildKey("host", "GET", URL, "user", PASSWORD, null, Map.of(), "");
+	private static final String BODY = "{ \"Name\": \"Chassis\" }";
+
+	private final AtomicLong now = new AtomicLong(0);
+	private final List<Map<String, String>> sentHeaders = new ArrayList<>();
+	private HttpResponseCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache =
+			new HttpResponseCache(
+				HttpResponseCache.DEFAULT_MAX_ENTRIES,
+				HttpResponseCache.DEFAULT_MAX_BYTES,
+				HttpResponseCache.DEFAULT_MAX_RESPONSE_BYTES
+			);
+		cache.setClock(now::get);
+	}
+
+	private static HttpResponse response(final int statusCode, final String body, final String... headers) {
+		final HttpResponse response = new HttpResponse();
+		response.setStatusCode(statusCode);
+		for (int i = 0; i < headers.length; i += 2) {
+			response.appendHeader(headers[i], headers[i + 1]);
+		}
+		response.appendBody(body);
+		return response;
+	}
+
+	private HttpResponse send(final HttpResponse serverResponse) throws IOException {
+		return cache.send(
+			KEY,
+			Map.of("Accept", "application/json"),
+			headerContent -> {
+				sentHeaders.add(headerContent);
+				return serverResponse;
+			}
+		);
+	}
+
+	@Test
+	void testRevalidateWithEtag() throws IOException {
+		final HttpResponse first = response(200, BODY, "ETag", "\"v1\"", "Last-Modified", "Mon, 01 Jan 2024 00:00:00 GMT");
+		assertSame(first, send(first));
+		assertNull(sentHeaders.get(0).get("If-None-Match"));
+
+		// The server replies 304, the cached response is returned
+		assertSame(first, send(response(HttpResponseCache.HTTP_NOT_MODIFIED, "")));
+		assertEquals("\"v1\"", sentHeaders.get(1).get("If-None-Match"));
+		assertEquals("Mon, 01 Jan 2024 00:00:00 GMT", sentHeaders.get(1).get("If-Modified-Since"));
+		assertEquals("application/json", sentHeaders.get(1).get("Accept"));
+
+		// The resource has changed
+		final HttpResponse changed = response(200, "{}", "ETag", "\"v2\"");
+		assertSame(changed, send(changed));
+		assertEquals("\"v2\"", cache.get(KEY).getEtag());
+	}
+
+	@Test
+	void testMaxAge() throws IOException {
+		final HttpResponse first = response(200, BODY, "Cache-Control", "max-age=60");
+		send(first);
+
+		// Still fresh, the server is not contacted
+		now.set(59_000);
+		assertSame(first, send(response(500, "")));
+		assertEquals(1, sentHeaders.size());
+
+		// Expired and without validator, the request is sent again
+		now.set(61_000);
+		final HttpResponse second = response(200, "{}");
+		assertSame(second, send(second));
+		assertEquals(2, sentHeaders.size());
+		assertNull(cache.get(KEY));
+	}
+
+	@Test
+	void testNotCached() throws IOException {
+		send(response(200, BODY, "ETag", "\"v1\"", "Cache-Control", "no-store"));
+		assertNull(cache.get(KEY));
+
+		send(response(200, BODY));
+		assertNull(cache.get(KEY));
+
+		send(response(404, BODY, "ETag", "\"v1\""));
+		assertNull(cache.get(KEY));
+	}
+
+	@Test
+	void testEviction() throws IOException {
+		final HttpResponseCache smallCache = new HttpResponseCache(2, HttpResponseCache.DEFAULT_MAX_BYTES, 1024);
+		for (int i = 0; i < 3; i++) {
+			smallCache.send(key(i), Map.of(), headerContent -> response(200, BODY, "ETag", "\"v1\""));
+		}
+		assertEquals(2, smallCache.size());
+		assertNull(smallCache.get(key(0)));
+	}
+
+	@Test
+	void testEvictionOnTotalBytes() throws IOException {
+		final HttpResponse first = response(200, BODY, "ETag", "\"v1\"");
+		final long size = HttpResponseCache.sizeOf(first);
+		final HttpResponseCache smallCache = new HttpResponseCache(10, 2 * size, size);
+		for (int i = 0; i < 3; i++) {
+			smallCache.send(key(i), Map.of(), headerContent -> response(200, BODY, "ETag", "\"v1\""));
+		}
+		assertEquals(2, smallCache.size());
+		assertEquals(2 * size, smallCache.totalBytes());
+		assertNull(smallCache.get(key(0)));
+
+		// A response larger than the per-response limit is not cached, and replaces the cached one
+		smallCache.send(key(1), Map.of(), headerContent -> response(200, BODY + BODY, "ETag", "\"v2\""));
+		assertNull(smallCache.get(key(1)));
+		assertEquals(1, smallCache.size());
+		assertEquals(size, smallCache.totalBytes());
+	}
+
+	@Test
+	void testBuildKey() {
+		assertEquals(KEY, HttpResponseCache.buildKey("host", "GET", URL, "user", PASSWORD, null, Map.of(), ""));
+		assertNotEquals(
+			KEY,
+			HttpResponseCache.buildKey("host", "GET", URL, "user", PASSWORD, null, Map.of("X-Auth-Token", "*****"), "")
+		);
+
+		// The resource and the credentials are part of the key
+		assertNotEquals(KEY, HttpResponseCache.buildKey("other", "GET", URL, "user", PASSWORD, null, Map.of(), ""));
+		assertNotEquals(
+			KEY,
+			HttpResponseCache.buildKey("host", "GET", URL, "user", "other".toCharArray(), null, Map.of(), "")
+		);
+		assertNotEquals(KEY, HttpResponseCache.buildKey("host", "GET", URL, "user", PASSWORD, "token", Map.of(), ""));
+	}
+
+	private static String key(final int index) {
+		return HttpResponseCache.buildKey("host", "GET", "https://host:443/" + index, "user", PASSWORD, null, Map.of(), "");
+	}
+}
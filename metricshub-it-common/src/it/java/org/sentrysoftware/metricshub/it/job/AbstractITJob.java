@@ -74,11 +74,20 @@ public abstract class AbstractITJob implements ITJob {
 	 * @param actualMonitor   Actual collected monitor from the {@link TelemetryManager}
 	 */
 	private static void assertAlertRules(final Monitor expectedMonitor, final Monitor actualMonitor) {
-		// Alert rules are not available yet
-		assertTrue(
-			actualMonitor.getAlertRules().isEmpty(),
-			() -> String.format("Alert rules are not empty on monitor identifier: %s.", actualMonitor.getId())
-		);
+		// The alert rules are built from the connector metric definitions, they must be able to check their conditions
+		actualMonitor
+			.getAlertRules()
+			.forEach((metricName, rules) ->
+				assertTrue(
+					rules.stream().allMatch(rule -> rule.getConditionsChecker() != null),
+					() ->
+						String.format(
+							"Alert rules of metric %s cannot be evaluated on monitor identifier: %s.",
+							metricName,
+							actualMonitor.getId()
+						)
+				)
+			);
 	}
 
 	/**
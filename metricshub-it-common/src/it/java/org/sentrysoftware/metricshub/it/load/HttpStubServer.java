@@ -0,0 +1,130 @@
+package org.sentrysoftware.metricshub.it.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Minimal in-process HTTP server answering canned responses on the loopback interface. It stands in for the HTTP
+ * endpoints of the monitored resources and for the OTLP/HTTP receiver of the OpenTelemetry Collector during load tests,
+ * and counts the requests and bytes it receives.
+ */
+public class HttpStubServer {
+
+	private final HttpServer server;
+
+	private final ExecutorService executor;
+
+	@Getter
+	private final AtomicLong requestCount = new AtomicLong();
+
+	@Getter
+	private final AtomicLong receivedBytes = new AtomicLong();
+
+	/**
+	 * Constructs a new {@code HttpStubServer} listening on an ephemeral port of the loopback interface.
+	 *
+	 * @param threads Number of threads handling the requests.
+	 * @throws IOException If the server cannot be bound.
+	 */
+	public HttpStubServer(final int threads) throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		executor = Executors.newFixedThreadPool(threads);
+		server.setExecutor(executor);
+	}
+
+	/**
+	 * Answer the requests on the given path with the given status, content type and body.
+	 *
+	 * @param path        The path of the route, e.g. <code>/v1/metrics</code>.
+	 * @param status      The HTTP status code.
+	 * @param contentType The content type of the response.
+	 * @param body        The body of the response.
+	 * @return This {@link HttpStubServer}.
+	 */
+	public HttpStubServer route(
+		@NonNull final String path,
+		final int status,
+		@NonNull final String contentType,
+		@NonNull final String body
+	) {
+		final byte[] response = body.getBytes(StandardCharsets.UTF_8);
+		server.createContext(path, exchange -> respond(exchange, status, contentType, response));
+		return this;
+	}
+
+	/**
+	 * Consume the request and write the canned response.
+	 *
+	 * @param exchange    The HTTP exchange.
+	 * @param status      The HTTP status code.
+	 * @param contentType The content type of the response.
+	 * @param response    The body of the response.
+	 * @throws IOException If the exchange fails.
+	 */
+	private void respond(final HttpExchange exchange, final int status, final String contentType, final byte[] response)
+		throws IOException {
+		try (exchange) {
+			requestCount.incrementAndGet();
+			try (InputStream requestBody = exchange.getRequestBody()) {
+				receivedBytes.addAndGet(requestBody.transferTo(OutputStream.nullOutputStream()));
+			}
+
+			exchange.getResponseHeaders().set("Content-Type", contentType);
+			if (response.length == 0) {
+				exchange.sendResponseHeaders(status, -1);
+				return;
+			}
+
+			exchange.sendResponseHeaders(status, response.length);
+			try (OutputStream responseBody = exchange.getResponseBody()) {
+				responseBody.write(response);
+			}
+		}
+	}
+
+	/**
+	 * Start the server.
+	 *
+	 * @return This {@link HttpStubServer}.
+	 */
+	public HttpStubServer start() {
+		server.start();
+		return this;
+	}
+
+	/**
+	 * Stop the server.
+	 */
+	public void stop() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	/**
+	 * @return The port the server is listening on.
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Build the URL of the given path on this server.
+	 *
+	 * @param path The path, e.g. <code>/v1/metrics</code>.
+	 * @return The absolute URL.
+	 */
+	public String url(final String path) {
+		return String.format("http://%s:%d%s", server.getAddress().getHostString(), getPort(), path);
+	}
+}
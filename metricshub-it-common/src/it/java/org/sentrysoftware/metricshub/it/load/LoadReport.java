@@ -0,0 +1,63 @@
+package org.sentrysoftware.metricshub.it.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a load test: throughput, collect latency percentiles and peak JVM resource usage.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadReport {
+
+	private int resourceCount;
+	private double elapsedSeconds;
+	private long collectCount;
+	private long failureCount;
+	private double collectsPerSecond;
+	private long requestCount;
+	private long exportCount;
+	private double latencyP50Ms;
+	private double latencyP90Ms;
+	private double latencyP99Ms;
+	private double latencyMaxMs;
+	private long maxHeapUsedMb;
+	private long maxHeapMb;
+	private int maxThreadCount;
+	private int availableProcessors;
+
+	/**
+	 * Format the report for the console.
+	 *
+	 * @return A human-readable multi-line summary.
+	 */
+	public String format() {
+		return String.format(
+			"Resources: %d (%d processors, max heap %d MB)%n" +
+			"Elapsed: %.1f s%n" +
+			"Collects: %d (%d failed), %.2f collects/s%n" +
+			"Protocol requests: %d, OTLP exports: %d%n" +
+			"Collect latency: p50=%.1f ms, p90=%.1f ms, p99=%.1f ms, max=%.1f ms%n" +
+			"Peak heap used: %d MB, peak threads: %d",
+			resourceCount,
+			availableProcessors,
+			maxHeapMb,
+			elapsedSeconds,
+			collectCount,
+			failureCount,
+			collectsPerSecond,
+			requestCount,
+			exportCount,
+			latencyP50Ms,
+			latencyP90Ms,
+			latencyP99Ms,
+			latencyMaxMs,
+			maxHeapUsedMb,
+			maxThreadCount
+		);
+	}
+}
@@ -0,0 +1,112 @@
+package org.sentrysoftware.metricshub.it.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe recorder of the collect durations and of the JVM resource usage during a load test.<br>
+ * Durations are kept in a growable array so that exact percentiles can be computed at the end of the run.
+ */
+public class LoadStatistics {
+
+	private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+	private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+	private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+	private final long startNanos = System.nanoTime();
+
+	private final AtomicLong failureCount = new AtomicLong();
+
+	private long[] durations = new long[1024];
+
+	private int count;
+
+	private long maxHeapUsed;
+
+	private int maxThreads;
+
+	/**
+	 * Record the duration of a successful collect.
+	 *
+	 * @param durationNanos The duration in nanoseconds.
+	 */
+	public synchronized void recordCollect(final long durationNanos) {
+		if (count == durations.length) {
+			durations = Arrays.copyOf(durations, count * 2);
+		}
+		durations[count++] = durationNanos;
+	}
+
+	/**
+	 * Record a collect that ended with an exception.
+	 */
+	public void recordFailure() {
+		failureCount.incrementAndGet();
+	}
+
+	/**
+	 * Sample the heap and thread usage of the JVM. Only the peak values are kept.
+	 */
+	public synchronized void sampleJvm() {
+		maxHeapUsed = Math.max(maxHeapUsed, memoryMXBean.getHeapMemoryUsage().getUsed());
+		maxThreads = Math.max(maxThreads, threadMXBean.getThreadCount());
+	}
+
+	/**
+	 * Build the report of the load test.
+	 *
+	 * @param resourceCount Number of simulated resources.
+	 * @param requestCount  Number of requests answered by the protocol stand-ins.
+	 * @param exportCount   Number of export requests received by the OTLP sink.
+	 * @return A new {@link LoadReport}.
+	 */
+	public synchronized LoadReport report(final int resourceCount, final long requestCount, final long exportCount) {
+		sampleJvm();
+
+		final long[] sorted = Arrays.copyOf(durations, count);
+		Arrays.sort(sorted);
+
+		final Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+		final double elapsedSeconds = elapsed.toMillis() / 1000.0;
+
+		return LoadReport
+			.builder()
+			.resourceCount(resourceCount)
+			.elapsedSeconds(elapsedSeconds)
+			.collectCount(count)
+			.failureCount(failureCount.get())
+			.collectsPerSecond(elapsedSeconds > 0 ? count / elapsedSeconds : 0)
+			.requestCount(requestCount)
+			.exportCount(exportCount)
+			.latencyP50Ms(percentileMillis(sorted, 50))
+			.latencyP90Ms(percentileMillis(sorted, 90))
+			.latencyP99Ms(percentileMillis(sorted, 99))
+			.latencyMaxMs(sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0)
+			.maxHeapUsedMb(maxHeapUsed / BYTES_PER_MEGABYTE)
+			.maxHeapMb(memoryMXBean.getHeapMemoryUsage().getMax() / BYTES_PER_MEGABYTE)
+			.maxThreadCount(maxThreads)
+			.availableProcessors(Runtime.getRuntime().availableProcessors())
+			.build();
+	}
+
+	/**
+	 * Compute a percentile with the nearest-rank method.
+	 *
+	 * @param sorted     Sorted durations in nanoseconds.
+	 * @param percentile The percentile, between 1 and 100.
+	 * @return The percentile in milliseconds, 0 if there is no duration.
+	 */
+	static double percentileMillis(final long[] sorted, final int percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+	}
+}
@@ -0,0 +1,42 @@
+package org.sentrysoftware.metricshub.it.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.sentrysoftware.metricshub.engine.common.exception.InvalidConfigurationException;
+import org.sentrysoftware.metricshub.engine.configuration.IConfiguration;
+
+/**
+ * Configuration of a resource answered by the {@link SimulatedProtocolExtension}: each request waits for
+ * <code>latency</code> milliseconds plus a random jitter in <code>[0, jitter]</code> milliseconds.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulatedConfiguration implements IConfiguration {
+
+	private String hostname;
+
+	@Default
+	private long latency = 0L;
+
+	@Default
+	private long jitter = 0L;
+
+	@Override
+	public void validateConfiguration(final String resourceKey) throws InvalidConfigurationException {
+		if (latency < 0 || jitter < 0) {
+			throw new InvalidConfigurationException(
+				String.format("Resource %s - The simulated latency and jitter cannot be negative.", resourceKey)
+			);
+		}
+	}
+
+	@Override
+	public IConfiguration copy() {
+		return SimulatedConfiguration.builder().hostname(hostname).latency(latency).jitter(jitter).build();
+	}
+}
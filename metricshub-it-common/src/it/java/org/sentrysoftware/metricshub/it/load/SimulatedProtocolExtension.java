@@ -0,0 +1,161 @@
+package org.sentrysoftware.metricshub.it.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import lombok.Getter;
+import lombok.NonNull;
+import org.sentrysoftware.metricshub.engine.common.exception.InvalidConfigurationException;
+import org.sentrysoftware.metricshub.engine.common.helpers.JsonHelper;
+import org.sentrysoftware.metricshub.engine.configuration.IConfiguration;
+import org.sentrysoftware.metricshub.engine.connector.model.identity.criterion.Criterion;
+import org.sentrysoftware.metricshub.engine.connector.model.identity.criterion.SnmpGetNextCriterion;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.SnmpTableSource;
+import org.sentrysoftware.metricshub.engine.connector.model.monitor.task.source.Source;
+import org.sentrysoftware.metricshub.engine.extension.IProtocolExtension;
+import org.sentrysoftware.metricshub.engine.strategy.detection.CriterionTestResult;
+import org.sentrysoftware.metricshub.engine.strategy.source.SourceTable;
+import org.sentrysoftware.metricshub.engine.telemetry.TelemetryManager;
+
+/**
+ * In-process protocol stand-in answering the SNMP table sources and SNMP GetNext criteria of any connector with a
+ * canned table, after the latency and jitter configured in the {@link SimulatedConfiguration} of the resource.<br>
+ * It lets load tests run thousands of resources against the real engine without any network equipment, while the
+ * configured latency keeps the job threads busy as real protocol requests would.
+ */
+public class SimulatedProtocolExtension implements IProtocolExtension {
+
+	/**
+	 * Configuration type of the simulated protocol in the resource configurations
+	 */
+	public static final String SIMULATED_PROTOCOL = "simulated";
+
+	private final List<List<String>> cannedTable;
+
+	@Getter
+	private final AtomicLong requestCount = new AtomicLong();
+
+	/**
+	 * Constructs a new {@code SimulatedProtocolExtension}.
+	 *
+	 * @param cannedTable The table returned for each source. A copy is returned each time as the engine modifies the
+	 *                    source tables in place.
+	 */
+	public SimulatedProtocolExtension(@NonNull final List<List<String>> cannedTable) {
+		this.cannedTable = cannedTable;
+	}
+
+	/**
+	 * Wait for the latency and jitter configured for the given resource.
+	 *
+	 * @param telemetryManager The telemetry manager of the resource.
+	 */
+	void simulateLatency(final TelemetryManager telemetryManager) {
+		requestCount.incrementAndGet();
+
+		final SimulatedConfiguration configuration = (SimulatedConfiguration) telemetryManager
+			.getHostConfiguration()
+			.getConfigurations()
+			.get(SimulatedConfiguration.class);
+		if (configuration == null) {
+			return;
+		}
+
+		final long jitter = configuration.getJitter() > 0
+			? ThreadLocalRandom.current().nextLong(configuration.getJitter() + 1)
+			: 0L;
+		final long delay = configuration.getLatency() + jitter;
+		if (delay <= 0) {
+			return;
+		}
+
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isValidConfiguration(final IConfiguration configuration) {
+		return configuration instanceof SimulatedConfiguration;
+	}
+
+	@Override
+	public Set<Class<? extends Source>> getSupportedSources() {
+		return Set.of(SnmpTableSource.class);
+	}
+
+	@Override
+	public Map<Class<? extends IConfiguration>, Set<Class<? extends Source>>> getConfigurationToSourceMapping() {
+		return Map.of(SimulatedConfiguration.class, Set.of(SnmpTableSource.class));
+	}
+
+	@Override
+	public Set<Class<? extends Criterion>> getSupportedCriteria() {
+		return Set.of(SnmpGetNextCriterion.class);
+	}
+
+	@Override
+	public Optional<Boolean> checkProtocol(final TelemetryManager telemetryManager) {
+		simulateLatency(telemetryManager);
+		return Optional.of(true);
+	}
+
+	@Override
+	public SourceTable processSource(
+		final Source source,
+		final String connectorId,
+		final TelemetryManager telemetryManager
+	) {
+		simulateLatency(telemetryManager);
+
+		final List<List<String>> table = new ArrayList<>(cannedTable.size());
+		cannedTable.forEach(row -> table.add(new ArrayList<>(row)));
+		return SourceTable.builder().table(table).build();
+	}
+
+	@Override
+	public CriterionTestResult processCriterion(
+		final Criterion criterion,
+		final String connectorId,
+		final TelemetryManager telemetryManager
+	) {
+		simulateLatency(telemetryManager);
+		return CriterionTestResult.success(criterion, SIMULATED_PROTOCOL);
+	}
+
+	@Override
+	public boolean isSupportedConfigurationType(final String configurationType) {
+		return SIMULATED_PROTOCOL.equalsIgnoreCase(configurationType);
+	}
+
+	@Override
+	public IConfiguration buildConfiguration(
+		final String configurationType,
+		final JsonNode jsonNode,
+		final UnaryOperator<char[]> decrypt
+	) throws InvalidConfigurationException {
+		try {
+			return JsonHelper.buildObjectMapper().treeToValue(jsonNode, SimulatedConfiguration.class);
+		} catch (Exception e) {
+			throw new InvalidConfigurationException("Error while reading the simulated protocol configuration.", e);
+		}
+	}
+
+	@Override
+	public String getIdentifier() {
+		return SIMULATED_PROTOCOL;
+	}
+
+	@Override
+	public String executeQuery(final IConfiguration configuration, final JsonNode queryNode) {
+		return null;
+	}
+}
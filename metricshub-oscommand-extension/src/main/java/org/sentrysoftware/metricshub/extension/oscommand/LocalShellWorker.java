@@ -0,0 +1,357 @@
+package org.sentrysoftware.metricshub.extension.oscommand;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub OsCommand Extension
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubConstants.NEW_LINE;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.sentrysoftware.metricshub.engine.common.helpers.LocalOsHandler;
+
+/**
+ * Persistent local shell running the local commands of a resource.<br>
+ * Instead of forking a new shell for each local command, the commands of a resource are written to the standard
+ * input of a shell started once, each one in its own subshell so that it cannot alter the state of the worker. The
+ * end of the output of a command is detected with a sentinel line printed by the shell once the command has
+ * completed. When a command times out or the shell fails, the shell is killed and a new one is started on the next
+ * command.<br>
+ * A worker runs one command at a time: when it is busy, or on Windows, the command is executed in a new process with
+ * {@link OsCommandService#runLocalCommand(String, long, String)}.<br>
+ * The worker of a resource is released, its shell killed and its reader thread stopped, when the resource is no
+ * longer monitored or when it has been idle for longer than the idle timeout.
+ */
+@Slf4j
+public class LocalShellWorker {
+
+	/**
+	 * Default duration after which an idle worker is released
+	 */
+	static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+	/**
+	 * Period of the release of the idle workers
+	 */
+	private static final long EVICTION_PERIOD_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+	private static final Map<String, LocalShellWorker> WORKERS = new ConcurrentHashMap<>();
+
+	private static final ScheduledExecutorService EVICTION_EXECUTOR = startEviction();
+
+	private final String resourceId;
+	private final String sentinel = "__METRICSHUB_END_" + UUID.randomUUID().toString().replace("-", "") + "__";
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ExecutorService readerExecutor;
+
+	private Process process;
+	private BufferedReader reader;
+	private BufferedWriter writer;
+	private volatile long lastUsedTime = System.currentTimeMillis();
+	private volatile boolean closed;
+
+	/**
+	 * Construct a new worker for the given resource. The shell is started on the first command.
+	 *
+	 * @param resourceId The identifier of the resource running its local commands in this worker.
+	 */
+	private LocalShellWorker(final String resourceId) {
+		this.resourceId = resourceId;
+		this.readerExecutor =
+			Executors.newSingleThreadExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "metricshub-local-shell-" + resourceId);
+				thread.setDaemon(true);
+				return thread;
+			});
+	}
+
+	/**
+	 * Start the periodic release of the idle workers.
+	 *
+	 * @return the executor running the release
+	 */
+	private static ScheduledExecutorService startEviction() {
+		final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "metricshub-local-shell-eviction");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleAtFixedRate(
+			() -> releaseIdleWorkers(System.currentTimeMillis(), DEFAULT_IDLE_TIMEOUT_MILLIS),
+			EVICTION_PERIOD_MILLIS,
+			EVICTION_PERIOD_MILLIS,
+			TimeUnit.MILLISECONDS
+		);
+		return executor;
+	}
+
+	/**
+	 * Run the given command in the persistent shell of the given resource.
+	 *
+	 * @param resourceId        The identifier of the resource running the command.
+	 * @param command           The command to be executed.
+	 * @param timeout           The timeout for the command execution in seconds.
+	 * @param noPasswordCommand The command with the password masked (if present).
+	 * @return The result of the local command execution.
+	 * @throws InterruptedException When the thread is interrupted during execution.
+	 * @throws IOException          When an I/O error occurs during command execution.
+	 * @throws TimeoutException     When the command execution times out.
+	 */
+	public static String runCommand(
+		@NonNull final String resourceId,
+		@NonNull final String command,
+		final long timeout,
+		final String noPasswordCommand
+	) throws InterruptedException, IOException, TimeoutException {
+		if (LocalOsHandler.isWindows()) {
+			return OsCommandService.runLocalCommand(command, timeout, noPasswordCommand);
+		}
+
+		final LocalShellWorker worker = WORKERS.computeIfAbsent(resourceId, LocalShellWorker::new);
+
+		// Another command of the resource is running, don't wait for it
+		if (!worker.lock.tryLock()) {
+			return OsCommandService.runLocalCommand(command, timeout, noPasswordCommand);
+		}
+
+		try {
+			// The worker has been released in the meantime
+			if (worker.closed) {
+				return OsCommandService.runLocalCommand(command, timeout, noPasswordCommand);
+			}
+
+			worker.lastUsedTime = System.currentTimeMillis();
+			return worker.run(command, timeout, noPasswordCommand);
+		} finally {
+			worker.lastUsedTime = System.currentTimeMillis();
+			worker.lock.unlock();
+
+			// The worker has been released while the command was running
+			if (worker.closed) {
+				worker.shutdownIfIdle();
+			}
+		}
+	}
+
+	/**
+	 * Release the worker of the given resource: its shell is killed and its reader thread stopped. A command running in
+	 * the worker completes first.
+	 *
+	 * @param resourceId The identifier of the resource.
+	 */
+	public static void release(@NonNull final String resourceId) {
+		final LocalShellWorker worker = WORKERS.remove(resourceId);
+		if (worker != null) {
+			worker.close();
+		}
+	}
+
+	/**
+	 * Release the workers that have not run any command for longer than the given idle timeout.
+	 *
+	 * @param now               The current time in milliseconds.
+	 * @param idleTimeoutMillis The duration in milliseconds after which an idle worker is released.
+	 */
+	static void releaseIdleWorkers(final long now, final long idleTimeoutMillis) {
+		WORKERS
+			.values()
+			.removeIf(worker -> {
+				if (worker.lock.isLocked() || now - worker.lastUsedTime <= idleTimeoutMillis) {
+					return false;
+				}
+				log.debug("Resource {} - Releasing the idle persistent local shell.", worker.resourceId);
+				worker.close();
+				return true;
+			});
+	}
+
+	/**
+	 * Get the worker of the given resource.
+	 *
+	 * @param resourceId The identifier of the resource.
+	 * @return the {@link LocalShellWorker} of the resource, {@code null} if it has no worker.
+	 */
+	static LocalShellWorker getWorker(final String resourceId) {
+		return WORKERS.get(resourceId);
+	}
+
+	/**
+	 * Whether the shell of this worker is running.
+	 *
+	 * @return {@code true} if the shell process is alive.
+	 */
+	boolean isShellAlive() {
+		final Process currentProcess = process;
+		return currentProcess != null && currentProcess.isAlive();
+	}
+
+	/**
+	 * Whether this worker has been released and its reader thread stopped.
+	 *
+	 * @return {@code true} if the worker is shut down.
+	 */
+	boolean isShutdown() {
+		return readerExecutor.isShutdown();
+	}
+
+	/**
+	 * Mark this worker as released and shut it down unless a command is running, in which case the thread running the
+	 * command shuts it down once the command has completed.
+	 */
+	private void close() {
+		closed = true;
+		shutdownIfIdle();
+	}
+
+	/**
+	 * Kill the shell of this worker and stop its reader thread, unless a command is running.
+	 */
+	private void shutdownIfIdle() {
+		if (lock.tryLock()) {
+			try {
+				stop();
+				readerExecutor.shutdownNow();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Run the given command in the shell of this worker, starting the shell if needed.
+	 *
+	 * @param command           The command to be executed.
+	 * @param timeout           The timeout for the command execution in seconds.
+	 * @param noPasswordCommand The command with the password masked (if present).
+	 * @return The result of the local command execution.
+	 * @throws InterruptedException When the thread is interrupted during execution.
+	 * @throws IOException          When an I/O error occurs during command execution.
+	 * @throws TimeoutException     When the command execution times out.
+	 */
+	private String run(final String command, final long timeout, final String noPasswordCommand)
+		throws InterruptedException, IOException, TimeoutException {
+		try {
+			if (process == null || !process.isAlive()) {
+				start();
+			}
+
+			// The command runs in a subshell with no input, the sentinel is printed on its own line once it has completed
+			writer.write(String.format("(%n%s%n) </dev/null 2>/dev/null%nprintf '\\n%%s\\n' '%s'%n", command, sentinel));
+			writer.flush();
+
+			final BufferedReader outputReader = reader;
+			final Future<String> future = readerExecutor.submit(() -> readOutput(outputReader));
+			return future.get(timeout, TimeUnit.SECONDS);
+		} catch (final TimeoutException exception) {
+			stop();
+
+			throw new TimeoutException(
+				String.format(
+					"Command \"%s\" execution has timed out after %d s",
+					noPasswordCommand != null ? noPasswordCommand : command,
+					timeout
+				)
+			);
+		} catch (final ExecutionException exception) {
+			stop();
+
+			if (exception.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			return null;
+		} catch (final IOException | InterruptedException exception) {
+			stop();
+			throw exception;
+		}
+	}
+
+	/**
+	 * Read the output of the current command up to the sentinel line.
+	 *
+	 * @param outputReader The reader of the standard output of the shell.
+	 * @return The output lines joined with new lines.
+	 * @throws IOException When the shell has exited before printing the sentinel.
+	 */
+	private String readOutput(final BufferedReader outputReader) throws IOException {
+		final List<String> lines = new ArrayList<>();
+		String line;
+		while ((line = outputReader.readLine()) != null) {
+			if (sentinel.equals(line)) {
+				// The sentinel is preceded by a new line, which adds an empty line when the output ends with a new line
+				if (!lines.isEmpty() && lines.get(lines.size() - 1).isEmpty()) {
+					lines.remove(lines.size() - 1);
+				}
+				return String.join(NEW_LINE, lines);
+			}
+			lines.add(line);
+		}
+
+		throw new IOException("The local shell of " + resourceId + " has exited unexpectedly.");
+	}
+
+	/**
+	 * Start the shell of this worker.
+	 *
+	 * @throws IOException When the shell cannot be started.
+	 */
+	private void start() throws IOException {
+		stop();
+
+		process =
+			new ProcessBuilder(OsCommandService.getLocalShell()).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+		reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+		writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
+
+		log.debug("Resource {} - Started a persistent local shell (pid {}).", resourceId, process.pid());
+	}
+
+	/**
+	 * Kill the shell of this worker and the commands it is running.
+	 */
+	private void stop() {
+		if (process == null) {
+			return;
+		}
+
+		process.descendants().forEach(ProcessHandle::destroyForcibly);
+		process.destroyForcibly();
+		process = null;
+		reader = null;
+		writer = null;
+	}
+}
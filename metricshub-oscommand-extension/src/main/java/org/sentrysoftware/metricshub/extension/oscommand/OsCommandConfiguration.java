@@ -65,6 +65,8 @@ public class OsCommandConfiguration implements IConfiguration {
 	@JsonDeserialize(using = MultiValueDeserializer.class)
 	String hostname;
 
+	boolean persistentShell;
+
 	/**
 	 * Creates a new instance of OsCommandConfiguration using the provided parameters.
 	 *
@@ -72,6 +74,8 @@ public class OsCommandConfiguration implements IConfiguration {
 	 * @param useSudoCommands  The set of commands for which sudo will be used.
 	 * @param sudoCommand      The sudo command to use.
 	 * @param timeout          The timeout for executing commands.
+	 * @param hostname         The hostname of the resource.
+	 * @param persistentShell  Whether the local commands run in a persistent shell.
 	 */
 	@Builder
 	public OsCommandConfiguration(
@@ -79,13 +83,15 @@ public class OsCommandConfiguration implements IConfiguration {
 		final Set<String> useSudoCommands,
 		final String sudoCommand,
 		final Long timeout,
-		final String hostname
+		final String hostname,
+		final boolean persistentShell
 	) {
 		this.useSudo = useSudo;
 		this.useSudoCommands = useSudoCommands == null ? new HashSet<>() : useSudoCommands;
 		this.sudoCommand = sudoCommand == null ? "sudo" : sudoCommand;
 		this.timeout = timeout == null ? DEFAULT_TIMEOUT : timeout;
 		this.hostname = hostname;
+		this.persistentShell = persistentShell;
 	}
 
 	@Override
@@ -118,6 +124,7 @@ public class OsCommandConfiguration implements IConfiguration {
 			.useSudo(useSudo)
 			.useSudoCommands(new HashSet<>(useSudoCommands))
 			.hostname(hostname)
+			.persistentShell(persistentShell)
 			.build();
 	}
 }
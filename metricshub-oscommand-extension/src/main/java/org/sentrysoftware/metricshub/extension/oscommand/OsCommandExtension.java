@@ -321,4 +321,13 @@ public class OsCommandExtension implements IProtocolExtension {
 			commandLine
 		);
 	}
+
+	@Override
+	public void releaseResources(final TelemetryManager telemetryManager) {
+		// Kill the persistent local shell of the resource
+		final String resourceId = OsCommandService.getResourceId(telemetryManager);
+		if (resourceId != null) {
+			LocalShellWorker.release(resourceId);
+		}
+	}
 }
@@ -27,6 +27,7 @@ import static org.sentrysoftware.metricshub.engine.common.helpers.MetricsHubCons
 import static org.sentrysoftware.metricshub.engine.common.helpers.StringHelper.protectCaseInsensitiveRegex;
 import static org.sentrysoftware.metricshub.engine.strategy.utils.OsCommandHelper.TEMP_FILE_CREATOR;
 import static org.sentrysoftware.metricshub.engine.strategy.utils.OsCommandHelper.createOsCommandEmbeddedFiles;
+import static org.sentrysoftware.metricshub.engine.strategy.utils.OsCommandHelper.getOsCommandSharedEmbeddedFiles;
 import static org.sentrysoftware.metricshub.engine.strategy.utils.OsCommandHelper.replaceSudo;
 import static org.springframework.util.Assert.isTrue;
 
@@ -156,6 +157,15 @@ public class OsCommandService {
 		return new ProcessBuilder().command(LOCAL_SHELL_COMMAND[0], LOCAL_SHELL_COMMAND[1], command);
 	}
 
+	/**
+	 * Get the shell used for the local command execution.
+	 *
+	 * @return The path of the shell.
+	 */
+	static String getLocalShell() {
+		return LOCAL_SHELL_COMMAND[0];
+	}
+
 	/**
 	 * Build the shell to be used for the local command execution based on the operating system.
 	 *
@@ -367,6 +377,17 @@ public class OsCommandService {
 		return Optional.empty();
 	}
 
+	/**
+	 * Get the identifier of the resource, which keys its persistent local shell.
+	 *
+	 * @param telemetryManager The engine configuration and host properties.
+	 * @return the host identifier of the resource, its hostname if it has no identifier.
+	 */
+	static String getResourceId(@NonNull final TelemetryManager telemetryManager) {
+		final String hostId = telemetryManager.getHostConfiguration().getHostId();
+		return hostId != null ? hostId : telemetryManager.getHostConfiguration().getHostname();
+	}
+
 	/**
 	 * Run the OS Command on:
 	 * <ul>
@@ -428,12 +449,22 @@ public class OsCommandService {
 				);
 		}
 
-		final Map<String, File> embeddedTempFiles = createOsCommandEmbeddedFiles(
-			commandLine,
-			sudoInformation,
-			EmbeddedFileHelper.findEmbeddedFiles(commandLine, connectorEmbeddedFiles),
-			TEMP_FILE_CREATOR
-		);
+		// The local commands run in the persistent shell of the resource, with the embedded files shared between commands
+		final boolean isPersistentShell =
+			(isLocalhost || isExecuteLocally) && osCommandConfiguration != null && osCommandConfiguration.isPersistentShell();
+
+		final Map<String, File> embeddedTempFiles = isPersistentShell
+			? getOsCommandSharedEmbeddedFiles(
+				commandLine,
+				sudoInformation,
+				EmbeddedFileHelper.findEmbeddedFiles(commandLine, connectorEmbeddedFiles)
+			)
+			: createOsCommandEmbeddedFiles(
+				commandLine,
+				sudoInformation,
+				EmbeddedFileHelper.findEmbeddedFiles(commandLine, connectorEmbeddedFiles),
+				TEMP_FILE_CREATOR
+			);
 
 		// Retrieve the hostname from the configurations, otherwise from the telemetryManager.
 		final String hostname = telemetryManager.getHostname(List.of(SshConfiguration.class, OsCommandConfiguration.class));
@@ -496,7 +527,9 @@ public class OsCommandService {
 
 			// Case local execution or command intended for a remote host but executed locally
 			if (isLocalhost || isExecuteLocally) {
-				final String localCommandResult = runLocalCommand(command, timeout, commandNoPassword);
+				final String localCommandResult = isPersistentShell
+					? LocalShellWorker.runCommand(getResourceId(telemetryManager), command, timeout, commandNoPassword)
+					: runLocalCommand(command, timeout, commandNoPassword);
 				commandResult = localCommandResult != null ? localCommandResult : EMPTY;
 			} else {
 				// Case others (Linux) Remote
@@ -513,8 +546,10 @@ public class OsCommandService {
 
 			return new OsCommandResult(commandResult, commandNoPassword);
 		} finally {
-			//noinspection ResultOfMethodCallIgnored
-			embeddedTempFiles.values().forEach(File::delete);
+			if (!isPersistentShell) {
+				//noinspection ResultOfMethodCallIgnored
+				embeddedTempFiles.values().forEach(File::delete);
+			}
 		}
 	}
 
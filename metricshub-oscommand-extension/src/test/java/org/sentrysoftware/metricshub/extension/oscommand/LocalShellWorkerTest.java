@@ -0,0 +1,92 @@
+package org.sentrysoftware.metricshub.extension.oscommand;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+@EnabledOnOs(OS.LINUX)
+class LocalShellWorkerTest {
+
+	private static final String HOSTNAME = "localhost-shell-worker-test";
+
+	@Test
+	void testRunCommand() throws Exception {
+		assertEquals("Test", LocalShellWorker.runCommand(HOSTNAME, "echo Test", 5, null));
+		assertEquals("a\nb", LocalShellWorker.runCommand(HOSTNAME, "printf 'a\\nb'", 5, null));
+		assertEquals("", LocalShellWorker.runCommand(HOSTNAME, "true", 5, null));
+
+		// Same output as a command executed in a new process
+		final String command = "echo a; echo; echo b; echo; echo";
+		assertEquals(
+			OsCommandService.runLocalCommand(command, 5, null),
+			LocalShellWorker.runCommand(HOSTNAME, command, 5, null)
+		);
+	}
+
+	@Test
+	void testRunCommandIsolation() throws Exception {
+		LocalShellWorker.runCommand(HOSTNAME, "cd /; MY_VARIABLE=value; exit 1", 5, null);
+
+		assertEquals("value=", LocalShellWorker.runCommand(HOSTNAME, "echo \"value=$MY_VARIABLE\"", 5, null));
+		assertEquals(
+			OsCommandService.runLocalCommand("pwd", 5, null),
+			LocalShellWorker.runCommand(HOSTNAME, "pwd", 5, null)
+		);
+	}
+
+	@Test
+	void testRunCommandTimeout() throws Exception {
+		assertThrows(TimeoutException.class, () -> LocalShellWorker.runCommand(HOSTNAME, "sleep 5", 1, null));
+
+		// A new shell is started after the timeout
+		assertEquals("Test", LocalShellWorker.runCommand(HOSTNAME, "echo Test", 5, null));
+	}
+
+	@Test
+	void testRelease() throws Exception {
+		final String resourceId = "released-resource";
+		assertEquals("Test", LocalShellWorker.runCommand(resourceId, "echo Test", 5, null));
+		final LocalShellWorker worker = LocalShellWorker.getWorker(resourceId);
+		assertTrue(worker.isShellAlive());
+
+		// The shell is killed and the reader thread stopped
+		LocalShellWorker.release(resourceId);
+		assertNull(LocalShellWorker.getWorker(resourceId));
+		assertFalse(worker.isShellAlive());
+		assertTrue(worker.isShutdown());
+
+		// A new worker is started on the next command
+		assertEquals("Test", LocalShellWorker.runCommand(resourceId, "echo Test", 5, null));
+		assertNotSame(worker, LocalShellWorker.getWorker(resourceId));
+		LocalShellWorker.release(resourceId);
+	}
+
+	@Test
+	void testReleaseIdleWorkers() throws Exception {
+		final String resourceId = "idle-resource";
+		assertEquals("Test", LocalShellWorker.runCommand(resourceId, "echo Test", 5, null));
+		final LocalShellWorker worker = LocalShellWorker.getWorker(resourceId);
+
+		// Not idle for long enough
+		LocalShellWorker.releaseIdleWorkers(System.currentTimeMillis(), LocalShellWorker.DEFAULT_IDLE_TIMEOUT_MILLIS);
+		assertSame(worker, LocalShellWorker.getWorker(resourceId));
+		assertTrue(worker.isShellAlive());
+
+		LocalShellWorker.releaseIdleWorkers(
+			System.currentTimeMillis() + 2 * LocalShellWorker.DEFAULT_IDLE_TIMEOUT_MILLIS,
+			LocalShellWorker.DEFAULT_IDLE_TIMEOUT_MILLIS
+		);
+		assertNull(LocalShellWorker.getWorker(resourceId));
+		assertFalse(worker.isShellAlive());
+		assertTrue(worker.isShutdown());
+	}
+}
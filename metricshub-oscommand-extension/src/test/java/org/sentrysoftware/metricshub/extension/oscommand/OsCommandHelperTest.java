@@ -2,6 +2,7 @@ package org.sentrysoftware.metricshub.extension.oscommand;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -359,6 +360,41 @@ class OsCommandHelperTest {
 		}
 	}
 
+	@Test
+	void testGetOrCreateSharedEmbeddedFile() throws Exception {
+		final EmbeddedFile embeddedFile = new EmbeddedFile(
+			AWK_EMBEDDED_CONTENT_PERCENT_SUDO.getBytes(),
+			AWK_FILE_NAME,
+			EMBEDDED_FILE_2_REF
+		);
+		final SudoInformation sudoInformation = new SudoInformation(true, Set.of(ARCCONF_PATH), SudoInformation.SUDO);
+
+		final File file = OsCommandHelper.getOrCreateSharedEmbeddedFile(embeddedFile, sudoInformation);
+		assertTrue(file.exists());
+		assertTrue(file.getName().matches(EMBEDDED_TEMP_FILE_PREFIX + AWK_SCRIPT_BASE_NAME + "_" + AWK_FILE_EXTENSION));
+		assertEquals(
+			AWK_EMBEDDED_CONTENT_SUDO.replaceAll(END_OF_LINE_IN_BRACKETS, EMPTY),
+			Files.readAllLines(Paths.get(file.getAbsolutePath())).stream().collect(Collectors.joining())
+		);
+
+		// Same content, same file
+		assertEquals(
+			file,
+			OsCommandHelper.getOrCreateSharedEmbeddedFile(
+				new EmbeddedFile(AWK_EMBEDDED_CONTENT_PERCENT_SUDO.getBytes(), AWK_FILE_NAME, EMBEDDED_FILE_1_REF),
+				sudoInformation
+			)
+		);
+
+		// The sudo command is not replaced, the content differs
+		assertNotEquals(file, OsCommandHelper.getOrCreateSharedEmbeddedFile(embeddedFile, null));
+
+		// The file is written again when it has been deleted
+		file.delete();
+		assertEquals(file, OsCommandHelper.getOrCreateSharedEmbeddedFile(embeddedFile, sudoInformation));
+		assertTrue(file.exists());
+	}
+
 	@Test
 	void testReplaceSudo() {
 		assertNull(OsCommandHelper.replaceSudo(null, null));
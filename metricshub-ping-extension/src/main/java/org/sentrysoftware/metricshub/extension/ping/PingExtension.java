@@ -108,6 +108,19 @@ public class PingExtension implements IProtocolExtension {
 		} catch (Exception e) {
 			log.debug("Hostname {} - Checking Ping protocol status. Exception when performing a Ping request: ", hostname, e);
 		}
+
+		pingRequestExecutor
+			.getStatistics(hostname)
+			.ifPresent(statistics ->
+				log.debug(
+					"Hostname {} - Ping response time: {} ms, packet loss: {}, jitter: {} ms.",
+					hostname,
+					statistics.getResponseTime(),
+					statistics.getPacketLoss(),
+					statistics.getJitter()
+				)
+			);
+
 		return Optional.of(pingResult);
 	}
 
@@ -21,20 +21,38 @@ package org.sentrysoftware.metricshub.extension.ping;
  * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
  */
 
-import java.io.IOException;
-import java.net.InetAddress;
 import java.net.UnknownHostException;
-import lombok.extern.slf4j.Slf4j;
+import java.util.Optional;
+import org.sentrysoftware.metricshub.extension.ping.PingSweeper.PingStatistics;
 
 /**
  * PingRequestExecutor is responsible for sending ping requests to a specified host to verify its reachability.
- * It utilizes the ICMP protocol to perform the ping operation.
+ * It utilizes the ICMP protocol to perform the ping operation. The hosts are probed in the background by the shared
+ * {@link PingSweeper}, so a ping request is usually answered without waiting for the network.
  */
-@Slf4j
 public class PingRequestExecutor {
 
+	private final PingSweeper pingSweeper;
+
+	/**
+	 * Constructs a new {@code PingRequestExecutor} using the shared {@link PingSweeper}.
+	 */
+	public PingRequestExecutor() {
+		this(PingSweeper.getInstance());
+	}
+
+	/**
+	 * Constructs a new {@code PingRequestExecutor} using the given {@link PingSweeper}.
+	 *
+	 * @param pingSweeper The sweeper probing the hosts.
+	 */
+	PingRequestExecutor(final PingSweeper pingSweeper) {
+		this.pingSweeper = pingSweeper;
+	}
+
 	/**
 	 * Sends a ping request to the specified host to verify its reachability using the ICMP protocol.
+	 * The result of the last background probe is returned when it is recent enough.
 	 *
 	 * @param hostname The name of the host that will be tested. It must be a valid hostname or IP address.
 	 * @param timeout  The timeout in milliseconds for the ping request.
@@ -42,13 +60,16 @@ public class PingRequestExecutor {
 	 * @throws UnknownHostException if the host cannot be determined from the given hostname.
 	 */
 	boolean ping(String hostname, int timeout) throws UnknownHostException {
-		final InetAddress pingAddress = InetAddress.getByName(hostname);
-
-		try {
-			return pingAddress.isReachable(timeout);
-		} catch (IOException e) {
-			log.error("Hostname {}. A network error occurred: %s", hostname, e);
-			return false;
-		}
+		return pingSweeper.ping(hostname, timeout);
+	}
+
+	/**
+	 * Get the round-trip time, packet loss and jitter computed from the last probes of the specified host.
+	 *
+	 * @param hostname The name of the host.
+	 * @return the {@link PingStatistics} of the host, empty if the host has never been pinged.
+	 */
+	Optional<PingStatistics> getStatistics(String hostname) {
+		return pingSweeper.getStatistics(hostname);
 	}
 }
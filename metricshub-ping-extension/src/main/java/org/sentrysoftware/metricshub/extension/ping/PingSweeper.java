@@ -0,0 +1,411 @@
+package org.sentrysoftware.metricshub.extension.ping;
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub Ping Extension
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.sentrysoftware.metricshub.engine.common.helpers.DnsCache;
+
+/**
+ * Shared sweeper probing the reachability of all the pinged hosts in the background.
+ * <p>
+ * A host is registered the first time it is pinged. It is then probed on a fixed schedule by a bounded pool of
+ * threads, independently from the collect of its resource, and the ping requests are answered instantly with the
+ * result of the last probe. The round-trip time, the packet loss and the jitter are computed over a sliding window
+ * of probes. A host which has not been pinged for longer than the expiration delay is no longer probed.
+ * </p>
+ */
+@Slf4j
+class PingSweeper {
+
+	/**
+	 * Default interval between two probes of the same host
+	 */
+	static final long DEFAULT_SWEEP_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+	/**
+	 * Default number of probes used to compute the packet loss and the jitter
+	 */
+	static final int DEFAULT_WINDOW_SIZE = 10;
+
+	/**
+	 * Default duration after which a host which is no longer pinged is unregistered
+	 */
+	static final long DEFAULT_EXPIRATION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+	/**
+	 * Maximum number of probes running at the same time
+	 */
+	static final int MAX_CONCURRENT_PROBES = 64;
+
+	private static final PingSweeper INSTANCE = new PingSweeper(
+		DEFAULT_SWEEP_INTERVAL_MILLIS,
+		DEFAULT_WINDOW_SIZE,
+		DEFAULT_EXPIRATION_MILLIS
+	);
+
+	/**
+	 * Threads shared by all the sweepers to run the probes
+	 */
+	private static final Executor PROBE_EXECUTOR = Executors.newFixedThreadPool(
+		MAX_CONCURRENT_PROBES,
+		newDaemonThreadFactory("metricshub-ping-probe-")
+	);
+
+	private final Map<String, HostEntry> hosts = new ConcurrentHashMap<>();
+
+	private final long sweepIntervalMillis;
+	private final int windowSize;
+	private final long expirationMillis;
+	private final AtomicBoolean started = new AtomicBoolean();
+
+	@Setter
+	private LongSupplier clock = System::currentTimeMillis;
+
+	@Setter
+	private Prober prober = PingSweeper::probeIcmp;
+
+	@Setter
+	private Executor probeExecutor = PROBE_EXECUTOR;
+
+	/**
+	 * Constructs a new {@code PingSweeper}.
+	 *
+	 * @param sweepIntervalMillis The interval in milliseconds between two probes of the same host.
+	 * @param windowSize          The number of probes used to compute the packet loss and the jitter.
+	 * @param expirationMillis    The duration in milliseconds after which a host which is no longer pinged is
+	 *                            unregistered.
+	 */
+	PingSweeper(final long sweepIntervalMillis, final int windowSize, final long expirationMillis) {
+		this.sweepIntervalMillis = sweepIntervalMillis;
+		this.windowSize = windowSize;
+		this.expirationMillis = expirationMillis;
+	}
+
+	/**
+	 * Get the sweeper shared by the ping requests of all the resources.
+	 *
+	 * @return the static instance of the sweeper
+	 */
+	static PingSweeper getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Get the reachability of the given host. The result of the last probe is returned when it is recent enough,
+	 * otherwise the host is probed on the calling thread. The host is registered for the background probes.
+	 *
+	 * @param hostname The name of the host that will be tested. It must be a valid hostname or IP address.
+	 * @param timeout  The timeout in milliseconds for the ping request.
+	 * @return true if the host is reachable within the specified timeout; false otherwise.
+	 * @throws UnknownHostException if the host cannot be determined from the given hostname.
+	 */
+	boolean ping(final String hostname, final int timeout) throws UnknownHostException {
+		startIfNeeded();
+
+		final long now = clock.getAsLong();
+		final HostEntry entry = hosts.computeIfAbsent(hostname, HostEntry::new);
+		entry.timeout = timeout;
+		entry.lastPingTime = now;
+
+		final PingStatistics statistics = entry.statistics;
+		if (statistics != null && now - statistics.getProbeTime() <= 2 * sweepIntervalMillis) {
+			return statistics.isReachable();
+		}
+
+		// No recent result, e.g. the host has just been registered
+		return probe(entry, true).isReachable();
+	}
+
+	/**
+	 * Get the statistics computed from the last probes of the given host.
+	 *
+	 * @param hostname The name of the host.
+	 * @return the {@link PingStatistics} of the host, empty if the host has never been probed.
+	 */
+	Optional<PingStatistics> getStatistics(final String hostname) {
+		return Optional.ofNullable(hosts.get(hostname)).map(entry -> entry.statistics);
+	}
+
+	/**
+	 * @return the number of registered hosts
+	 */
+	int size() {
+		return hosts.size();
+	}
+
+	/**
+	 * Unregister the expired hosts and submit a probe for each host whose last probe is older than the sweep interval.
+	 */
+	void sweep() {
+		final long now = clock.getAsLong();
+		hosts
+			.values()
+			.removeIf(entry -> {
+				if (now - entry.lastPingTime > expirationMillis) {
+					log.debug("Hostname {} - No longer pinged. Stopping the background ping probes.", entry.hostname);
+					return true;
+				}
+				return false;
+			});
+
+		for (final HostEntry entry : hosts.values()) {
+			final PingStatistics statistics = entry.statistics;
+			final boolean due = statistics == null || now - statistics.getProbeTime() >= sweepIntervalMillis;
+			if (due && entry.inFlight.compareAndSet(false, true)) {
+				probeExecutor.execute(() -> {
+					try {
+						probe(entry, false);
+					} catch (UnknownHostException e) {
+						// Not thrown when the probe runs in the background
+					} finally {
+						entry.inFlight.set(false);
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Probe the given host and record the result.
+	 *
+	 * @param entry              The registered host.
+	 * @param throwOnUnknownHost Whether the {@link UnknownHostException} is thrown or recorded as a lost probe.
+	 * @return the updated {@link PingStatistics} of the host.
+	 * @throws UnknownHostException if the host cannot be resolved and {@code throwOnUnknownHost} is true.
+	 */
+	private PingStatistics probe(final HostEntry entry, final boolean throwOnUnknownHost) throws UnknownHostException {
+		long roundTripNanos;
+		try {
+			roundTripNanos = prober.probe(entry.hostname, entry.timeout);
+		} catch (UnknownHostException e) {
+			if (throwOnUnknownHost) {
+				throw e;
+			}
+			log.debug("Hostname {} - Cannot resolve the host: {}", entry.hostname, e.getMessage());
+			roundTripNanos = -1;
+		} catch (IOException e) {
+			log.error("Hostname {} - A network error occurred: {}", entry.hostname, e.getMessage());
+			log.debug("Hostname {} - A network error occurred. Stack trace:", entry.hostname, e);
+			roundTripNanos = -1;
+		}
+		return entry.record(roundTripNanos, clock.getAsLong(), windowSize);
+	}
+
+	/**
+	 * Schedule the sweeps the first time a host is pinged.
+	 */
+	private void startIfNeeded() {
+		if (started.compareAndSet(false, true)) {
+			final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+				newDaemonThreadFactory("metricshub-ping-sweeper-")
+			);
+			scheduler.scheduleWithFixedDelay(
+				this::safeSweep,
+				sweepIntervalMillis,
+				Math.max(1, sweepIntervalMillis / 10),
+				TimeUnit.MILLISECONDS
+			);
+		}
+	}
+
+	/**
+	 * Run a sweep, an exception must not cancel the next sweeps.
+	 */
+	private void safeSweep() {
+		try {
+			sweep();
+		} catch (Exception e) {
+			log.error("Error while sweeping the pinged hosts: {}", e.getMessage());
+			log.debug("Error while sweeping the pinged hosts. Stack trace:", e);
+		}
+	}
+
+	/**
+	 * Send an ICMP echo request (or a TCP echo request when ICMP is not permitted) to the given host.
+	 *
+	 * @param hostname The name of the host.
+	 * @param timeout  The timeout in milliseconds.
+	 * @return the round-trip time in nanoseconds, -1 if the host is not reachable.
+	 * @throws IOException if the host cannot be resolved or a network error occurs.
+	 */
+	private static long probeIcmp(final String hostname, final int timeout) throws IOException {
+		final InetAddress address = DnsCache.getInstance().getByName(hostname);
+		final long start = System.nanoTime();
+		return address.isReachable(timeout) ? System.nanoTime() - start : -1;
+	}
+
+	/**
+	 * Create a factory of daemon threads, so the probes never prevent the JVM from exiting.
+	 *
+	 * @param prefix The prefix of the thread names.
+	 * @return a new {@link ThreadFactory}
+	 */
+	private static ThreadFactory newDaemonThreadFactory(final String prefix) {
+		final AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			final Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Function probing a host.
+	 */
+	@FunctionalInterface
+	interface Prober {
+		/**
+		 * Probe the given host.
+		 *
+		 * @param hostname The name of the host.
+		 * @param timeout  The timeout in milliseconds.
+		 * @return the round-trip time in nanoseconds, -1 if the host is not reachable.
+		 * @throws IOException if the host cannot be resolved or a network error occurs.
+		 */
+		long probe(String hostname, int timeout) throws IOException;
+	}
+
+	/**
+	 * Statistics computed from the last probes of a host.
+	 */
+	@Getter
+	@AllArgsConstructor
+	static final class PingStatistics {
+
+		/**
+		 * Whether the last probe succeeded
+		 */
+		private final boolean reachable;
+
+		/**
+		 * Round-trip time of the last probe in milliseconds, {@code null} if the probe failed
+		 */
+		private final Double responseTime;
+
+		/**
+		 * Ratio of lost probes in the window, between 0 and 1
+		 */
+		private final double packetLoss;
+
+		/**
+		 * Mean variation in milliseconds of the round-trip time between consecutive successful probes of the window
+		 */
+		private final double jitter;
+
+		/**
+		 * Time of the last probe
+		 */
+		private final long probeTime;
+	}
+
+	/**
+	 * Host registered in the sweeper.
+	 */
+	private static final class HostEntry {
+
+		private final String hostname;
+		private final AtomicBoolean inFlight = new AtomicBoolean();
+		private volatile int timeout;
+		private volatile long lastPingTime;
+		private volatile PingStatistics statistics;
+
+		/**
+		 * Round-trip times in nanoseconds of the last probes, -1 for the lost probes
+		 */
+		private long[] window = new long[0];
+		private int count;
+		private int next;
+
+		private HostEntry(final String hostname) {
+			this.hostname = hostname;
+		}
+
+		/**
+		 * Record the result of a probe and compute the statistics over the window.
+		 *
+		 * @param roundTripNanos The round-trip time in nanoseconds, -1 if the probe failed.
+		 * @param probeTime      The time of the probe.
+		 * @param windowSize     The maximum number of probes in the window.
+		 * @return the new {@link PingStatistics}.
+		 */
+		private synchronized PingStatistics record(final long roundTripNanos, final long probeTime, final int windowSize) {
+			if (window.length != windowSize) {
+				window = new long[windowSize];
+				count = 0;
+				next = 0;
+			}
+			window[next] = roundTripNanos;
+			next = (next + 1) % windowSize;
+			count = Math.min(count + 1, windowSize);
+
+			// Walk the window from the oldest probe to the newest one
+			int lost = 0;
+			int variations = 0;
+			long variationSum = 0;
+			long previous = -1;
+			for (int i = 0; i < count; i++) {
+				final long value = window[(next - count + i + windowSize) % windowSize];
+				if (value < 0) {
+					lost++;
+				} else {
+					if (previous >= 0) {
+						variationSum += Math.abs(value - previous);
+						variations++;
+					}
+					previous = value;
+				}
+			}
+
+			final boolean reachable = roundTripNanos >= 0;
+			statistics =
+				new PingStatistics(
+					reachable,
+					reachable ? toMillis(roundTripNanos) : null,
+					(double) lost / count,
+					variations > 0 ? toMillis(variationSum) / variations : 0,
+					probeTime
+				);
+			return statistics;
+		}
+
+		private static double toMillis(final long nanos) {
+			return nanos / 1_000_000.0;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package org.sentrysoftware.metricshub.extension.ping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.UnknownHostException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.metricshub.extension.ping.PingSweeper.PingStatistics;
+
+class PingSweeperTest {
+
+	private static final String HOST_NAME = "host-01";
+	private static final int TIMEOUT = 5000;
+	private static final long INTERVAL = 30_000;
+
+	private final AtomicLong now = new AtomicLong(0);
+	private final Deque<Long> roundTrips = new ArrayDeque<>();
+	private final List<String> probedHosts = new ArrayList<>();
+	private PingSweeper sweeper;
+
+	@BeforeEach
+	void setUp() {
+		sweeper = new PingSweeper(INTERVAL, 4, 600_000);
+		sweeper.setClock(now::get);
+		sweeper.setProbeExecutor(Runnable::run);
+		sweeper.setProber((hostname, timeout) -> {
+			probedHosts.add(hostname);
+			return roundTrips.isEmpty() ? -1 : roundTrips.poll();
+		});
+	}
+
+	@Test
+	void testPingAnsweredFromBackgroundProbes() throws UnknownHostException {
+		roundTrips.add(2_000_000L);
+
+		// The first ping probes the host on the calling thread
+		assertTrue(sweeper.ping(HOST_NAME, TIMEOUT));
+		assertEquals(1, probedHosts.size());
+
+		// The next ping is answered from the last probe
+		roundTrips.add(4_000_000L);
+		assertTrue(sweeper.ping(HOST_NAME, TIMEOUT));
+		assertEquals(1, probedHosts.size());
+
+		// The sweep probes the host once the interval has elapsed
+		sweeper.sweep();
+		assertEquals(1, probedHosts.size());
+		now.set(INTERVAL);
+		sweeper.sweep();
+		assertEquals(2, probedHosts.size());
+
+		// Lost probe
+		now.set(2 * INTERVAL);
+		sweeper.sweep();
+		assertFalse(sweeper.ping(HOST_NAME, TIMEOUT));
+
+		final PingStatistics statistics = sweeper.getStatistics(HOST_NAME).orElseThrow();
+		assertFalse(statistics.isReachable());
+		assertNull(statistics.getResponseTime());
+		assertEquals(1.0 / 3, statistics.getPacketLoss(), 0.0001);
+		assertEquals(2.0, statistics.getJitter(), 0.0001);
+		assertEquals(2 * INTERVAL, statistics.getProbeTime());
+	}
+
+	@Test
+	void testStatisticsWindow() throws UnknownHostException {
+		roundTrips.add(1_000_000L);
+		sweeper.ping(HOST_NAME, TIMEOUT);
+		for (int i = 1; i <= 4; i++) {
+			roundTrips.add(3_000_000L);
+			now.set(i * INTERVAL);
+			sweeper.sweep();
+		}
+
+		// The first probe is out of the window
+		final PingStatistics statistics = sweeper.getStatistics(HOST_NAME).orElseThrow();
+		assertTrue(statistics.isReachable());
+		assertEquals(3.0, statistics.getResponseTime(), 0.0001);
+		assertEquals(0.0, statistics.getPacketLoss());
+		assertEquals(0.0, statistics.getJitter());
+	}
+
+	@Test
+	void testStaleResultProbedAgain() throws UnknownHostException {
+		roundTrips.add(1_000_000L);
+		sweeper.ping(HOST_NAME, TIMEOUT);
+
+		// The sweeps did not run, the host is probed on the calling thread
+		now.set(3 * INTERVAL);
+		assertFalse(sweeper.ping(HOST_NAME, TIMEOUT));
+		assertEquals(2, probedHosts.size());
+	}
+
+	@Test
+	void testExpiration() throws UnknownHostException {
+		sweeper.ping(HOST_NAME, TIMEOUT);
+		assertEquals(1, sweeper.size());
+
+		now.set(600_001);
+		sweeper.sweep();
+		assertEquals(0, sweeper.size());
+		assertTrue(sweeper.getStatistics(HOST_NAME).isEmpty());
+	}
+
+	@Test
+	void testUnknownHost() throws UnknownHostException {
+		sweeper.setProber((hostname, timeout) -> {
+			throw new UnknownHostException(hostname);
+		});
+		assertThrows(UnknownHostException.class, () -> sweeper.ping(HOST_NAME, TIMEOUT));
+
+		// In the background, the unknown host is recorded as a lost probe
+		now.set(INTERVAL);
+		sweeper.sweep();
+		assertEquals(1.0, sweeper.getStatistics(HOST_NAME).orElseThrow().getPacketLoss());
+	}
+}
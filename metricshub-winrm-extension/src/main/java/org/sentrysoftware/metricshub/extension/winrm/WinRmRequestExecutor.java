@@ -23,7 +23,11 @@ package org.sentrysoftware.metricshub.extension.winrm;
 
 import io.opentelemetry.instrumentation.annotations.SpanAttribute;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.sentrysoftware.metricshub.engine.common.exception.ClientException;
@@ -35,19 +39,23 @@ import org.sentrysoftware.metricshub.extension.win.IWinConfiguration;
 import org.sentrysoftware.metricshub.extension.win.IWinRequestExecutor;
 import org.sentrysoftware.winrm.WinRMHttpProtocolEnum;
 import org.sentrysoftware.winrm.WindowsRemoteCommandResult;
-import org.sentrysoftware.winrm.command.WinRMCommandExecutor;
+import org.sentrysoftware.winrm.WindowsRemoteExecutor;
+import org.sentrysoftware.winrm.WindowsRemoteProcessUtils;
+import org.sentrysoftware.winrm.WmiHelper;
 import org.sentrysoftware.winrm.exceptions.WindowsRemoteException;
 import org.sentrysoftware.winrm.exceptions.WqlQuerySyntaxException;
 import org.sentrysoftware.winrm.service.client.auth.AuthenticationEnum;
-import org.sentrysoftware.winrm.wql.WinRMWqlExecutor;
 
 /**
  * The WinRmRequestExecutor class provides utility methods for executing
  * various WinRm requests locally or on remote hosts.
+ * The requests to a host reuse a persistent session, see {@link WinRmSessionPool}.
  */
 @Slf4j
 public class WinRmRequestExecutor implements IWinRequestExecutor {
 
+	private static final WinRmSessionPool SESSION_POOL = new WinRmSessionPool();
+
 	/**
 	 * Execute a WinRM query
 	 *
@@ -96,23 +104,26 @@ public class WinRmRequestExecutor implements IWinRequestExecutor {
 		try {
 			final long startTime = System.currentTimeMillis();
 
-			WinRMWqlExecutor result = WinRMWqlExecutor.executeWql(
-				httpProtocol,
-				hostname,
-				port,
-				username,
-				winRmConfiguration.getPassword(),
-				namespace,
-				query,
-				timeout * 1000L,
-				null,
-				authentications
+			final long timeoutMillis = timeout * 1000L;
+			final WinRmSessionPool.SessionKey sessionKey = WinRmSessionPool.SessionKey
+				.builder()
+				.protocol(httpProtocol)
+				.hostname(hostname)
+				.port(port)
+				.username(username)
+				.password(winRmConfiguration.getPassword())
+				.namespace(namespace)
+				.timeout(timeoutMillis)
+				.authentications(authentications)
+				.build();
+
+			final List<List<String>> table = SESSION_POOL.execute(
+				sessionKey,
+				session -> executeWql(session.getExecutor(), query, timeoutMillis)
 			);
 
 			final long responseTime = System.currentTimeMillis() - startTime;
 
-			final List<List<String>> table = result.getRows();
-
 			LoggingHelper.trace(() ->
 				log.trace(
 					"Executed WinRM WQL request:\n- hostname: {}\n- username: {}\n- query: {}\n" + // NOSONAR
@@ -209,18 +220,21 @@ public class WinRmRequestExecutor implements IWinRequestExecutor {
 		try {
 			final long startTime = System.currentTimeMillis();
 
-			WindowsRemoteCommandResult result = WinRMCommandExecutor.execute(
-				command,
-				httpProtocol,
-				hostname,
-				port,
-				username,
-				winRmConfiguration.getPassword(),
-				null,
-				timeout * 1000L,
-				null,
-				null,
-				authentications
+			final long timeoutMillis = timeout * 1000L;
+			final WinRmSessionPool.SessionKey sessionKey = WinRmSessionPool.SessionKey
+				.builder()
+				.protocol(httpProtocol)
+				.hostname(hostname)
+				.port(port)
+				.username(username)
+				.password(winRmConfiguration.getPassword())
+				.timeout(timeoutMillis)
+				.authentications(authentications)
+				.build();
+
+			final WindowsRemoteCommandResult result = SESSION_POOL.execute(
+				sessionKey,
+				session -> executeCommand(session, command, timeoutMillis)
 			);
 
 			final long responseTime = System.currentTimeMillis() - startTime;
@@ -254,4 +268,57 @@ public class WinRmRequestExecutor implements IWinRequestExecutor {
 			throw new ClientException(String.format("WinRM remote command failed on %s.", hostname), e);
 		}
 	}
+
+	/**
+	 * Execute a WQL query with the given remote executor and convert the enumerated instances into rows, with one
+	 * column for each property selected by the query.
+	 *
+	 * @param executor The remote executor of the session.
+	 * @param query    The WQL query.
+	 * @param timeout  The timeout in milliseconds.
+	 * @return The rows.
+	 * @throws WindowsRemoteException  when the query fails.
+	 * @throws WqlQuerySyntaxException when the query is invalid.
+	 * @throws TimeoutException        when the query times out.
+	 */
+	static List<List<String>> executeWql(final WindowsRemoteExecutor executor, final String query, final long timeout)
+		throws WindowsRemoteException, WqlQuerySyntaxException, TimeoutException {
+		final List<Map<String, Object>> instances = executor.executeWql(query, timeout);
+		final List<String> properties = WmiHelper.extractPropertiesFromResult(instances, query);
+
+		final List<List<String>> table = new ArrayList<>(instances.size());
+		for (Map<String, Object> instance : instances) {
+			final List<String> row = new ArrayList<>(properties.size());
+			for (String property : properties) {
+				row.add((String) instance.get(property));
+			}
+			table.add(row);
+		}
+		return table;
+	}
+
+	/**
+	 * Execute a command in the remote shell of the given session. The Windows encoding of the command outputs is
+	 * retrieved with the first command of the session.
+	 *
+	 * @param session The WinRM session.
+	 * @param command The command to execute.
+	 * @param timeout The timeout in milliseconds.
+	 * @return The result of the command.
+	 * @throws WindowsRemoteException  when the command fails.
+	 * @throws WqlQuerySyntaxException when the encoding cannot be queried.
+	 * @throws TimeoutException        when the command times out.
+	 */
+	static WindowsRemoteCommandResult executeCommand(
+		final WinRmSessionPool.Session session,
+		final String command,
+		final long timeout
+	) throws WindowsRemoteException, WqlQuerySyntaxException, TimeoutException {
+		Charset charset = session.getCharset();
+		if (charset == null) {
+			charset = WindowsRemoteProcessUtils.getWindowsEncodingCharset(session.getExecutor(), timeout);
+			session.setCharset(charset);
+		}
+		return session.getExecutor().executeCommand(command, null, charset, timeout);
+	}
 }
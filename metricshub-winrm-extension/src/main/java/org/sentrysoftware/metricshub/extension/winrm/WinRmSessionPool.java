@@ -0,0 +1,401 @@
+package org.sentrysoftware.metricshub.extension.winrm;
+
+
+/*-
+ * ╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲
+ * MetricsHub WinRm Extension
+ * ჻჻჻჻჻჻
+ * Copyright 2023 - 2024 Sentry Software
+ * ჻჻჻჻჻჻
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * ╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱╲╱
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.sentrysoftware.metricshub.extension.win.IWinRequestExecutor;
+import org.sentrysoftware.winrm.WinRMHttpProtocolEnum;
+import org.sentrysoftware.winrm.WindowsRemoteExecutor;
+import org.sentrysoftware.winrm.exceptions.WindowsRemoteException;
+import org.sentrysoftware.winrm.exceptions.WqlQuerySyntaxException;
+import org.sentrysoftware.winrm.service.WinRMEndpoint;
+import org.sentrysoftware.winrm.service.WinRMService;
+import org.sentrysoftware.winrm.service.client.auth.AuthenticationEnum;
+
+/**
+ * Pool of persistent WinRM sessions, one per endpoint (host, port, credentials and namespace).
+ * <p>
+ * A session keeps its HTTP connections, its authentication context and its remote shell between requests, so that
+ * the WMI sources and criteria of a host do not negotiate the authentication for each query. A session is closed when
+ * it has been idle for longer than the idle timeout, or when a request fails for another reason than the query itself,
+ * the next request opening a new session.
+ * </p>
+ */
+@Slf4j
+class WinRmSessionPool {
+
+	/**
+	 * Default duration after which an unused session is closed
+	 */
+	static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+	private final Map<SessionKey, Session> sessions = new ConcurrentHashMap<>();
+	private final SessionFactory sessionFactory;
+	private final long idleTimeoutMillis;
+	private final LongSupplier clock;
+
+	/**
+	 * Create a pool of {@link WinRMService} sessions with the default idle timeout.
+	 */
+	WinRmSessionPool() {
+		this(
+			(endpoint, timeout, authentications) -> WinRMService.createInstance(endpoint, timeout, null, authentications),
+			DEFAULT_IDLE_TIMEOUT_MILLIS,
+			System::currentTimeMillis
+		);
+	}
+
+	/**
+	 * Create a pool of sessions.
+	 *
+	 * @param sessionFactory    Opens the session of an endpoint.
+	 * @param idleTimeoutMillis Duration after which an unused session is closed.
+	 * @param clock             Current time in milliseconds.
+	 */
+	WinRmSessionPool(final SessionFactory sessionFactory, final long idleTimeoutMillis, final LongSupplier clock) {
+		this.sessionFactory = sessionFactory;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+		this.clock = clock;
+	}
+
+	/**
+	 * Execute a call with the session of the given endpoint, opening the session if needed.
+	 *
+	 * @param <T>  The type of the result.
+	 * @param key  The endpoint and the options of the session.
+	 * @param call The call to execute.
+	 * @return The result of the call.
+	 * @throws Exception when the session cannot be opened or the call fails.
+	 */
+	<T> T execute(@NonNull final SessionKey key, final SessionCall<T> call) throws Exception {
+		closeIdleSessions();
+
+		final Session session = acquire(key);
+		boolean isSessionValid = true;
+		try {
+			return call.call(session);
+		} catch (Exception e) {
+			isSessionValid = isQueryError(e);
+			throw e;
+		} finally {
+			release(session, isSessionValid);
+		}
+	}
+
+	/**
+	 * @return The number of open sessions.
+	 */
+	int size() {
+		return sessions.size();
+	}
+
+	/**
+	 * Close all the sessions.
+	 */
+	void clear() {
+		sessions.values().forEach(this::retire);
+	}
+
+	/**
+	 * Get the session of the given key, opening it if needed, and register the caller as one of its users.
+	 *
+	 * @param key The session key.
+	 * @return The session.
+	 * @throws WindowsRemoteException when the session cannot be opened.
+	 */
+	private Session acquire(final SessionKey key) throws WindowsRemoteException {
+		while (true) {
+			Session session = sessions.get(key);
+			if (session == null) {
+				final Session newSession = new Session(
+					key,
+					sessionFactory.create(key.toEndpoint(), key.getTimeout(), key.getAuthentications())
+				);
+				newSession.lastUsedTime = clock.getAsLong();
+				session = sessions.putIfAbsent(key, newSession);
+				if (session == null) {
+					session = newSession;
+				} else {
+					// Another request opened the session of this endpoint first
+					newSession.retired = true;
+					newSession.closeOnce();
+				}
+			}
+
+			session.users.incrementAndGet();
+			if (!session.retired) {
+				return session;
+			}
+
+			// The session has been closed in the meantime, try again with a new one
+			release(session, false);
+			sessions.remove(key, session);
+		}
+	}
+
+	/**
+	 * Unregister a user of the given session, closing the session if it is no longer valid.
+	 *
+	 * @param session        The session.
+	 * @param isSessionValid Whether the session can be reused.
+	 */
+	private void release(final Session session, final boolean isSessionValid) {
+		session.lastUsedTime = clock.getAsLong();
+		if (!isSessionValid) {
+			retire(session);
+		}
+		if (session.users.decrementAndGet() == 0 && session.retired) {
+			session.closeOnce();
+		}
+	}
+
+	/**
+	 * Remove the given session from the pool. It is closed as soon as it has no more users.
+	 *
+	 * @param session The session.
+	 */
+	private void retire(final Session session) {
+		sessions.remove(session.key, session);
+		session.retired = true;
+		if (session.users.get() == 0) {
+			session.closeOnce();
+		}
+	}
+
+	/**
+	 * Close the sessions that have not been used for longer than the idle timeout.
+	 */
+	private void closeIdleSessions() {
+		final long now = clock.getAsLong();
+		sessions
+			.values()
+			.stream()
+			.filter(session -> session.users.get() == 0 && now - session.lastUsedTime > idleTimeoutMillis)
+			.forEach(this::retire);
+	}
+
+	/**
+	 * Whether the given exception reports an error of the query itself (syntax, unknown namespace or class), in which
+	 * case the session is still valid.
+	 *
+	 * @param t The exception.
+	 * @return <code>true</code> if the session can be reused.
+	 */
+	static boolean isQueryError(final Throwable t) {
+		if (t == null) {
+			return false;
+		}
+		if (t instanceof WqlQuerySyntaxException) {
+			return true;
+		}
+		if (t instanceof WindowsRemoteException && IWinRequestExecutor.isAcceptableWmiComError(t.getMessage())) {
+			return true;
+		}
+
+		// Now check recursively the cause
+		return isQueryError(t.getCause());
+	}
+
+	/**
+	 * Opens the session of an endpoint.
+	 */
+	@FunctionalInterface
+	interface SessionFactory {
+		/**
+		 * Open the session of an endpoint.
+		 *
+		 * @param endpoint        The WinRM endpoint.
+		 * @param timeout         The timeout of the session in milliseconds.
+		 * @param authentications The authentication methods.
+		 * @return The remote executor of the session.
+		 * @throws WindowsRemoteException when the session cannot be opened.
+		 */
+		WindowsRemoteExecutor create(WinRMEndpoint endpoint, long timeout, List<AuthenticationEnum> authentications)
+			throws WindowsRemoteException;
+	}
+
+	/**
+	 * A call executed with a session.
+	 *
+	 * @param <T> The type of the result.
+	 */
+	@FunctionalInterface
+	interface SessionCall<T> {
+		/**
+		 * Execute the call.
+		 *
+		 * @param session The session.
+		 * @return The result of the call.
+		 * @throws Exception when the call fails.
+		 */
+		T call(Session session) throws Exception;
+	}
+
+	/**
+	 * Identifies a session: the endpoint and the options the session is opened with. Two keys built from the same values
+	 * are equal, the password being compared through its digest.
+	 */
+	@Getter
+	@EqualsAndHashCode
+	static final class SessionKey {
+
+		private final WinRMHttpProtocolEnum protocol;
+		private final String hostname;
+		private final Integer port;
+		private final String username;
+		private final String namespace;
+		private final long timeout;
+		private final List<AuthenticationEnum> authentications;
+		private final String passwordDigest;
+
+		@Getter(AccessLevel.NONE)
+		@EqualsAndHashCode.Exclude
+		private final char[] password;
+
+		/**
+		 * Create the key of a session.
+		 *
+		 * @param protocol        The HTTP protocol of the endpoint.
+		 * @param hostname        The hostname of the endpoint.
+		 * @param port            The port of the endpoint.
+		 * @param username        The username.
+		 * @param password        The password.
+		 * @param namespace       The WMI namespace, <code>null</code> for the remote commands.
+		 * @param timeout         The timeout of the session in milliseconds.
+		 * @param authentications The authentication methods.
+		 */
+		@Builder
+		SessionKey(
+			final WinRMHttpProtocolEnum protocol,
+			final String hostname,
+			final Integer port,
+			final String username,
+			final char[] password,
+			final String namespace,
+			final long timeout,
+			final List<AuthenticationEnum> authentications
+		) {
+			this.protocol = protocol;
+			this.hostname = hostname;
+			this.port = port;
+			this.username = username;
+			this.password = password;
+			this.namespace = namespace;
+			this.timeout = timeout;
+			this.authentications = authentications;
+			this.passwordDigest = digest(password);
+		}
+
+		/**
+		 * @return A new WinRM endpoint built from this key.
+		 */
+		WinRMEndpoint toEndpoint() {
+			return new WinRMEndpoint(protocol, hostname, port, username, password, namespace);
+		}
+
+		/**
+		 * Compute the SHA-256 digest of the given password, so that the key does not compare the password itself.
+		 *
+		 * @param password The password.
+		 * @return The hexadecimal digest, <code>null</code> if there is no password.
+		 */
+		private static String digest(final char[] password) {
+			if (password == null) {
+				return null;
+			}
+
+			final ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+			try {
+				final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+				messageDigest.update(bytes);
+				return HexFormat.of().formatHex(messageDigest.digest());
+			} catch (NoSuchAlgorithmException e) {
+				// Every Java platform supports SHA-256
+				throw new IllegalStateException(e);
+			} finally {
+				if (bytes.hasArray()) {
+					Arrays.fill(bytes.array(), (byte) 0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * A persistent session, with the Windows encoding of its command outputs once known.
+	 */
+	static class Session {
+
+		private final SessionKey key;
+
+		@Getter
+		private final WindowsRemoteExecutor executor;
+
+		private final AtomicInteger users = new AtomicInteger();
+		private final AtomicBoolean closed = new AtomicBoolean();
+		private volatile boolean retired;
+		private volatile long lastUsedTime;
+
+		@Getter
+		@Setter
+		private volatile Charset charset;
+
+		private Session(final SessionKey key, final WindowsRemoteExecutor executor) {
+			this.key = key;
+			this.executor = executor;
+		}
+
+		/**
+		 * Close the remote executor, once.
+		 */
+		private void closeOnce() {
+			if (closed.compareAndSet(false, true)) {
+				try {
+					executor.close();
+				} catch (Exception e) {
+					log.debug("Hostname {} - Failed to close the WinRM session.", key.getHostname(), e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package org.sentrysoftware.metricshub.extension.winrm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sentrysoftware.winrm.WinRMHttpProtocolEnum;
+import org.sentrysoftware.winrm.WindowsRemoteCommandResult;
+import org.sentrysoftware.winrm.WindowsRemoteExecutor;
+import org.sentrysoftware.winrm.exceptions.WindowsRemoteException;
+import org.sentrysoftware.winrm.exceptions.WqlQuerySyntaxException;
+
+class WinRmSessionPoolTest {
+
+	private static final long TIMEOUT = 30_000L;
+	private static final long IDLE_TIMEOUT = 60_000L;
+
+	private static final WinRmSessionPool.SessionKey CIMV2_KEY = sessionKey("pwd", "root/cimv2");
+
+	private static final WinRmSessionPool.SessionKey WMI_KEY = sessionKey("pwd", "root/wmi");
+
+	private final List<StubExecutor> openedExecutors = new ArrayList<>();
+	private final AtomicLong clock = new AtomicLong();
+	private WinRmSessionPool pool;
+
+	/**
+	 * Stub of a WS-Management session, answering the code set query and echoing the commands.
+	 */
+	private static class StubExecutor implements WindowsRemoteExecutor {
+
+		private final String hostname;
+		private int wqlCount;
+		private int commandCount;
+		private boolean closed;
+
+		private StubExecutor(final String hostname) {
+			this.hostname = hostname;
+		}
+
+		@Override
+		public List<Map<String, Object>> executeWql(final String wqlQuery, final long timeout)
+			throws WindowsRemoteException, WqlQuerySyntaxException {
+			wqlCount++;
+			if (!wqlQuery.startsWith("SELECT")) {
+				throw new WqlQuerySyntaxException(wqlQuery);
+			}
+			if (wqlQuery.contains("CodeSet")) {
+				return List.of(Map.of("CodeSet", "1252"));
+			}
+			if (wqlQuery.contains("Broken")) {
+				throw new WindowsRemoteException("Connection reset");
+			}
+			if (wqlQuery.contains("Missing")) {
+				throw new WindowsRemoteException("WBEM_E_INVALID_CLASS");
+			}
+			return List.of(Map.of("Name", "disk1", "Size", "10"), Map.of("Name", "disk2", "Size", "20"));
+		}
+
+		@Override
+		public WindowsRemoteCommandResult executeCommand(
+			final String command,
+			final String workingDirectory,
+			final Charset charset,
+			final long timeout
+		) {
+			commandCount++;
+			return new WindowsRemoteCommandResult(command + " " + charset.name(), "", 0.1F, 0);
+		}
+
+		@Override
+		public String getHostname() {
+			return hostname;
+		}
+
+		@Override
+		public String getUsername() {
+			return "user";
+		}
+
+		@Override
+		public char[] getPassword() {
+			return "pwd".toCharArray();
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	private static WinRmSessionPool.SessionKey sessionKey(final String password, final String namespace) {
+		return WinRmSessionPool.SessionKey
+			.builder()
+			.protocol(WinRMHttpProtocolEnum.HTTP)
+			.hostname("host")
+			.port(5985)
+			.username("user")
+			.password(password.toCharArray())
+			.namespace(namespace)
+			.timeout(TIMEOUT)
+			.build();
+	}
+
+	@BeforeEach
+	void setUp() {
+		pool =
+			new WinRmSessionPool(
+				(endpoint, timeout, authentications) -> {
+					final StubExecutor executor = new StubExecutor(endpoint.getHostname());
+					openedExecutors.add(executor);
+					return executor;
+				},
+				IDLE_TIMEOUT,
+				clock::get
+			);
+	}
+
+	private List<List<String>> executeWql(final WinRmSessionPool.SessionKey key, final String query) throws Exception {
+		return pool.execute(key, session -> WinRmRequestExecutor.executeWql(session.getExecutor(), query, TIMEOUT));
+	}
+
+	@Test
+	void testSessionReuse() throws Exception {
+		final List<List<String>> expected = List.of(List.of("10", "disk1"), List.of("20", "disk2"));
+		assertEquals(expected, executeWql(CIMV2_KEY, "SELECT Size, Name FROM Win32_DiskDrive"));
+		assertEquals(expected, executeWql(CIMV2_KEY, "SELECT Size, Name FROM Win32_DiskDrive"));
+
+		assertEquals(1, openedExecutors.size());
+		assertEquals(2, openedExecutors.get(0).wqlCount);
+
+		executeWql(WMI_KEY, "SELECT Size, Name FROM Win32_DiskDrive");
+		assertEquals(2, openedExecutors.size());
+		assertEquals(2, pool.size());
+
+		pool.clear();
+		assertEquals(0, pool.size());
+		assertTrue(openedExecutors.stream().allMatch(executor -> executor.closed));
+	}
+
+	@Test
+	void testSessionKeyFromEqualValues() throws Exception {
+		// The executor builds a new key, with a new password array, for each request
+		executeWql(sessionKey("pwd", "root/cimv2"), "SELECT Name FROM Win32_DiskDrive");
+		executeWql(sessionKey("pwd", "root/cimv2"), "SELECT Name FROM Win32_DiskDrive");
+		assertEquals(1, openedExecutors.size());
+		assertEquals(sessionKey("pwd", "root/cimv2"), sessionKey("pwd", "root/cimv2"));
+
+		// Another password opens another session
+		executeWql(sessionKey("changed", "root/cimv2"), "SELECT Name FROM Win32_DiskDrive");
+		assertEquals(2, openedExecutors.size());
+		assertNotEquals(sessionKey("pwd", "root/cimv2"), sessionKey("changed", "root/cimv2"));
+	}
+
+	@Test
+	void testSessionClosedOnError() throws Exception {
+		// Errors of the query itself keep the session
+		assertThrows(WqlQuerySyntaxException.class, () -> executeWql(CIMV2_KEY, "DELETE Name FROM Win32_DiskDrive"));
+		assertThrows(WindowsRemoteException.class, () -> executeWql(CIMV2_KEY, "SELECT Name FROM Missing"));
+		assertEquals(1, openedExecutors.size());
+		assertFalse(openedExecutors.get(0).closed);
+
+		// Other errors close it
+		assertThrows(WindowsRemoteException.class, () -> executeWql(CIMV2_KEY, "SELECT Name FROM Broken"));
+		assertTrue(openedExecutors.get(0).closed);
+
+		executeWql(CIMV2_KEY, "SELECT Name FROM Win32_DiskDrive");
+		assertEquals(2, openedExecutors.size());
+	}
+
+	@Test
+	void testIdleSessionClosed() throws Exception {
+		executeWql(CIMV2_KEY, "SELECT Name FROM Win32_DiskDrive");
+		clock.addAndGet(IDLE_TIMEOUT / 2);
+		executeWql(CIMV2_KEY, "SELECT Name FROM Win32_DiskDrive");
+		assertEquals(1, openedExecutors.size());
+
+		clock.addAndGet(IDLE_TIMEOUT + 1);
+		executeWql(CIMV2_KEY, "SELECT Name FROM Win32_DiskDrive");
+		assertEquals(2, openedExecutors.size());
+		assertTrue(openedExecutors.get(0).closed);
+		assertNotSame(openedExecutors.get(0), openedExecutors.get(1));
+	}
+
+	@Test
+	void testCommandsReuseShellAndEncoding() throws Exception {
+		final WinRmSessionPool.SessionCall<WindowsRemoteCommandResult> call = session ->
+			WinRmRequestExecutor.executeCommand(session, "ipconfig", TIMEOUT);
+
+		assertEquals("ipconfig windows-1252", pool.execute(CIMV2_KEY, call).getStdout());
+		assertEquals("ipconfig windows-1252", pool.execute(CIMV2_KEY, call).getStdout());
+
+		assertEquals(1, openedExecutors.size());
+		final StubExecutor executor = openedExecutors.get(0);
+		assertEquals(2, executor.commandCount);
+		// The code set is queried once per session
+		assertEquals(1, executor.wqlCount);
+	}
+}